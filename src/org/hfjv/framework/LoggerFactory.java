@@ -14,18 +14,14 @@ import org.hfjv.framework.impl.HFJVLogger;
 public class LoggerFactory
 {
 
-	public static LoggerFactory _instance = null;
+	/* Created along with the class, hence never raced by the threads */
+	public static LoggerFactory _instance = new LoggerFactory();
 
 	private LoggerFactory() {}
 
 	public static LoggerFactory getInstance()
 	{
-		if(null==_instance)
-		{
-			_instance = new LoggerFactory();
-		}
-
-                return _instance;
+		return _instance;
 	}
 
 	public Logger getLogger(String name)
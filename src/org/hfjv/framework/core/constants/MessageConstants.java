@@ -278,6 +278,54 @@ public class MessageConstants
 	public static final String HFJV_KEY_ERROR_MSG_DATE  =
 						"hfjv.error.date.msg";
 
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error code</tt> when the
+	 * input value is <tt>having any of the tokens to be excluded</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_CODE_EXCLUDETOKENS =
+						"hfjv.error.excludeTokens.code";
+
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error message</tt> when the
+	 * input value is <tt>having any of the tokens to be excluded</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_MSG_EXCLUDETOKENS  =
+						"hfjv.error.excludeTokens.msg";
+
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error code</tt> when the
+	 * input value is <tt>NOT in the list of values of the file configured</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_CODE_VALUE_LIST_FILE =
+						"hfjv.error.valueListFile.code";
+
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error message</tt> when the
+	 * input value is <tt>NOT in the list of values of the file configured</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_MSG_VALUE_LIST_FILE  =
+						"hfjv.error.valueListFile.msg";
+
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error code</tt> when the
+	 * input value is <tt>in the list of values of the file to be denied</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_CODE_VALUE_NOTIN_FILE =
+						"hfjv.error.valueNotInFile.code";
+
+	/**
+     * <p>
+	 * A property to hold the <tt>key</tt> for the <tt>error message</tt> when the
+	 * input value is <tt>in the list of values of the file to be denied</tt>
+	 */
+	public static final String HFJV_KEY_ERROR_MSG_VALUE_NOTIN_FILE  =
+						"hfjv.error.valueNotInFile.msg";
+
 	public static final String[] ARRAY_NAME_CONSTRAINT =
 		new String[]
 		{
@@ -292,7 +340,10 @@ public class MessageConstants
 			HFJV_KEY_ERROR_CODE_EXCLUDECHARS,
 			HFJV_KEY_ERROR_CODE_SIGN,
 			HFJV_KEY_ERROR_CODE_VALUE_NOTSTART,
-			HFJV_KEY_ERROR_CODE_VALUE_EACHDIGIT
+			HFJV_KEY_ERROR_CODE_VALUE_EACHDIGIT,
+			HFJV_KEY_ERROR_CODE_EXCLUDETOKENS,
+			HFJV_KEY_ERROR_CODE_VALUE_LIST_FILE,
+			HFJV_KEY_ERROR_CODE_VALUE_NOTIN_FILE
 		};
 
 
@@ -310,7 +361,10 @@ public class MessageConstants
 			HFJV_KEY_ERROR_CODE_EXCLUDECHARS,
 			HFJV_KEY_ERROR_MSG_SIGN,
 			HFJV_KEY_ERROR_MSG_VALUE_NOTSTART,
-			HFJV_KEY_ERROR_MSG_VALUE_EACHDIGIT
+			HFJV_KEY_ERROR_MSG_VALUE_EACHDIGIT,
+			HFJV_KEY_ERROR_MSG_EXCLUDETOKENS,
+			HFJV_KEY_ERROR_MSG_VALUE_LIST_FILE,
+			HFJV_KEY_ERROR_MSG_VALUE_NOTIN_FILE
 		};
 
 
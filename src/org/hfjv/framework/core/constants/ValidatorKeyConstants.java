@@ -36,6 +36,36 @@ public class ValidatorKeyConstants
 
 	public static final String HFJV_FIELD_ERRORDESC = "errorDesc";
 
+	/* ========== Engine Keys (hfjv.engine) - START ========== */
+
+	public static final String HFJV_BASEKEY_ENGINE = "engine";
+
+	public static final String HFJV_ENGINE_INTERPRETED = "interpreted";
+
+	public static final String HFJV_ENGINE_COMPILED = "compiled";
+
+	/* ========== Engine Keys - END ========== */
+
+	/* ========== File Layout Keys (hfjv.file.<module>.<key>) - START ========== */
+
+	public static final String HFJV_BASEKEY_FILE = "file";
+
+	public static final String HFJV_FILE_COLUMNS = "columns";
+
+	public static final String HFJV_FILE_DELIMITER = "delimiter";
+
+	public static final String HFJV_FILE_QUOTE = "quote";
+
+	public static final String HFJV_FILE_HEADER = "header";
+
+	public static final String HFJV_FILE_CHARSET = "charset";
+
+	public static final String HFJV_FILE_FIXED_WIDTH_COLUMNS = "fixedWidthColumns";
+
+	public static final String HFJV_FILE_RECORD_LENGTH = "recordLength";
+
+	/* ========== File Layout Keys - END ========== */
+
 
 	/* ========== Insertion Order Constants - START ===================*/
 
@@ -65,6 +95,12 @@ public class ValidatorKeyConstants
 
 	public static final int HFJV_INSERT_ORDER_DATE_CONSTRAINT = 13;
 
+	public static final int HFJV_INSERT_ORDER_EXCLUDETOKENS_CONSTRAINT = 14;
+
+	public static final int HFJV_INSERT_ORDER_VALUELIST_FILE_CONSTRAINT = 15;
+
+	public static final int HFJV_INSERT_ORDER_VALUE_NOTIN_FILE_CONSTRAINT = 16;
+
 
 	/* ======== Insertion Order Constants - END ============= */
 
@@ -96,6 +132,12 @@ public class ValidatorKeyConstants
 
 	public static final String HFJV_FIELD_CONSTRAINT_DATE = "dateConstraint";
 
+	public static final String HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS = "excludeTokensConstraint";
+
+	public static final String HFJV_FIELD_CONSTRAINT_VALUE_LIST_FILE = "valueListFileConstraint";
+
+	public static final String HFJV_FIELD_CONSTRAINT_VALUE_NOTIN_FILE = "valueNotInFileConstraint";
+
 	public static final String[] ARRAY_FIELD_CONSTRAINT =
 		new String[]
 		{
@@ -111,7 +153,10 @@ public class ValidatorKeyConstants
 			HFJV_FIELD_CONSTRAINT_VALUE_NOTSTART,
 			HFJV_FIELD_CONSTRAINT_VALUE_EACHDIGIT,
 			HFJV_FIELD_CONSTRAINT_TYPE,
-			HFJV_FIELD_CONSTRAINT_DATE
+			HFJV_FIELD_CONSTRAINT_DATE,
+			HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS,
+			HFJV_FIELD_CONSTRAINT_VALUE_LIST_FILE,
+			HFJV_FIELD_CONSTRAINT_VALUE_NOTIN_FILE
 		};
 
 	private static final String PKG_NAME_BASE = "org.hfjv.framework.core.constraint";
@@ -165,7 +210,10 @@ public class ValidatorKeyConstants
 			PKG_NAME_VALUE_WITH_SEPARATOR + "ValueNotStartWithConstraint",
 			PKG_NAME_VALUE_WITH_SEPARATOR + "ValueEachDigitConstraint",
 			PKG_NAME_TYPE_WITH_SEPARATOR + "TypeConstraint",
-			PKG_NAME_DATE_WITH_SEPARATOR + "DateConstraint"
+			PKG_NAME_DATE_WITH_SEPARATOR + "DateConstraint",
+			PKG_NAME_EXCLUDE_WITH_SEPARATOR + "ExcludeTokensConstraint",
+			PKG_NAME_VALUE_WITH_SEPARATOR + "ValueListFileConstraint",
+			PKG_NAME_VALUE_WITH_SEPARATOR + "ValueNotInFileConstraint"
 		};
 
 }
\ No newline at end of file
@@ -3,23 +3,23 @@ package org.hfjv.framework.core.constraint;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Set;
 
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.constraint.exclude.ExcludeCharsConstraint;
-import org.hfjv.framework.core.constraint.mandatory.MandatoryConstraint;
+import org.hfjv.framework.core.constraint.exclude.ExcludeTokensConstraint;
+import org.hfjv.framework.core.constraint.exclude.ExcludedChars;
+import org.hfjv.framework.core.constraint.exclude.TokenAutomaton;
 import org.hfjv.framework.core.constraint.type.TypeConstraint;
 import org.hfjv.framework.core.exception.ErrorDetails;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
 import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
 import org.hfjv.framework.helper.ExceptionHelper;
 import org.hfjv.framework.helper.TypeConvertor;
 import org.hfjv.framework.util.GlobalUtil;
-import org.hfjv.framework.util.CollectionUtil;
 import org.hfjv.framework.util.DateUtil;
 import org.hfjv.framework.util.MessageUtil;
 import org.hfjv.framework.util.StringUtil;
@@ -97,6 +97,30 @@ public  abstract class Constraint implements Serializable
 	 */
 	static ArrayList<String> globalExcludedCharsList = null;
 
+	/**
+	 * <p>
+	 *  The <tt>globalExcludedCharsList</tt> compiled, null if there is none.
+	 *  Compiled when the list is set, being a startup.
+	 * </p>
+	 */
+	private static volatile ExcludedChars globalExcludedChars = null;
+
+	/**
+	 * <p>
+	 *  A class level <tt>ArrayList</tt> to hold the set of tokens (of one or more
+	 *  characters) to be excluded at a global level, configured the same way as
+	 *  the <tt>globalExcludedCharsList</tt>.
+	 * </p>
+	 */
+	static ArrayList<String> globalExcludedTokensList = null;
+
+	/**
+	 * <p>
+	 *  The <tt>globalExcludedTokensList</tt> compiled, null if there is none.
+	 * </p>
+	 */
+	private static volatile TokenAutomaton globalTokenAutomaton = null;
+
 	/**
 	 * <p>
 	 *  An instance of <tt>ErrorDetails</tt> to hold the error related information 
@@ -145,17 +169,6 @@ public  abstract class Constraint implements Serializable
 		this.setErrorInfo(errorDetails);
 	}
 
-	/**
-	 * <p>
-	 *  A static method to determine whether the <tt>globalExcludedCharsList</tt> is
-	 *  valid or not
-	 * </p>
-	 */
-	private static boolean isGlobalExcludedCharsListValid()
-	{
-	      return CollectionUtil.isValidList(globalExcludedCharsList);
-	}
-
 	/**
 	 * <p>
 	 * This method returns the narrowed down value of the <tt>field</tt>
@@ -314,6 +327,25 @@ public  abstract class Constraint implements Serializable
 		return ((null!=field) ? field.getValue() : null);
 	}
 
+	/**
+	 * <p>
+	 * This method returns the characters of the value of the <tt>field</tt>
+	 * being passed, without creating a <tt>String</tt> out of them. It returns
+	 * <tt>null</tt> if the <tt>field</tt> is <tt>null</tt>.
+	 * </p>
+	 *
+	 * @param field
+	 * 		the field whose value is to be returned
+	 *
+	 * @return
+	 * 		the characters of the value of the field, <tt>null</tt> if the
+	 * 		field itself is found to be <tt>null</tt>
+	 */
+	public static CharSequence getFieldValueChars(Field field)
+	{
+		return ((null!=field) ? field.getValueChars() : null);
+	}
+
 	public static ArrayList<String> getGlobalExcludedCharsList()
 	{
 		return globalExcludedCharsList;
@@ -322,6 +354,24 @@ public  abstract class Constraint implements Serializable
 	public static void setGlobalExcludedCharsList(ArrayList<String> excludedCharsList)
 	{
 		Constraint.globalExcludedCharsList = excludedCharsList;
+
+		ExcludedChars excludedChars = ExcludedChars.compile(excludedCharsList);
+
+		Constraint.globalExcludedChars = excludedChars.isEmpty() ? null : excludedChars;
+	}
+
+	public static ArrayList<String> getGlobalExcludedTokensList()
+	{
+		return globalExcludedTokensList;
+	}
+
+	public static void setGlobalExcludedTokensList(ArrayList<String> excludedTokensList)
+	{
+		Constraint.globalExcludedTokensList = excludedTokensList;
+
+		TokenAutomaton tokenAutomaton = TokenAutomaton.getInstance(excludedTokensList);
+
+		Constraint.globalTokenAutomaton = tokenAutomaton.isEmpty() ? null : tokenAutomaton;
 	}
 
 
@@ -348,8 +398,51 @@ public  abstract class Constraint implements Serializable
 		 * super.evaluate()
 	 	 */
 
-		logger.info("Constraint, evaluate() - fieldValue=["
-			+ getFieldValue(field) + "], valueToCheck["+ valueToCheck+"]");
+		/*
+		 * Logged at the debug level only, as it is for every constraint of
+		 * every record, and the log4j appenders are synchronized (which pins
+		 * a virtual thread)
+		 */
+		if(logger.isDebugEnabled())
+		{
+			logger.debug("Constraint, evaluate() - fieldValue=["
+				+ getFieldValue(field) + "], valueToCheck["+ valueToCheck+"]");
+		}
+	}
+
+	/**
+	 * <p>
+	 * A non-throwing counterpart of the {@link #evaluate(Field)} method, which
+	 * just tells whether or not the field's value satisfies the constraint.
+	 * </p>
+	 *
+	 * <p>
+	 * It is meant for the constraints which are evaluated as a part of another
+	 * constraint (e.g. a range inside a <tt>ValueListConstraint</tt>), where a
+	 * failure is NOT an error to be reported but just a "no match". The
+	 * <tt>ValidatorException</tt> is then built only once, by the outer constraint.
+	 * </p>
+	 *
+	 * <p>
+	 * By default it delegates to the <tt>evaluate()</tt> method. The subclasses
+	 * used that way override it to evaluate without building any exception.
+	 * </p>
+	 *
+	 * @param field
+	 * 		the field instance whose value to be evaluated
+	 *
+	 * @return
+	 * 		true if the value satisfies the constraint, false otherwise
+	 */
+	public boolean test(Field field)
+	{
+		try {
+			evaluate(field);
+		}catch(ValidatorException validatorException) {
+			return false;
+		}
+
+		return true;
 	}
 	
 	/**
@@ -367,6 +460,30 @@ public  abstract class Constraint implements Serializable
 	 * 						any exceptions during the validation
 	 */
 	public abstract void selfEvaluate() throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A life cycle method, called once by the <tt>ValidatorAssembler</tt> after
+	 * the field is configured fully, wherein the subclasses convert the
+	 * <tt>valueToCheck</tt> into a pre-parsed form of their own, so that the
+	 * <tt>evaluate</tt> method never parses the configuration again.
+	 * </p>
+	 *
+	 * <p>
+	 * A <tt>valueToCheck</tt> that cannot be converted is left as it is, to be
+	 * reported by the <tt>evaluate</tt> method as before. A subclass also
+	 * converts it on its first use, if it is NOT prepared (say, a constraint
+	 * created outside the assembly), and discards the converted form when a
+	 * different <tt>valueToCheck</tt> is set. This implementation does nothing.
+	 * </p>
+	 *
+	 * @param field
+	 * 						the field the constraint is configured for
+	 */
+	public void prepare(Field field)
+	{
+		//Method Body
+	}
 	
 	/**
 	 * <p>
@@ -396,7 +513,16 @@ public  abstract class Constraint implements Serializable
 	 *
 	 * <p>
 	 * It is useful when any evaluation to be done globally. Example,
-	 * globalExcludeChars (like '?', '#' etc.,)
+	 * globalExcludeChars (like '?', '#' etc.,) and globalExcludeTokens (like
+	 * '--', '&lt;script' etc.,), the former taking the precedence.
+	 * </p>
+	 *
+	 * <p>
+	 * A field having got an <tt>excludeCharsConstraint</tt> of its own is
+	 * checked against the global excludeChars by that constraint instead,
+	 * in the same scan of the value. No other constraint but the
+	 * <tt>mandatoryConstraint</tt>, which fails only without a value, is
+	 * evaluated before that.
 	 * </p>
 	 *
 	 * @param field
@@ -417,22 +543,32 @@ public  abstract class Constraint implements Serializable
 			throw new ValidatorException("field cannot be null");
 		}
 
-		logger.info(THIS_METHOD_NAME + " investigating on the global "
-				+"excluded characters if any..");
+		boolean isDebugEnabled = logger.isDebugEnabled();
 
-		boolean isGlobalExcludedCharsVisited = false;
-
-		if(isGlobalExcludedCharsListValid())
+		if(isDebugEnabled)
 		{
-			isGlobalExcludedCharsVisited = true;
+			logger.debug(THIS_METHOD_NAME + " investigating on the global "
+					+"excluded characters if any..");
+		}
 
-			actOnExcludedChars(field, globalExcludedCharsList);
+		if(null==globalExcludedChars)
+		{
+			if(isDebugEnabled)
+			{
+				logger.debug(THIS_METHOD_NAME + " No global excludeChars are "
+					+ " configured to act on the input values..");
+			}
+		}
+		else if(!field.isExcludedCharsSet())
+		{
+			actOnExcludedChars(field, null, null);
 		}
 
-		if(!isGlobalExcludedCharsVisited)
+		TokenAutomaton globalTokens = globalTokenAutomaton;
+
+		if(null!=globalTokens)
 		{
-			logger.info(THIS_METHOD_NAME + " No global excludeChars are "
-				+ " configured to act on the input values..");
+			actOnExcludedTokens(field, new ExcludeTokensConstraint(), globalTokens);
 		}
 
 		logger.exit(THIS_METHOD_NAME);
@@ -442,99 +578,169 @@ public  abstract class Constraint implements Serializable
 	/**
 	 * <p>
 	 * A method that evaluates the value of the <tt>field</tt> by ensuring that
-	 * it does NOT have any of the <tt>characters to be excluded</tt>
+	 * it does NOT have any of the <tt>characters to be excluded</tt>, both
+	 * globally and for the field, in a single scan of the value
+	 * </p>
+	 *
+	 * <p>
+	 * The global excludeChars take the precedence, as they are evaluated
+	 * ahead of any constraint otherwise. Hence, a value having got both the
+	 * kind of characters fails with the global error.
 	 * </p>
 	 *
 	 * @param field
 	 * 		the field instance whose value to be evaluated
 	 *
-	 * @param excludedCharsList
-	 * 		the list of characters
+	 * @param excludedCharsConstraint
+	 * 		the <tt>ExcludeCharsConstraint</tt> of the field, null if only the
+	 * 		global excludeChars to be evaluated
+	 *
+	 * @param excludedChars
+	 * 		the compiled characters to be excluded for the field, null if only
+	 * 		the global excludeChars to be evaluated
 	 *
 	 * @throws ValidatorException
 	 * 		if the value of the <tt>field</tt> contains any of the
-	 * 		characters present in the <tt>excludedCharsList</tt>
+	 * 		characters to be excluded
 	 */
 	protected static void actOnExcludedChars(Field field,
-					ArrayList<String> excludedCharList)
+							ExcludeCharsConstraint excludedCharsConstraint,
+							ExcludedChars excludedChars)
 	throws ValidatorException
 	{
-		actOnExcludedChars(field, new ExcludeCharsConstraint(), excludedCharList);
-	}
+		CharSequence value = getFieldValueChars(field);
+
+		if(StringUtil.isInvalidString(value))
+		{
+			return;
+		}
+
+		ExcludedChars globalChars = globalExcludedChars;
 
+		boolean isExcludedForField = false;
+
+		char character;
+
+		for(int index = 0; index < value.length(); index++)
+		{
+			character = value.charAt(index);
+
+			if(null!=globalChars && globalChars.contains(character))
+			{
+				throwExcludedCharsException(field, new ExcludeCharsConstraint());
+			}
+
+			if(null!=excludedChars && excludedChars.contains(character))
+			{
+				isExcludedForField = true;
+
+				/* Nothing more to be found */
+				if(null==globalChars)
+				{
+					break;
+				}
+			}
+		}
+
+		if(null!=globalChars && globalChars.isSameAsAny(value))
+		{
+			throwExcludedCharsException(field, new ExcludeCharsConstraint());
+		}
+
+		if(isExcludedForField || (null!=excludedChars && excludedChars.isSameAsAny(value)))
+		{
+			throwExcludedCharsException(field, excludedCharsConstraint);
+		}
+	}
 
 	/**
 	 * <p>
 	 * A method that evaluates the value of the <tt>field</tt> by ensuring that
-	 * it does NOT have any of the <tt>characters to be excluded</tt>
+	 * it does NOT have any of the <tt>tokens to be excluded</tt>, in a single
+	 * scan of the value however many tokens are there
 	 * </p>
 	 *
 	 * @param field
 	 * 		the field instance whose value to be evaluated
 	 *
-	 * @param excludedCharsConstraint
-	 * 		an instance of <tt>ExcludeCharsConstraint</tt> to have the
+	 * @param excludedTokensConstraint
+	 * 		an instance of <tt>ExcludeTokensConstraint</tt> to have the
 	 * 		error code related information from the appropriate instance
 	 *
-	 * @param excludedCharList
-	 * 		the list of characters which should be excluded in the input
+	 * @param tokenAutomaton
+	 * 		the compiled tokens to be excluded
 	 *
 	 * @throws ValidatorException
-	 * 		if the value of the <tt>field</tt> contains any of the
-	 * 		characters present in the <tt>excludedCharsList</tt>
+	 * 		if the value of the <tt>field</tt> contains any of the tokens
 	 */
-	protected static void actOnExcludedChars(Field field,
-							ExcludeCharsConstraint excludedCharsConstraint,
-							ArrayList<String> excludedCharList)
+	protected static void actOnExcludedTokens(Field field,
+							ExcludeTokensConstraint excludedTokensConstraint,
+							TokenAutomaton tokenAutomaton)
 	throws ValidatorException
 	{
-		Character excludedCharacter;
-
-		String value = getFieldValue(field);
+		CharSequence value = getFieldValueChars(field);
 
-		/**
-		 * Ideally do nothing! No need to proceed further
-		 * with the constraint! :)
-		 */
-		if(StringUtil.isInvalidString(value))
+		if(StringUtil.isInvalidString(value) || null==tokenAutomaton)
 		{
 			return;
 		}
 
-		for(String excludedChar : excludedCharList)
+		if(tokenAutomaton.matches(value))
 		{
-			excludedCharacter = excludedChar.charAt(0);
-
-			/**
-			 * Even if any of the chars present, throw an error!
-			 */
-			boolean isExcludedCharsSameAsValue =
-																value.equalsIgnoreCase(excludedChar);
-
-			boolean isValueFullOfExcludedChar =
-				StringUtil.isValueFilledWithSameChar(value,excludedCharacter);
-
-			int indexOfCharToBeExcluded = value.indexOf(excludedCharacter);
+			String errorMsg = "The specified value '"
+				+ getFieldValue(field) + "' for the field '" + field.getDisplayName() + "' is not allowed";
 
-			boolean isExcludedCharPresentAnywhere = (indexOfCharToBeExcluded!=-1);
+			throw ExceptionHelper.getValidatorException(field,
+							excludedTokensConstraint, errorMsg);
+		}
+	}
 
-			if(isExcludedCharsSameAsValue || isValueFullOfExcludedChar
-				|| isExcludedCharPresentAnywhere)
-			{
-				String errorMsg = "The specified value '"
-					+ value + "' for the field '" + field.getDisplayName() + "' is not allowed";
+	/**
+	 * <p>
+	 * This method throws the error of a value having got a character to be
+	 * excluded
+	 * </p>
+	 */
+	private static void throwExcludedCharsException(Field field,
+						ExcludeCharsConstraint excludedCharsConstraint)
+	throws ValidatorException
+	{
+		String errorMsg = "The specified value '"
+			+ getFieldValue(field) + "' for the field '" + field.getDisplayName() + "' is not allowed";
 
-				throw ExceptionHelper.getValidatorException(field,
-								excludedCharsConstraint, errorMsg);
-			}
-		}
+		throw ExceptionHelper.getValidatorException(field,
+						excludedCharsConstraint, errorMsg);
 	}
 
 	/**
 	 * <p>
-	 * This method evaluates the dependent fields of a field, if any
-	 *</p>
+	 * This method evaluates the dependent fields of a field, if any, against
+	 * the values set on the assembled fields of the module, making the field
+	 * verifiable only if all of them match.
+	 * </p>
+	 *
+	 * <p>
+	 * The dependencies are matched by the <tt>ValidationPlan</tt> of the
+	 * module. The <tt>MandatoryConstraint</tt> is NOT added to the field any
+	 * more : it is applied out of the plan, when the module is validated by
+	 * the <tt>ValidateExecutor</tt>.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 		the module of the field
+	 *
+	 * @param field
+	 * 		the assembled field whose dependent fields to be evaluated
+	 *
+	 * @throws ValidatorException
+	 * 		if the field is null, or NOT of a module configured
+	 *
+	 * @deprecated
+	 * 		The dependent fields are evaluated for every call by the
+	 * 		<tt>ValidateExecutor</tt>, through the
+	 * 		<tt>ValidationPlan.isDependencyMatched()</tt>
 	 */
+	@Deprecated
 	public static void evaluateDependentFields(String moduleName, Field field)
 	throws ValidatorException
 	{
@@ -547,114 +753,34 @@ public  abstract class Constraint implements Serializable
 			throw new ValidatorException("Field cannot be null!");
 		}
 
-		logger.debug(THIS_METHOD_NAME + "evaluating the field -> "
-						+ field.getName());
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
 
-		LinkedHashMap<String,String> dependentFieldValueMap =
-															field.getDependentFieldValueMap();
+		int ordinal = (null!=plan) ? plan.getOrdinal(field.getName()) : -1;
 
-		if(!CollectionUtil.isValidMap(dependentFieldValueMap))
+		if(ordinal < 0)
 		{
-			return;
+			throw new ValidatorException("The field " + field.getName()
+							+ " is not configured for the module " + moduleName);
 		}
 
-		String actualValueOfDependentField = null;
-
-		String dependentValue = null;
-
-		Set<String> keySet = dependentFieldValueMap.keySet();
-		
-		Field dependentField = null;
-
-		HashMap<String,Field> fieldNameMap = ValidatorAssembler.getFieldNameMap();
-
-		/** for handling the multiple dependencies */
-		boolean tempValueMatchesWithAllDependentFields = false;
-		boolean tempValueMatchesFlagUpdated = false;
-
-		for(String key : keySet)
+		if(!plan.hasDependentFields(ordinal))
 		{
-			if(StringUtil.isValidString(key))
-			{
-				dependentField = fieldNameMap.get(key);
-
-				logger.info(THIS_METHOD_NAME + "evaluate in Constraint : "
-					+ "dependentField -> ["+dependentField.getName()+"]");
-
-				actualValueOfDependentField = dependentField.getValue();
-
-				logger.debug(THIS_METHOD_NAME + "evaluate in Constraint : "
-					+ "actualValueOfDependentField -> "
-					+ actualValueOfDependentField);
-
-				dependentValue = dependentFieldValueMap.get(key);
-
-				logger.debug(THIS_METHOD_NAME + "evaluate in Constraint : "
-					+ "dependentValue -> "
-					+ dependentValue);
+			return;
+		}
 
-				if((StringUtil.isValidString(actualValueOfDependentField)) &&
-					isValueMatching(dependentField, dependentValue))
-				{
-					logger.info(THIS_METHOD_NAME + "value matches");
+		ValidationContext context = ValidationContext.newInstanceFromAssembledFields(plan);
 
-					tempValueMatchesWithAllDependentFields = true;
-					tempValueMatchesFlagUpdated = true;
-				}
-				else
-				{
-					//field.setVerifiable(false);
-
-					/** Handling multiple dependencies */
-					/*
-					 * If any of the dependentField's value does NOT match,
-					 * setting the boolean flag to false and 'breaking' from
-					 * from the loop iteration.
-					 *
-					 * The reason for resetting the flag to 'false' is that
-					 * it might have got set to 'true' due to the previous
-					 * iterations that has got the matching values of
-					 * dependentFields
-					 */
-					logger.info(THIS_METHOD_NAME + "value does NOT match."
-												+ " Skipping the rest of dependentFields if any");
-					
-					tempValueMatchesWithAllDependentFields = false;
-					break;
-				}
-			}
-		}
-		if(tempValueMatchesWithAllDependentFields)
+		if(plan.isDependencyMatched(ordinal,
+							plan.countMatchedDependencies(context.getFields())))
 		{
-			if(!field.isDependentFieldEvaluated())
-			{
-				logger.info(THIS_METHOD_NAME + "all the dependnetFields values"
-												+ " are matching. Making the field verifiable!");
-
-				field.setDependentFieldEvaluated(true);
-				addMandatoryConstraint(moduleName, field);
-				field.setVerifiable(true);
-			}
+			field.setDependentFieldEvaluated(true);
+			field.setVerifiable(true);
 		}
-
-		/**
-		 * Conditionally the verifiable field of a field is set to false
-		 * if the actualValue of the dependentField does NOT match with the
-		 * specified valueToCheck.
-		 */
 		else
 		{
-			String category = (tempValueMatchesFlagUpdated ? "Some" : "None");
-			
-			logger.info(THIS_METHOD_NAME + category + " of the dependentFields "
-							+ "value are NOT matching. Making the field non-verifiable!");
-
 			field.setVerifiable(false);
 		}
 
-		/* No more needed! Just for making it eligible for GC! :) */
-		fieldNameMap = null;
-
 		logger.exit(THIS_METHOD_NAME);
 	}
 
@@ -722,68 +848,6 @@ public  abstract class Constraint implements Serializable
 		return isMatching;
 	}
 
-	/**
-	 *  <p>
-	 *  This method will add a <tt>MandatoryConstraint</tt> to the existing
-	 *  list of constraints for a <tt>Field</tt> passed as an argument
-	 * </p>
-	 * @param moduleName
-	 * 				the module name to fetch the constraint list from the registry
-	 * 
-	 * @param field
-	 * 				the field object whose constraint list needs to be inserted with a
-	 * 				new <tt>MandatoryConstraint</tt>
-	 *
-	 */
-	private static void addMandatoryConstraint(String moduleName, Field field)
-	{
-		final String THIS_METHOD_NAME = "addMandatoryConstraint() - ";
-
-		logger.enter(THIS_METHOD_NAME);
-
-		MandatoryConstraint mandatoryConstraintObj = new MandatoryConstraint();
-
-		mandatoryConstraintObj.setValueToCheck("Yes");
-
-		logger.debug(THIS_METHOD_NAME + " field.getName() -> "+field.getName());
-		logger.debug(THIS_METHOD_NAME + " moduleName -> "+moduleName);
-
-		/* ============================================= */
-		LinkedHashMap<Field,ArrayList<Constraint>> moduleFieldConstraintListMap =
-			ValidatorAssembler.getModuleFieldsConstraintListMap().get(moduleName);
-
-		ArrayList<Constraint> listOfExistingConstraints = moduleFieldConstraintListMap.get(field);
-
-		/* ============================================= */
-
-		logger.debug(THIS_METHOD_NAME + " listOfExistingConstraints -> "
-																				+ listOfExistingConstraints);
-
-		ArrayList<Constraint> newListOfConstraints = new ArrayList<Constraint>();
-
-		newListOfConstraints.add(0, mandatoryConstraintObj);
-
-		/*
-		 * No need, as the type constraint got already added in the
-		 * initFieldConstraintList() method of ValidatorAssembler class
-	   	 */
-		//listOfExistingConstraints.add(1, new TypeConstraint());
-		newListOfConstraints.addAll(listOfExistingConstraints);
-
-		//listOfExistingConstraints.add(0, mandatoryConstraintObj);
-		listOfExistingConstraints = null;
-
-		moduleFieldConstraintListMap.put(field, newListOfConstraints);
-
-		ValidatorAssembler.getModuleFieldsConstraintListMap().
-			put(moduleName, moduleFieldConstraintListMap);
-
-		logger.debug(THIS_METHOD_NAME + "newListOfConstraints -> " +
-			(ValidatorAssembler.getModuleFieldsConstraintListMap().get(moduleName)));
-
-		logger.exit(THIS_METHOD_NAME);
-	}
-
 	/**
 	 * <p>
 	 * This  method will update the deferredEvaluation flag of a field instance
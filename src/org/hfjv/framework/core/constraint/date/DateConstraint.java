@@ -7,7 +7,6 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSER
 
 import java.io.Serializable;
 import java.text.ParseException;
-import java.util.Date;
 
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
@@ -15,7 +14,6 @@ import org.hfjv.framework.core.constraint.Constraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
-import org.hfjv.framework.util.DateUtil;
 import org.hfjv.framework.util.StringUtil;
 
 
@@ -83,12 +81,9 @@ public class DateConstraint extends Constraint implements Serializable
 
 		String formatToCheck = this.getValueToCheck();
 
-		Date dateObj = null;
-
 		try
 		{
-			dateObj = DateUtil.getDateMatchingWithExactPattern(
-								actualValueOfField, formatToCheck);
+			field.getNormalizedValue().getEpochDay(formatToCheck);
 		}catch(ParseException parseException) {
 			logger.error(parseException.getMessage());
 			errorMsg = "Value '"+ actualValueOfField + "' of the field '"
@@ -97,10 +92,6 @@ public class DateConstraint extends Constraint implements Serializable
 
 			throw ExceptionHelper.getValidatorException(field, this, errorMsg);
 		}
-
-		if(null==dateObj)
-		{
-		}
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package org.hfjv.framework.core.constraint.digit;
 
 import java.io.Serializable;
+import java.math.BigInteger;
 
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
@@ -9,6 +10,7 @@ import org.hfjv.framework.core.constraint.type.TypeConstraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.util.GlobalUtil;
+import org.hfjv.framework.util.StringUtil;
 
 /**
  * <p>
@@ -34,6 +36,17 @@ public class DigitConstraint extends Constraint implements Serializable
 	 */
 	private static Logger logger = LoggerFactory.getInstance().
 																		getLogger(DigitConstraint.class);	
+
+	/**
+	 * <p>
+	 * The number of digits configured, narrowed down when the constraint is
+	 * prepared for a field of a <tt>number</tt> type, along with the type
+	 * </p>
+	 */
+	private BigInteger digitsToCheck = null;
+
+	private String digitsToCheckType = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -86,4 +99,70 @@ public class DigitConstraint extends Constraint implements Serializable
 		
 		logger.exit(THIS_METHOD_NAME);
 	}
+
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.digitsToCheck = null;
+		this.digitsToCheckType = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		final String THIS_METHOD_NAME = "prepare() - ";
+
+		if(StringUtil.isInvalidString(field.getType())
+				|| !GlobalUtil.isAllowedNumberType(field))
+		{
+			return;
+		}
+
+		try
+		{
+			Object narrowedValue = getNarrowedValueToCheck(field);
+
+			if(narrowedValue instanceof BigInteger)
+			{
+				this.digitsToCheck = (BigInteger) narrowedValue;
+				this.digitsToCheckType = field.getType();
+			}
+		}
+		catch(ValidatorException validatorException)
+		{
+			/* Left to the evaluate() to report it, as before */
+			logger.debug(THIS_METHOD_NAME + "valueToCheck NOT prepared, "
+										+ validatorException.getMessage());
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the number of digits configured, the same as the
+	 * <tt>getNarrowedValueToCheck()</tt> cast to a <tt>BigInteger</tt>, without
+	 * narrowing it down again if it is prepared already for the type of the
+	 * field
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be evaluated
+	 *
+	 * @return
+	 * 				the number of digits configured
+	 *
+	 * @throws ValidatorException
+	 * 				if the value configured is NOT a valid number
+	 */
+	protected BigInteger getDigitsToCheck(Field field)
+	throws ValidatorException
+	{
+		if(null!=digitsToCheck && digitsToCheckType.equals(field.getType()))
+		{
+			return digitsToCheck;
+		}
+
+		return (BigInteger) getNarrowedValueToCheck(field);
+	}
 }
\ No newline at end of file
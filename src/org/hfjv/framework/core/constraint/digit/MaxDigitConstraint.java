@@ -11,7 +11,6 @@ import java.math.BigInteger;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
-import org.hfjv.framework.util.GlobalUtil;
 
 /**
  * <p>
@@ -61,11 +60,9 @@ public class MaxDigitConstraint extends DigitConstraint implements Serializable
 		String actualValue = getFieldValue(field);
 
 		/** What if the value contains a sign digit at first ? a "-" or "+" ? */
-		String value = GlobalUtil.excludeSignBit(actualValue);
+		BigInteger length = BigInteger.valueOf(field.getNormalizedValue().getDigitCount());
 
-		BigInteger length = new BigInteger(null!=value ? ""+value.length() : "0");
-
-		BigInteger valueToCheck = (BigInteger) getNarrowedValueToCheck(field);
+		BigInteger valueToCheck = getDigitsToCheck(field);
 
 		if(length.compareTo(valueToCheck)==1)
 		{
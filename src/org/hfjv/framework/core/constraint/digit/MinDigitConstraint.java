@@ -59,18 +59,15 @@ public class MinDigitConstraint extends DigitConstraint  implements Serializable
 	{
 		super.evaluate(field);
 
-		String actualValue = getFieldValue(field);
-
 		/** What if the value contains a sign digit at first ? a "-" or "+" ? */
-		String value = GlobalUtil.excludeSignBit(actualValue);
-
-		BigInteger length = new BigInteger(null!=value ? ""+value.length() : "0");
+		BigInteger length = BigInteger.valueOf(GlobalUtil.getSignExcludedLength(
+														getFieldValueChars(field)));
 
-		BigInteger valueToCheck = (BigInteger) getNarrowedValueToCheck(field);
+		BigInteger valueToCheck = getDigitsToCheck(field);
 
 		if(length.compareTo(valueToCheck)==-1)
 		{
-			String errorMsg = "Value '" + actualValue +"' of the field '"
+			String errorMsg = "Value '" + getFieldValue(field) +"' of the field '"
 									+ field.getDisplayName() + "' should be of minimum "
 									+ valueToCheck + " digits";
 
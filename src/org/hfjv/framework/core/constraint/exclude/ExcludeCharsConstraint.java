@@ -7,7 +7,6 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSER
 
 
 import java.io.Serializable;
-import java.util.ArrayList;
 
 import org.hfjv.framework.core.constraint.Constraint;
 import org.hfjv.framework.core.exception.ValidatorException;
@@ -33,6 +32,14 @@ public class ExcludeCharsConstraint extends ExcludeConstraint implements Seriali
 	 */
 	private static final long serialVersionUID = -6864458564025601493L;
 
+	/**
+	 * <p>
+	 * The characters to be excluded, compiled when the constraint is
+	 * prepared
+	 * </p>
+	 */
+	private ExcludedChars excludedChars = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -55,15 +62,39 @@ public class ExcludeCharsConstraint extends ExcludeConstraint implements Seriali
 			HFJV_KEY_ERROR_MSG_EXCLUDECHARS);
 	}
 
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.excludedChars = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.excludedChars = ExcludedChars.compile(GlobalUtil.getListOfTokens(valueToCheck));
+	}
+
 	@Override
 	public void evaluate(Field field)
 	throws ValidatorException
 	{
 		super.evaluate(field);
 
-		ArrayList<String> excludedCharsList =
-					GlobalUtil.getListOfTokens(valueToCheck);
+		Constraint.actOnExcludedChars(field, this, getExcludedChars());
+	}
+
+	/**
+	 * @return the characters to be excluded, compiled out of the valueToCheck
+	 */
+	public ExcludedChars getExcludedChars()
+	{
+		if(null==excludedChars)
+		{
+			excludedChars = ExcludedChars.compile(GlobalUtil.getListOfTokens(valueToCheck));
+		}
 
-		Constraint.actOnExcludedChars(field, this, excludedCharsList);
+		return excludedChars;
 	}
 }
\ No newline at end of file
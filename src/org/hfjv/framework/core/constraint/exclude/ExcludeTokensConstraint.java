@@ -0,0 +1,97 @@
+package org.hfjv.framework.core.constraint.exclude;
+
+import static org.hfjv.framework.core.constants.MessageConstants.HFJV_KEY_ERROR_CODE_EXCLUDETOKENS;
+import static org.hfjv.framework.core.constants.MessageConstants.HFJV_KEY_ERROR_MSG_EXCLUDETOKENS;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSERT_ORDER_EXCLUDETOKENS_CONSTRAINT;
+
+import java.io.Serializable;
+
+import org.hfjv.framework.core.constraint.Constraint;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.util.GlobalUtil;
+
+/**
+ * <p>
+ * A constraint to evaluate the value of a field against the list of
+ * configured tokens (of one or more characters, say <tt>--</tt> or
+ * <tt>&lt;script</tt>) to be excluded, ignoring the case.
+ * </p>
+ *
+ * <p>
+ * The tokens are compiled into a <tt>TokenAutomaton</tt>, shared with the
+ * other fields having got the same tokens, so that the value is scanned only
+ * once for all of them.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ExcludeTokensConstraint extends ExcludeConstraint implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = 3390542618245071872L;
+
+	/**
+	 * <p>
+	 * The tokens to be excluded, compiled when the constraint is prepared
+	 * </p>
+	 */
+	private TokenAutomaton tokenAutomaton = null;
+
+	/**
+	 * <p>
+	 *  A no argument constructor
+	 * </p>
+	 */
+	public ExcludeTokensConstraint()
+	{
+		super(HFJV_INSERT_ORDER_EXCLUDETOKENS_CONSTRAINT,
+			HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS,
+			HFJV_KEY_ERROR_CODE_EXCLUDETOKENS,
+			HFJV_KEY_ERROR_MSG_EXCLUDETOKENS);
+	}
+
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.tokenAutomaton = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.tokenAutomaton = TokenAutomaton.getInstance(
+										GlobalUtil.getListOfTokens(valueToCheck));
+	}
+
+	@Override
+	public void evaluate(Field field)
+	throws ValidatorException
+	{
+		super.evaluate(field);
+
+		Constraint.actOnExcludedTokens(field, this, getTokenAutomaton());
+	}
+
+	/**
+	 * @return the tokens to be excluded, compiled out of the valueToCheck
+	 */
+	public TokenAutomaton getTokenAutomaton()
+	{
+		if(null==tokenAutomaton)
+		{
+			tokenAutomaton = TokenAutomaton.getInstance(
+										GlobalUtil.getListOfTokens(valueToCheck));
+		}
+
+		return tokenAutomaton;
+	}
+}
@@ -0,0 +1,175 @@
+package org.hfjv.framework.core.constraint.exclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hfjv.framework.util.CharClass;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * An immutable, compiled form of a list of characters to be excluded, as
+ * configured for the <tt>excludeCharsConstraint</tt> of a field or globally.
+ * </p>
+ *
+ * <p>
+ * A value is excluded if it contains the (first) character of any of the
+ * configured values, or if it is the same as any of them ignoring the case.
+ * The characters are kept in a <tt>CharClass</tt>, so that a value is
+ * scanned only once for all of them.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class ExcludedChars implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = 5301972271688430262L;
+
+	/**
+	 * <p>
+	 * The values configured, without any invalid one
+	 * </p>
+	 */
+	private final List<String> excludedCharList;
+
+	/**
+	 * <p>
+	 * The first character of every value configured
+	 * </p>
+	 */
+	private final CharClass charClass;
+
+	/**
+	 * <p>
+	 * A private two argument constructor. Use the <tt>compile()</tt> method.
+	 * </p>
+	 */
+	private ExcludedChars(List<String> excludedCharList, CharClass charClass)
+	{
+		this.excludedCharList = excludedCharList;
+		this.charClass = charClass;
+	}
+
+	/**
+	 * <p>
+	 * This method compiles the list of characters to be excluded
+	 * </p>
+	 *
+	 * @param excludedCharList
+	 * 				the characters (values) configured, the invalid ones being
+	 * 				ignored. It can be null.
+	 *
+	 * @return
+	 * 				the compiled characters
+	 */
+	public static ExcludedChars compile(List<String> excludedCharList)
+	{
+		ArrayList<String> validCharList = new ArrayList<String>();
+
+		CharClass.Builder builder = new CharClass.Builder();
+
+		if(null!=excludedCharList)
+		{
+			for(String excludedChar : excludedCharList)
+			{
+				if(StringUtil.isValidString(excludedChar))
+				{
+					validCharList.add(excludedChar);
+
+					builder.add(excludedChar.charAt(0));
+				}
+			}
+		}
+
+		return new ExcludedChars(Collections.unmodifiableList(validCharList),
+															builder.build());
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a character is to be excluded
+	 * </p>
+	 *
+	 * @param character
+	 * 				the character of a value
+	 *
+	 * @return
+	 * 				true if the character is to be excluded
+	 */
+	public boolean contains(char character)
+	{
+		return charClass.contains(character);
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value is the same as any of the
+	 * values configured, ignoring the case
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be checked
+	 *
+	 * @return
+	 * 				true if the value is the same as any of them
+	 */
+	public boolean isSameAsAny(CharSequence value)
+	{
+		for(int index = 0; index < excludedCharList.size(); index++)
+		{
+			if(StringUtil.equalsIgnoreCase(value, excludedCharList.get(index)))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value is to be excluded
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be checked, a valid one
+	 *
+	 * @return
+	 * 				true if the value contains any of the characters, or it is
+	 * 				the same as any of the values configured
+	 */
+	public boolean isExcluded(String value)
+	{
+		return -1!=charClass.indexIn(value) || isSameAsAny(value);
+	}
+
+	/**
+	 * @return the values configured, without any invalid one
+	 */
+	public List<String> getExcludedCharList() {
+		return excludedCharList;
+	}
+
+	/**
+	 * @return whether or not there is no character to be excluded
+	 */
+	public boolean isEmpty() {
+		return excludedCharList.isEmpty();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ExcludedChars] "
+						+ " excludedCharList="+this.getExcludedCharList()
+						+ ", charClass="+this.charClass;
+	}
+}
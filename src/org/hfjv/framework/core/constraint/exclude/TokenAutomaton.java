@@ -0,0 +1,404 @@
+package org.hfjv.framework.core.constraint.exclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * An immutable Aho-Corasick automaton of the tokens to be excluded, as
+ * configured for the <tt>excludeTokensConstraint</tt> of a field or globally.
+ * </p>
+ *
+ * <p>
+ * A value is scanned only once, a character at a time, however many tokens
+ * are configured. The tokens are matched ignoring the case. The transitions
+ * are resolved fully while building the automaton, so that the scan is a
+ * single table lookup per character, without following the failure links.
+ * </p>
+ *
+ * <p>
+ * An automaton is built once per distinct set of tokens and shared across
+ * all the fields (and the global configuration) having got the same set,
+ * through the <tt>getInstance()</tt> method.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class TokenAutomaton implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -1739362048113590725L;
+
+	/**
+	 * <p>
+	 * The number of the ASCII characters, mapped through a table
+	 * </p>
+	 */
+	private static final int ASCII_SIZE = 128;
+
+	/**
+	 * <p>
+	 * The automata built so far, keyed by the sorted (lower case) tokens
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<List<String>, TokenAutomaton> automatonMap =
+									new ConcurrentHashMap<List<String>, TokenAutomaton>();
+
+	/**
+	 * <p>
+	 * The tokens of the automaton, in the lower case and in the sorted order
+	 * </p>
+	 */
+	private final List<String> tokenList;
+
+	/**
+	 * <p>
+	 * The index of every ASCII character in the alphabet of the tokens, -1 if
+	 * the character is NOT in any of the tokens
+	 * </p>
+	 */
+	private final int[] asciiIndexes;
+
+	/**
+	 * <p>
+	 * The non ASCII characters of the tokens, in the ascending order, their
+	 * index in the alphabet being <tt>asciiCount + position</tt>
+	 * </p>
+	 */
+	private final char[] otherChars;
+
+	private final int asciiCount;
+
+	private final int alphabetSize;
+
+	/**
+	 * <p>
+	 * The next state of every state for every character of the alphabet, as
+	 * <tt>transitions[state * alphabetSize + index]</tt>. A character NOT in
+	 * the alphabet always leads to the root state (0).
+	 * </p>
+	 */
+	private final int[] transitions;
+
+	/**
+	 * <p>
+	 * Whether or not a token ends at every state, including the tokens being
+	 * the suffixes of the path to the state
+	 * </p>
+	 */
+	private final boolean[] matching;
+
+	/**
+	 * <p>
+	 * A private one argument constructor. Use the <tt>getInstance()</tt>
+	 * method.
+	 * </p>
+	 *
+	 * @param tokenList
+	 * 				the distinct, non empty tokens in the lower case, sorted
+	 */
+	private TokenAutomaton(List<String> tokenList)
+	{
+		this.tokenList = tokenList;
+
+		/* The alphabet, being the distinct characters of all the tokens */
+		TreeSet<Character> alphabet = new TreeSet<Character>();
+
+		int maxStates = 1;
+
+		for(String token : tokenList)
+		{
+			maxStates += token.length();
+
+			for(int index = 0; index < token.length(); index++)
+			{
+				alphabet.add(token.charAt(index));
+			}
+		}
+
+		this.asciiIndexes = new int[ASCII_SIZE];
+
+		Arrays.fill(asciiIndexes, -1);
+
+		int ascii = 0;
+
+		ArrayList<Character> others = new ArrayList<Character>();
+
+		for(Character character : alphabet)
+		{
+			if(character < ASCII_SIZE)
+			{
+				asciiIndexes[character] = ascii++;
+			}
+			else
+			{
+				others.add(character);
+			}
+		}
+
+		this.asciiCount = ascii;
+		this.otherChars = new char[others.size()];
+
+		for(int index = 0; index < otherChars.length; index++)
+		{
+			otherChars[index] = others.get(index);
+		}
+
+		this.alphabetSize = Math.max(1, alphabet.size());
+
+		/* The trie, with 0 being an absent edge as the root is never a child */
+		int[] trie = new int[maxStates * alphabetSize];
+
+		boolean[] ends = new boolean[maxStates];
+
+		int stateCount = 1;
+
+		for(String token : tokenList)
+		{
+			int state = 0;
+
+			for(int index = 0; index < token.length(); index++)
+			{
+				int edge = state * alphabetSize + indexOf(token.charAt(index));
+
+				if(0==trie[edge])
+				{
+					trie[edge] = stateCount++;
+				}
+
+				state = trie[edge];
+			}
+
+			ends[state] = true;
+		}
+
+		/*
+		 * Resolve the failure links in the breadth first order, turning the
+		 * absent edges into the transitions of the failure state.
+		 */
+		int[] failures = new int[stateCount];
+
+		int[] queue = new int[stateCount];
+
+		int head = 0;
+
+		int tail = 0;
+
+		for(int index = 0; index < alphabetSize; index++)
+		{
+			if(0!=trie[index])
+			{
+				queue[tail++] = trie[index];
+			}
+		}
+
+		while(head < tail)
+		{
+			int state = queue[head++];
+
+			ends[state] |= ends[failures[state]];
+
+			for(int index = 0; index < alphabetSize; index++)
+			{
+				int edge = state * alphabetSize + index;
+
+				int fallback = trie[failures[state] * alphabetSize + index];
+
+				if(0==trie[edge])
+				{
+					trie[edge] = fallback;
+				}
+				else
+				{
+					failures[trie[edge]] = fallback;
+
+					queue[tail++] = trie[edge];
+				}
+			}
+		}
+
+		this.transitions = Arrays.copyOf(trie, stateCount * alphabetSize);
+		this.matching = Arrays.copyOf(ends, stateCount);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the automaton of the tokens, building it only if no
+	 * automaton is built yet for the same set of tokens
+	 * </p>
+	 *
+	 * @param tokenList
+	 * 				the tokens configured, the invalid ones being ignored. It
+	 * 				can be null.
+	 *
+	 * @return
+	 * 				the automaton, shared
+	 */
+	public static TokenAutomaton getInstance(List<String> tokenList)
+	{
+		TreeSet<String> tokens = new TreeSet<String>();
+
+		if(null!=tokenList)
+		{
+			for(String token : tokenList)
+			{
+				if(StringUtil.isValidString(token))
+				{
+					tokens.add(toLowerCase(token));
+				}
+			}
+		}
+
+		List<String> key = Collections.unmodifiableList(new ArrayList<String>(tokens));
+
+		TokenAutomaton automaton = automatonMap.get(key);
+
+		if(null==automaton)
+		{
+			automaton = new TokenAutomaton(key);
+
+			TokenAutomaton existing = automatonMap.putIfAbsent(key, automaton);
+
+			if(null!=existing)
+			{
+				automaton = existing;
+			}
+		}
+
+		return automaton;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value contains any of the tokens,
+	 * ignoring the case
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be scanned
+	 *
+	 * @return
+	 * 				true if the value contains any of the tokens
+	 */
+	public boolean matches(CharSequence value)
+	{
+		return -1!=indexIn(value);
+	}
+
+	/**
+	 * <p>
+	 * This method finds the first place where a token ends in a value,
+	 * ignoring the case
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be scanned
+	 *
+	 * @return
+	 * 				the index of the last character of the token found, -1 if
+	 * 				there is none (or the value is null)
+	 */
+	public int indexIn(CharSequence value)
+	{
+		if(null==value || tokenList.isEmpty())
+		{
+			return -1;
+		}
+
+		int state = 0;
+
+		int alphabetIndex;
+
+		for(int index = 0; index < value.length(); index++)
+		{
+			alphabetIndex = indexOf(Character.toLowerCase(value.charAt(index)));
+
+			state = (-1==alphabetIndex) ? 0
+						: transitions[state * alphabetSize + alphabetIndex];
+
+			if(matching[state])
+			{
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the index of a character in the alphabet of the
+	 * tokens, -1 if it is NOT in any of the tokens
+	 * </p>
+	 */
+	private int indexOf(char character)
+	{
+		if(character < ASCII_SIZE)
+		{
+			return asciiIndexes[character];
+		}
+
+		int position = Arrays.binarySearch(otherChars, character);
+
+		return (position < 0) ? -1 : asciiCount + position;
+	}
+
+	/**
+	 * <p>
+	 * This method converts a token into the lower case, a character at a
+	 * time, the same way the values are converted while scanning
+	 * </p>
+	 */
+	private static String toLowerCase(String token)
+	{
+		char[] chars = token.toCharArray();
+
+		for(int index = 0; index < chars.length; index++)
+		{
+			chars[index] = Character.toLowerCase(chars[index]);
+		}
+
+		return new String(chars);
+	}
+
+	/**
+	 * @return the tokens, in the lower case and in the sorted order
+	 */
+	public List<String> getTokenList() {
+		return tokenList;
+	}
+
+	/**
+	 * @return whether or not there is no token to be excluded
+	 */
+	public boolean isEmpty() {
+		return tokenList.isEmpty();
+	}
+
+	/**
+	 * @return the number of states of the automaton
+	 */
+	public int getStateCount() {
+		return matching.length;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[TokenAutomaton] "
+						+ " tokenList="+this.getTokenList()
+						+ ", stateCount="+this.getStateCount();
+	}
+}
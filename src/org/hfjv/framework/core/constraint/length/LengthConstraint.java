@@ -7,6 +7,7 @@ import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.constraint.Constraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.util.GlobalUtil;
 
 /**
  * <p>
@@ -33,6 +34,14 @@ public class LengthConstraint extends Constraint implements Serializable
 	private static Logger logger = LoggerFactory.getInstance().
 																	getLogger(LengthConstraint.class);
 
+	/**
+	 * <p>
+	 * The length configured, parsed when the constraint is prepared for a
+	 * field of a <tt>String</tt> (or hexadecimal) type
+	 * </p>
+	 */
+	private Long lengthToCheck = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -71,4 +80,91 @@ public class LengthConstraint extends Constraint implements Serializable
 		
 		logger.exit(THIS_METHOD_NAME);		
 	}
+
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.lengthToCheck = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		if(!isStringType(field))
+		{
+			return;
+		}
+
+		try
+		{
+			this.lengthToCheck = Long.valueOf(valueToCheck);
+		}
+		catch(NumberFormatException numberFormatException)
+		{
+			/* Left to the evaluate() to report it, as before */
+			this.lengthToCheck = null;
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the length configured, the same as the
+	 * <tt>getNarrowedValueToCheck()</tt> parsed into a <tt>long</tt>, without
+	 * parsing it again if it is prepared already
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be evaluated
+	 *
+	 * @return
+	 * 				the length configured
+	 *
+	 * @throws ValidatorException
+	 * 				any exceptions while narrowing down the value configured
+	 */
+	protected long getLengthToCheck(Field field)
+	throws ValidatorException
+	{
+		if(null!=lengthToCheck && isStringType(field))
+		{
+			return lengthToCheck;
+		}
+
+		return Long.valueOf((String) getNarrowedValueToCheck(field));
+	}
+
+	/**
+	 * <p>
+	 * This method gives the length configured as prepared, so that it can be
+	 * taken as a constant (say, by the <tt>ValidatorCompiler</tt>)
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field the constraint is prepared for
+	 *
+	 * @return
+	 * 				the length configured for a <tt>String</tt> (or hexadecimal)
+	 * 				field, null if it is NOT prepared (say, for a field of any
+	 * 				other type, or an invalid length)
+	 */
+	public Long getPreparedLengthToCheck(Field field)
+	{
+		return isStringType(field) ? lengthToCheck : null;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the field is of a <tt>String</tt> (or
+	 * hexadecimal) type, whose length configured is narrowed down as it is
+	 * </p>
+	 */
+	private static boolean isStringType(Field field)
+	{
+		String type = field.getType();
+
+		return (null!=type && (type.equalsIgnoreCase(GlobalUtil.DATATYPE_STRING)
+						|| type.equalsIgnoreCase(GlobalUtil.DATATYPE_HEXADECIMAL)));
+	}
 }
\ No newline at end of file
@@ -6,11 +6,11 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSERT_ORDER_MAXLENGTH_CONSTRAINT;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
+import org.hfjv.framework.util.StringUtil;
 
 
 /**
@@ -58,17 +58,12 @@ public class MaxLengthConstraint extends LengthConstraint implements Serializabl
 	{
 		super.evaluate(field);
 
-		String value = getFieldValue(field);
+		/* Scanned in place, as the value may NOT be a String (say, of a fixed width record) */
+		int digitLength = StringUtil.getTrimmedLength(getFieldValueChars(field));
 
-		int digitLength = (null!=value) ? value.trim().length() : 0;
+		long valueToCheck = getLengthToCheck(field);
 
-		String targetValue = (String) getNarrowedValueToCheck(field);
-
-		BigDecimal valueToCheck = BigDecimal.valueOf(Long.valueOf(targetValue)); 
-
-		BigDecimal bigDecimalDigitLength = new BigDecimal(digitLength);
-
-		if(bigDecimalDigitLength.compareTo(valueToCheck)==1)
+		if(digitLength > valueToCheck)
 		{
 			String errorMsg = "Value of field '"+ field.getDisplayName()
 					+ "' can contain only a maximum of "	+ valueToCheck + " characters";
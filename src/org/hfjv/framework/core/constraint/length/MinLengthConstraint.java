@@ -6,7 +6,6 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSERT_ORDER_MINLENGTH_CONSTRAINT;
 
 import java.io.Serializable;
-import java.math.BigDecimal;
 
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
@@ -60,13 +59,9 @@ public class MinLengthConstraint extends LengthConstraint implements Serializabl
 
 		int digitLength = (null!=value) ? value.trim().length() : 0;
 
-		String targetValue = (String) getNarrowedValueToCheck(field);
+		long valueToCheck = getLengthToCheck(field);
 
-		BigDecimal valueToCheck = BigDecimal.valueOf(Long.valueOf(targetValue)); 
-
-		BigDecimal bigDecimalDigitLength = new BigDecimal(digitLength);
-
-		if(bigDecimalDigitLength.compareTo(valueToCheck)==-1)
+		if(digitLength < valueToCheck)
 		{
 			String errorMsg = "Value of field '"+ field.getDisplayName()
 							+ "' should contain minimum of "	+ valueToCheck + " characters";
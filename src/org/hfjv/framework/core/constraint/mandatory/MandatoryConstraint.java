@@ -69,7 +69,7 @@ public class MandatoryConstraint extends Constraint implements Serializable
 	{
 		super.evaluate(field);
 
-		String value = getFieldValue(field);
+		CharSequence value = getFieldValueChars(field);
 
 		boolean isValidValueToCheck = StringUtil.isValidString(valueToCheck);
 
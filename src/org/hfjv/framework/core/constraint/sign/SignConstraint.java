@@ -15,6 +15,7 @@ import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
 import org.hfjv.framework.util.GlobalUtil;
+import org.hfjv.framework.util.NumberUtil;
 import org.hfjv.framework.util.StringUtil;
 
 /**
@@ -74,7 +75,7 @@ public class SignConstraint extends Constraint implements Serializable
 		String actualValue = getFieldValue(field);
 
     	/** What if the value contains a sign digit at first? a "-" or "+" ? */
-		String signBitExcludedValue = GlobalUtil.excludeSignBit(actualValue);
+		String signBitExcludedValue = field.getNormalizedValue().getSignExcludedValue();
 
 		String fieldType = field.getType();
 
@@ -102,7 +103,12 @@ public class SignConstraint extends Constraint implements Serializable
 				actualValue = signBitExcludedValue;
 			}
 
-			BigInteger numberValueBigInt = null;
+			/*
+			 * Only the sign of the value matters here, which is told by a scan
+			 * of the (validated) value, rather than parsing it into a BigInteger
+			 * and comparing that with a BigInteger of zero.
+			 */
+			int signum = 0;
 
 			/*
 		 	 * There are two possibilities for the signConstraint.
@@ -133,7 +139,7 @@ public class SignConstraint extends Constraint implements Serializable
 					throw ExceptionHelper.getValidatorException(field, this, errorMsg);
 				}
 
-				numberValueBigInt = (BigInteger) new BigInteger(actualValue, 16);
+				signum = NumberUtil.getSignum(actualValue);
 			}
 			else
 			{
@@ -151,16 +157,14 @@ public class SignConstraint extends Constraint implements Serializable
 					throw ExceptionHelper.getValidatorException(field, this, errorMsg);
 				}
 
-				numberValueBigInt = (BigInteger) new BigInteger(actualValue, 10);
+				signum = NumberUtil.getSignum(actualValue);
 			}
 
-			BigInteger bigIntegerZero = new BigInteger("0");
-
 			if(StringUtil.isValidString(valueToCheck))
 			{
 				if(valueToCheck.equalsIgnoreCase("+"))
 				{
-					if(numberValueBigInt.compareTo(bigIntegerZero)==-1)
+					if(signum < 0)
 					{
 						String errorMsg = "Value '"+actualValue + "' of the field '"
 										+ field.getDisplayName()+ "' should be a positive number";
@@ -171,7 +175,7 @@ public class SignConstraint extends Constraint implements Serializable
 
 				else if(valueToCheck.equalsIgnoreCase("-"))
 				{
-					if(numberValueBigInt.compareTo(bigIntegerZero)==1)
+					if(signum > 0)
 					{
 						String errorMsg = "Value '"+actualValue + "' of the field '"
 									+ field.getDisplayName()+ "' should be a negative number";
@@ -13,7 +13,6 @@ import org.hfjv.framework.core.constraint.Constraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
-import org.hfjv.framework.helper.TypeConvertor;
 import org.hfjv.framework.util.GlobalUtil;
 import org.hfjv.framework.util.NumberUtil;
 
@@ -71,7 +70,7 @@ public class TypeConstraint extends Constraint implements Serializable
 	{
 		super.evaluate(field);
 
-		TypeConstraint.evaluateType(field, field.getValue(), this);
+		TypeConstraint.evaluateType(field, field.getValueChars(), this);
 	}
 
 	/**
@@ -82,37 +81,50 @@ public class TypeConstraint extends Constraint implements Serializable
 	 * @param field
 	 * 				the field to be evaluated
 	 * @param value
-	 * 				the value to be evaluated
+	 * 				the value to be evaluated, scanned in place if it is NOT a
+	 * 				<tt>String</tt>
 	 * @param ValidatorException
 	 * 				any exceptions during validation
 	 */
-	public static void evaluateType(Field field, String value, Constraint constraintObj)
+	public static void evaluateType(Field field, CharSequence value, Constraint constraintObj)
 	throws ValidatorException
 	{
 		String fieldType = field.getType();
 
-		String errorMsg = "Specified value '"+value + "' of the field '" 
-											+ field.getDisplayName()+ "' is not a valid number";
-
 		/* check if it is a number type */
 		if(GlobalUtil.isAllowedNumberType(fieldType))
 		{
 			if(NumberUtil.isInvalidNumber(value, fieldType))
 			{
-				throw ExceptionHelper.getValidatorException(field, constraintObj, errorMsg);
+				throw ExceptionHelper.getValidatorException(field, constraintObj,
+															getErrorMsg(field, value));
 			}
 
-			Number numberValue = TypeConvertor.getNumber(value);
-
-			boolean isValueMinusOne = NumberUtil.isValueMinusOne(value);
-
-			if(numberValue.equals(-1) && !isValueMinusOne)
+			/*
+			 * The value has to be an integral one as well. It is just scanned,
+			 * as parsing it into a BigInteger (the TypeConvertor.getNumber())
+			 * only to tell the same costs an object per value.
+			 */
+			if(!NumberUtil.isValidBigInteger(value) && !NumberUtil.isValueMinusOne(value))
 			{
-				throw ExceptionHelper.getValidatorException(field, constraintObj, errorMsg);
+				throw ExceptionHelper.getValidatorException(field, constraintObj,
+															getErrorMsg(field, value));
 			}
 		}
 	}
 
+	/**
+	 * <p>
+	 * This method gives the error message of a value NOT of the type, built
+	 * only on a failure
+	 * </p>
+	 */
+	private static String getErrorMsg(Field field, CharSequence value)
+	{
+		return "Specified value '"+value + "' of the field '"
+									+ field.getDisplayName()+ "' is not a valid number";
+	}
+
 	@Override
 	public void selfEvaluate() throws ValidatorException
 	{
@@ -0,0 +1,620 @@
+package org.hfjv.framework.core.constraint.value;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+
+/**
+ * <p>
+ * An immutable, memory mapped Bloom filter of the values of an external file,
+ * used as a prefilter in front of its <tt>MappedValueIndex</tt>, so that a
+ * value NOT in the file (the common case for a deny list) is rejected without
+ * searching the index.
+ * </p>
+ *
+ * <p>
+ * The filter is a blocked one: a value sets (and tests) all its bits within a
+ * single block of 512 bits, being a cache line, so that a lookup touches one
+ * cache line of the mapping. It is built offline out of the source file, with
+ * a false positive rate of choice, as
+ * </p>
+ *
+ * <pre>
+ * java org.hfjv.framework.core.constraint.value.MappedBloomFilter &lt;sourceFile&gt; [falsePositiveRate]
+ * </pre>
+ *
+ * <p>
+ * which writes <tt>&lt;sourceFile&gt;.bloom</tt>. The header records the
+ * length and the last modified time of the source, along with the rate, so
+ * that a filter found stale is built again with the same rate. The source is
+ * read with the same rules as the <tt>MappedValueIndex</tt>.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class MappedBloomFilter
+{
+	/**
+	 * <p>
+	 * A private class level logger instance of this class
+	 * </p>
+	 */
+	private static Logger logger = LoggerFactory.getInstance().
+							getLogger(MappedBloomFilter.class);
+
+	/**
+	 * <p>
+	 * The suffix of the filter file, to the name of the source file
+	 * </p>
+	 */
+	public static final String FILTER_FILE_SUFFIX = ".bloom";
+
+	/**
+	 * <p>
+	 * The false positive rate, if none is given while building
+	 * </p>
+	 */
+	public static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+	/**
+	 * <p>
+	 * The first bytes of a filter file, being "HFJB" in ASCII
+	 * </p>
+	 */
+	private static final int MAGIC = 0x48464A42;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * <p>
+	 * The size of the header, in bytes, keeping the blocks aligned
+	 * </p>
+	 */
+	private static final int HEADER_SIZE = 64;
+
+	/**
+	 * <p>
+	 * The size of a block, as the bits to address a bit, in bits and in bytes
+	 * </p>
+	 */
+	private static final int BLOCK_SHIFT = 9;
+
+	private static final int BLOCK_BITS = 1 << BLOCK_SHIFT;
+
+	private static final int BLOCK_BYTES = BLOCK_BITS / 8;
+
+	private static final int MAX_HASH_COUNT = 16;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final File filterFile;
+
+	private final int hashCount;
+
+	private final long blockCount;
+
+	private final double falsePositiveRate;
+
+	private final long count;
+
+	private final long sourceLength;
+
+	private final long sourceLastModified;
+
+	/**
+	 * <p>
+	 * The blocks mapped
+	 * </p>
+	 */
+	private final ByteBuffer blocks;
+
+	/**
+	 * <p>
+	 * A private one argument constructor, which maps the filter file. Use the
+	 * <tt>open()</tt> or the <tt>build()</tt> method.
+	 * </p>
+	 */
+	private MappedBloomFilter(File filterFile) throws IOException
+	{
+		this.filterFile = filterFile;
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(filterFile, "r");
+
+		try
+		{
+			FileChannel channel = randomAccessFile.getChannel();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+			while(header.hasRemaining() && channel.read(header, header.position()) > 0)
+			{
+				//Keep reading till the header is full
+			}
+
+			header.flip();
+
+			if(header.remaining() < HEADER_SIZE || MAGIC != header.getInt()
+					|| VERSION != header.getInt())
+			{
+				throw new IOException("Not a valid bloom filter file : " + filterFile);
+			}
+
+			this.hashCount = header.getInt();
+			header.getInt();
+			this.blockCount = header.getLong();
+			this.falsePositiveRate = header.getDouble();
+			this.count = header.getLong();
+			this.sourceLength = header.getLong();
+			this.sourceLastModified = header.getLong();
+
+			if(hashCount < 1 || hashCount > MAX_HASH_COUNT || blockCount < 1
+					|| blockCount > Integer.MAX_VALUE / BLOCK_BYTES
+					|| channel.size() != HEADER_SIZE + blockCount * BLOCK_BYTES)
+			{
+				throw new IOException("The bloom filter file is corrupt : " + filterFile);
+			}
+
+			this.blocks = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE,
+											blockCount * BLOCK_BYTES);
+		}
+		finally
+		{
+			/* The mapping stays valid even after the file is closed */
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method maps a filter file built already
+	 * </p>
+	 *
+	 * @param filterFile
+	 * 				the filter file
+	 *
+	 * @return
+	 * 				the filter
+	 *
+	 * @throws IOException
+	 * 				if the file cannot be read, or if it is NOT a valid filter
+	 */
+	public static MappedBloomFilter open(File filterFile) throws IOException
+	{
+		return new MappedBloomFilter(filterFile);
+	}
+
+	/**
+	 * <p>
+	 * This method builds the filter of a source file, and maps it. The filter
+	 * file is written aside and then moved in place atomically.
+	 * </p>
+	 *
+	 * @param sourceFile
+	 * 				the file carrying a value per line
+	 *
+	 * @param filterFile
+	 * 				the filter file to be written
+	 *
+	 * @param falsePositiveRate
+	 * 				the rate of the values NOT in the source, to be let through
+	 * 				to the index, between 0 and 1 (both exclusive)
+	 *
+	 * @return
+	 * 				the filter
+	 *
+	 * @throws IOException
+	 * 				if the source cannot be read or the filter cannot be written
+	 */
+	public static MappedBloomFilter build(File sourceFile, File filterFile,
+									double falsePositiveRate) throws IOException
+	{
+		final String THIS_METHOD_NAME = "build() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		if(!(falsePositiveRate > 0 && falsePositiveRate < 1))
+		{
+			throw new IOException("The false positive rate should be between 0 and 1,"
+									+ " but is " + falsePositiveRate);
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		/* Taken first, so that a source modified while reading is built again */
+		long sourceLength = sourceFile.length();
+		long sourceLastModified = sourceFile.lastModified();
+
+		long count = countValues(sourceFile);
+
+		/*
+		 * The optimal number of bits and of hashes, for the count and the rate,
+		 * with the bits raised until the blocks (loaded unevenly) meet the rate
+		 */
+		double bitsPerValue = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+
+		int hashCount = (int) Math.max(1, Math.min(MAX_HASH_COUNT,
+												Math.round(bitsPerValue * Math.log(2))));
+
+		while(getBlockedFalsePositiveRate(BLOCK_BITS / bitsPerValue, hashCount)
+															> falsePositiveRate)
+		{
+			bitsPerValue *= 1.05;
+		}
+
+		long blockCount = Math.max(1,
+						(long) Math.ceil(Math.max(1, count) * bitsPerValue / BLOCK_BITS));
+
+		if(blockCount > Integer.MAX_VALUE / BLOCK_BYTES)
+		{
+			throw new IOException("Too many values for a bloom filter : " + count);
+		}
+
+		long[] words = new long[(int) blockCount * (BLOCK_BITS / 64)];
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+					new FileInputStream(sourceFile), StandardCharsets.UTF_8), BUFFER_SIZE);
+
+		try
+		{
+			String value;
+
+			while(null!=(value = readValue(reader)))
+			{
+				long hash = hash(value);
+
+				int firstWord = getBlock(hash, blockCount) * (BLOCK_BITS / 64);
+
+				long bitHash = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+				for(int index = 0; index < hashCount; index++)
+				{
+					int bit = getBit(bitHash, index);
+
+					words[firstWord + (bit >>> 6)] |= 1L << bit;
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		File tempFile = new File(filterFile.getPath() + ".tmp");
+
+		try
+		{
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+											new FileOutputStream(tempFile), BUFFER_SIZE));
+
+			try
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(hashCount);
+				out.writeInt(0);
+				out.writeLong(blockCount);
+				out.writeDouble(falsePositiveRate);
+				out.writeLong(count);
+				out.writeLong(sourceLength);
+				out.writeLong(sourceLastModified);
+				out.write(new byte[HEADER_SIZE - out.size()]);
+
+				for(long word : words)
+				{
+					out.writeLong(word);
+				}
+			}
+			finally
+			{
+				out.close();
+			}
+
+			Files.move(tempFile.toPath(), filterFile.toPath(),
+							StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally
+		{
+			tempFile.delete();
+		}
+
+		logger.info(THIS_METHOD_NAME + "filtered " + count + " values of " + sourceFile
+					+ " into " + blockCount + " blocks, " + hashCount + " hashes, in "
+					+ (System.currentTimeMillis() - startTime) + " ms");
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return new MappedBloomFilter(filterFile);
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the filter is of the present version
+	 * of the source file, as told by its length and its last modified time
+	 * </p>
+	 *
+	 * @param sourceFile
+	 * 				the source file
+	 *
+	 * @return
+	 * 				true if the source is NOT modified since it is filtered
+	 */
+	public boolean isFilterOf(File sourceFile)
+	{
+		return sourceFile.lastModified()==sourceLastModified
+					&& sourceFile.length()==sourceLength;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value may be in the source. A false
+	 * is always right, whereas a true is wrong at the false positive rate.
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be looked up, exactly as it is
+	 *
+	 * @return
+	 * 				false if the value is NOT in the source for sure (and for a
+	 * 				null or an empty value), true otherwise
+	 */
+	public boolean mightContain(String value)
+	{
+		if(null==value || 0==value.length())
+		{
+			return false;
+		}
+
+		long hash = hash(value);
+
+		int firstByte = getBlock(hash, blockCount) * BLOCK_BYTES;
+
+		long bitHash = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+		for(int index = 0; index < hashCount; index++)
+		{
+			int bit = getBit(bitHash, index);
+
+			if(0==(blocks.getLong(firstByte + ((bit >>> 6) << 3)) & (1L << bit)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method hashes a value, through its characters (FNV-1a) finalized
+	 * with the mixer of the MurmurHash3
+	 * </p>
+	 */
+	private static long hash(String value)
+	{
+		long hash = 0xCBF29CE484222325L;
+
+		for(int index = 0; index < value.length(); index++)
+		{
+			hash ^= value.charAt(index);
+			hash *= 0x100000001B3L;
+		}
+
+		return mix(hash);
+	}
+
+	private static long mix(long hash)
+	{
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the block of a value, out of the upper bits of its
+	 * hash
+	 * </p>
+	 */
+	private static int getBlock(long hash, long blockCount)
+	{
+		return (int) (((hash >>> 32) * blockCount) >>> 32);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the bit of a value within its block, for the index
+	 * of the hash, out of the upper bits of a hash of its own (a double
+	 * hashing is too correlated, within as few as 512 bits)
+	 * </p>
+	 */
+	private static int getBit(long bitHash, int index)
+	{
+		return (int) (mix(bitHash + index * 0x9E3779B97F4A7C15L) >>> (64 - BLOCK_SHIFT));
+	}
+
+	/**
+	 * <p>
+	 * This method gives the expected false positive rate of a blocked filter,
+	 * wherein the number of values of a block follows a Poisson distribution
+	 * of the mean number of values per block
+	 * </p>
+	 */
+	private static double getBlockedFalsePositiveRate(double valuesPerBlock, int hashCount)
+	{
+		double falsePositiveRate = 0;
+
+		int maxValues = (int) Math.ceil(valuesPerBlock + 10 * Math.sqrt(valuesPerBlock) + 10);
+
+		for(int values=0; values<=maxValues; values++)
+		{
+			double logProbability = values * Math.log(valuesPerBlock) - valuesPerBlock
+														- logFactorial(values);
+
+			double bitSet = 1 - Math.pow(1 - 1.0 / BLOCK_BITS, (double) hashCount * values);
+
+			falsePositiveRate += Math.exp(logProbability) * Math.pow(bitSet, hashCount);
+		}
+
+		return falsePositiveRate;
+	}
+
+	private static double logFactorial(int number)
+	{
+		double logFactorial = 0;
+
+		for(int factor=2; factor<=number; factor++)
+		{
+			logFactorial += Math.log(factor);
+		}
+
+		return logFactorial;
+	}
+
+	/**
+	 * <p>
+	 * This method reads the source once, to count its values
+	 * </p>
+	 */
+	private static long countValues(File sourceFile) throws IOException
+	{
+		long count = 0;
+
+		BufferedReader reader = new BufferedReader(new InputStreamReader(
+					new FileInputStream(sourceFile), StandardCharsets.UTF_8), BUFFER_SIZE);
+
+		try
+		{
+			while(null!=readValue(reader))
+			{
+				count++;
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		return count;
+	}
+
+	/**
+	 * <p>
+	 * This method reads the next value of the source, skipping the blank lines
+	 * and the lines having a <tt>NUL</tt> character, the same as the
+	 * <tt>MappedValueIndex</tt>
+	 * </p>
+	 */
+	private static String readValue(BufferedReader reader) throws IOException
+	{
+		String line;
+
+		while(null!=(line = reader.readLine()))
+		{
+			line = line.trim();
+
+			if(line.length() > 0 && line.indexOf('\u0000') == -1)
+			{
+				return line;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * @return the filter file mapped
+	 */
+	public File getFilterFile() {
+		return filterFile;
+	}
+
+	/**
+	 * @return the false positive rate, the filter is built for
+	 */
+	public double getFalsePositiveRate() {
+		return falsePositiveRate;
+	}
+
+	/**
+	 * @return the number of the values filtered
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the number of the hashes per value
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	/**
+	 * @return the number of the blocks, of 512 bits each
+	 */
+	public long getBlockCount() {
+		return blockCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[MappedBloomFilter] "
+						+ " filterFile="+this.getFilterFile()
+						+ ", count="+this.getCount()
+						+ ", blockCount="+this.getBlockCount()
+						+ ", hashCount="+this.getHashCount()
+						+ ", falsePositiveRate="+this.getFalsePositiveRate();
+	}
+
+	/**
+	 * <p>
+	 * This method builds the filter of a source file offline
+	 * </p>
+	 *
+	 * @param args
+	 * 				the path of the source file, and optionally the false
+	 * 				positive rate (<tt>0.01</tt> by default)
+	 *
+	 * @throws IOException
+	 * 				if the source cannot be read or the filter cannot be written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if(args.length < 1)
+		{
+			System.err.println("Usage : MappedBloomFilter <sourceFile> [falsePositiveRate]");
+			return;
+		}
+
+		File sourceFile = new File(args[0]);
+
+		double falsePositiveRate = (args.length > 1) ? Double.parseDouble(args[1])
+													: DEFAULT_FALSE_POSITIVE_RATE;
+
+		MappedBloomFilter bloomFilter = build(sourceFile,
+					new File(sourceFile.getPath() + FILTER_FILE_SUFFIX), falsePositiveRate);
+
+		System.out.println(bloomFilter);
+	}
+}
@@ -0,0 +1,747 @@
+package org.hfjv.framework.core.constraint.value;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+
+/**
+ * <p>
+ * An immutable, memory mapped index of the values of an external file, as
+ * configured for the <tt>valueListFileConstraint</tt> of a field.
+ * </p>
+ *
+ * <p>
+ * The source file carries a value per line (UTF-8), the blank lines and the
+ * surrounding spaces being ignored. It is converted once into an index file,
+ * which has a header followed by the distinct values sorted by their UTF-8
+ * bytes, every value being padded with zeros to the same stride (the length
+ * of the longest value). A value is then looked up by a binary search over
+ * the mapped index, off the heap, without reading the source again.
+ * </p>
+ *
+ * <p>
+ * The header records the length and the last modified time of the source
+ * file indexed, so that an index still matching its source is just mapped
+ * as it is. The conversion sorts the values in runs of a bounded size and
+ * merges them, so that the heap used does NOT depend on the size of the
+ * source. A line having a <tt>NUL</tt> character is skipped, as it cannot be
+ * told apart from the padding.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class MappedValueIndex
+{
+	/**
+	 * <p>
+	 * A private class level logger instance of this class
+	 * </p>
+	 */
+	private static Logger logger = LoggerFactory.getInstance().
+							getLogger(MappedValueIndex.class);
+
+	/**
+	 * <p>
+	 * The first bytes of an index file, being "HFJV" in ASCII
+	 * </p>
+	 */
+	private static final int MAGIC = 0x48464A56;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * <p>
+	 * The size of the header, in bytes
+	 * </p>
+	 */
+	private static final int HEADER_SIZE = 64;
+
+	/**
+	 * <p>
+	 * The maximum number of values sorted in the memory at a time, while
+	 * converting a source file
+	 * </p>
+	 */
+	private static final int RUN_SIZE = 1 << 20;
+
+	/**
+	 * <p>
+	 * The maximum number of bytes mapped by a single segment
+	 * </p>
+	 */
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * <p>
+	 * A comparator of the values in their UTF-8 bytes, as unsigned bytes
+	 * </p>
+	 */
+	private static final Comparator<byte[]> VALUE_COMPARATOR = new Comparator<byte[]>()
+	{
+		@Override
+		public int compare(byte[] value1, byte[] value2)
+		{
+			return compareValues(value1, value2);
+		}
+	};
+
+	private final File indexFile;
+
+	private final int stride;
+
+	private final long count;
+
+	private final long sourceLength;
+
+	private final long sourceLastModified;
+
+	/**
+	 * <p>
+	 * The index mapped, as the segments of <tt>entriesPerSegment</tt> values
+	 * each, the last one being the only one which may have less
+	 * </p>
+	 */
+	private final ByteBuffer[] segments;
+
+	private final int entriesPerSegment;
+
+	/**
+	 * <p>
+	 * A private one argument constructor, which maps the index file. Use the
+	 * <tt>open()</tt> or the <tt>build()</tt> method.
+	 * </p>
+	 */
+	private MappedValueIndex(File indexFile) throws IOException
+	{
+		this.indexFile = indexFile;
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(indexFile, "r");
+
+		try
+		{
+			FileChannel channel = randomAccessFile.getChannel();
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+			while(header.hasRemaining() && channel.read(header, header.position()) > 0)
+			{
+				//Keep reading till the header is full
+			}
+
+			header.flip();
+
+			if(header.remaining() < HEADER_SIZE || MAGIC != header.getInt()
+					|| VERSION != header.getInt())
+			{
+				throw new IOException("Not a valid value index file : " + indexFile);
+			}
+
+			this.stride = header.getInt();
+			header.getInt();
+			this.count = header.getLong();
+			this.sourceLength = header.getLong();
+			this.sourceLastModified = header.getLong();
+
+			if(stride < 0 || count < 0 || (count > 0 && stride == 0)
+					|| channel.size() != HEADER_SIZE + count * stride)
+			{
+				throw new IOException("The value index file is corrupt : " + indexFile);
+			}
+
+			this.entriesPerSegment = (0==stride) ? 1 : MAX_SEGMENT_SIZE / stride;
+
+			int segmentCount = (int) ((count + entriesPerSegment - 1) / entriesPerSegment);
+
+			this.segments = new ByteBuffer[segmentCount];
+
+			for(int index = 0; index < segmentCount; index++)
+			{
+				long firstEntry = (long) index * entriesPerSegment;
+
+				long entries = Math.min(entriesPerSegment, count - firstEntry);
+
+				segments[index] = channel.map(FileChannel.MapMode.READ_ONLY,
+							HEADER_SIZE + firstEntry * stride, entries * stride);
+			}
+		}
+		finally
+		{
+			/* The mappings stay valid even after the file is closed */
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method maps an index file built already
+	 * </p>
+	 *
+	 * @param indexFile
+	 * 				the index file
+	 *
+	 * @return
+	 * 				the index
+	 *
+	 * @throws IOException
+	 * 				if the file cannot be read, or if it is NOT a valid index
+	 */
+	public static MappedValueIndex open(File indexFile) throws IOException
+	{
+		return new MappedValueIndex(indexFile);
+	}
+
+	/**
+	 * <p>
+	 * This method converts a source file into an index file, and maps it. The
+	 * index file is written aside and then moved in place atomically, so that
+	 * any one mapping the earlier index keeps seeing a complete file.
+	 * </p>
+	 *
+	 * @param sourceFile
+	 * 				the file carrying a value per line
+	 *
+	 * @param indexFile
+	 * 				the index file to be written
+	 *
+	 * @return
+	 * 				the index
+	 *
+	 * @throws IOException
+	 * 				if the source cannot be read or the index cannot be written
+	 */
+	public static MappedValueIndex build(File sourceFile, File indexFile) throws IOException
+	{
+		final String THIS_METHOD_NAME = "build() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		long startTime = System.currentTimeMillis();
+
+		/* Taken first, so that a source modified while reading is indexed again */
+		long sourceLength = sourceFile.length();
+		long sourceLastModified = sourceFile.lastModified();
+
+		int stride = getMaxValueLength(sourceFile);
+
+		ArrayList<File> runFiles = new ArrayList<File>();
+
+		File tempFile = new File(indexFile.getPath() + ".tmp");
+
+		try
+		{
+			writeSortedRuns(sourceFile, indexFile, stride, runFiles);
+
+			long count = mergeSortedRuns(runFiles, tempFile, stride,
+										sourceLength, sourceLastModified);
+
+			Files.move(tempFile.toPath(), indexFile.toPath(),
+							StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+
+			logger.info(THIS_METHOD_NAME + "indexed " + count + " values of "
+						+ sourceFile + " in " + (System.currentTimeMillis() - startTime)
+						+ " ms");
+		}
+		finally
+		{
+			for(File runFile : runFiles)
+			{
+				runFile.delete();
+			}
+
+			tempFile.delete();
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return new MappedValueIndex(indexFile);
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the index is of the present version of
+	 * the source file, as told by its length and its last modified time
+	 * </p>
+	 *
+	 * @param sourceFile
+	 * 				the source file
+	 *
+	 * @return
+	 * 				true if the source is NOT modified since it is indexed
+	 */
+	public boolean isIndexOf(File sourceFile)
+	{
+		return sourceFile.lastModified()==sourceLastModified
+					&& sourceFile.length()==sourceLength;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value is in the index, exactly as it
+	 * is (NOT trimmed and NOT ignoring the case)
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be looked up
+	 *
+	 * @return
+	 * 				true if the value is in the index, false otherwise and even
+	 * 				for a null value
+	 */
+	public boolean contains(String value)
+	{
+		if(null==value || 0==value.length())
+		{
+			return false;
+		}
+
+		byte[] key = value.getBytes(StandardCharsets.UTF_8);
+
+		if(key.length > stride || hasNulByte(key))
+		{
+			return false;
+		}
+
+		long low = 0;
+
+		long high = count - 1;
+
+		while(low <= high)
+		{
+			long middle = (low + high) >>> 1;
+
+			int result = compareEntry(middle, key);
+
+			if(result < 0)
+			{
+				low = middle + 1;
+			}
+			else if(result > 0)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method compares the value at an index with the key, the latter
+	 * being padded with zeros to the stride
+	 * </p>
+	 */
+	private int compareEntry(long entry, byte[] key)
+	{
+		ByteBuffer segment = segments[(int) (entry / entriesPerSegment)];
+
+		int offset = (int) (entry % entriesPerSegment) * stride;
+
+		for(int index = 0; index < stride; index++)
+		{
+			int entryByte = segment.get(offset + index) & 0xFF;
+
+			int keyByte = (index < key.length) ? (key[index] & 0xFF) : 0;
+
+			if(entryByte != keyByte)
+			{
+				return entryByte - keyByte;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * <p>
+	 * This method reads the source file once, to find the length of its
+	 * longest value in bytes, being the stride of the index
+	 * </p>
+	 */
+	private static int getMaxValueLength(File sourceFile) throws IOException
+	{
+		int maxLength = 0;
+
+		BufferedReader reader = newReader(sourceFile);
+
+		try
+		{
+			byte[] value;
+
+			while(null!=(value = readValue(reader)))
+			{
+				maxLength = Math.max(maxLength, value.length);
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		return maxLength;
+	}
+
+	/**
+	 * <p>
+	 * This method reads the source file in runs of <tt>RUN_SIZE</tt> values,
+	 * writing every run sorted into a file of its own
+	 * </p>
+	 */
+	private static void writeSortedRuns(File sourceFile, File indexFile, int stride,
+								ArrayList<File> runFiles) throws IOException
+	{
+		BufferedReader reader = newReader(sourceFile);
+
+		try
+		{
+			ArrayList<byte[]> run = new ArrayList<byte[]>();
+
+			byte[] value;
+
+			while(null!=(value = readValue(reader)))
+			{
+				if(value.length > stride)
+				{
+					throw new IOException("The source file is modified while"
+										+ " indexing : " + sourceFile);
+				}
+
+				run.add(value);
+
+				if(run.size() == RUN_SIZE)
+				{
+					runFiles.add(writeRun(run, indexFile, runFiles.size(), stride));
+					run.clear();
+				}
+			}
+
+			if(!run.isEmpty() || runFiles.isEmpty())
+			{
+				runFiles.add(writeRun(run, indexFile, runFiles.size(), stride));
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+
+	private static File writeRun(ArrayList<byte[]> run, File indexFile, int runNumber,
+										int stride) throws IOException
+	{
+		Collections.sort(run, VALUE_COMPARATOR);
+
+		File runFile = new File(indexFile.getPath() + ".run" + runNumber);
+
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(runFile),
+																BUFFER_SIZE);
+
+		try
+		{
+			for(byte[] value : run)
+			{
+				writeEntry(out, value, stride);
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+
+		return runFile;
+	}
+
+	/**
+	 * <p>
+	 * This method merges the sorted runs into the index file, with the header
+	 * and without the duplicates
+	 * </p>
+	 *
+	 * @return
+	 * 				the number of the distinct values
+	 */
+	private static long mergeSortedRuns(ArrayList<File> runFiles, File targetFile,
+							int stride, long sourceLength, long sourceLastModified)
+	throws IOException
+	{
+		PriorityQueue<RunReader> queue = new PriorityQueue<RunReader>(
+						Math.max(1, runFiles.size()), new Comparator<RunReader>()
+		{
+			@Override
+			public int compare(RunReader reader1, RunReader reader2)
+			{
+				return compareValues(reader1.current, reader2.current);
+			}
+		});
+
+		long count = 0;
+
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(targetFile),
+																BUFFER_SIZE);
+
+		try
+		{
+			/* The header is written at the end, once the count is known */
+			out.write(new byte[HEADER_SIZE]);
+
+			for(File runFile : runFiles)
+			{
+				RunReader runReader = new RunReader(runFile, stride);
+
+				if(runReader.next())
+				{
+					queue.add(runReader);
+				}
+				else
+				{
+					runReader.close();
+				}
+			}
+
+			byte[] previous = null;
+
+			while(!queue.isEmpty())
+			{
+				RunReader runReader = queue.poll();
+
+				byte[] value = runReader.current;
+
+				if(null==previous || 0!=compareValues(previous, value))
+				{
+					out.write(value);
+					count++;
+				}
+
+				previous = value;
+
+				if(runReader.next())
+				{
+					queue.add(runReader);
+				}
+				else
+				{
+					runReader.close();
+				}
+			}
+		}
+		finally
+		{
+			for(RunReader runReader : queue)
+			{
+				runReader.close();
+			}
+
+			out.close();
+		}
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+		header.putInt(MAGIC).putInt(VERSION).putInt(stride).putInt(0)
+				.putLong(count).putLong(sourceLength).putLong(sourceLastModified);
+
+		RandomAccessFile target = new RandomAccessFile(targetFile, "rw");
+
+		try
+		{
+			target.write(header.array());
+			target.getFD().sync();
+		}
+		finally
+		{
+			target.close();
+		}
+
+		return count;
+	}
+
+	private static BufferedReader newReader(File sourceFile) throws IOException
+	{
+		return new BufferedReader(new InputStreamReader(new FileInputStream(sourceFile),
+											StandardCharsets.UTF_8), BUFFER_SIZE);
+	}
+
+	/**
+	 * <p>
+	 * This method reads the next value of the source, skipping the blank lines
+	 * and the lines having a <tt>NUL</tt> character
+	 * </p>
+	 *
+	 * @return
+	 * 				the value in UTF-8, null at the end of the source
+	 */
+	private static byte[] readValue(BufferedReader reader) throws IOException
+	{
+		String line;
+
+		while(null!=(line = reader.readLine()))
+		{
+			line = line.trim();
+
+			if(line.length() > 0 && line.indexOf('\u0000') == -1)
+			{
+				return line.getBytes(StandardCharsets.UTF_8);
+			}
+		}
+
+		return null;
+	}
+
+	private static void writeEntry(OutputStream out, byte[] value, int stride)
+	throws IOException
+	{
+		out.write(value);
+
+		for(int index = value.length; index < stride; index++)
+		{
+			out.write(0);
+		}
+	}
+
+	private static boolean hasNulByte(byte[] value)
+	{
+		for(byte valueByte : value)
+		{
+			if(0==valueByte)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method compares two values as unsigned bytes, a shorter value being
+	 * the same as the one padded with zeros
+	 * </p>
+	 */
+	private static int compareValues(byte[] value1, byte[] value2)
+	{
+		int length = Math.max(value1.length, value2.length);
+
+		for(int index = 0; index < length; index++)
+		{
+			int byte1 = (index < value1.length) ? (value1[index] & 0xFF) : 0;
+
+			int byte2 = (index < value2.length) ? (value2[index] & 0xFF) : 0;
+
+			if(byte1 != byte2)
+			{
+				return byte1 - byte2;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * @return the index file mapped
+	 */
+	public File getIndexFile() {
+		return indexFile;
+	}
+
+	/**
+	 * @return the number of the distinct values
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the length of every value in the index, in bytes
+	 */
+	public int getStride() {
+		return stride;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[MappedValueIndex] "
+						+ " indexFile="+this.getIndexFile()
+						+ ", count="+this.getCount()
+						+ ", stride="+this.getStride();
+	}
+
+	/**
+	 * <p>
+	 * A reader of a sorted run, a value (padded to the stride) at a time
+	 * </p>
+	 */
+	private static class RunReader
+	{
+		private final DataInputStream in;
+
+		private byte[] current;
+
+		private final int stride;
+
+		private RunReader(File runFile, int stride) throws IOException
+		{
+			this.in = new DataInputStream(new BufferedInputStream(
+									new FileInputStream(runFile), BUFFER_SIZE));
+			this.stride = stride;
+		}
+
+		/**
+		 * @return whether or not there is a value read into the current
+		 */
+		private boolean next() throws IOException
+		{
+			if(0==stride)
+			{
+				return false;
+			}
+
+			byte[] value = new byte[stride];
+
+			try
+			{
+				in.readFully(value);
+			}
+			catch(EOFException eofException)
+			{
+				return false;
+			}
+
+			current = value;
+
+			return true;
+		}
+
+		private void close() throws IOException
+		{
+			in.close();
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.helper.ExceptionHelper;
+import org.hfjv.framework.util.CharClass;
 import org.hfjv.framework.util.GlobalUtil;
 import org.hfjv.framework.util.StringUtil;
 
@@ -32,6 +33,20 @@ public class ValueEachDigitConstraint extends ValueConstraint implements Seriali
 	 */
 	private static final long serialVersionUID = 7693692107133015081L;
 
+	/**
+	 * <p>
+	 * The configured list of values, for the error message
+	 * </p>
+	 */
+	private ArrayList<String> valueList = null;
+
+	/**
+	 * <p>
+	 * The characters allowed, compiled when the constraint is prepared
+	 * </p>
+	 */
+	private CharClass eachDigitChars = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -54,6 +69,22 @@ public class ValueEachDigitConstraint extends ValueConstraint implements Seriali
 									HFJV_KEY_ERROR_MSG_VALUE_EACHDIGIT);
 	}
 
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.valueList = null;
+		this.eachDigitChars = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.valueList = GlobalUtil.getListOfTokens(valueToCheck);
+		this.eachDigitChars = compileEachDigitChars(valueList);
+	}
+
 	@Override
 	public void evaluate(Field field)
 	throws ValidatorException
@@ -62,13 +93,10 @@ public class ValueEachDigitConstraint extends ValueConstraint implements Seriali
 
 		String actualValueOfField = getFieldValue(field);
 
-		ArrayList<String> valueList =
-						GlobalUtil.getListOfTokens(valueToCheck);
-
 		/* Exclude the sign bit if any */
-		String signBitExcludedValue = GlobalUtil.excludeSignBit(actualValueOfField);
+		String signBitExcludedValue = field.getNormalizedValue().getSignExcludedValue();
 
-		if(!doesEachDigitMatch(field, signBitExcludedValue, valueList))
+		if(!doesEachDigitMatch(signBitExcludedValue, getEachDigitChars()))
 		{
 			String errorMsg = "Each digit in the value '" + actualValueOfField
 					+ "' of the field '" + field.getDisplayName()+ "' should be of " + valueList;
@@ -77,137 +105,98 @@ public class ValueEachDigitConstraint extends ValueConstraint implements Seriali
 		}
 	}
 
+	@Override
+	public boolean test(Field field)
+	{
+		return doesEachDigitMatch(field.getNormalizedValue().getSignExcludedValue(),
+													getEachDigitChars());
+	}
+
+	/**
+	 * @return the characters allowed, compiled out of the valueToCheck
+	 */
+	private CharClass getEachDigitChars()
+	{
+		if(null==eachDigitChars)
+		{
+			valueList = GlobalUtil.getListOfTokens(valueToCheck);
+			eachDigitChars = compileEachDigitChars(valueList);
+		}
+
+		return eachDigitChars;
+	}
+
 	/**
 	 * <p>
-	 * This method checks whether each digit of the field's value matches with
-	 * the list of values configured
+	 * This method compiles the list of values configured into the set of
+	 * characters allowed. A scalar value allows its first character, while a
+	 * range (say, <tt>A:Z</tt>) allows the characters from the first character
+	 * of the minimum value to that of the maximum value, except the blank
+	 * characters as a blank value is an invalid one.
 	 * </p>
-	 * 
-	 * @param strVal
-	 * 					the actual value of the field
-	 * 
+	 *
 	 * @param valueList
-	 * 					the configured list of values to be checked against
-	 * 
+	 * 					the configured list of values
+	 *
 	 * @return
-	 * 				a boolean true/false depends on the status
+	 * 					the characters allowed
 	 */
-	private static boolean doesEachDigitMatch(Field field, String strVal,
-								ArrayList<String> valueList)
+	private static CharClass compileEachDigitChars(ArrayList<String> valueList)
 	{
-		boolean doesEachDigitMatch = true;
+		CharClass.Builder builder = new CharClass.Builder();
 
-		if(StringUtil.isInvalidString(strVal))
+		for(String valueToCheck : valueList)
 		{
-			return false;
-		}
+			if(!StringUtil.isValidString(valueToCheck))
+			{
+				continue;
+			}
 
-		char eachCharOfStr = ' ' ;
-		char digitValueToBeChecked = ' ';
-
-		boolean doesMatchWithOneOfValues = false;
-		
-		int indexOfRangeSeparator = -1;
-		ValueRangeConstraint valueRangeConstraint = null;
-		
-		/* Used in ValueRangeConstraint */
-		Field tempFieldForValueRange = new Field(field.getName());
-		
-		tempFieldForValueRange.setDisplayName(field.getDisplayName());
-		
-		boolean isError = false;
-		
-		//10101 => [0,1]
-		for(int i=0; i < strVal.length(); i++)
-		{
-			eachCharOfStr = strVal.charAt(i); //1,0,1,0,1
+			if(valueToCheck.indexOf(GlobalUtil.VALUE_RANGE_SEPARATOR) != -1)
+			{
+				ArrayList<String> rangeValueList =
+										GlobalUtil.getRangeValuesInList(valueToCheck);
 
-			/** Reset for each digit */
-			doesMatchWithOneOfValues = false;
+				String minVal = rangeValueList.get(0);
+				String maxVal = rangeValueList.get(1);
 
-			for(String valueToCheck : valueList) //[1,0]
-			{
-				if(!StringUtil.isValidString(valueToCheck))
-				{
-					continue;
-				}
-				
-				/**
-				 * Enhancement : What if one of the values is a ValueRange?
-				 */
-				indexOfRangeSeparator = valueToCheck.indexOf(
-															GlobalUtil.VALUE_RANGE_SEPARATOR);
-				
-				/* One of the values is ValueRange based */
-				if(indexOfRangeSeparator != -1)
-				{
-					valueRangeConstraint = new ValueRangeConstraint();
-					valueRangeConstraint.setValueToCheck(valueToCheck);
-					
-					/* 
-					 * Here we should check each digit of the actual Field's value.
-					 * 
-					 * Hence, cloning the field with the different value each time
-					 * as per iteration
-					 */
-					tempFieldForValueRange.setValue(String.valueOf(eachCharOfStr));
-
-					try {
-						valueRangeConstraint.evaluate(tempFieldForValueRange);
-					}catch(ValidatorException validatorException) {
-						doesMatchWithOneOfValues = false;
-						isError = true;
-					}
-
-					/*
-					 * Reset the indexOfRangeSeparator to -1 so that it would NOT
-					 * affect the next element in the list
-			 		 */
-					indexOfRangeSeparator = -1;
-					
-					valueRangeConstraint = null;
-
-					if(!isError)
-					{
-						doesMatchWithOneOfValues = true;
-						break;
-					}
-					
-					/* Reset isError to false for next value in the list */
-					isError = false;					
-				}
-				else /* It is a scalar value */
+				if(!minVal.isEmpty() && !maxVal.isEmpty())
 				{
-					digitValueToBeChecked = valueToCheck.charAt(0); //1,0
-
-					/** If matches with any digit, set the flag to true and break! */
-					if(eachCharOfStr == digitValueToBeChecked)
-					{
-						doesMatchWithOneOfValues = true;
-						break;
-					}
+					builder.addRange((char) Math.max(minVal.charAt(0), ' ' + 1),
+																maxVal.charAt(0));
 				}
 			}
-
-			/*
-			 * Evaluate the flag! It should be true.
-			 *
-			 * If it is still false, then this particular digit does NOT
-	 	 	 * match with any of the values in the valueList.
-		 	 *
-			 * Break the loop and return false!
-			 */
-			if(!doesMatchWithOneOfValues)
+			else /* It is a scalar value */
 			{
-				doesEachDigitMatch = false;
-				break;
+				builder.add(valueToCheck.charAt(0));
 			}
 		}
-		
-		/* Clean up */
-		tempFieldForValueRange = null;
-		valueRangeConstraint = null;
 
-		return doesEachDigitMatch;
-     }
+		return builder.build();
+	}
+
+	/**
+	 * <p>
+	 * This method checks whether each digit of the field's value is one of the
+	 * characters allowed
+	 * </p>
+	 * 
+	 * @param strVal
+	 * 					the actual value of the field
+	 * 
+	 * @param eachDigitChars
+	 * 					the characters allowed
+	 * 
+	 * @return
+	 * 				a boolean true/false depends on the status
+	 */
+	private static boolean doesEachDigitMatch(String strVal, CharClass eachDigitChars)
+	{
+		if(StringUtil.isInvalidString(strVal))
+		{
+			return false;
+		}
+
+		return eachDigitChars.containsAll(strVal);
+	}
 }
\ No newline at end of file
@@ -7,11 +7,18 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSER
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.field.NormalizedValue;
 import org.hfjv.framework.helper.ExceptionHelper;
+import org.hfjv.framework.util.CharClass;
+import org.hfjv.framework.util.CollectionUtil;
 import org.hfjv.framework.util.GlobalUtil;
+import org.hfjv.framework.util.LongRangeSet;
+import org.hfjv.framework.util.NumberUtil;
+import org.hfjv.framework.util.StringUtil;
 
 /**
  * <p>
@@ -30,6 +37,13 @@ public class ValueListConstraint extends ValueConstraint implements Serializable
 	 */
 	private static final long serialVersionUID = 5147698753243358742L;
 
+	/**
+	 * <p>
+	 * The list of values configured, split when the constraint is prepared
+	 * </p>
+	 */
+	private PreparedValueList preparedValueList = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -55,80 +69,154 @@ public class ValueListConstraint extends ValueConstraint implements Serializable
 										HFJV_KEY_ERROR_MSG_VALUE_LIST);
 	}
 
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.preparedValueList = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.preparedValueList = new PreparedValueList(valueToCheck, field);
+	}
+
 	@Override
 	public void evaluate(Field field)
 	throws ValidatorException
 	{
 		super.evaluate(field);
 
+		PreparedValueList valueList = getPreparedValueList(field);
+
 		String actualValueOfField = getFieldValue(field);
 
-		ArrayList<String> valueList =
-						GlobalUtil.getListOfTokens(valueToCheck);
+		if(!isValueInList(field, actualValueOfField, valueList))
+		{
+			throw getValidatorException(field, actualValueOfField,
+											valueList.getValueList().toString());
+		}
+	}
+
+	@Override
+	public boolean test(Field field)
+	{
+		return isValueInList(field, getFieldValue(field), getPreparedValueList(field));
+	}
 
-		int indexOfRangeSeparator = -1;
+	/**
+	 * @return the list of values configured, split out of the valueToCheck
+	 */
+	private PreparedValueList getPreparedValueList(Field field)
+	{
+		if(null==preparedValueList)
+		{
+			preparedValueList = new PreparedValueList(valueToCheck, field);
+		}
 
-		boolean isValidValue = true;
-		boolean isError = false;
-		
-		ValueRangeConstraint valueRangeConstraint = null;
+		return preparedValueList;
+	}
 
-		for(String valueToCheck : valueList)
+	/**
+	 * <p>
+	 * This method checks whether the field's value matches with any of the
+	 * values in the list, wherein a value can either be a scalar or a range.
+	 * </p>
+	 *
+	 * <p>
+	 * The scalar values are looked up in a hash set, and the ranges in a sorted
+	 * array of intervals through a binary search, so that the cost does NOT
+	 * grow with the size of the list. Only a range whose bounds do NOT fit in a
+	 * <tt>long</tt> (or a value which does NOT) is checked one by one, through
+	 * the non-throwing <tt>test()</tt> method of a prepared
+	 * <tt>ValueRangeConstraint</tt>.
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be checked
+	 *
+	 * @param actualValueOfField
+	 * 				the actual value of the field
+	 *
+	 * @param valueList
+	 * 				the configured list of values to be checked against, as split
+	 * 				already
+	 *
+	 * @return
+	 * 				true if the value matches with any of the values, false otherwise
+	 */
+	private static boolean isValueInList(Field field, String actualValueOfField,
+								PreparedValueList valueList)
+	{
+		if(valueList.getScalarValueSet().contains(actualValueOfField))
 		{
-			indexOfRangeSeparator = valueToCheck.indexOf(
-													GlobalUtil.VALUE_RANGE_SEPARATOR);
+			return true;
+		}
 
-			if(indexOfRangeSeparator != -1)
-			{
-				/* One of the values is Range based */
-				valueRangeConstraint = new ValueRangeConstraint();
-				valueRangeConstraint.setValueToCheck(valueToCheck);
-
-				try {
-					valueRangeConstraint.evaluate(field);
-				}catch(ValidatorException validatorException) {
-					isValidValue = false;
-					isError = true;
-				}
+		if(valueList.getRangeConstraintList().isEmpty())
+		{
+			return false;
+		}
 
-				/*
-				 * Reset the indexOfRangeSeparator to -1 so that it would NOT
-				 * affect the next element in the list
-		 		 */
-				indexOfRangeSeparator = -1;
+		/* The values which are Range based */
+		String dataTypeOfField = field.getType();
 
-				if(!isError)
-				{
-					isValidValue = true;
-				}
-				
-				valueRangeConstraint = null;
-			}
-			else
+		if(StringUtil.isInvalidString(dataTypeOfField))
+		{
+			dataTypeOfField = GlobalUtil.DATATYPE_STRING;
+		}
+
+		if(dataTypeOfField.equalsIgnoreCase(GlobalUtil.DATATYPE_DATE))
+		{
+			/* Presently no support for date values */
+			return false;
+		}
+
+		if(!GlobalUtil.isAllowedNumberType(dataTypeOfField))
+		{
+			if(StringUtil.isInvalidString(actualValueOfField))
 			{
-				if(!valueToCheck.equals(actualValueOfField))
-				{
-					isValidValue = false;
-				}
-				else
-				{
-					isValidValue = true;
-				}
+				return false;
 			}
 
-			if(isValidValue)
+			return valueList.getCharRangeSet().contains(actualValueOfField.charAt(0));
+		}
+
+		//value may contain a sign bit!
+		NormalizedValue normalizedValue = field.getNormalizedValue();
+
+		if(normalizedValue.isLongValue())
+		{
+			if(valueList.getLongRangeSet().contains(normalizedValue.getLongValue()))
 			{
-				break;
+				return true;
 			}
 
-			/* Reset isError to false for next value in the list */
-			isError = false;
+			return isWithinAnyRange(field, valueList.getBigRangeConstraintList());
 		}
 
-		if(!isValidValue)
+		return isWithinAnyRange(field, valueList.getRangeConstraintList());
+	}
+
+	/**
+	 * <p>
+	 * This method checks the field's value against the ranges one by one
+	 * </p>
+	 */
+	private static boolean isWithinAnyRange(Field field,
+								ArrayList<ValueRangeConstraint> rangeConstraintList)
+	{
+		for(ValueRangeConstraint rangeConstraint : rangeConstraintList)
 		{
-			throw getValidatorException(field, actualValueOfField, valueList.toString());
+			if(rangeConstraint.test(field))
+			{
+				return true;
+			}
 		}
+
+		return false;
 	}
 
 	public ValidatorException getValidatorException(Field field,
@@ -140,4 +228,147 @@ public class ValueListConstraint extends ValueConstraint implements Serializable
 
             return ExceptionHelper.getValidatorException(field, this, errorMsg);
 	}
+
+	/**
+	 * <p>
+	 * An immutable, pre-parsed form of a list of values configured, with the
+	 * scalar values kept in a hash set, and the ranges compiled into the
+	 * sorted intervals of their <tt>long</tt> bounds (for a <tt>number</tt>
+	 * type) and of the first characters of their bounds (for the rest)
+	 * </p>
+	 */
+	private static final class PreparedValueList implements Serializable
+	{
+		/**
+		 * <p>
+		 * An IDE (eclipse) generated serialVersionUID
+		 * </p>
+		 */
+		private static final long serialVersionUID = -3944127716503781590L;
+
+		/**
+		 * <p>
+		 * All the values configured, in the same order, for the error message
+		 * </p>
+		 */
+		private final ArrayList<String> valueList;
+
+		private final HashSet<String> scalarValueSet = new HashSet<String>();
+
+		/**
+		 * <p>
+		 * The prepared constraints of all the ranges, and of the ones whose
+		 * bounds do NOT fit in a <tt>long</tt>, to be checked one by one
+		 * </p>
+		 */
+		private final ArrayList<ValueRangeConstraint> rangeConstraintList =
+										new ArrayList<ValueRangeConstraint>();
+
+		private final ArrayList<ValueRangeConstraint> bigRangeConstraintList =
+										new ArrayList<ValueRangeConstraint>();
+
+		private final LongRangeSet longRangeSet;
+
+		private final CharClass charRangeSet;
+
+		private PreparedValueList(String valueToCheck, Field field)
+		{
+			this.valueList = GlobalUtil.getListOfTokens(valueToCheck);
+
+			LongRangeSet.Builder longRangeBuilder = new LongRangeSet.Builder();
+
+			CharClass.Builder charRangeBuilder = new CharClass.Builder();
+
+			for(String value : valueList)
+			{
+				if(null==value)
+				{
+					continue;
+				}
+
+				if(value.indexOf(GlobalUtil.VALUE_RANGE_SEPARATOR) == -1)
+				{
+					scalarValueSet.add(value);
+					continue;
+				}
+
+				ValueRangeConstraint rangeConstraint = new ValueRangeConstraint();
+
+				rangeConstraint.setValueToCheck(value);
+				rangeConstraint.prepare(field);
+
+				rangeConstraintList.add(rangeConstraint);
+
+				ArrayList<String> rangeValueList = GlobalUtil.getRangeValuesInList(value);
+
+				if(!CollectionUtil.isValidList(rangeValueList))
+				{
+					continue;
+				}
+
+				String minValStr = rangeValueList.get(0);
+				String maxValStr = rangeValueList.get(1);
+
+				if(!minValStr.isEmpty() && !maxValStr.isEmpty())
+				{
+					charRangeBuilder.addRange(minValStr.charAt(0), maxValStr.charAt(0));
+				}
+
+				if(NumberUtil.isLongValue(minValStr) && NumberUtil.isLongValue(maxValStr))
+				{
+					longRangeBuilder.addRange(NumberUtil.getLongValue(minValStr),
+												NumberUtil.getLongValue(maxValStr));
+				}
+				else
+				{
+					bigRangeConstraintList.add(rangeConstraint);
+				}
+			}
+
+			this.longRangeSet = longRangeBuilder.build();
+			this.charRangeSet = charRangeBuilder.build();
+		}
+
+		/**
+		 * @return all the values configured
+		 */
+		private ArrayList<String> getValueList() {
+			return valueList;
+		}
+
+		/**
+		 * @return the values which are NOT ranges
+		 */
+		private HashSet<String> getScalarValueSet() {
+			return scalarValueSet;
+		}
+
+		/**
+		 * @return the prepared constraints of the values which are ranges
+		 */
+		private ArrayList<ValueRangeConstraint> getRangeConstraintList() {
+			return rangeConstraintList;
+		}
+
+		/**
+		 * @return the prepared constraints of the ranges NOT fitting in a long
+		 */
+		private ArrayList<ValueRangeConstraint> getBigRangeConstraintList() {
+			return bigRangeConstraintList;
+		}
+
+		/**
+		 * @return the ranges whose bounds fit in a long
+		 */
+		private LongRangeSet getLongRangeSet() {
+			return longRangeSet;
+		}
+
+		/**
+		 * @return the ranges of the first characters of the bounds
+		 */
+		private CharClass getCharRangeSet() {
+			return charRangeSet;
+		}
+	}
 }
\ No newline at end of file
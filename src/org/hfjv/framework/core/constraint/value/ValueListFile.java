@@ -0,0 +1,472 @@
+package org.hfjv.framework.core.constraint.value;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * An external file of the values allowed, as configured for the
+ * <tt>valueListFileConstraint</tt> of a field, answered through the
+ * <tt>MappedValueIndex</tt> of its present version.
+ * </p>
+ *
+ * <p>
+ * The index is kept beside the source, as <tt>&lt;source&gt;.idx</tt>, and is
+ * reused as it is across the restarts as long as the source is NOT modified.
+ * The source is checked for a modification at most once a
+ * <tt>REFRESH_INTERVAL_MILLIS</tt>, on a background thread shared by all the
+ * files. A modified source is indexed again on that thread, while the
+ * validating threads keep looking up the earlier index, and the new index is
+ * then swapped in atomically. A validating thread neither waits for the
+ * indexing nor takes any lock. The source is better replaced as a whole
+ * (written aside and renamed), than being written in place.
+ * </p>
+ *
+ * <p>
+ * A <tt>MappedBloomFilter</tt> of the file (<tt>&lt;source&gt;.bloom</tt>)
+ * can be enabled in front of the index, as for a deny list, wherein most of
+ * the values are NOT in the file. The filter and the index are swapped
+ * together, as a snapshot of the same version of the source.
+ * </p>
+ *
+ * <p>
+ * An instance is shared by all the fields configured with the same file,
+ * through the <tt>getInstance()</tt> method.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class ValueListFile
+{
+	/**
+	 * <p>
+	 * A private class level logger instance of this class
+	 * </p>
+	 */
+	private static Logger logger = LoggerFactory.getInstance().
+							getLogger(ValueListFile.class);
+
+	/**
+	 * <p>
+	 * The minimum interval between two checks for a modification of the
+	 * source file, in milliseconds
+	 * </p>
+	 */
+	public static final long REFRESH_INTERVAL_MILLIS = 1000L;
+
+	/**
+	 * <p>
+	 * The suffix of the index file, to the name of the source file
+	 * </p>
+	 */
+	public static final String INDEX_FILE_SUFFIX = ".idx";
+
+	/**
+	 * <p>
+	 * The value list files opened so far, keyed by their canonical path
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<String, ValueListFile> valueListFileMap =
+									new ConcurrentHashMap<String, ValueListFile>();
+
+	private final File sourceFile;
+
+	private final File indexFile;
+
+	private final File filterFile;
+
+	/**
+	 * <p>
+	 * The index (and the filter) of the present version of the source,
+	 * swapped as a whole
+	 * </p>
+	 */
+	private volatile Snapshot snapshot;
+
+	private volatile long nextCheckMillis;
+
+	/**
+	 * <p>
+	 * Whether or not the filter is enabled, so that it is built again along
+	 * with the index
+	 * </p>
+	 */
+	private volatile boolean bloomFilterEnabled = false;
+
+	/**
+	 * <p>
+	 * Whether or not a check (and indexing) of the source is submitted already
+	 * </p>
+	 */
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+	/**
+	 * <p>
+	 * A lock, for the index and the filter to be built (and the snapshot to
+	 * be replaced) by a single thread at a time. It is taken only by the
+	 * refreshing thread and the <tt>enableBloomFilter()</tt>, never by a
+	 * validating thread.
+	 * </p>
+	 */
+	private final Object snapshotLock = new Object();
+
+	/**
+	 * <p>
+	 * A holder of the executor on which the sources are checked and indexed
+	 * again, created only on the first check
+	 * </p>
+	 */
+	private static class RefreshExecutorHolder
+	{
+		private static final ExecutorService refreshExecutor =
+							Executors.newSingleThreadExecutor(new ThreadFactory()
+		{
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				Thread thread = new Thread(runnable, "hfjv-value-list-refresh");
+
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * A private one argument constructor, which loads the index. Use the
+	 * <tt>getInstance()</tt> method.
+	 * </p>
+	 */
+	private ValueListFile(File sourceFile) throws IOException
+	{
+		this.sourceFile = sourceFile;
+		this.indexFile = new File(sourceFile.getPath() + INDEX_FILE_SUFFIX);
+		this.filterFile = new File(sourceFile.getPath()
+										+ MappedBloomFilter.FILTER_FILE_SUFFIX);
+
+		this.snapshot = new Snapshot(loadIndex(), null);
+		this.nextCheckMillis = System.currentTimeMillis() + REFRESH_INTERVAL_MILLIS;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the value list file of the path, loading it only if
+	 * it is NOT loaded already
+	 * </p>
+	 *
+	 * @param path
+	 * 				the path of the source file
+	 *
+	 * @return
+	 * 				the value list file, shared
+	 *
+	 * @throws IOException
+	 * 				if the source cannot be read or indexed
+	 */
+	public static ValueListFile getInstance(String path) throws IOException
+	{
+		if(StringUtil.isInvalidString(path))
+		{
+			throw new IOException("The value list file is NOT configured");
+		}
+
+		File sourceFile = new File(path.trim()).getCanonicalFile();
+
+		if(!sourceFile.isFile())
+		{
+			throw new IOException("The value list file does NOT exist : " + sourceFile);
+		}
+
+		String key = sourceFile.getPath();
+
+		ValueListFile valueListFile = valueListFileMap.get(key);
+
+		if(null==valueListFile)
+		{
+			synchronized(valueListFileMap)
+			{
+				valueListFile = valueListFileMap.get(key);
+
+				if(null==valueListFile)
+				{
+					valueListFile = new ValueListFile(sourceFile);
+
+					valueListFileMap.put(key, valueListFile);
+				}
+			}
+		}
+
+		return valueListFile;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value is in the file, exactly as it
+	 * is (NOT trimmed and NOT ignoring the case)
+	 * </p>
+	 *
+	 * @param value
+	 * 				the value to be looked up
+	 *
+	 * @return
+	 * 				true if the value is in the file
+	 */
+	public boolean contains(String value)
+	{
+		refreshIfModified();
+
+		Snapshot currentSnapshot = snapshot;
+
+		if(null!=currentSnapshot.bloomFilter
+				&& !currentSnapshot.bloomFilter.mightContain(value))
+		{
+			return false;
+		}
+
+		return currentSnapshot.valueIndex.contains(value);
+	}
+
+	/**
+	 * <p>
+	 * This method enables the Bloom filter in front of the index, mapping the
+	 * filter file if it is of the present version of the source, or building
+	 * it again otherwise. It does nothing if the filter is enabled already.
+	 * </p>
+	 *
+	 * @throws IOException
+	 * 				if the filter cannot be read or built
+	 */
+	public void enableBloomFilter() throws IOException
+	{
+		synchronized(snapshotLock)
+		{
+			bloomFilterEnabled = true;
+
+			Snapshot currentSnapshot = snapshot;
+
+			if(null==currentSnapshot.bloomFilter)
+			{
+				snapshot = new Snapshot(currentSnapshot.valueIndex, loadBloomFilter());
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method submits a check of the source for a modification, at most
+	 * once a <tt>REFRESH_INTERVAL_MILLIS</tt> and one at a time. It returns at
+	 * once, the lookups going on against the present snapshot.
+	 * </p>
+	 */
+	private void refreshIfModified()
+	{
+		final String THIS_METHOD_NAME = "refreshIfModified() - ";
+
+		if(System.currentTimeMillis() < nextCheckMillis
+				|| !refreshing.compareAndSet(false, true))
+		{
+			return;
+		}
+
+		try
+		{
+			RefreshExecutorHolder.refreshExecutor.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					refresh();
+				}
+			});
+		}
+		catch(RejectedExecutionException rejectedExecutionException)
+		{
+			logger.error(THIS_METHOD_NAME + "unable to check " + sourceFile
+								+ ", " + rejectedExecutionException.getMessage());
+
+			nextCheckMillis = System.currentTimeMillis() + REFRESH_INTERVAL_MILLIS;
+
+			refreshing.set(false);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method swaps in a new index (and filter, if enabled) if the source
+	 * is modified. It runs on the refreshing thread. The earlier snapshot is
+	 * kept if the source cannot be indexed.
+	 * </p>
+	 */
+	private void refresh()
+	{
+		final String THIS_METHOD_NAME = "refresh() - ";
+
+		try
+		{
+			synchronized(snapshotLock)
+			{
+				Snapshot currentSnapshot = snapshot;
+
+				if(!currentSnapshot.valueIndex.isIndexOf(sourceFile)
+						|| (bloomFilterEnabled
+								&& (null==currentSnapshot.bloomFilter
+									|| !currentSnapshot.bloomFilter.isFilterOf(sourceFile))))
+				{
+					logger.info(THIS_METHOD_NAME + "indexing the modified " + sourceFile);
+
+					MappedValueIndex valueIndex = loadIndex();
+
+					MappedBloomFilter bloomFilter = bloomFilterEnabled
+															? loadBloomFilter() : null;
+
+					snapshot = new Snapshot(valueIndex, bloomFilter);
+				}
+			}
+		}
+		catch(IOException | RuntimeException exception)
+		{
+			logger.error(THIS_METHOD_NAME + "keeping the earlier index of "
+								+ sourceFile + ", " + exception.getMessage());
+		}
+		finally
+		{
+			nextCheckMillis = System.currentTimeMillis() + REFRESH_INTERVAL_MILLIS;
+
+			refreshing.set(false);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method maps the index file if it is of the present version of the
+	 * source, or builds it again otherwise
+	 * </p>
+	 */
+	private MappedValueIndex loadIndex() throws IOException
+	{
+		final String THIS_METHOD_NAME = "loadIndex() - ";
+
+		if(indexFile.isFile())
+		{
+			try
+			{
+				MappedValueIndex existingIndex = MappedValueIndex.open(indexFile);
+
+				if(existingIndex.isIndexOf(sourceFile))
+				{
+					return existingIndex;
+				}
+			}
+			catch(IOException ioException)
+			{
+				logger.warn(THIS_METHOD_NAME + "building the index again, "
+												+ ioException.getMessage());
+			}
+		}
+
+		return MappedValueIndex.build(sourceFile, indexFile);
+	}
+
+	/**
+	 * <p>
+	 * This method maps the filter file if it is of the present version of the
+	 * source, or builds it again otherwise, with the false positive rate of
+	 * the earlier filter if any
+	 * </p>
+	 */
+	private MappedBloomFilter loadBloomFilter() throws IOException
+	{
+		final String THIS_METHOD_NAME = "loadBloomFilter() - ";
+
+		double falsePositiveRate = MappedBloomFilter.DEFAULT_FALSE_POSITIVE_RATE;
+
+		if(filterFile.isFile())
+		{
+			try
+			{
+				MappedBloomFilter existingFilter = MappedBloomFilter.open(filterFile);
+
+				if(existingFilter.isFilterOf(sourceFile))
+				{
+					return existingFilter;
+				}
+
+				falsePositiveRate = existingFilter.getFalsePositiveRate();
+			}
+			catch(IOException ioException)
+			{
+				logger.warn(THIS_METHOD_NAME + "building the filter again, "
+												+ ioException.getMessage());
+			}
+		}
+		else
+		{
+			logger.warn(THIS_METHOD_NAME + "no filter built offline for "
+						+ sourceFile + ", building one with the default rate");
+		}
+
+		return MappedBloomFilter.build(sourceFile, filterFile, falsePositiveRate);
+	}
+
+	/**
+	 * @return the source file
+	 */
+	public File getSourceFile() {
+		return sourceFile;
+	}
+
+	/**
+	 * @return the index of the present version of the source
+	 */
+	public MappedValueIndex getValueIndex() {
+		return snapshot.valueIndex;
+	}
+
+	/**
+	 * @return the filter of the present version of the source, null if the
+	 * filter is NOT enabled
+	 */
+	public MappedBloomFilter getBloomFilter() {
+		return snapshot.bloomFilter;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValueListFile] "
+						+ " sourceFile="+this.getSourceFile()
+						+ ", valueIndex="+this.getValueIndex()
+						+ ", bloomFilter="+this.getBloomFilter();
+	}
+
+	/**
+	 * <p>
+	 * The index and the filter (if enabled) of the same version of the source
+	 * </p>
+	 */
+	private static final class Snapshot
+	{
+		private final MappedValueIndex valueIndex;
+
+		private final MappedBloomFilter bloomFilter;
+
+		private Snapshot(MappedValueIndex valueIndex, MappedBloomFilter bloomFilter)
+		{
+			this.valueIndex = valueIndex;
+			this.bloomFilter = bloomFilter;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+package org.hfjv.framework.core.constraint.value;
+
+import static org.hfjv.framework.core.constants.MessageConstants.HFJV_KEY_ERROR_CODE_VALUE_LIST_FILE;
+import static org.hfjv.framework.core.constants.MessageConstants.HFJV_KEY_ERROR_MSG_VALUE_LIST_FILE;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_CONSTRAINT_VALUE_LIST_FILE;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSERT_ORDER_VALUELIST_FILE_CONSTRAINT;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.helper.ExceptionHelper;
+
+/**
+ * <p>
+ * A constraint to evaluate a field's value against the list of values of an
+ * external file, whose path is configured, say
+ * <tt>hfjv.account.id.valueListFileConstraint=/data/accounts.txt</tt>.
+ * </p>
+ *
+ * <p>
+ * It is meant for the lists too large to be configured inline through the
+ * <tt>valueListConstraint</tt>. The file carries a value per line, and is
+ * looked up through a <tt>ValueListFile</tt>, memory mapped and refreshed as
+ * the file is modified. Unlike the <tt>valueListConstraint</tt>, there are no
+ * ranges, and the value is matched exactly as it is.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValueListFileConstraint extends ValueConstraint implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -6030415847214093359L;
+
+	/**
+	 * <p>
+	 * A private class level logger instance of this class
+	 * </p>
+	 */
+	private static Logger logger = LoggerFactory.getInstance().
+							getLogger(ValueListFileConstraint.class);
+
+	/**
+	 * <p>
+	 * The file of the values, opened when the constraint is prepared
+	 * </p>
+	 */
+	private transient ValueListFile valueListFile = null;
+
+	/**
+	 * <p>
+	 *  A no argument constructor
+	 * </p>
+	 */
+	public ValueListFileConstraint()
+	{
+		super(HFJV_INSERT_ORDER_VALUELIST_FILE_CONSTRAINT,
+				HFJV_FIELD_CONSTRAINT_VALUE_LIST_FILE,
+				HFJV_KEY_ERROR_CODE_VALUE_LIST_FILE,
+				HFJV_KEY_ERROR_MSG_VALUE_LIST_FILE);
+	}
+
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.valueListFile = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		final String THIS_METHOD_NAME = "prepare() - ";
+
+		try
+		{
+			this.valueListFile = ValueListFile.getInstance(valueToCheck);
+		}
+		catch(IOException ioException)
+		{
+			/* Left to the evaluate() to report it */
+			logger.error(THIS_METHOD_NAME + "valueToCheck NOT prepared for the field "
+								+ field.getName() + ", " + ioException.getMessage());
+		}
+	}
+
+	@Override
+	public void evaluate(Field field)
+	throws ValidatorException
+	{
+		super.evaluate(field);
+
+		String actualValueOfField = getFieldValue(field);
+
+		if(!getValueListFile(field).contains(actualValueOfField))
+		{
+			String errorMsg = " Value '"+actualValueOfField
+								+ "' of the field '" + field.getDisplayName()
+								+ "' should be within the list of the file " + valueToCheck;
+
+			throw ExceptionHelper.getValidatorException(field, this, errorMsg);
+		}
+	}
+
+	@Override
+	public boolean test(Field field)
+	{
+		try
+		{
+			return getValueListFile(field).contains(getFieldValue(field));
+		}
+		catch(ValidatorException validatorException)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the file of the values, opening it if it is NOT
+	 * prepared already
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be evaluated
+	 *
+	 * @return
+	 * 				the file of the values
+	 *
+	 * @throws ValidatorException
+	 * 				if the file cannot be read or indexed
+	 */
+	private ValueListFile getValueListFile(Field field)
+	throws ValidatorException
+	{
+		if(null==valueListFile)
+		{
+			try
+			{
+				valueListFile = ValueListFile.getInstance(valueToCheck);
+			}
+			catch(IOException ioException)
+			{
+				throw new ValidatorException("Value list file for "
+						+ field.getDisplayName() + " cannot be read : "
+						+ ioException.getMessage(), ioException);
+			}
+		}
+
+		return valueListFile;
+	}
+}
@@ -31,6 +31,13 @@ public class ValueNotStartWithConstraint extends ValueConstraint implements Seri
 	 */
 	private static final long serialVersionUID = -4086293711516347798L;
 
+	/**
+	 * <p>
+	 * The configured list of values, tokenized when the constraint is prepared
+	 * </p>
+	 */
+	private ArrayList<String> valueList = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -53,6 +60,20 @@ public class ValueNotStartWithConstraint extends ValueConstraint implements Seri
 								HFJV_KEY_ERROR_MSG_VALUE_NOTSTART);
 	}
 
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.valueList = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.valueList = GlobalUtil.getListOfTokens(valueToCheck);
+	}
+
 	@Override
 	public void evaluate(Field field)
 	throws ValidatorException
@@ -61,11 +82,10 @@ public class ValueNotStartWithConstraint extends ValueConstraint implements Seri
 
 		String actualValueOfField = getFieldValue(field);
 
-		ArrayList<String> valueList =
-						GlobalUtil.getListOfTokens(valueToCheck);
+		ArrayList<String> valueList = getValueList();
 
 		/* Value may contain a sign bit! */
-		actualValueOfField = GlobalUtil.excludeSignBit(actualValueOfField);
+		actualValueOfField = field.getNormalizedValue().getSignExcludedValue();
 
 		for(String valueToCheck : valueList)
 		{
@@ -80,4 +100,17 @@ public class ValueNotStartWithConstraint extends ValueConstraint implements Seri
 			}
 		}
 	}
+
+	/**
+	 * @return the configured list of values, tokenized out of the valueToCheck
+	 */
+	private ArrayList<String> getValueList()
+	{
+		if(null==valueList)
+		{
+			valueList = GlobalUtil.getListOfTokens(valueToCheck);
+		}
+
+		return valueList;
+	}
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_INSER
 
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.text.ParseException;
 import java.util.ArrayList;
 
 import org.hfjv.framework.Logger;
@@ -14,16 +15,28 @@ import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.constraint.Constraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.field.NormalizedValue;
 import org.hfjv.framework.helper.ExceptionHelper;
 import org.hfjv.framework.helper.TypeConvertor;
 import org.hfjv.framework.util.GlobalUtil;
 import org.hfjv.framework.util.CollectionUtil;
+import org.hfjv.framework.util.DateRange;
+import org.hfjv.framework.util.DateUtil;
+import org.hfjv.framework.util.NumberUtil;
 import org.hfjv.framework.util.StringUtil;
 
 /**
  * <p>
  * A constraint to evaluate the field's value agasint the range of values configured
  * </p>
+ *
+ * <p>
+ * The value of a <tt>date</tt> field is evaluated against a range of dates,
+ * of the same pattern as of its <tt>dateConstraint</tt> (or the default one),
+ * with either bound relative to today if need be, as explained in the
+ * <tt>DateRange</tt>, say <tt>2020-01-01:2030-12-31</tt> or
+ * <tt>today-90:today</tt>.
+ * </p>
  * 
  * @author M Raghavan alias Saravanan
  * @since HFJV 1.0, 15 July 2011, Friday
@@ -44,6 +57,13 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 	private static Logger logger = LoggerFactory.getInstance().
 							getLogger(ValueRangeConstraint.class);
 
+	/**
+	 * <p>
+	 * The range of values configured, parsed when the constraint is prepared
+	 * </p>
+	 */
+	private PreparedRange preparedRange = null;
+
 	/**
 	 * <p>
 	 *  An overloaded, four argument constructor
@@ -76,13 +96,240 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 		}
 	}
 
+	@Override
+	public void setValueToCheck(String valueToCheck)
+	{
+		super.setValueToCheck(valueToCheck);
+
+		this.preparedRange = null;
+	}
+
+	@Override
+	public void prepare(Field field)
+	{
+		this.preparedRange = new PreparedRange(valueToCheck, field);
+	}
+
 	@Override
 	public void evaluate(Field field)
 	throws ValidatorException
 	{
 		super.evaluate(field);
 
-		validateValueRange(field, this, valueToCheck);
+		validateValueRange(field, this, getPreparedRange(field));
+	}
+
+	@Override
+	public boolean test(Field field)
+	{
+		return isWithinRange(field, getPreparedRange(field));
+	}
+
+	/**
+	 * <p>
+	 * This method gives both the bounds of the range configured, as parsed,
+	 * so that they can be taken as the constants (say, by the
+	 * <tt>ValidatorCompiler</tt>)
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field the constraint is prepared for
+	 *
+	 * @return
+	 * 				the minimum and the maximum values, null if either of them
+	 * 				does NOT fit in a <tt>long</tt>
+	 */
+	public long[] getLongBounds(Field field)
+	{
+		PreparedRange range = getPreparedRange(field);
+
+		return range.isLongBounds() ? new long[] { range.getMinBound(), range.getMaxBound() }
+									: null;
+	}
+
+	/**
+	 * @return the range of values configured, parsed out of the valueToCheck
+	 */
+	private PreparedRange getPreparedRange(Field field)
+	{
+		if(null==preparedRange)
+		{
+			preparedRange = new PreparedRange(valueToCheck, field);
+		}
+
+		return preparedRange;
+	}
+
+	/**
+	 * <p>
+	 * This method checks whether the field's value is within the range of values
+	 * configured. It is the non-throwing counterpart of the
+	 * {@link #validateValueRange(Field, Constraint, String)} method, following
+	 * the same rules, wherein an invalid value or an improper range is just
+	 * a "no match".
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be checked
+	 *
+	 * @param targetValue
+	 * 				the range of values configured, as <tt>&lt;minVal&gt;:&lt;maxVal&gt;</tt>
+	 *
+	 * @return
+	 * 				true if the value is within the range, false otherwise
+	 */
+	public static boolean isWithinRange(Field field, String targetValue)
+	{
+		return isWithinRange(field, new PreparedRange(targetValue, field));
+	}
+
+	/**
+	 * <p>
+	 * This method checks whether the field's value is within the range of values
+	 * already parsed
+	 * </p>
+	 */
+	private static boolean isWithinRange(Field field, PreparedRange range)
+	{
+		String dataTypeOfField = field.getType();
+
+		if(StringUtil.isInvalidString(dataTypeOfField))
+		{
+			dataTypeOfField = GlobalUtil.DATATYPE_STRING;
+		}
+
+		if(dataTypeOfField.equalsIgnoreCase(GlobalUtil.DATATYPE_DATE))
+		{
+			DateRange dateRange = range.getDateRange();
+
+			if(null==dateRange || StringUtil.isInvalidString(field.getValue()))
+			{
+				return false;
+			}
+
+			try
+			{
+				return dateRange.contains(field.getNormalizedValue().getEpochDay(
+														range.getDatePattern()));
+			}
+			catch(ParseException parseException)
+			{
+				return false;
+			}
+		}
+
+		ArrayList<String> rangeValueList = range.getRangeValueList();
+
+		if(!CollectionUtil.isValidList(rangeValueList))
+		{
+			return false;
+		}
+
+		if(!GlobalUtil.isAllowedNumberType(dataTypeOfField))
+		{
+			String sourceValue = getFieldValue(field);
+
+			if(StringUtil.isInvalidString(sourceValue))
+			{
+				return false;
+			}
+
+			return isCharWithinRange(sourceValue.charAt(0),
+									rangeValueList.get(0), rangeValueList.get(1));
+		}
+
+		//value may contain a sign bit!
+		NormalizedValue normalizedValue = field.getNormalizedValue();
+
+		if(range.isLongBounds() && normalizedValue.isLongValue())
+		{
+			long sourceValueLong = normalizedValue.getLongValue();
+
+			return (sourceValueLong >= range.getMinBound()
+						&& sourceValueLong <= range.getMaxBound());
+		}
+
+		String sourceValue = normalizedValue.getSignExcludedValue();
+
+		if(StringUtil.isInvalidString(sourceValue)
+				|| !NumberUtil.isValidBigInteger(sourceValue)
+				|| !NumberUtil.isValidBigInteger(rangeValueList.get(0))
+				|| !NumberUtil.isValidBigInteger(rangeValueList.get(1)))
+		{
+			return false;
+		}
+
+		BigInteger sourceValueBigInt = new BigInteger(sourceValue);
+
+		return (sourceValueBigInt.compareTo(new BigInteger(rangeValueList.get(0))) >= 0
+					&& sourceValueBigInt.compareTo(new BigInteger(rangeValueList.get(1))) <= 0);
+	}
+
+	/**
+	 * <p>
+	 * This method checks whether a single character is within the range of values
+	 * configured, by comparing it against the first character of either bounds.
+	 * It is the same as checking a field of a <tt>String</tt> type, whose value
+	 * is the given character alone.
+	 * </p>
+	 *
+	 * @param charToCheck
+	 * 				the character to be checked
+	 *
+	 * @param targetValue
+	 * 				the range of values configured, as <tt>&lt;minVal&gt;:&lt;maxVal&gt;</tt>
+	 *
+	 * @return
+	 * 				true if the character is within the range, false otherwise
+	 */
+	public static boolean isWithinRange(char charToCheck, String targetValue)
+	{
+		/* A blank value is an invalid one */
+		if(charToCheck <= ' ')
+		{
+			return false;
+		}
+
+		ArrayList<String> rangeValueList =
+										GlobalUtil.getRangeValuesInList(targetValue);
+
+		if(!CollectionUtil.isValidList(rangeValueList))
+		{
+			return false;
+		}
+
+		return isCharWithinRange(charToCheck, rangeValueList.get(0),
+													rangeValueList.get(1));
+	}
+
+	/**
+	 * <p>
+	 * This method compares the character against the first character of the
+	 * minimum and maximum values, both inclusive
+	 * </p>
+	 *
+	 * @param charToCheck
+	 * 				the character to be checked
+	 *
+	 * @param minValStr
+	 * 				the minimum value
+	 *
+	 * @param maxValStr
+	 * 				the maximum value
+	 *
+	 * @return
+	 * 				true if the character is within the range, false otherwise
+	 * 				and even if any of the bounds is empty
+	 */
+	private static boolean isCharWithinRange(char charToCheck, String minValStr,
+															String maxValStr)
+	{
+		if(minValStr.isEmpty() || maxValStr.isEmpty())
+		{
+			return false;
+		}
+
+		return (charToCheck >= minValStr.charAt(0) && charToCheck <= maxValStr.charAt(0));
 	}
 
 	/**
@@ -108,6 +355,19 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 	public static void validateValueRange(Field field, Constraint constraint,
 								String targetValue)
 	throws ValidatorException
+	{
+		validateValueRange(field, constraint, new PreparedRange(targetValue, field));
+	}
+
+	/**
+	 * <p>
+	 * This method validates the field's value against the range of values
+	 * already parsed
+	 * </p>
+	 */
+	private static void validateValueRange(Field field, Constraint constraint,
+								PreparedRange range)
+	throws ValidatorException
 	{
 		final String THIS_METHOD_NAME = "validateValueRange() - ";
 
@@ -130,15 +390,15 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 			
 		if (GlobalUtil.isAllowedNumberType(dataTypeOfField))
 		{
-			ValidateValueRangeNumeric(field, constraint, targetValue);
+			ValidateValueRangeNumeric(field, constraint, range);
 		}
 		else if (dataTypeOfField.equalsIgnoreCase(GlobalUtil.DATATYPE_DATE))
 		{
-			throw new ValidatorException("Presently no support for date values!");
+			ValidateValueRangeDate(field, constraint, range);
 		}
 		else /* Rest everything will be of type String (STRING, HEXADECIMAL) */
 		{
-			ValidateValueRangeString(field, constraint, targetValue);
+			ValidateValueRangeString(field, constraint, range.getRangeValueList());
 		}
 		
 		logger.exit(THIS_METHOD_NAME);
@@ -156,14 +416,15 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 	 * @param constraint
 	 * 				the constraint that has the error code and message configured
 	 * 
-	 * @param targetValue
-	 * 				the target range of values to be checked against the field's value
+	 * @param rangeValueList
+	 * 				the target range of values to be checked against the field's value,
+	 * 				as split already
 	 * 
 	 * @throws ValidatorException
 	 * 				the exception to be thrown during the evaluation
 	 */
 	private static void ValidateValueRangeString(Field field, 
-														Constraint constraint, String targetValue)
+										Constraint constraint, ArrayList<String> rangeValueList)
 	throws ValidatorException
 	{
 		
@@ -179,30 +440,16 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 							+ " value cannot be null");
 		}
 
-		ArrayList<String> rangeValueList =
-													GlobalUtil.getRangeValuesInList(targetValue);
-
 		if(!CollectionUtil.isValidList(rangeValueList))
 		{
 			throw new ValidatorException("Range value for " + field.getDisplayName()
 					+ " is not properly configured to validate!");
 		}
 		
-		int sourceValueInt = (int) sourceValue.charAt(0);
-
-		BigInteger rangeValueLong1 = new BigInteger(String.valueOf(sourceValueInt));
-		
 		String minValStr = rangeValueList.get(0);
 		String maxValStr = rangeValueList.get(1);
-		
-		int minValInt = (int) minValStr.charAt(0);
-		int maxValInt = (int) maxValStr.charAt(0);
-		
-		BigInteger minVal1 = new BigInteger(String.valueOf(minValInt));
-		BigInteger maxVal1 = new BigInteger(String.valueOf(maxValInt));
 
-		if(rangeValueLong1.compareTo(minVal1) == -1 ||
-				rangeValueLong1.compareTo(maxVal1) == 1)
+		if(!isCharWithinRange(sourceValue.charAt(0), minValStr, maxValStr))
 		{
 			String errorMsg = " Value '"+sourceValue + "' of the field '"
 										+ field.getDisplayName() + "' should be between "
@@ -226,24 +473,25 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 	 * @param constraint
 	 * 				the constraint that has the error code and message configured
 	 * 
-	 * @param targetValue
-	 * 				the target range of values to be checked against the field's value
+	 * @param range
+	 * 				the target range of values to be checked against the field's value,
+	 * 				as parsed already
 	 * 
 	 * @throws ValidatorException
 	 * 				the exception to be thrown during the evaluation
 	 */
 	private static void ValidateValueRangeNumeric(Field field, 
-														Constraint constraint, String targetValue)
+														Constraint constraint, PreparedRange range)
 	throws ValidatorException
 	{
 		final String THIS_METHOD_NAME = "ValidateValueRangeNumeric() - ";
 		
 		logger.enter(THIS_METHOD_NAME);
 		
-		String sourceValueActual = getFieldValue(field);
-		
 		//value may contain a sign bit!
-		String sourceValue = GlobalUtil.excludeSignBit(sourceValueActual); 
+		NormalizedValue normalizedValue = field.getNormalizedValue();
+
+		String sourceValue = normalizedValue.getSignExcludedValue();
 		
 		if(StringUtil.isInvalidString(sourceValue))
 		{
@@ -251,16 +499,25 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 				+ " value cannot be null");
 		}
 		
-		BigInteger rangeValueLong1 = TypeConvertor.getBigInteger(sourceValue);
-		
-		ArrayList<String> rangeValueList =
-												GlobalUtil.getRangeValuesInList(targetValue);
+		ArrayList<String> rangeValueList = range.getRangeValueList();
 		
 		if(!CollectionUtil.isValidList(rangeValueList))
 		{
 			throw new ValidatorException("Range value for " + field.getDisplayName()
 					+ " is not properly configured to validate!");
 		}
+
+		if(range.isLongBounds() && normalizedValue.isLongValue())
+		{
+			validateValueRangeLong(field, constraint, sourceValue,
+									normalizedValue.getLongValue(),
+									range.getMinBound(), range.getMaxBound());
+
+			logger.exit(THIS_METHOD_NAME);
+			return;
+		}
+
+		BigInteger rangeValueLong1 = TypeConvertor.getBigInteger(sourceValue);
 		
 		String rangeValue1 = rangeValueList.get(0);
 		String rangeValue2 = rangeValueList.get(1);
@@ -289,4 +546,253 @@ public class ValueRangeConstraint extends ValueConstraint implements Serializabl
 		
 		logger.exit(THIS_METHOD_NAME);
 	}	
+
+	/**
+	 * <p>
+	 * This method will validate the value against the range of <tt>date</tt>
+	 * values, comparing their epoch days.
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be validated
+	 *
+	 * @param constraint
+	 * 				the constraint that has the error code and message configured
+	 *
+	 * @param range
+	 * 				the target range of values to be checked against the field's value,
+	 * 				as parsed already
+	 *
+	 * @throws ValidatorException
+	 * 				the exception to be thrown during the evaluation
+	 */
+	private static void ValidateValueRangeDate(Field field,
+														Constraint constraint, PreparedRange range)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "ValidateValueRangeDate() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		String sourceValue = field.getValue();
+
+		if(StringUtil.isInvalidString(sourceValue))
+		{
+			throw new ValidatorException(field.getDisplayName()
+				+ " value cannot be null");
+		}
+
+		DateRange dateRange = range.getDateRange();
+
+		if(null==dateRange)
+		{
+			throw new ValidatorException("Range value for " + field.getDisplayName()
+					+ " is not properly configured to validate!");
+		}
+
+		String errorMsg = null;
+
+		try
+		{
+			if(!dateRange.contains(field.getNormalizedValue().getEpochDay(
+														range.getDatePattern())))
+			{
+				String minValue = dateRange.getMinValue();
+				String maxValue = dateRange.getMaxValue();
+
+				errorMsg = " Value '"+sourceValue + "' of the field '"
+										+ field.getDisplayName() + "' should "
+										+ (minValue.isEmpty() ? "NOT be after " + maxValue
+										: maxValue.isEmpty() ? "NOT be before " + minValue
+										: "be between " + minValue + " and " + maxValue);
+			}
+		}
+		catch(ParseException parseException)
+		{
+			errorMsg = " Value '"+sourceValue + "' of the field '"
+										+ field.getDisplayName() + "' is not a valid date. It"
+										+ " should be in the format '" + range.getDatePattern() + "'";
+		}
+
+		if(null!=errorMsg)
+		{
+			throw ExceptionHelper.getValidatorException(field, constraint, errorMsg);
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * This method will validate a <tt>numeric</tt> value against the range of
+	 * values, all of them fitting in a <tt>long</tt>
+	 * </p>
+	 *
+	 * @param field
+	 * 				the field whose value to be validated
+	 *
+	 * @param constraint
+	 * 				the constraint that has the error code and message configured
+	 *
+	 * @param sourceValue
+	 * 				the value of the field without its sign bit
+	 *
+	 * @param sourceValueLong
+	 * 				the same value parsed into a <tt>long</tt>
+	 *
+	 * @param minVal
+	 * 				the minimum value, inclusive
+	 *
+	 * @param maxVal
+	 * 				the maximum value, inclusive
+	 *
+	 * @throws ValidatorException
+	 * 				if the value is NOT within the range
+	 */
+	private static void validateValueRangeLong(Field field, Constraint constraint,
+								String sourceValue, long sourceValueLong,
+								long minVal, long maxVal)
+	throws ValidatorException
+	{
+		if(sourceValueLong < minVal || sourceValueLong > maxVal)
+		{
+			String errorMsg = " Value '"+sourceValue + "' of the field '"
+										+ field.getDisplayName() + "' should be between "
+										+ minVal + " and " + maxVal;
+
+			throw ExceptionHelper.getValidatorException(field, constraint, errorMsg);
+		}
+	}
+
+	/**
+	 * <p>
+	 * An immutable, pre-parsed form of a range of values configured, as
+	 * <tt>&lt;minVal&gt;:&lt;maxVal&gt;</tt>, with both the bounds parsed into
+	 * a <tt>long</tt> if they fit in one, and into a <tt>DateRange</tt> for a
+	 * <tt>date</tt> field
+	 * </p>
+	 */
+	private static final class PreparedRange implements Serializable
+	{
+		/**
+		 * <p>
+		 * An IDE (eclipse) generated serialVersionUID
+		 * </p>
+		 */
+		private static final long serialVersionUID = 8215379541062275123L;
+
+		/**
+		 * <p>
+		 * The bounds as split, null if the range is NOT properly configured
+		 * </p>
+		 */
+		private final ArrayList<String> rangeValueList;
+
+		private final boolean longBounds;
+
+		private final long minBound;
+
+		private final long maxBound;
+
+		/**
+		 * <p>
+		 * The pattern of the dates and the range of dates, null if the field
+		 * is NOT a date field (or the range is NOT properly configured)
+		 * </p>
+		 */
+		private final String datePattern;
+
+		private final DateRange dateRange;
+
+		private PreparedRange(String targetValue, Field field)
+		{
+			this.rangeValueList = GlobalUtil.getRangeValuesInList(targetValue);
+
+			this.longBounds = CollectionUtil.isValidList(rangeValueList)
+								&& NumberUtil.isLongValue(rangeValueList.get(0))
+								&& NumberUtil.isLongValue(rangeValueList.get(1));
+
+			this.minBound = longBounds ? NumberUtil.getLongValue(rangeValueList.get(0)) : 0;
+			this.maxBound = longBounds ? NumberUtil.getLongValue(rangeValueList.get(1)) : 0;
+
+			if(GlobalUtil.DATATYPE_DATE.equalsIgnoreCase(field.getType()))
+			{
+				this.datePattern = StringUtil.isValidString(field.getFormat())
+										? field.getFormat() : DateUtil.DEFAULT_DATE_PATTERN;
+
+				this.dateRange = getDateRange(targetValue, datePattern, field);
+			}
+			else
+			{
+				this.datePattern = null;
+				this.dateRange = null;
+			}
+		}
+
+		/**
+		 * <p>
+		 * This method parses the range of dates, null if it is NOT properly
+		 * configured, to be reported by the evaluation
+		 * </p>
+		 */
+		private static DateRange getDateRange(String targetValue, String datePattern,
+																Field field)
+		{
+			final String THIS_METHOD_NAME = "getDateRange() - ";
+
+			try
+			{
+				return DateRange.parse(targetValue, datePattern);
+			}
+			catch(ParseException parseException)
+			{
+				logger.error(THIS_METHOD_NAME + "range of dates NOT prepared for the field "
+								+ field.getName() + ", " + parseException.getMessage());
+
+				return null;
+			}
+		}
+
+		/**
+		 * @return the bounds as split, null if NOT properly configured
+		 */
+		private ArrayList<String> getRangeValueList() {
+			return rangeValueList;
+		}
+
+		/**
+		 * @return whether or not both the bounds fit in a long
+		 */
+		private boolean isLongBounds() {
+			return longBounds;
+		}
+
+		/**
+		 * @return the minimum value, if the bounds fit in a long
+		 */
+		private long getMinBound() {
+			return minBound;
+		}
+
+		/**
+		 * @return the maximum value, if the bounds fit in a long
+		 */
+		private long getMaxBound() {
+			return maxBound;
+		}
+
+		/**
+		 * @return the pattern of the dates, if the field is a date field
+		 */
+		private String getDatePattern() {
+			return datePattern;
+		}
+
+		/**
+		 * @return the range of dates, if the field is a date field
+		 */
+		private DateRange getDateRange() {
+			return dateRange;
+		}
+	}
 }
\ No newline at end of file
@@ -49,6 +49,13 @@ public class ValidatorException extends Exception implements Serializable
  	 */
 	Throwable cause;
 
+	/**
+	 * <p>
+	 * Holds the name of the constraint which had failed in validation, if any
+	 * </p>
+	 */
+	String constraintName;
+
 	/**
 	 * <p>
 	 * An overridden two argument constructor
@@ -89,6 +96,37 @@ public class ValidatorException extends Exception implements Serializable
 		this.cause = cause;
 	}
 
+	/**
+	 * <p>
+	 * An overridden, three argument constructor to have a control over the
+	 * stack trace.
+	 * </p>
+	 *
+	 * <p>
+	 * A constraint reports a failure by throwing an exception, which is
+	 * caught by the <tt>ValidateExecutor</tt> and collected into a
+	 * <tt>ValidationResult</tt>. The stack trace of such an exception is of no
+	 * use to anybody and filling it up costs more than the evaluation itself.
+	 * Hence, it can be constructed without a stack trace.
+	 * </p>
+	 *
+	 * @param errorCode
+	 * 						the error code to be assigned
+	 *
+	 * @param errorDesc
+	 * 						the error message to be configured
+	 *
+	 * @param writableStackTrace
+	 * 						whether or not the stack trace should be filled
+	 */
+	public ValidatorException(String errorCode, String errorDesc,
+																boolean writableStackTrace)
+	{
+		super(errorDesc, null, false, writableStackTrace);
+		this.errorCode = errorCode;
+		this.errorDesc = errorDesc;
+	}
+
 	/**
 	 * <p>
 	 * An overridden two argument constructor
@@ -195,4 +233,18 @@ public class ValidatorException extends Exception implements Serializable
 	public void setCause(Throwable cause) {
 		this.cause = cause;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * @return the constraintName
+	 */
+	public String getConstraintName() {
+		return constraintName;
+	}
+
+	/**
+	 * @param constraintName the constraintName to set
+	 */
+	public void setConstraintName(String constraintName) {
+		this.constraintName = constraintName;
+	}
+}
@@ -40,6 +40,25 @@ public class Field implements Serializable
 	 */
 	String value;
 
+	/**
+	 * <p>
+	 * The characters of the value, if it is set as a <tt>CharSequence</tt>
+	 * which is NOT a <tt>String</tt> (say, a view over the bytes of a fixed
+	 * width record). The <tt>value</tt> is created out of it only when asked
+	 * for.
+	 * </p>
+	 */
+	private transient CharSequence valueChars = null;
+
+	/**
+	 * <p>
+	 * The normalized forms of the <tt>value</tt>, shared by all the constraints
+	 * of the field. Created on its first use and NOT copied by the copy
+	 * constructor, being meant for a single evaluation.
+	 * </p>
+	 */
+	private transient NormalizedValue normalizedValue = null;
+
 	/**
 	 * <p>
 	 * A variable to hold the data type of the field
@@ -228,6 +247,17 @@ public class Field implements Serializable
 	private LinkedHashMap<String, ErrorDetails> errorInfoMap =
 							new LinkedHashMap<String, ErrorDetails>();
 
+	/**
+	 * <p>
+	 * The error details finally resolved for each constraint of the field,
+	 * out of the <tt>errorInfoMap</tt> and the rest of the levels, keyed by
+	 * the name of the constraint, the same as the <tt>errorInfoMap</tt> (the
+	 * insertion order is NOT unique across the constraints). It is resolved
+	 * once, when the <tt>ValidationPlan</tt> is built, and shared with the
+	 * working copies.
+	 * </p>
+	 */
+	private LinkedHashMap<String, ErrorDetails> resolvedErrorDetailsMap = null;
 
 	/**
 	 * <p>
@@ -239,6 +269,7 @@ public class Field implements Serializable
 	public void reset()
 	{
 		this.value = null;
+		this.valueChars = null;
 	}
 
 	/**
@@ -282,7 +313,45 @@ public class Field implements Serializable
 	{
 		this.name = name;
 	}
-	
+
+	/**
+	 * <p>
+	 * A copy constructor which creates a <i>working copy</i> of the given
+	 * (assembled) field for a single validation call.
+	 * </p>
+	 *
+	 * <p>
+	 * The configuration aspects (name, type, dependent fields, error
+	 * information) are shared with the source field as they are never modified
+	 * after the assembly, whereas the state flags are copied so that the
+	 * working copy can be changed freely during the evaluation without affecting
+	 * the source field. The value is NOT copied.
+	 * </p>
+	 *
+	 * @param source
+	 * 						the assembled field to copy from
+	 */
+	public Field(Field source)
+	{
+		this.name = source.name;
+		this.type = source.type;
+		this.displayName = source.displayName;
+		this.dependentFieldValue = source.dependentFieldValue;
+		this.dependentFieldValueMap = source.dependentFieldValueMap;
+		this.format = source.format;
+		this.excludedCharsSet = source.excludedCharsSet;
+		this.errorInfoMap = source.errorInfoMap;
+		this.resolvedErrorDetailsMap = source.resolvedErrorDetailsMap;
+
+		this.dependentFieldEvaluated = source._preservedDependentFieldEvaluated;
+		this.verifiable = source._preservedVerifiable;
+		this.deferredEvaluation = source._preservedDeferredEvaluation;
+		this.deferredEvaluationFlagUpdated =
+							source._preservedDeferredEvaluationFlagUpdated;
+
+		preserveState();
+	}
+
 	/**
 	 * @return the name
 	 */
@@ -298,9 +367,15 @@ public class Field implements Serializable
 	}
 
 	/**
-	 * @return the value
+	 * @return the value, created out of the <tt>valueChars</tt> on the first
+	 * call if the value is set as a <tt>CharSequence</tt>
 	 */
 	public String getValue() {
+		if(null==value && null!=valueChars)
+		{
+			value = valueChars.toString();
+		}
+
 		return value;
 	}
 
@@ -309,6 +384,45 @@ public class Field implements Serializable
 	 */
 	public void setValue(String value) {
 		this.value = value;
+		this.valueChars = null;
+	}
+
+	/**
+	 * @return the characters of the value, without creating a <tt>String</tt>
+	 * out of them. Meant for the constraints which only scan the value.
+	 */
+	public CharSequence getValueChars() {
+		return (null!=value) ? value : valueChars;
+	}
+
+	/**
+	 * @param valueChars the characters of the value to set, NOT copied
+	 */
+	public void setValueChars(CharSequence valueChars) {
+		if(valueChars instanceof String)
+		{
+			setValue((String) valueChars);
+			return;
+		}
+
+		this.value = null;
+		this.valueChars = valueChars;
+	}
+
+	/**
+	 * @return the normalized forms of the current value, computed lazily and
+	 * reused until the value changes
+	 */
+	public NormalizedValue getNormalizedValue()
+	{
+		if(null==normalizedValue)
+		{
+			normalizedValue = new NormalizedValue();
+		}
+
+		normalizedValue.normalize(getValue());
+
+		return normalizedValue;
 	}
 
 	/**
@@ -658,4 +772,37 @@ public class Field implements Serializable
 	public void setErrorInfoMap(LinkedHashMap<String, ErrorDetails> errorInfoMap) {
 		this.errorInfoMap = errorInfoMap;
 	}
+
+	/**
+	 * @param constraintName the name of the constraint
+	 *
+	 * @return the error details resolved for the constraint, null if NOT
+	 * resolved
+	 */
+	public ErrorDetails getResolvedErrorDetails(String constraintName)
+	{
+		LinkedHashMap<String, ErrorDetails> errorDetailsMap = resolvedErrorDetailsMap;
+
+		return (null!=errorDetailsMap) ? errorDetailsMap.get(constraintName) : null;
+	}
+
+	/**
+	 * <p>
+	 * This method keeps the error details resolved for a constraint of the
+	 * field. It is meant to be called only while the plan is built.
+	 * </p>
+	 *
+	 * @param constraintName the name of the constraint
+	 *
+	 * @param errorDetails the error details resolved
+	 */
+	public void setResolvedErrorDetails(String constraintName, ErrorDetails errorDetails)
+	{
+		if(null==resolvedErrorDetailsMap)
+		{
+			resolvedErrorDetailsMap = new LinkedHashMap<String, ErrorDetails>();
+		}
+
+		resolvedErrorDetailsMap.put(constraintName, errorDetails);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,252 @@
+package org.hfjv.framework.core.field;
+
+import java.text.ParseException;
+
+import org.hfjv.framework.util.DateUtil;
+import org.hfjv.framework.util.GlobalUtil;
+import org.hfjv.framework.util.NumberUtil;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * The normalized forms of the value of a <tt>Field</tt>, shared by all the
+ * constraints of the field during an evaluation, so that the value is sign
+ * stripped, counted and parsed only once however many constraints need it.
+ * </p>
+ *
+ * <p>
+ * Every form is computed lazily, on its first use. All of them are discarded
+ * as soon as the field carries a different value. Like the working copy of
+ * the field holding it, an instance is NOT meant to be shared across the
+ * threads.
+ * </p>
+ *
+ * <pre>
+ * NormalizedValue normalizedValue = field.getNormalizedValue();
+ *
+ * if(normalizedValue.isLongValue())
+ * {
+ * 	long number = normalizedValue.getLongValue();
+ * }
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class NormalizedValue
+{
+	private static final int LONG_NOT_PARSED = 0;
+
+	private static final int LONG_PARSED = 1;
+
+	private static final int LONG_NOT_FIT = 2;
+
+	/**
+	 * <p>
+	 * The value of the field, the other forms are computed for
+	 * </p>
+	 */
+	private String value = null;
+
+	private boolean signExcluded = false;
+
+	private String signExcludedValue = null;
+
+	/**
+	 * <p>
+	 * Whether or not the <tt>signExcludedValue</tt> is parsed into the
+	 * <tt>longValue</tt>, as one of the <tt>LONG_XXX</tt> constants
+	 * </p>
+	 */
+	private int longState = LONG_NOT_PARSED;
+
+	private long longValue = 0;
+
+	/**
+	 * <p>
+	 * The pattern the value is last parsed with into the <tt>epochDay</tt>,
+	 * or into the <tt>dateParseException</tt> if it failed
+	 * </p>
+	 */
+	private String datePattern = null;
+
+	private long epochDay = 0;
+
+	private ParseException dateParseException = null;
+
+	/**
+	 * <p>
+	 * A package level, no argument constructor. Use the
+	 * <tt>Field.getNormalizedValue()</tt> method.
+	 * </p>
+	 */
+	NormalizedValue()
+	{
+	}
+
+	/**
+	 * <p>
+	 * This method makes the instance hold the forms of the given value,
+	 * discarding the forms computed so far if the value is a different one
+	 * </p>
+	 *
+	 * @param value
+	 * 				the current value of the field
+	 */
+	void normalize(String value)
+	{
+		if(value==this.value)
+		{
+			return;
+		}
+
+		this.value = value;
+
+		this.signExcluded = false;
+		this.signExcludedValue = null;
+
+		this.longState = LONG_NOT_PARSED;
+		this.longValue = 0;
+
+		this.datePattern = null;
+		this.epochDay = 0;
+		this.dateParseException = null;
+	}
+
+	/**
+	 * @return the value, the forms are computed for
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * @return the value without its sign bit if any, the same as the
+	 * <tt>GlobalUtil.excludeSignBit()</tt> of the value
+	 */
+	public String getSignExcludedValue()
+	{
+		if(!signExcluded)
+		{
+			signExcludedValue = GlobalUtil.excludeSignBit(value);
+			signExcluded = true;
+		}
+
+		return signExcludedValue;
+	}
+
+	/**
+	 * @return the sign bit ('+' or '-') the value starts with, 0 if there is
+	 * none (or the value is an invalid one)
+	 */
+	public char getSign()
+	{
+		if(StringUtil.isInvalidString(value))
+		{
+			return 0;
+		}
+
+		char firstChar = value.charAt(0);
+
+		return (firstChar == '+' || firstChar == '-') ? firstChar : 0;
+	}
+
+	/**
+	 * @return the number of characters of the value without its sign bit, 0
+	 * for a null value
+	 */
+	public int getDigitCount()
+	{
+		String signExcludedValue = getSignExcludedValue();
+
+		return (null!=signExcludedValue) ? signExcludedValue.length() : 0;
+	}
+
+	/**
+	 * @return whether or not the value without its sign bit is an integral
+	 * number fitting in a <tt>long</tt>, as told by the
+	 * <tt>NumberUtil.isLongValue()</tt>
+	 */
+	public boolean isLongValue()
+	{
+		if(LONG_NOT_PARSED==longState)
+		{
+			String signExcludedValue = getSignExcludedValue();
+
+			if(NumberUtil.isLongValue(signExcludedValue))
+			{
+				longValue = NumberUtil.getLongValue(signExcludedValue);
+				longState = LONG_PARSED;
+			}
+			else
+			{
+				longState = LONG_NOT_FIT;
+			}
+		}
+
+		return LONG_PARSED==longState;
+	}
+
+	/**
+	 * @return the value without its sign bit parsed into a <tt>long</tt>, to
+	 * be used only if the <tt>isLongValue()</tt> is true
+	 */
+	public long getLongValue()
+	{
+		return isLongValue() ? longValue : 0;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the value parsed as a date of the given pattern into
+	 * the number of days from 1970-01-01, the same as the
+	 * <tt>DateUtil.getEpochDay()</tt>, parsing it only if it is NOT parsed
+	 * with the same pattern already
+	 * </p>
+	 *
+	 * @param pattern
+	 * 				the pattern of the date
+	 *
+	 * @return
+	 * 				the number of days from 1970-01-01
+	 *
+	 * @throws ParseException
+	 * 				if the value is NOT a date of the pattern
+	 */
+	public long getEpochDay(String pattern)
+	throws ParseException
+	{
+		if(null==datePattern || !datePattern.equals(pattern))
+		{
+			try
+			{
+				epochDay = DateUtil.getEpochDay(value, pattern);
+				dateParseException = null;
+			}
+			catch(ParseException parseException)
+			{
+				epochDay = 0;
+				dateParseException = parseException;
+			}
+
+			datePattern = pattern;
+		}
+
+		if(null!=dateParseException)
+		{
+			throw dateParseException;
+		}
+
+		return epochDay;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[NormalizedValue] "
+						+ " value="+this.getValue()
+						+ ", signExcludedValue="+this.signExcludedValue
+						+ ", longValue="+(LONG_PARSED==longState ? longValue : null)
+						+ ", datePattern="+this.datePattern;
+	}
+}
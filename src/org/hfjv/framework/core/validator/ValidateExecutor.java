@@ -1,19 +1,20 @@
 package org.hfjv.framework.core.validator;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.constraint.Constraint;
-import org.hfjv.framework.core.constraint.exclude.ExcludeCharsConstraint;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.field.Field;
 import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
-import org.hfjv.framework.util.ConstraintComparator;
-import org.hfjv.framework.util.CollectionUtil;
+import org.hfjv.framework.core.validator.compiler.CompiledValidator;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationError;
+import org.hfjv.framework.core.validator.result.ValidationResult;
 import org.hfjv.framework.util.StringUtil;
 
 /**
@@ -39,6 +40,13 @@ public class ValidateExecutor
 	 * <p>
 	 * This method validates all the fields of the given module
 	 * </p>
+	 *
+	 * <p>
+	 * The values are taken from the assembled fields (set through
+	 * <tt>ValidatorAssembler.getFieldNameMap()</tt>) and hence this method
+	 * can NOT be called concurrently for the same module. Use the
+	 * {@link #validate(String, Map)} instead.
+	 * </p>
 	 * 
 	 * @param moduleName
 	 * 					the module whose fields to be validated
@@ -46,7 +54,6 @@ public class ValidateExecutor
 	 * @throws ValidatorException
 	 * 					any exceptions thrown during the validation
 	 */
-	@SuppressWarnings("unchecked")
 	public static void validate(String moduleName)
 	throws ValidatorException
 	{
@@ -59,219 +66,396 @@ public class ValidateExecutor
 			throw new ValidatorException("Module name cannot be null!");
 		}
 
-		/** Filter and get the fieldList (with Constraint) for the required module */
-		LinkedHashMap<Field, ArrayList<Constraint>> fieldConstraintListMap =
-				ValidatorAssembler.getModuleFieldsConstraintListMap().get(moduleName);
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
 
-		if(null==fieldConstraintListMap || fieldConstraintListMap.size() <= 0)
+		if(null==plan)
 		{
-			logger.info(THIS_METHOD_NAME + "fieldConstraintListMap is null or empty!");
+			logger.info(THIS_METHOD_NAME + "no plan found for the module " + moduleName);
 			return;
 		}
 
-		logger.debug(StringUtil.getRepeatedChars("/#", 100));
-		logger.debug("fieldConstraintListMap ----> "+fieldConstraintListMap);
-		logger.debug(StringUtil.getRepeatedChars("/#", 100));
+		validate(ValidationContext.newInstanceFromAssembledFields(plan),
+								ErrorPolicy.FAIL_FAST).throwIfInvalid();
 
+		logger.exit(THIS_METHOD_NAME);
+	}
 
-		Set<Field> keySet = fieldConstraintListMap.keySet();
+	/**
+	 * <p>
+	 * This method validates all the fields of the given module against
+	 * the values passed, throwing the first error if any.
+	 * </p>
+	 *
+	 * <p>
+	 * No state is kept in the assembled fields or constraints, hence this
+	 * method is safe to be called from any number of threads at the same time.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param values
+	 * 					the values of the fields keyed by the field name
+	 *
+	 * @throws ValidatorException
+	 * 					any exceptions thrown during the validation
+	 */
+	public static void validate(String moduleName, Map<String, String> values)
+	throws ValidatorException
+	{
+		validate(moduleName, values, ErrorPolicy.FAIL_FAST).throwIfInvalid();
+	}
+
+	/**
+	 * <p>
+	 * This method validates all the fields of the given module against
+	 * the values passed and gives back the errors collected as per the policy,
+	 * without throwing them.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param values
+	 * 					the values of the fields keyed by the field name
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation
+	 *
+	 * @throws ValidatorException
+	 * 					only if the module name is invalid
+	 */
+	public static ValidationResult validate(String moduleName,
+							Map<String, String> values, ErrorPolicy errorPolicy)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate(moduleName, values, policy) - ";
 
-		ArrayList<Constraint> constraintList = null;
+		logger.enter(THIS_METHOD_NAME);
 
-		for(Field field : keySet)
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
+
+		if(null==plan)
 		{
-			logger.debug(THIS_METHOD_NAME + StringUtil.getRepeatedChars("%", 25));
-			logger.debug(THIS_METHOD_NAME + " evaluating field - "+field.getName());
-			logger.debug(THIS_METHOD_NAME + StringUtil.getRepeatedChars("%", 25));
-
-			logger.debug(THIS_METHOD_NAME + " evaluating dependentFields");
-
-			/**
-		 	 * If the earlier execution (if any) of a field had thrown a
-		 	 * ValidatorException and due to which the field's state would not
-	 		 * have got restored.
-			 *
-			 * Hence, restore at the initial stage. Remember, the field's state
-			 * would have got preserved in the ValidatorAssembler at the
-			 * initial stage as it would NOT accidentally reset the fields to
-			 * false if this is the very very first attempt of execution!
-			 *
-			 * If the previous execution was successful, it would have got
-	 		 * restored after the evaluation of all constraints for the field. And
-			 * it would be a duplicate action, nevertheless no issues! :)
-			 */
-
-			field.restoreState();
-
-			logger.info(THIS_METHOD_NAME + " [**] Initial field state restoration");
-
-			logger.info(THIS_METHOD_NAME + " [**] restoredState : "	
-																				+field.toPreservedStateString());
-
-			/* ================= State Preserving - START  ================== */
-
-			/*
-			 * Preserving the original state before evaluating
-			 * Later, after evaluation these fields would be reset
-			 */
-			field.preserveState();
-
-			logger.info(THIS_METHOD_NAME + " [**] preservation before evaluation");
-
-			logger.info(THIS_METHOD_NAME + " [**] preservedState : "
-												+field.toPreservedStateString());
-
-			/* ================= State Preserving - END  ================== */
-
-			Constraint.evaluateDependentFields(moduleName, field);
-
-			logger.debug(THIS_METHOD_NAME + " Field ("+field.getName()
-																+	 ") isVerifiable ? "+field.isVerifiable());
-
-			/*
-			 * If the field does NOT need to be verified, break the
-			 * inner loop for the further constraint lists for the same field
-			 * and continue with the next field in the outer for loop
-			 *
-			 *    --- for when this code was in the inner loop
-		  	 *
-			 * If this field is NOT needed to be verified, skip this
-			 * and proceed with the next field in the list!
-			 *
-			 *    --- for when it is in outer for loop (at present)
-			 *
-			 *  New constraint added for excludedCharsSet.
-			 *  Look at the next if condition below for detailed explanation
-			 */
-			if(!field.isVerifiable() && !field.isExcludedCharsSet())
+			logger.info(THIS_METHOD_NAME + "no plan found for the module " + moduleName);
+			return new ValidationResult(moduleName);
+		}
+
+		ValidationResult result = validate(new ValidationContext(plan, values),
+																errorPolicy);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * This method validates the working copies of the fields held by the
+	 * given context, by walking through the <tt>ValidationPlan</tt> of the module
+	 * </p>
+	 *
+	 * <p>
+	 * A failure of a constraint is collected into the result and the evaluation
+	 * continues with the next field, until the maximum errors of the policy is
+	 * reached. The rest of the constraints of a failed field are skipped.
+	 * </p>
+	 *
+	 * <p>
+	 * A module having got a <tt>CompiledValidator</tt> is validated by that,
+	 * with the identical result.
+	 * </p>
+	 *
+	 * @param context
+	 * 					the context of the current validation call
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation
+	 */
+	public static ValidationResult validate(ValidationContext context,
+																ErrorPolicy errorPolicy)
+	{
+		return validate(context, errorPolicy,
+						ValidatorAssembler.getCompiledValidator(context.getPlan()));
+	}
+
+	/**
+	 * <p>
+	 * This method validates the working copies of the fields held by the
+	 * given context by the <tt>CompiledValidator</tt> given, or by walking
+	 * through the <tt>ValidationPlan</tt> of the module if it is null, so that
+	 * either of them can be verified against the other.
+	 * </p>
+	 *
+	 * @param context
+	 * 					the context of the current validation call
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @param compiledValidator
+	 * 					the validator compiled for the plan of the context, null
+	 * 					to interpret the plan
+	 *
+	 * @return
+	 * 					the result of the validation
+	 */
+	public static ValidationResult validate(ValidationContext context,
+						ErrorPolicy errorPolicy, CompiledValidator compiledValidator)
+	{
+		final String THIS_METHOD_NAME = "validate(context) - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		ValidationPlan plan = context.getPlan();
+
+		ValidationResult result = new ValidationResult(plan.getModuleName());
+
+		int maxErrors = (null!=errorPolicy) ? errorPolicy.getMaxErrors()
+											: ErrorPolicy.FAIL_FAST.getMaxErrors();
+
+		Field[] fields = context.getFields();
+
+		/* The dependency conditions matched by the values, looked up only once */
+		int[] matchedDependencies = plan.countMatchedDependencies(fields);
+
+		if(null!=compiledValidator)
+		{
+			compiledValidator.validate(fields, matchedDependencies, result, maxErrors);
+
+			logger.exit(THIS_METHOD_NAME);
+
+			return result;
+		}
+
+		for(int ordinal = 0; ordinal < fields.length; ordinal++)
+		{
+			if(result.getErrorCount() >= maxErrors)
 			{
-				continue;
+				result.setTruncated(true);
+				break;
 			}
 
-			logger.debug(THIS_METHOD_NAME + "updating deferredEvaluation");
+			ValidationError error = validateField(plan, ordinal, fields, matchedDependencies);
+
+			if(null!=error)
+			{
+				result.addError(error);
+			}
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return result;
+	}
 
-			Constraint.updateDeferredEvaluationField(field);
+	/**
+	 * <p>
+	 * This method evaluates the constraints of a single field of the context,
+	 * as decided by its dependent fields, deferredEvaluation and excludeChars
+	 * configuration. The rest of the constraints of the field are skipped on
+	 * the first failure.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param fields
+	 * 					the working copies of the fields of the current call
+	 *
+	 * @param matchedDependencies
+	 * 					the dependency conditions matched in the current call, as
+	 * 					given by the <tt>ValidationPlan.countMatchedDependencies()</tt>
+	 *
+	 * @return
+	 * 					the error of the field, null if it is valid or skipped
+	 */
+	public static ValidationError validateField(ValidationPlan plan, int ordinal,
+										Field[] fields, int[] matchedDependencies)
+	{
+		final String THIS_METHOD_NAME = "validateField() - ";
 
-			logger.debug(THIS_METHOD_NAME + "isDeferredEvlaluation of field : "
-															+ field.isDeferredEvaluation());
+		Constraint constraint = null;
 
-			/**
-			 * After the 'deferredEvaluation' has been updated, we can
-			 * now take a call on it. If still it is true, we can safely
-			 * skip this field and move on to the next field.
-			 *
-			 * Take a conditional call on the field's specific excludedCharsSet
-			 * flag. If an optional field has got a constraint on excludedCharsSet,
-			 * it should be processed further for evaluation (as it might
-			 * mostly have only one ExcludedChars constraint).
-			 */
-			logger.debug(THIS_METHOD_NAME + " isExcludedCharsSet of field : "
-																+ field.isExcludedCharsSet());
+		try
+		{
+			Constraint[] constraints = getConstraintsToEvaluate(plan, ordinal, fields,
+																matchedDependencies);
 
-			if(field.isDeferredEvaluation() && !field.isExcludedCharsSet())
+			if(null==constraints)
 			{
-				continue;
+				return null;
 			}
 
-			/**
-			 * A special case needs an attention.
-			 *
-			 * If the field is an optional field but has an excludedChars flag
-			 * set, due to the changes done on the earlier two if statements let
-			 * the field go through the entire set of constraints configured in the
-		 	 * properties file, which is not needed as it gives an inappropriate
-		 	 * and rather an invalid error message.
-			 *
-			 *  Example : The field being (incomingPassword) an int type field,
-			 *  it says "The value 'null' passed is not a valid number",
-			 *  because it has got the constraints (ExcludedCharsConstraint, TypeConstraint,
-			 *  MaxRangeConstraint etc.,)
-			 *
-			 *  The actual value was null (it was not passed any value).
-			 *
-			 *  1. The ExcludeChars constraint does NOT do anything if the value is
-			 *     null.
-			 *  2. Next comes the TypeConstraint in the order and it shows the
-			 *     aforesaid error, which is invalid!
-			 *
-			 *  Hence, the below constraint and modification.
-			 *
-			 *  Note:
-			 *  =====
-			 *  Do this only if the field's value is empty or null
-			 *  If the field contains some valid value, ideally al
-			 *  the constraints should be opened!
-			 */
-
-			if(!field.isVerifiable() && field.isExcludedCharsSet() &&
-					StringUtil.isInvalidString(field.getValue()))
+			logger.debug(THIS_METHOD_NAME + " evaluating field - "
+														+ fields[ordinal].getName());
+
+			Constraint.preEvaluateField(fields[ordinal]);
+
+			for(int index = 0; index < constraints.length; index++)
 			{
-				logger.info(THIS_METHOD_NAME + " special case - field is NOT"
-					+ " verifiable BUT its excludedCharsSet. Assigning a new"
-					+ " constraintList (with only ExcludeChars) for this iteration");
+				constraint = constraints[index];
 
-				constraintList = new ArrayList<Constraint>();
-				constraintList.add(new ExcludeCharsConstraint());
+				constraint.evaluate(fields[ordinal]);
 			}
-			else
-			{
-				logger.debug(THIS_METHOD_NAME + "adjusting constraints for the field");
+		}
+		catch(ValidatorException validatorException)
+		{
+			return toValidationError(fields[ordinal], constraint, validatorException);
+		}
 
-				constraintList = fieldConstraintListMap.get(field);
+		return null;
+	}
 
-				logger.info(THIS_METHOD_NAME + " |*| constraintList at first ---> "
-							+ constraintList);
+	/**
+	 * <p>
+	 * This method decides the constraints to be evaluated for a field, based
+	 * on its dependent fields, deferredEvaluation and excludeChars configuration
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param fields
+	 * 					the working copies of the fields of the current call
+	 *
+	 * @param matchedDependencies
+	 * 					the dependency conditions matched in the current call
+	 *
+	 * @return
+	 * 					the constraints to be evaluated, null if the field should
+	 * 					be skipped
+	 */
+	private static Constraint[] getConstraintsToEvaluate(ValidationPlan plan,
+							int ordinal, Field[] fields, int[] matchedDependencies)
+	{
+		Field field = fields[ordinal];
 
-				/* for the safety sake */
-				if(!CollectionUtil.isValidList(constraintList))
-				{
-					continue;
-				}
+		boolean valueValid = StringUtil.isValidString(field.getValueChars());
 
-				Collections.sort(constraintList, ConstraintComparator.getInstance());
+		boolean excludedCharsSet = plan.isExcludedCharsSet(ordinal);
 
-				logger.info(THIS_METHOD_NAME + " |*| constraintList after sorting --> "
-						+ constraintList);
-			}
+		/*
+		 * A field having dependent fields is verifiable only when the values
+		 * of all the dependent fields are matching, in which case a
+		 * MandatoryConstraint is applied in addition.
+		 */
+		boolean verifiable = true;
 
-			logger.info(THIS_METHOD_NAME + " pre-evaluating field ");
+		boolean dependentFieldEvaluated = false;
 
-			Constraint.preEvaluateField(field);
+		if(plan.hasDependentFields(ordinal))
+		{
+			dependentFieldEvaluated = plan.isDependencyMatched(ordinal, matchedDependencies);
+			verifiable = dependentFieldEvaluated;
+		}
 
-			logger.info(THIS_METHOD_NAME + " actual evaluation starts ");
+		/*
+		 * If this field is NOT needed to be verified, skip this and proceed
+		 * with the next field, unless it has got an excludeCharsConstraint
+		 * which should be evaluated regardless.
+		 */
+		if(!verifiable && !excludedCharsSet)
+		{
+			return null;
+		}
 
-			for(Constraint constraint : constraintList)
-			{
-				logger.debug(THIS_METHOD_NAME + " constraintlist type - " +
-						constraint.getClass().getSimpleName());
-				
-				logger.debug(THIS_METHOD_NAME + " constraintlist valueToCheck - " +
-						constraint.getValueToCheck());
+		/*
+		 * An optional field (mandatoryConstraint=No) is evaluated only when
+		 * it carries a value or when its dependent fields made it mandatory.
+		 * Again, the excludeCharsConstraint is evaluated regardless.
+		 */
+		boolean deferredEvaluation = plan.isDeferredEvaluation(ordinal)
+									&& !(valueValid || dependentFieldEvaluated);
 
-				logger.debug(THIS_METHOD_NAME + " <--> Evaluating starts <--> ");
+		if(deferredEvaluation && !excludedCharsSet)
+		{
+			return null;
+		}
 
-				constraint.evaluate(field);
+		/*
+		 * A non verifiable field with an excludeCharsConstraint but without
+		 * any value has nothing to be excluded, and the rest of the
+		 * constraints would only give an inappropriate error message (say,
+		 * "The value 'null' passed is not a valid number"). Hence skipped.
+		 *
+		 * If the field contains some valid value, all the constraints
+		 * are opened.
+		 */
+		if(!verifiable && excludedCharsSet && !valueValid)
+		{
+			return null;
+		}
 
-				logger.debug(THIS_METHOD_NAME + " <--> Evaluating finished <--> ");
-			}
+		Constraint[] constraints = dependentFieldEvaluated
+							? plan.getDependentMandatoryConstraints(ordinal)
+							: plan.getConstraints(ordinal);
 
-			/* ============= State Restoring - START ============ */
+		return (constraints.length > 0) ? constraints : null;
+	}
 
-			/**
-			 * Restoring the preserved states of a field
-			 */
-			field.restoreState();
+	/**
+	 * <p>
+	 * This method converts the exception thrown while evaluating a field into
+	 * a <tt>ValidationError</tt>
+	 * </p>
+	 *
+	 * @param field
+	 * 					the field being evaluated
+	 *
+	 * @param constraint
+	 * 					the constraint being evaluated, null if the failure
+	 * 					happened before evaluating any constraint
+	 *
+	 * @param validatorException
+	 * 					the exception thrown
+	 *
+	 * @return
+	 * 					the error to be collected
+	 */
+	public static ValidationError toValidationError(Field field,
+							Constraint constraint, ValidatorException validatorException)
+	{
+		String fieldName = validatorException.getFieldName();
 
-			logger.info(THIS_METHOD_NAME + " {##} restoration after evaluation");
+		if(null==fieldName)
+		{
+			fieldName = field.getDisplayName();
+		}
 
-			logger.info(THIS_METHOD_NAME + " {##} restoredState : "+
-																		field.toPreservedStateString());
+		String constraintName = validatorException.getConstraintName();
 
-			/* ============= State Restoring - END ============ */
+		if(null==constraintName && null!=constraint)
+		{
+			constraintName = constraint.getName();
+		}
+
+		String errorDesc = validatorException.getErrorDesc();
 
+		if(null==errorDesc)
+		{
+			errorDesc = validatorException.getMessage();
 		}
 
-		logger.exit(THIS_METHOD_NAME);
+		return new ValidationError(fieldName, constraintName,
+								validatorException.getErrorCode(), errorDesc);
 	}
 	
 	/**
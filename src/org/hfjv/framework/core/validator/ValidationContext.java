@@ -0,0 +1,216 @@
+package org.hfjv.framework.core.validator;
+
+import java.util.Map;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.field.Field;
+
+/**
+ * <p>
+ * A class representing the state of a <b>single</b> validation call of a module.
+ * </p>
+ *
+ * <p>
+ * The <tt>Field</tt> instances assembled by the <tt>ValidatorAssembler</tt>
+ * are shared by all the callers and hence they should NOT be modified while
+ * validating. Instead, a <i>working copy</i> of every field of the module is
+ * created in this context, which carries the value passed for the call and the
+ * state flags (verifiable, deferredEvaluation etc.,) that gets changed during
+ * the evaluation.
+ * </p>
+ *
+ * <p>
+ * The working copies are kept in an array indexed by the ordinal of the field
+ * in the <tt>ValidationPlan</tt> of the module.
+ * </p>
+ *
+ * <p>
+ * As a context is never shared between two calls, any number of threads can
+ * validate the same module at the same time.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationContext
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidationContext.class);
+
+	/**
+	 * <p>
+	 * The plan of the module being validated
+	 * </p>
+	 */
+	private final ValidationPlan plan;
+
+	/**
+	 * <p>
+	 * The working copy of each field of the module, indexed by the ordinal
+	 * </p>
+	 */
+	private final Field[] workingFields;
+
+	/**
+	 * <p>
+	 * A two argument constructor which creates the working copies of all the
+	 * fields of the module with the values passed.
+	 * </p>
+	 *
+	 * <p>
+	 * The values are looked up with the name of the field as configured in the
+	 * <tt>hfjv.&lt;module&gt;.fields</tt> property. For the convenience, the
+	 * qualified name (moduleName-fieldName) is also accepted as a key.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module whose fields to be validated
+	 *
+	 * @param values
+	 * 					the values of the fields, keyed by the field name. It can
+	 * 					be null, in which case all the fields are considered empty.
+	 */
+	public ValidationContext(ValidationPlan plan, Map<String, String> values)
+	{
+		this.plan = plan;
+
+		int fieldCount = plan.getFieldCount();
+
+		workingFields = new Field[fieldCount];
+
+		Field field = null;
+
+		for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+		{
+			field = plan.getField(ordinal);
+
+			workingFields[ordinal] = new Field(field);
+
+			if(null!=values)
+			{
+				String value = values.get(field.getDisplayName());
+
+				if(null==value)
+				{
+					value = values.get(field.getName());
+				}
+
+				workingFields[ordinal].setValue(value);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * A factory method to create a context with the values being set
+	 * directly on the assembled fields of the module through the
+	 * <tt>ValidatorAssembler.getFieldNameMap()</tt>.
+	 * </p>
+	 *
+	 * <p>
+	 * Used only by the legacy single argument <tt>validate()</tt> method.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module whose fields to be validated
+	 *
+	 * @return
+	 * 					a new instance of <tt>ValidationContext</tt>
+	 */
+	public static ValidationContext newInstanceFromAssembledFields(ValidationPlan plan)
+	{
+		final String THIS_METHOD_NAME = "newInstanceFromAssembledFields() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		ValidationContext context = new ValidationContext(plan, null);
+
+		for(int ordinal = 0; ordinal < plan.getFieldCount(); ordinal++)
+		{
+			context.workingFields[ordinal].setValue(plan.getField(ordinal).getValue());
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return context;
+	}
+
+	/**
+	 * <p>
+	 * This method sets the value of a field by its ordinal. Used by the readers
+	 * which reuse a single context for all the records of a file, instead of
+	 * building a map for each record.
+	 * </p>
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param value
+	 * 					the value of the field
+	 */
+	public void setValue(int ordinal, String value)
+	{
+		workingFields[ordinal].setValue(value);
+	}
+
+	/**
+	 * <p>
+	 * This method sets the value of a field by its ordinal, as a sequence of
+	 * characters which is NOT copied (say, a view over the bytes of a record).
+	 * It has to remain unchanged until the values are cleared.
+	 * </p>
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param valueChars
+	 * 					the characters of the value of the field
+	 */
+	public void setValueChars(int ordinal, CharSequence valueChars)
+	{
+		workingFields[ordinal].setValueChars(valueChars);
+	}
+
+	/**
+	 * <p>
+	 * This method clears the values of all the fields, so that the context can
+	 * be reused for the next record
+	 * </p>
+	 */
+	public void clearValues()
+	{
+		for(int ordinal = 0; ordinal < workingFields.length; ordinal++)
+		{
+			workingFields[ordinal].reset();
+			workingFields[ordinal].restoreState();
+		}
+	}
+
+	/**
+	 * @return the plan of the module being validated
+	 */
+	public ValidationPlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the working copy of the field
+	 */
+	public Field getField(int ordinal) {
+		return workingFields[ordinal];
+	}
+
+	/**
+	 * @return the working copies of all the fields, indexed by the ordinal
+	 */
+	public Field[] getFields() {
+		return workingFields;
+	}
+}
@@ -0,0 +1,721 @@
+package org.hfjv.framework.core.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.constraint.Constraint;
+import org.hfjv.framework.core.constraint.mandatory.MandatoryConstraint;
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.helper.ExceptionHelper;
+import org.hfjv.framework.util.CollectionUtil;
+import org.hfjv.framework.util.ConstraintComparator;
+import org.hfjv.framework.util.GlobalUtil;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * An immutable, precompiled form of the configuration of a <b>single</b>
+ * module, built once by the <tt>ValidatorAssembler</tt>.
+ * </p>
+ *
+ * <p>
+ * Every field of the module is given an <i>ordinal</i> (its position in the
+ * <tt>hfjv.&lt;module&gt;.fields</tt> property, skipping the fields without any
+ * configuration) and all the information needed to evaluate it is kept in flat
+ * arrays indexed by the ordinal :
+ * <ul>
+ * 	<li>the constraints, already sorted in the order of evaluation</li>
+ * 	<li>the same constraints with a <tt>MandatoryConstraint</tt> at first, used
+ * 		when the dependent fields values are all matching</li>
+ * 	<li>the number of the dependency conditions of every field, along with
+ * 		a reverse index from the value of every controlling field to the
+ * 		fields it activates</li>
+ * 	<li>the <tt>deferredEvaluation</tt> and <tt>excludedCharsSet</tt> flags</li>
+ * </ul>
+ * so that the <tt>ValidateExecutor</tt> does nothing but a loop over the arrays
+ * for every call.
+ * </p>
+ *
+ * <p>
+ * The dependency conditions (<tt>dependentFields.&lt;field&gt;.value</tt>) are
+ * compiled once, in the same way as the <tt>Constraint.isValueMatching()</tt>
+ * matches them : a list of values becomes a set, a range matches any value.
+ * For a call, every controlling field having a value is looked up once in
+ * its index and counts a match for the fields it activates. A field is then
+ * activated only if all of its conditions are matched.
+ * </p>
+ *
+ * <p>
+ * <b>Note:</b> The arrays returned by the getters are the internal ones and
+ * they should NOT be modified.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationPlan
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidationPlan.class);
+
+	/**
+	 * <p>
+	 * An empty array of ordinals, shared by all the fields without any
+	 * dependent fields
+	 * </p>
+	 */
+	private static final int[] NO_DEPENDENT_FIELDS = new int[0];
+
+	/**
+	 * <p>
+	 * The number of the dependency conditions of a field, one of whose
+	 * dependent fields is NOT configured and hence can never be matched
+	 * </p>
+	 */
+	private static final int UNRESOLVED_DEPENDENCY = -1;
+
+	/**
+	 * <p>
+	 * The <tt>MandatoryConstraint</tt> applied on the fields whose dependent
+	 * fields values are all matching. Never modified after the creation and
+	 * hence shared by all the plans.
+	 * </p>
+	 */
+	private static final MandatoryConstraint DEPENDENT_MANDATORY_CONSTRAINT =
+						new MandatoryConstraint();
+
+	static
+	{
+		DEPENDENT_MANDATORY_CONSTRAINT.setValueToCheck("Yes");
+	}
+
+	/**
+	 * <p>
+	 * The name of the module
+	 * </p>
+	 */
+	private final String moduleName;
+
+	/**
+	 * <p>
+	 * The assembled fields, indexed by the ordinal
+	 * </p>
+	 */
+	private final Field[] fields;
+
+	/**
+	 * <p>
+	 * The constraints of every field, sorted by the insertion order
+	 * </p>
+	 */
+	private final Constraint[][] constraints;
+
+	/**
+	 * <p>
+	 * The constraints of every field prefixed with a <tt>MandatoryConstraint</tt>,
+	 * for the fields having any dependent fields. null otherwise.
+	 * </p>
+	 */
+	private final Constraint[][] dependentMandatoryConstraints;
+
+	/**
+	 * <p>
+	 * The ordinals of the dependent fields of every field
+	 * </p>
+	 */
+	private final int[][] dependentOrdinals;
+
+	/**
+	 * <p>
+	 * The number of the dependency conditions of every field, 0 if none and
+	 * <tt>UNRESOLVED_DEPENDENCY</tt> if they can never be matched
+	 * </p>
+	 */
+	private final int[] dependencyCounts;
+
+	/**
+	 * <p>
+	 * The ordinals of the fields controlling (being a dependent field of) any
+	 * other field
+	 * </p>
+	 */
+	private final int[] controllingOrdinals;
+
+	/**
+	 * <p>
+	 * The reverse index of every controlling field, in the same order as the
+	 * <tt>controllingOrdinals</tt> : the ordinals of the fields activated by
+	 * every value of it. An ordinal is repeated for every condition matched.
+	 * </p>
+	 */
+	private final Map<String, int[]>[] activationsByValue;
+
+	/**
+	 * <p>
+	 * The ordinals of the fields activated by any value of every controlling
+	 * field (configured with a range), in the same order as the
+	 * <tt>controllingOrdinals</tt>
+	 * </p>
+	 */
+	private final int[][] activationsByAnyValue;
+
+	/**
+	 * <p>
+	 * The ordinals of the fields activated by any value of every field, in
+	 * the ascending order. Empty for a field NOT controlling any other field.
+	 * </p>
+	 */
+	private final int[][] activatedOrdinals;
+
+	/**
+	 * <p>
+	 * Whether or not the evaluation of a field is deferred until it gets a
+	 * value (configured as <tt>mandatoryConstraint=No</tt>)
+	 * </p>
+	 */
+	private final boolean[] deferredEvaluation;
+
+	/**
+	 * <p>
+	 * Whether or not a field has got an <tt>excludeCharsConstraint</tt>
+	 * </p>
+	 */
+	private final boolean[] excludedCharsSet;
+
+	/**
+	 * <p>
+	 * A map to find the ordinal of a field either by its display name or by
+	 * its qualified (moduleName-fieldName) name
+	 * </p>
+	 */
+	private final Map<String, Integer> ordinalMap;
+
+	/**
+	 * <p>
+	 * A two argument constructor which compiles the plan out of the assembled
+	 * fields and constraints of a module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @param fieldConstraintListMap
+	 * 					the assembled fields and their list of constraints
+	 */
+	@SuppressWarnings("unchecked")
+	public ValidationPlan(String moduleName,
+						LinkedHashMap<Field, ArrayList<Constraint>> fieldConstraintListMap)
+	{
+		final String THIS_METHOD_NAME = "ValidationPlan() - ";
+
+		logger.enter(THIS_METHOD_NAME + "moduleName="+moduleName);
+
+		this.moduleName = moduleName;
+
+		int size = (null!=fieldConstraintListMap) ? fieldConstraintListMap.size() : 0;
+
+		fields = new Field[size];
+		constraints = new Constraint[size][];
+		dependentMandatoryConstraints = new Constraint[size][];
+		dependentOrdinals = new int[size][];
+		dependencyCounts = new int[size];
+		activatedOrdinals = new int[size][];
+		deferredEvaluation = new boolean[size];
+		excludedCharsSet = new boolean[size];
+
+		HashMap<String, Integer> tempOrdinalMap = new HashMap<String, Integer>();
+
+		int ordinal = 0;
+
+		if(size > 0)
+		{
+			for(Field field : fieldConstraintListMap.keySet())
+			{
+				fields[ordinal] = field;
+
+				tempOrdinalMap.put(field.getName(), ordinal);
+
+				if(!tempOrdinalMap.containsKey(field.getDisplayName()))
+				{
+					tempOrdinalMap.put(field.getDisplayName(), ordinal);
+				}
+
+				ordinal++;
+			}
+		}
+
+		ordinalMap = Collections.unmodifiableMap(tempOrdinalMap);
+
+		ArrayList<Constraint> constraintList = null;
+
+		/* The reverse index being built, by the ordinal of the controlling field */
+		LinkedHashMap<Integer, DependencyIndexBuilder> indexBuilders =
+									new LinkedHashMap<Integer, DependencyIndexBuilder>();
+
+		for(ordinal = 0; ordinal < size; ordinal++)
+		{
+			Field field = fields[ordinal];
+
+			constraintList = new ArrayList<Constraint>();
+
+			if(CollectionUtil.isValidList(fieldConstraintListMap.get(field)))
+			{
+				constraintList.addAll(fieldConstraintListMap.get(field));
+			}
+
+			Collections.sort(constraintList, ConstraintComparator.getInstance());
+
+			constraints[ordinal] = constraintList.toArray(
+														new Constraint[constraintList.size()]);
+
+			deferredEvaluation[ordinal] = field.is_preservedDeferredEvaluation();
+			excludedCharsSet[ordinal] = field.isExcludedCharsSet();
+
+			compileDependentFields(ordinal, field, indexBuilders);
+
+			/* The error code and description of a failure, resolved upfront */
+			ExceptionHelper.resolveErrorDetails(field, constraints[ordinal]);
+			ExceptionHelper.resolveErrorDetails(field, dependentMandatoryConstraints[ordinal]);
+
+			logger.debug(THIS_METHOD_NAME + " ordinal=" + ordinal
+					+ ", field=" + field.getName()
+					+ ", constraints=" + constraintList
+					+ ", dependentFields=" + dependentOrdinals[ordinal].length
+					+ ", deferredEvaluation=" + deferredEvaluation[ordinal]
+					+ ", excludedCharsSet=" + excludedCharsSet[ordinal]);
+		}
+
+		controllingOrdinals = new int[indexBuilders.size()];
+
+		/* A generic array cannot be created, hence the raw one */
+		@SuppressWarnings({"unchecked","rawtypes"})
+		Map<String, int[]>[] activationsByValueArray = new Map[indexBuilders.size()];
+
+		activationsByValue = activationsByValueArray;
+		activationsByAnyValue = new int[indexBuilders.size()][];
+
+		Arrays.fill(activatedOrdinals, NO_DEPENDENT_FIELDS);
+
+		int index = 0;
+
+		for(Map.Entry<Integer, DependencyIndexBuilder> entry : indexBuilders.entrySet())
+		{
+			controllingOrdinals[index] = entry.getKey();
+			activationsByValue[index] = entry.getValue().getActivationsByValue();
+			activationsByAnyValue[index] = toArray(entry.getValue().activationsByAnyValue);
+			activatedOrdinals[entry.getKey()] = toArray(new ArrayList<Integer>(
+											entry.getValue().getActivatedOrdinals()));
+
+			logger.debug(THIS_METHOD_NAME + " controlling field="
+					+ fields[controllingOrdinals[index]].getName()
+					+ ", activations by value=" + activationsByValue[index].keySet()
+					+ ", activations by any value=" + activationsByAnyValue[index].length);
+
+			index++;
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * This method resolves the dependent fields of a field to their ordinals
+	 * and adds its conditions to the reverse index of the controlling fields
+	 * </p>
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param field
+	 * 					the assembled field
+	 *
+	 * @param indexBuilders
+	 * 					the reverse index being built, by the ordinal of the
+	 * 					controlling field
+	 */
+	private void compileDependentFields(int ordinal, Field field,
+						Map<Integer, DependencyIndexBuilder> indexBuilders)
+	{
+		final String THIS_METHOD_NAME = "compileDependentFields() - ";
+
+		LinkedHashMap<String, String> dependentFieldValueMap =
+														field.getDependentFieldValueMap();
+
+		if(!CollectionUtil.isValidMap(dependentFieldValueMap))
+		{
+			dependentOrdinals[ordinal] = NO_DEPENDENT_FIELDS;
+			return;
+		}
+
+		int[] tempOrdinals = new int[dependentFieldValueMap.size()];
+
+		int count = 0;
+
+		for(String key : dependentFieldValueMap.keySet())
+		{
+			if(StringUtil.isInvalidString(key))
+			{
+				continue;
+			}
+
+			Integer dependentOrdinal = ordinalMap.get(key);
+
+			/*
+			 * A dependent field which is not part of the plan (not configured
+			 * at all) can never have a value and hence never match.
+			 */
+			if(null==dependentOrdinal)
+			{
+				logger.info(THIS_METHOD_NAME + " dependentField '" + key
+						+ "' of the field '" + field.getName() + "' is not configured!");
+
+				dependentOrdinal = -1;
+			}
+			else
+			{
+				DependencyIndexBuilder indexBuilder = indexBuilders.get(dependentOrdinal);
+
+				if(null==indexBuilder)
+				{
+					indexBuilder = new DependencyIndexBuilder();
+					indexBuilders.put(dependentOrdinal, indexBuilder);
+				}
+
+				indexBuilder.addCondition(ordinal, dependentFieldValueMap.get(key));
+			}
+
+			tempOrdinals[count] = dependentOrdinal;
+
+			count++;
+		}
+
+		if(count < tempOrdinals.length)
+		{
+			int[] ordinals = new int[count];
+
+			System.arraycopy(tempOrdinals, 0, ordinals, 0, count);
+
+			tempOrdinals = ordinals;
+		}
+
+		dependentOrdinals[ordinal] = tempOrdinals;
+
+		dependencyCounts[ordinal] = count;
+
+		for(int dependentOrdinal : tempOrdinals)
+		{
+			if(dependentOrdinal < 0)
+			{
+				dependencyCounts[ordinal] = UNRESOLVED_DEPENDENCY;
+			}
+		}
+
+		Constraint[] withMandatory = new Constraint[constraints[ordinal].length + 1];
+
+		withMandatory[0] = DEPENDENT_MANDATORY_CONSTRAINT;
+
+		System.arraycopy(constraints[ordinal], 0, withMandatory, 1,
+														constraints[ordinal].length);
+
+		dependentMandatoryConstraints[ordinal] = withMandatory;
+	}
+
+	/**
+	 * <p>
+	 * This method counts, for every field, the number of its dependency
+	 * conditions matched by the values of the current call, through the
+	 * reverse index of the controlling fields
+	 * </p>
+	 *
+	 * @param workingFields
+	 * 					the working copies of the fields of the current call,
+	 * 					indexed by the ordinal
+	 *
+	 * @return
+	 * 					the number of conditions matched, indexed by the ordinal.
+	 * 					null if no field of the module has any dependent fields.
+	 */
+	public int[] countMatchedDependencies(Field[] workingFields)
+	{
+		if(0==controllingOrdinals.length)
+		{
+			return null;
+		}
+
+		int[] matchedCounts = new int[fields.length];
+
+		String value = null;
+
+		int[] activatedOrdinals = null;
+
+		for(int index = 0; index < controllingOrdinals.length; index++)
+		{
+			value = workingFields[controllingOrdinals[index]].getValue();
+
+			if(StringUtil.isInvalidString(value))
+			{
+				continue;
+			}
+
+			activatedOrdinals = activationsByValue[index].get(value);
+
+			if(null!=activatedOrdinals)
+			{
+				for(int activatedOrdinal : activatedOrdinals)
+				{
+					matchedCounts[activatedOrdinal]++;
+				}
+			}
+
+			for(int activatedOrdinal : activationsByAnyValue[index])
+			{
+				matchedCounts[activatedOrdinal]++;
+			}
+		}
+
+		return matchedCounts;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether the values of all the dependent fields of a
+	 * field are matching with the configured values
+	 * </p>
+	 *
+	 * @param ordinal
+	 * 					the ordinal of the field
+	 *
+	 * @param matchedCounts
+	 * 					the counts of the current call, as given by the
+	 * 					{@link #countMatchedDependencies(Field[])}
+	 *
+	 * @return
+	 * 					true only if all the dependency conditions are matched
+	 */
+	public boolean isDependencyMatched(int ordinal, int[] matchedCounts)
+	{
+		return (dependencyCounts[ordinal] > 0) && (null!=matchedCounts)
+							&& (matchedCounts[ordinal] == dependencyCounts[ordinal]);
+	}
+
+	/**
+	 * <p>
+	 * This method gives an array of the ordinals in a list
+	 * </p>
+	 */
+	private static int[] toArray(List<Integer> ordinalList)
+	{
+		if(ordinalList.isEmpty())
+		{
+			return NO_DEPENDENT_FIELDS;
+		}
+
+		int[] ordinals = new int[ordinalList.size()];
+
+		for(int index = 0; index < ordinals.length; index++)
+		{
+			ordinals[index] = ordinalList.get(index);
+		}
+
+		return ordinals;
+	}
+
+	/**
+	 * @return the moduleName
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return the number of fields in the plan
+	 */
+	public int getFieldCount() {
+		return fields.length;
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the assembled field
+	 */
+	public Field getField(int ordinal) {
+		return fields[ordinal];
+	}
+
+	/**
+	 * @param name either the display name or the qualified name of the field
+	 * @return the ordinal of the field, -1 if there is no such field
+	 */
+	public int getOrdinal(String name) {
+		Integer ordinal = ordinalMap.get(name);
+		return (null!=ordinal) ? ordinal : -1;
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the sorted constraints of the field
+	 */
+	public Constraint[] getConstraints(int ordinal) {
+		return constraints[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the sorted constraints of the field with a MandatoryConstraint
+	 * 				at first, null if the field does not have any dependent fields
+	 */
+	public Constraint[] getDependentMandatoryConstraints(int ordinal) {
+		return dependentMandatoryConstraints[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return whether or not the field has got any dependent fields
+	 */
+	public boolean hasDependentFields(int ordinal) {
+		return 0 != dependencyCounts[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the number of the dependency conditions of the field, 0 if none
+	 * 				and -1 if they can never be matched
+	 */
+	public int getDependencyCount(int ordinal) {
+		return dependencyCounts[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the ordinals of the dependent fields
+	 */
+	public int[] getDependentOrdinals(int ordinal) {
+		return dependentOrdinals[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return the ordinals of the fields having this field as one of their
+	 * 				dependent fields, in the ascending order
+	 */
+	public int[] getActivatedOrdinals(int ordinal) {
+		return activatedOrdinals[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return whether or not the evaluation of the field is deferred
+	 */
+	public boolean isDeferredEvaluation(int ordinal) {
+		return deferredEvaluation[ordinal];
+	}
+
+	/**
+	 * @param ordinal the ordinal of the field
+	 * @return whether or not the field has got an excludeCharsConstraint
+	 */
+	public boolean isExcludedCharsSet(int ordinal) {
+		return excludedCharsSet[ordinal];
+	}
+
+	/**
+	 * <p>
+	 * A builder of the reverse index of a single controlling field
+	 * </p>
+	 */
+	private static class DependencyIndexBuilder
+	{
+		private final LinkedHashMap<String, ArrayList<Integer>> activationsByValue =
+										new LinkedHashMap<String, ArrayList<Integer>>();
+
+		private final ArrayList<Integer> activationsByAnyValue = new ArrayList<Integer>();
+
+		private final TreeSet<Integer> activatedOrdinals = new TreeSet<Integer>();
+
+		/**
+		 * <p>
+		 * This method adds a condition on the value of the controlling field,
+		 * matched in the same way as the <tt>Constraint.isValueMatching()</tt>
+		 * </p>
+		 *
+		 * @param activatedOrdinal
+		 * 				the ordinal of the field activated by the condition
+		 *
+		 * @param targetValue
+		 * 				the value configured : a range, a list or a single value
+		 */
+		void addCondition(int activatedOrdinal, String targetValue)
+		{
+			activatedOrdinals.add(activatedOrdinal);
+
+			/* Never matched */
+			if(StringUtil.isInvalidString(targetValue))
+			{
+				return;
+			}
+
+			if(-1 != targetValue.indexOf(GlobalUtil.MODULE_FIELD_SEPARATOR))
+			{
+				activationsByAnyValue.add(activatedOrdinal);
+				return;
+			}
+
+			Collection<String> values = (-1 != targetValue.indexOf(
+									GlobalUtil.TOKEN_SEPARATOR_COMMA))
+						? new LinkedHashSet<String>(GlobalUtil.getListOfTokens(targetValue))
+						: Collections.singleton(targetValue);
+
+			for(String value : values)
+			{
+				ArrayList<Integer> activatedOrdinals = activationsByValue.get(value);
+
+				if(null==activatedOrdinals)
+				{
+					activatedOrdinals = new ArrayList<Integer>();
+					activationsByValue.put(value, activatedOrdinals);
+				}
+
+				activatedOrdinals.add(activatedOrdinal);
+			}
+		}
+
+		/**
+		 * @return the ordinals of all the fields activated, in the ascending order
+		 */
+		Set<Integer> getActivatedOrdinals()
+		{
+			return activatedOrdinals;
+		}
+
+		/**
+		 * @return the activations by every value, frozen
+		 */
+		Map<String, int[]> getActivationsByValue()
+		{
+			HashMap<String, int[]> frozenMap = new HashMap<String, int[]>();
+
+			for(Map.Entry<String, ArrayList<Integer>> entry : activationsByValue.entrySet())
+			{
+				frozenMap.put(entry.getKey(), toArray(entry.getValue()));
+			}
+
+			return frozenMap;
+		}
+	}
+}
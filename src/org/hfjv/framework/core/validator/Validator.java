@@ -1,6 +1,17 @@
 package org.hfjv.framework.core.validator;
 
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.batch.BatchConfig;
+import org.hfjv.framework.core.validator.file.FileValidationListener;
+import org.hfjv.framework.core.validator.file.FileValidationSummary;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
 
 /**
  * <p>
@@ -25,4 +36,180 @@ public interface Validator
 	 * 				any exceptions during validation
 	 */
 	public void validate(String moduleName) throws ValidatorException;
-}
\ No newline at end of file
+
+	/**
+	 * <p>
+	 * A method to validate all the fields of a given module against the
+	 * values passed, without touching the shared (assembled) fields. Safe
+	 * to be called concurrently.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param values
+	 * 				the values of the fields keyed by the field name
+	 *
+	 * @throws ValidatorException
+	 * 				any exceptions during validation
+	 */
+	public void validate(String moduleName, Map<String, String> values)
+	throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A method to validate all the fields of a given module against the
+	 * values passed, collecting the errors into a <tt>ValidationResult</tt>
+	 * as per the given policy instead of throwing them.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param values
+	 * 				the values of the fields keyed by the field name
+	 *
+	 * @param errorPolicy
+	 * 				how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 				the result of the validation
+	 *
+	 * @throws ValidatorException
+	 * 				only if the module name is invalid
+	 */
+	public ValidationResult validate(String moduleName, Map<String, String> values,
+									ErrorPolicy errorPolicy)
+	throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A method to validate all the fields of a given module against the
+	 * values passed, asynchronously. The number of validations running at
+	 * any time is bounded and a future cancelled before its validation starts
+	 * is never validated.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param values
+	 * 				the values of the fields keyed by the field name
+	 *
+	 * @return
+	 * 				a future of the result of the validation (FAIL_FAST),
+	 * 				completed exceptionally if the module name is invalid
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(String moduleName,
+														Map<String, String> values);
+
+	/**
+	 * <p>
+	 * A method to validate a batch of records of a given module, in parallel
+	 * with the default <tt>BatchConfig</tt>
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param records
+	 * 				the records, each being a map of the field name and its value
+	 *
+	 * @return
+	 * 				the result of every record in the input order
+	 *
+	 * @throws ValidatorException
+	 * 				if the module name is invalid
+	 */
+	public List<ValidationResult> validateBatch(String moduleName,
+			Iterable<? extends Map<String, String>> records)
+	throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A method to validate a batch of records of a given module, in parallel
+	 * with the given <tt>BatchConfig</tt>
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param records
+	 * 				the records, each being a map of the field name and its value
+	 *
+	 * @param config
+	 * 				the pool, parallelism, chunk size and error policy of the batch
+	 *
+	 * @return
+	 * 				the result of every record in the input order
+	 *
+	 * @throws ValidatorException
+	 * 				if the module name is invalid
+	 */
+	public List<ValidationResult> validateBatch(String moduleName,
+			Iterable<? extends Map<String, String>> records, BatchConfig config)
+	throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A method to validate all the records of a delimited file of a given
+	 * module, streaming them as per the <tt>FileLayout</tt> of the module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param file
+	 * 				the file to be validated
+	 *
+	 * @param charset
+	 * 				the charset of the file, the one configured if null
+	 *
+	 * @param errorPolicy
+	 * 				how many errors to be collected for each record, FAIL_FAST if null
+	 *
+	 * @param listener
+	 * 				the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 				the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 				if the module name is invalid or the file cannot be read
+	 */
+	public FileValidationSummary validateFile(String moduleName, Path file,
+			Charset charset, ErrorPolicy errorPolicy, FileValidationListener listener)
+	throws ValidatorException;
+
+	/**
+	 * <p>
+	 * A method to validate all the records of a large delimited file of a given
+	 * module, in chunks validated in parallel as per the <tt>BatchConfig</tt>.
+	 * The results are notified in the order of the file.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 				the module whose fields to be validated
+	 *
+	 * @param file
+	 * 				the file to be validated
+	 *
+	 * @param charset
+	 * 				the charset of the file, the one configured if null
+	 *
+	 * @param config
+	 * 				the pool, parallelism, file chunk size and error policy
+	 *
+	 * @param listener
+	 * 				the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 				the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 				if the module name is invalid or the file cannot be read
+	 */
+	public FileValidationSummary validateFile(String moduleName, Path file,
+			Charset charset, BatchConfig config, FileValidationListener listener)
+	throws ValidatorException;
+}
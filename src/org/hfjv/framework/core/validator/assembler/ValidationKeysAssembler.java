@@ -69,7 +69,7 @@ public class ValidationKeysAssembler
 	 * A class level <tt>instance</tt> of this class, for a singleton purpose
 	 * </p>
 	 */
-	public static ValidationKeysAssembler _instance = null;
+	public static ValidationKeysAssembler _instance = new ValidationKeysAssembler();
 
 	/**
 	 * <p>
@@ -86,11 +86,6 @@ public class ValidationKeysAssembler
 	 */
 	public static ValidationKeysAssembler getInstance()
 	{
-		if(null==_instance)
-		{
-			_instance = new  ValidationKeysAssembler ();
-		}
-
 		return _instance;
 	}
 
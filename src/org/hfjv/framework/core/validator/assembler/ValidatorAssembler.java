@@ -1,17 +1,30 @@
 package org.hfjv.framework.core.validator.assembler;
 
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_BASEKEY_ENGINE;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_BASEKEY_FIELD;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_BASEKEY_FILE;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_BASEKEY_WITH_SEPARATOR;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_ENGINE_COMPILED;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_ENGINE_INTERPRETED;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_CONSTRAINT_EXCLUDE_CHARS;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_DEPENDENT;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_DEPENDENT_VALUE;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_ERRORCODE;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_ERRORDESC;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_GLOBAL;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FIELD_TYPE;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_CHARSET;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_COLUMNS;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_DELIMITER;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_FIXED_WIDTH_COLUMNS;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_HEADER;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_QUOTE;
+import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_FILE_RECORD_LENGTH;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_KEY_SEPARATOR;
 import static org.hfjv.framework.core.constants.ValidatorKeyConstants.HFJV_MODULE_WITH_BASEKEY;
 
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -20,13 +33,20 @@ import java.util.Set;
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.constraint.Constraint;
+import org.hfjv.framework.core.constraint.date.DateConstraint;
 import org.hfjv.framework.core.constraint.exclude.ExcludeCharsConstraint;
 import org.hfjv.framework.core.constraint.mandatory.MandatoryConstraint;
 import org.hfjv.framework.core.constraint.type.TypeConstraint;
 import org.hfjv.framework.core.exception.ErrorDetails;
 import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.compiler.CompiledValidator;
+import org.hfjv.framework.core.validator.compiler.ValidatorCompiler;
+import org.hfjv.framework.core.validator.file.FileLayout;
+import org.hfjv.framework.core.validator.file.FixedWidthLayout;
 import org.hfjv.framework.util.GlobalUtil;
 import org.hfjv.framework.util.CollectionUtil;
+import org.hfjv.framework.util.NumberUtil;
 import org.hfjv.framework.util.PropertyUtil;
 import org.hfjv.framework.util.StringUtil;
 
@@ -54,7 +74,7 @@ public class ValidatorAssembler
 	 * A class level private instance of this class.
 	 * </p>
 	 */
-	private static ValidatorAssembler _instance = null;
+	private static final ValidatorAssembler _instance = new ValidatorAssembler();
 
 	/**
 	 * <p>
@@ -132,6 +152,17 @@ public class ValidatorAssembler
 							+ HFJV_KEY_SEPARATOR 
 							+ HFJV_FIELD_CONSTRAINT_EXCLUDE_CHARS ;
 
+	/**
+	 * <p>
+	 * A class level constant to hold the <tt>tokens to be excluded globally</tt>
+	 * configured
+	 * </p>
+	 */
+	public static final String KEY_GLOBAL_EXCLUDE_TOKENS =
+							HFJV_BASEKEY_WITH_SEPARATOR 	+ HFJV_FIELD_GLOBAL
+							+ HFJV_KEY_SEPARATOR
+							+ HFJV_FIELD_CONSTRAINT_EXCLUDE_TOKENS ;
+
 	/**
 	 * <p>
 	 * A class level <tt>LinkedHashMap</tt> to store the <tt>errorCode</tt> and
@@ -162,6 +193,47 @@ public class ValidatorAssembler
 	 public static LinkedHashMap<String, String> moduleSpecificErrorMap =
 														new LinkedHashMap<String, String>();
 
+	/**
+	 * <p>
+	 * A private class level <tt>HashMap</tt> to hold the precompiled
+	 * <tt>ValidationPlan</tt> of every module, with the module name as a key.
+	 * </p>
+	 * <p>
+	 * Built once at the end of the assembly and never modified afterwards.
+	 * </p>
+	 */
+	private static HashMap<String, ValidationPlan> moduleValidationPlanMap =
+												new HashMap<String, ValidationPlan>();
+
+
+	/**
+	 * <p>
+	 * A private class level <tt>HashMap</tt> to hold the <tt>CompiledValidator</tt>
+	 * of every module, with the module name as a key. Empty unless the
+	 * <tt>hfjv.engine</tt> is <tt>compiled</tt> and the compilation succeeded.
+	 * </p>
+	 */
+	private static HashMap<String, CompiledValidator> moduleCompiledValidatorMap =
+											new HashMap<String, CompiledValidator>();
+
+	/**
+	 * <p>
+	 * A private class level <tt>HashMap</tt> to hold the <tt>FileLayout</tt>
+	 * of every module, with the module name as a key.
+	 * </p>
+	 */
+	private static HashMap<String, FileLayout> moduleFileLayoutMap =
+												new HashMap<String, FileLayout>();
+
+	/**
+	 * <p>
+	 * A private class level <tt>HashMap</tt> to hold the <tt>FixedWidthLayout</tt>
+	 * of the modules configured with the fixed width columns, with the module
+	 * name as a key.
+	 * </p>
+	 */
+	private static HashMap<String, FixedWidthLayout> moduleFixedWidthLayoutMap =
+											new HashMap<String, FixedWidthLayout>();
 
 	/**
 	 * <p>A private Constructor for Singleton</p>
@@ -178,11 +250,6 @@ public class ValidatorAssembler
 	 */
 	public static ValidatorAssembler getInstance()
 	{
-		if(null==_instance)
-		{
-			_instance = new ValidatorAssembler();
-		}
-
 		return _instance;
 	}
 
@@ -192,6 +259,383 @@ public class ValidatorAssembler
 		initListOfModules();
 		initModuleFieldsMap();
 		initFieldConstraintList();
+		initValidationPlans();
+		initCompiledValidators();
+		initFileLayouts();
+	}
+
+	/**
+	 * <p>
+	 * This method compiles the assembled fields and constraints of every module
+	 * into a <tt>ValidationPlan</tt>
+	 * </p>
+	 */
+	private static void initValidationPlans()
+	{
+		final String THIS_METHOD_NAME = "initValidationPlans() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		for(String moduleName : moduleFieldsConstraintListMap.keySet())
+		{
+			moduleValidationPlanMap.put(moduleName, new ValidationPlan(moduleName,
+								moduleFieldsConstraintListMap.get(moduleName)));
+		}
+
+		logger.info(THIS_METHOD_NAME + " plans compiled for the modules : "
+												+ moduleValidationPlanMap.keySet());
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * This method generates and compiles a <tt>CompiledValidator</tt> for the
+	 * plan of every module, if the <tt>hfjv.engine</tt> is configured as
+	 * <tt>compiled</tt>. The modules are interpreted by default, and also
+	 * when the compilation is NOT possible.
+	 * </p>
+	 */
+	private static void initCompiledValidators()
+	{
+		final String THIS_METHOD_NAME = "initCompiledValidators() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		String engine = _propertyUtil.getProperty(HFJV_BASEKEY_WITH_SEPARATOR
+																+ HFJV_BASEKEY_ENGINE);
+
+		engine = StringUtil.isValidString(engine) ? engine.trim() : HFJV_ENGINE_INTERPRETED;
+
+		if(engine.equalsIgnoreCase(HFJV_ENGINE_COMPILED))
+		{
+			moduleCompiledValidatorMap.putAll(ValidatorCompiler.compile(
+											moduleValidationPlanMap.values()));
+		}
+		else if(!engine.equalsIgnoreCase(HFJV_ENGINE_INTERPRETED))
+		{
+			GlobalUtil.stopExecutionWithError("The engine '" + engine
+					+ "' configured is not supported! It should be either '"
+					+ HFJV_ENGINE_INTERPRETED + "' or '" + HFJV_ENGINE_COMPILED + "'");
+		}
+
+		logger.info(THIS_METHOD_NAME + " engine=" + engine + ", compiled modules : "
+											+ moduleCompiledValidatorMap.keySet());
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the <tt>CompiledValidator</tt> of the plan of a module
+	 * </p>
+	 *
+	 * @param plan
+	 * 			the plan of the module
+	 *
+	 * @return
+	 * 			the validator compiled for the plan, null if the module is to
+	 * 			be interpreted
+	 */
+	public static CompiledValidator getCompiledValidator(ValidationPlan plan)
+	{
+		CompiledValidator compiledValidator = moduleCompiledValidatorMap.get(
+															plan.getModuleName());
+
+		return (null!=compiledValidator && plan==compiledValidator.getPlan())
+														? compiledValidator : null;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the precompiled <tt>ValidationPlan</tt> of a module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the name of the module
+	 *
+	 * @return
+	 * 			the plan of the module, null if the module is not configured
+	 */
+	public static ValidationPlan getValidationPlan(String moduleName)
+	{
+		return moduleValidationPlanMap.get(moduleName);
+	}
+
+	/**
+	 * <p>
+	 * This method initializes the <tt>FileLayout</tt> of every module from the
+	 * <tt>hfjv.file.&lt;module&gt;.*</tt> properties. A module without any
+	 * such property gets the default layout.
+	 * </p>
+	 */
+	private static void initFileLayouts()
+	{
+		final String THIS_METHOD_NAME = "initFileLayouts() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		String keyForFileOfModule = null;
+
+		for(String moduleName : listOfModules)
+		{
+			keyForFileOfModule = HFJV_BASEKEY_WITH_SEPARATOR + HFJV_BASEKEY_FILE
+								+ HFJV_KEY_SEPARATOR + moduleName + HFJV_KEY_SEPARATOR;
+
+			ArrayList<String> columns = null;
+
+			String columnsProp = _propertyUtil.getProperty(keyForFileOfModule
+																	+ HFJV_FILE_COLUMNS);
+
+			/* Not with getListOfTokens(), as an empty column has to be retained */
+			if(StringUtil.isValidString(columnsProp))
+			{
+				columns = new ArrayList<String>();
+
+				for(String column : columnsProp.split(GlobalUtil.TOKEN_SEPARATOR_COMMA, -1))
+				{
+					columns.add(column.trim());
+				}
+			}
+
+			char delimiter = getFileLayoutChar(keyForFileOfModule + HFJV_FILE_DELIMITER,
+												FileLayout.DEFAULT_DELIMITER, false);
+
+			char quote = getFileLayoutChar(keyForFileOfModule + HFJV_FILE_QUOTE,
+												FileLayout.DEFAULT_QUOTE, true);
+
+			boolean header = Boolean.parseBoolean(_propertyUtil.getProperty(
+													keyForFileOfModule + HFJV_FILE_HEADER));
+
+			Charset charset = FileLayout.DEFAULT_CHARSET;
+
+			String charsetName = _propertyUtil.getProperty(keyForFileOfModule
+																	+ HFJV_FILE_CHARSET);
+
+			if(StringUtil.isValidString(charsetName))
+			{
+				if(!Charset.isSupported(charsetName.trim()))
+				{
+					GlobalUtil.stopExecutionWithError("The charset '" + charsetName
+							+ "' configured for the module " + moduleName
+							+ " is not supported!");
+				}
+
+				charset = Charset.forName(charsetName.trim());
+			}
+
+			moduleFileLayoutMap.put(moduleName, new FileLayout(moduleName, columns,
+														delimiter, quote, header, charset));
+
+			String fixedWidthColumnsProp = _propertyUtil.getProperty(keyForFileOfModule
+														+ HFJV_FILE_FIXED_WIDTH_COLUMNS);
+
+			if(StringUtil.isValidString(fixedWidthColumnsProp))
+			{
+				moduleFixedWidthLayoutMap.put(moduleName, initFixedWidthLayout(moduleName,
+								keyForFileOfModule, fixedWidthColumnsProp, header, charset));
+			}
+		}
+
+		logger.info(THIS_METHOD_NAME + " file layouts : " + moduleFileLayoutMap.values());
+
+		logger.info(THIS_METHOD_NAME + " fixed width layouts : "
+												+ moduleFixedWidthLayoutMap.values());
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * This method initializes the <tt>FixedWidthLayout</tt> of a module from
+	 * its <tt>fixedWidthColumns</tt> (fieldName:offset:length,..) and
+	 * <tt>recordLength</tt> properties
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the name of the module
+	 *
+	 * @param keyForFileOfModule
+	 * 			the prefix of the file layout keys of the module
+	 *
+	 * @param fixedWidthColumnsProp
+	 * 			the value of the fixedWidthColumns property
+	 *
+	 * @param header
+	 * 			whether or not the first record is a header
+	 *
+	 * @param charset
+	 * 			the charset of the file
+	 *
+	 * @return
+	 * 			the layout of the module
+	 */
+	private static FixedWidthLayout initFixedWidthLayout(String moduleName,
+					String keyForFileOfModule, String fixedWidthColumnsProp,
+					boolean header, Charset charset)
+	{
+		String recordLengthProp = _propertyUtil.getProperty(keyForFileOfModule
+																+ HFJV_FILE_RECORD_LENGTH);
+
+		int recordLength = FixedWidthLayout.LINE_SEPARATED;
+
+		if(StringUtil.isValidString(recordLengthProp))
+		{
+			recordLength = getFixedWidthNumber(keyForFileOfModule + HFJV_FILE_RECORD_LENGTH,
+															recordLengthProp.trim(), 1);
+		}
+
+		ArrayList<String> columns = GlobalUtil.getListOfTokens(fixedWidthColumnsProp);
+
+		ArrayList<String> fieldNames = new ArrayList<String>();
+
+		int[] offsets = new int[columns.size()];
+
+		int[] lengths = new int[columns.size()];
+
+		String[] columnTokens = null;
+
+		for(int column = 0; column < columns.size(); column++)
+		{
+			columnTokens = columns.get(column).split(FixedWidthLayout.COLUMN_SEPARATOR, -1);
+
+			if(3 != columnTokens.length)
+			{
+				GlobalUtil.stopExecutionWithError("The fixed width column '"
+						+ columns.get(column) + "' of the module " + moduleName
+						+ " should be of the form fieldName:offset:length");
+			}
+
+			fieldNames.add(columnTokens[0].trim());
+
+			offsets[column] = getFixedWidthNumber(keyForFileOfModule
+						+ HFJV_FILE_FIXED_WIDTH_COLUMNS, columnTokens[1].trim(), 0);
+
+			lengths[column] = getFixedWidthNumber(keyForFileOfModule
+						+ HFJV_FILE_FIXED_WIDTH_COLUMNS, columnTokens[2].trim(), 1);
+
+			if(FixedWidthLayout.LINE_SEPARATED != recordLength
+					&& (long) offsets[column] + lengths[column] > recordLength)
+			{
+				GlobalUtil.stopExecutionWithError("The fixed width column '"
+						+ columns.get(column) + "' of the module " + moduleName
+						+ " exceeds the record length " + recordLength);
+			}
+		}
+
+		if(-1 == FixedWidthLayout.getSingleByte(charset, ' ')
+			|| (FixedWidthLayout.LINE_SEPARATED == recordLength
+				&& -1 == FixedWidthLayout.getSingleByte(charset, '\n')))
+		{
+			GlobalUtil.stopExecutionWithError("The fixed width records of the module "
+					+ moduleName + " cannot be read in the charset " + charset);
+		}
+
+		return new FixedWidthLayout(moduleName, fieldNames, offsets, lengths,
+														recordLength, header, charset);
+	}
+
+	/**
+	 * <p>
+	 * This method gives a number configured for a fixed width layout key
+	 * </p>
+	 *
+	 * @param key
+	 * 			the key of the property
+	 *
+	 * @param value
+	 * 			the value configured
+	 *
+	 * @param minValue
+	 * 			the minimum value allowed
+	 *
+	 * @return
+	 * 			the number configured
+	 */
+	private static int getFixedWidthNumber(String key, String value, int minValue)
+	{
+		if(!NumberUtil.isWithinRange(value, minValue, Integer.MAX_VALUE))
+		{
+			GlobalUtil.stopExecutionWithError("The value '" + value + "' of " + key
+					+ " should be a number not less than " + minValue + "!");
+		}
+
+		return Integer.parseInt(value);
+	}
+
+	/**
+	 * <p>
+	 * This method gives a single character configured for a file layout key
+	 * </p>
+	 *
+	 * @param key
+	 * 			the key of the property
+	 *
+	 * @param defaultChar
+	 * 			the character to be returned if the key is not configured
+	 *
+	 * @param emptyAllowed
+	 * 			whether or not an empty value is allowed, which then gives
+	 * 			the <tt>FileLayout.NO_QUOTE</tt>
+	 *
+	 * @return
+	 * 			the character configured
+	 */
+	private static char getFileLayoutChar(String key, char defaultChar,
+															boolean emptyAllowed)
+	{
+		String value = _propertyUtil.getProperty(key);
+
+		if(null==value)
+		{
+			return defaultChar;
+		}
+
+		if(value.isEmpty() && emptyAllowed)
+		{
+			return FileLayout.NO_QUOTE;
+		}
+
+		if(value.length() != 1)
+		{
+			GlobalUtil.stopExecutionWithError("The value '" + value + "' of " + key
+					+ " should be a single character!");
+		}
+
+		return value.charAt(0);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the <tt>FileLayout</tt> of a module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the name of the module
+	 *
+	 * @return
+	 * 			the layout of the module, null if the module is not configured
+	 */
+	public static FileLayout getFileLayout(String moduleName)
+	{
+		return moduleFileLayoutMap.get(moduleName);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the <tt>FixedWidthLayout</tt> of a module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the name of the module
+	 *
+	 * @return
+	 * 			the layout of the module, null if the module is not configured
+	 * 			with the fixed width columns
+	 */
+	public static FixedWidthLayout getFixedWidthLayout(String moduleName)
+	{
+		return moduleFixedWidthLayoutMap.get(moduleName);
 	}
 
 	/**
@@ -316,6 +760,8 @@ public class ValidatorAssembler
 
 		actOnGlobalExcludeChars();
 
+		actOnGlobalExcludeTokens();
+
 		logger.exit(THIS_METHOD_NAME);
 	}
 
@@ -357,6 +803,33 @@ public class ValidatorAssembler
 		logger.exit(THIS_METHOD_NAME);
 	}
 
+	/**
+	 * <p>
+	 * This method performs the evaluation on the tokens to be excluded globally
+	 * </p>
+	 */
+	private static void actOnGlobalExcludeTokens()
+	{
+		final String THIS_METHOD_NAME = "actOnGlobalExcludeTokens() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		String globalExcludedTokens = globalConstraintMap.get(KEY_GLOBAL_EXCLUDE_TOKENS);
+
+		if(StringUtil.isValidString(globalExcludedTokens))
+		{
+			Constraint.setGlobalExcludedTokensList(
+							GlobalUtil.getListOfTokens(globalExcludedTokens));
+		}
+		else
+		{
+			logger.info(THIS_METHOD_NAME + " Looks like there are no global"
+					+ " ExcludeTokens configured!");
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
 	/**
 	 * <p>
 	 * This method returns a true/false based on whether are there any characters present
@@ -838,12 +1311,24 @@ public class ValidatorAssembler
 							fieldObj.setExcludedCharsSet(true);
 						}
 
+						/* The pattern of a date field, for its range of dates if any */
+						if(constraintObj instanceof DateConstraint)
+						{
+							fieldObj.setFormat(valueOfFieldProp);
+						}
+
 						constraintObj.setValueToCheck(valueOfFieldProp);
 
 						fieldConstraintList.add(constraintObj);
 					}
 				}
 
+				/* Now that the field is configured fully, prepare its constraints */
+				for(Constraint fieldConstraint : fieldConstraintList)
+				{
+					fieldConstraint.prepare(fieldObj);
+				}
+
 				logger.info(THIS_METHOD_NAME + StringUtil.getRepeatedChars("#", 50));
 				logger.info(THIS_METHOD_NAME + " Field Name : "+nameOfField);
 				logger.info(THIS_METHOD_NAME + " ConstraintList : "+fieldConstraintList);
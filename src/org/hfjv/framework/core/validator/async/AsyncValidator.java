@@ -0,0 +1,351 @@
+package org.hfjv.framework.core.validator.async;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+
+/**
+ * <p>
+ * The class which validates the values of a module asynchronously, handing a
+ * <tt>CompletableFuture</tt> of the <tt>ValidationResult</tt> back to the
+ * caller at once.
+ * </p>
+ *
+ * <p>
+ * Every validation is a task of its own. On a runtime supporting the virtual
+ * threads (Java 21 onwards), the tasks run on a virtual thread per task
+ * executor, looked up reflectively. Otherwise they run on a fixed pool of
+ * daemon threads. The number of validations running at any time is bounded
+ * by a <tt>Semaphore</tt>, so that thousands of pending validations only
+ * wait, without occupying a carrier thread. No monitor is held while waiting
+ * for a permit, hence a virtual thread is NOT pinned while it waits.
+ * </p>
+ *
+ * <p>
+ * <b>Note:</b> The constraints log every evaluation only at the debug level.
+ * The log4j (1.2) appenders are <tt>synchronized</tt>, so that a virtual
+ * thread is pinned on every such log (up to Java 23) if the debug level is
+ * enabled. It is NOT to be enabled in production for the async validation.
+ * </p>
+ *
+ * <p>
+ * The cancellation is cooperative : a future cancelled before its
+ * validation starts, or while it waits for a permit, is never validated.
+ * A validation already running completes, but its result is discarded.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class AsyncValidator implements AutoCloseable
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(AsyncValidator.class);
+
+	/**
+	 * <p>
+	 * The default number of validations running at any time, being the number
+	 * of processors as a validation never blocks
+	 * </p>
+	 */
+	public static final int DEFAULT_MAX_CONCURRENCY =
+										Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * <p>
+	 * The executor on which the validations run
+	 * </p>
+	 */
+	private final ExecutorService executorService;
+
+	/**
+	 * <p>
+	 * Whether or not the executor is created (and hence to be shut down) by
+	 * this instance
+	 * </p>
+	 */
+	private final boolean isDedicatedExecutor;
+
+	/**
+	 * <p>
+	 * The permits of the validations running at any time
+	 * </p>
+	 */
+	private final Semaphore permits;
+
+	private final int maxConcurrency;
+
+	/**
+	 * <p>
+	 * A no argument constructor, with the <tt>DEFAULT_MAX_CONCURRENCY</tt>
+	 * </p>
+	 */
+	public AsyncValidator()
+	{
+		this(DEFAULT_MAX_CONCURRENCY);
+	}
+
+	/**
+	 * <p>
+	 * A single argument constructor, which creates a virtual thread per task
+	 * executor if supported, else a fixed pool of <tt>maxConcurrency</tt>
+	 * daemon threads. It is shut down by the {@link #close()} method.
+	 * </p>
+	 *
+	 * @param maxConcurrency
+	 * 					the number of validations running at any time, at least 1
+	 */
+	public AsyncValidator(int maxConcurrency)
+	{
+		this.maxConcurrency = Math.max(1, maxConcurrency);
+		this.executorService = newDefaultExecutorService(this.maxConcurrency);
+		this.isDedicatedExecutor = true;
+		this.permits = new Semaphore(this.maxConcurrency);
+	}
+
+	/**
+	 * <p>
+	 * A two argument constructor with an executor of the caller, which is NOT
+	 * shut down by the {@link #close()} method
+	 * </p>
+	 *
+	 * @param executorService
+	 * 					the executor on which the validations run
+	 *
+	 * @param maxConcurrency
+	 * 					the number of validations running at any time, at least 1
+	 */
+	public AsyncValidator(ExecutorService executorService, int maxConcurrency)
+	{
+		this.maxConcurrency = Math.max(1, maxConcurrency);
+		this.executorService = executorService;
+		this.isDedicatedExecutor = false;
+		this.permits = new Semaphore(this.maxConcurrency);
+	}
+
+	/**
+	 * <p>
+	 * This method creates a virtual thread per task executor, through the
+	 * reflection as it is available only from Java 21. A fixed pool of daemon
+	 * threads is created otherwise.
+	 * </p>
+	 *
+	 * @param poolSize
+	 * 					the size of the fixed pool, if created
+	 *
+	 * @return
+	 * 					a new executor
+	 */
+	private static ExecutorService newDefaultExecutorService(int poolSize)
+	{
+		final String THIS_METHOD_NAME = "newDefaultExecutorService() - ";
+
+		try
+		{
+			Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+			ExecutorService executorService = (ExecutorService) factoryMethod.invoke(null);
+
+			logger.info(THIS_METHOD_NAME + "validating on the virtual threads");
+
+			return executorService;
+		}
+		catch(ReflectiveOperationException | RuntimeException exception)
+		{
+			logger.info(THIS_METHOD_NAME + "virtual threads are not supported ("
+						+ exception + "). Hence, validating on " + poolSize
+						+ " platform threads");
+		}
+
+		final AtomicInteger threadCount = new AtomicInteger();
+
+		ThreadFactory threadFactory = new ThreadFactory()
+		{
+			@Override
+			public Thread newThread(Runnable runnable)
+			{
+				Thread thread = new Thread(runnable, "hfjv-async-"
+												+ threadCount.incrementAndGet());
+
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		};
+
+		return Executors.newFixedThreadPool(poolSize, threadFactory);
+	}
+
+	/**
+	 * <p>
+	 * This method validates the values of a module asynchronously, with the
+	 * <tt>FAIL_FAST</tt> policy
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param values
+	 * 					the values of the fields, keyed by the field name
+	 *
+	 * @return
+	 * 					a future of the result, completed exceptionally with a
+	 * 					<tt>ValidatorException</tt> if the module name is invalid
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(String moduleName,
+															Map<String, String> values)
+	{
+		return validateAsync(moduleName, values, ErrorPolicy.FAIL_FAST);
+	}
+
+	/**
+	 * <p>
+	 * This method validates the values of a module asynchronously
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param values
+	 * 					the values of the fields, keyed by the field name
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					a future of the result, completed exceptionally with a
+	 * 					<tt>ValidatorException</tt> if the module name is invalid,
+	 * 					or with a <tt>RejectedExecutionException</tt> if this
+	 * 					instance is closed
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(final String moduleName,
+				final Map<String, String> values, final ErrorPolicy errorPolicy)
+	{
+		final CompletableFuture<ValidationResult> resultFuture =
+												new CompletableFuture<ValidationResult>();
+
+		try
+		{
+			final Future<?> task = executorService.submit(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					runValidation(resultFuture, moduleName, values, errorPolicy);
+				}
+			});
+
+			/* Wakes the task up, if it still waits for a permit */
+			resultFuture.whenComplete(new BiConsumer<ValidationResult, Throwable>()
+			{
+				@Override
+				public void accept(ValidationResult result, Throwable throwable)
+				{
+					if(resultFuture.isCancelled())
+					{
+						task.cancel(true);
+					}
+				}
+			});
+		}
+		catch(RejectedExecutionException rejectedExecutionException)
+		{
+			resultFuture.completeExceptionally(rejectedExecutionException);
+		}
+
+		return resultFuture;
+	}
+
+	/**
+	 * <p>
+	 * This method validates the values once a permit is available, unless the
+	 * future is already cancelled, and completes the future
+	 * </p>
+	 */
+	private void runValidation(CompletableFuture<ValidationResult> resultFuture,
+			String moduleName, Map<String, String> values, ErrorPolicy errorPolicy)
+	{
+		if(resultFuture.isDone())
+		{
+			return;
+		}
+
+		try
+		{
+			permits.acquire();
+		}
+		catch(InterruptedException interruptedException)
+		{
+			resultFuture.cancel(false);
+			return;
+		}
+
+		try
+		{
+			if(!resultFuture.isDone())
+			{
+				resultFuture.complete(ValidateExecutor.validate(moduleName, values,
+																		errorPolicy));
+			}
+		}
+		catch(ValidatorException | RuntimeException exception)
+		{
+			resultFuture.completeExceptionally(exception);
+		}
+		finally
+		{
+			permits.release();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method shuts the executor down, if created by this instance. The
+	 * validations already submitted are completed.
+	 * </p>
+	 */
+	@Override
+	public void close()
+	{
+		if(isDedicatedExecutor)
+		{
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * @return the maxConcurrency
+	 */
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[AsyncValidator] "
+						+ " executorService="+this.executorService
+						+ ", maxConcurrency="+this.getMaxConcurrency()
+						+ ", availablePermits="+this.permits.availablePermits();
+	}
+}
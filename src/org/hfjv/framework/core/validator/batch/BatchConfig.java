@@ -0,0 +1,185 @@
+package org.hfjv.framework.core.validator.batch;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+
+/**
+ * <p>
+ * A POJO (Plain Old Java Object) class holding the tunables of a batch
+ * validation, used by the <tt>BatchValidator</tt>.
+ * </p>
+ *
+ * <p>
+ * If a <tt>ForkJoinPool</tt> is set, the records are validated in that pool
+ * and the <tt>parallelism</tt> is ignored. Otherwise a dedicated pool with the
+ * given <tt>parallelism</tt> is created for the batch and shut down at the end.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class BatchConfig
+{
+	/**
+	 * <p>
+	 * The default number of records validated by a single task
+	 * </p>
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+	/**
+	 * <p>
+	 * The default number of bytes of a file validated by a single task
+	 * </p>
+	 */
+	public static final int DEFAULT_FILE_CHUNK_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * <p>
+	 * The pool in which the records are to be validated. Optional.
+	 * </p>
+	 */
+	private ForkJoinPool forkJoinPool;
+
+	/**
+	 * <p>
+	 * The number of threads to be used when a dedicated pool is created.
+	 * Defaults to the number of available processors.
+	 * </p>
+	 */
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * <p>
+	 * The number of records validated by a single task. Too small a chunk
+	 * spends more on the scheduling than the validation, too big a chunk
+	 * leaves the threads idle at the end of the batch.
+	 * </p>
+	 */
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * <p>
+	 * How many errors to be collected for each record. Defaults to
+	 * <tt>FAIL_FAST</tt>.
+	 * </p>
+	 */
+	private ErrorPolicy errorPolicy = ErrorPolicy.FAIL_FAST;
+
+	/**
+	 * <p>
+	 * The number of bytes of a file validated by a single task, used only by
+	 * the <tt>ParallelFileValidator</tt>. The actual chunk ends at the first
+	 * record boundary after that many bytes.
+	 * </p>
+	 */
+	private int fileChunkSize = DEFAULT_FILE_CHUNK_SIZE;
+
+	/**
+	 * <p>
+	 * A no argument constructor with the default values
+	 * </p>
+	 */
+	public BatchConfig()
+	{
+	}
+
+	/**
+	 * <p>
+	 * A two argument constructor
+	 * </p>
+	 *
+	 * @param parallelism
+	 * 					the number of threads of the dedicated pool
+	 *
+	 * @param chunkSize
+	 * 					the number of records validated by a single task
+	 */
+	public BatchConfig(int parallelism, int chunkSize)
+	{
+		setParallelism(parallelism);
+		setChunkSize(chunkSize);
+	}
+
+	/**
+	 * @return the forkJoinPool
+	 */
+	public ForkJoinPool getForkJoinPool() {
+		return forkJoinPool;
+	}
+
+	/**
+	 * @param forkJoinPool the forkJoinPool to set
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @param parallelism the parallelism to set, at least 1
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	/**
+	 * @return the chunkSize
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * @param chunkSize the chunkSize to set, at least 1
+	 */
+	public void setChunkSize(int chunkSize) {
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	/**
+	 * @return the errorPolicy
+	 */
+	public ErrorPolicy getErrorPolicy() {
+		return errorPolicy;
+	}
+
+	/**
+	 * @param errorPolicy the errorPolicy to set, FAIL_FAST if null
+	 */
+	public void setErrorPolicy(ErrorPolicy errorPolicy) {
+		this.errorPolicy = (null!=errorPolicy) ? errorPolicy : ErrorPolicy.FAIL_FAST;
+	}
+
+	/**
+	 * @return the fileChunkSize
+	 */
+	public int getFileChunkSize() {
+		return fileChunkSize;
+	}
+
+	/**
+	 * @param fileChunkSize the fileChunkSize to set, at least 1
+	 */
+	public void setFileChunkSize(int fileChunkSize) {
+		this.fileChunkSize = Math.max(1, fileChunkSize);
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[BatchConfig] "
+						+ " forkJoinPool="+this.getForkJoinPool()
+						+ ", parallelism="+this.getParallelism()
+						+ ", chunkSize="+this.getChunkSize()
+						+ ", errorPolicy="+this.getErrorPolicy()
+						+ ", fileChunkSize="+this.getFileChunkSize();
+	}
+}
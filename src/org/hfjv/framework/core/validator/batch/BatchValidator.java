@@ -0,0 +1,304 @@
+package org.hfjv.framework.core.validator.batch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * The class which validates a batch of records of a module, spreading them
+ * over the threads of a <tt>ForkJoinPool</tt>.
+ * </p>
+ *
+ * <p>
+ * Every record is a map of field name to value, as accepted by
+ * <tt>Validator.validate(moduleName, values)</tt>. The records are validated
+ * in chunks of <tt>BatchConfig.getChunkSize()</tt> and the
+ * <tt>ValidationResult</tt> of each record is returned in the same order as
+ * the input.
+ * </p>
+ *
+ * <p>
+ * A <tt>List</tt> with a random access is split recursively in the pool.
+ * Any other <tt>Iterable</tt> is read chunk by chunk and only a limited
+ * number of chunks (twice the parallelism) are kept in flight, so that the
+ * records need NOT be loaded all at once.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class BatchValidator
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(BatchValidator.class);
+
+	/**
+	 * <p>
+	 * This method validates all the records of a module
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param records
+	 * 					the records to be validated, each being a map of the
+	 * 					field name and its value
+	 *
+	 * @param config
+	 * 					the tunables of the batch, the defaults are used if null
+	 *
+	 * @return
+	 * 					a list of the same size as the records, holding the
+	 * 					<tt>ValidationResult</tt> of every record
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<ValidationResult> validate(String moduleName,
+			Iterable<? extends Map<String, String>> records, BatchConfig config)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		if(null==config)
+		{
+			config = new BatchConfig();
+		}
+
+		logger.info(THIS_METHOD_NAME + "moduleName=" + moduleName + ", " + config);
+
+		if(null==records)
+		{
+			return new ArrayList<ValidationResult>();
+		}
+
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
+
+		if(null==plan)
+		{
+			/* same as validating a module without any fields */
+			logger.info(THIS_METHOD_NAME + "no plan found for the module " + moduleName);
+
+			plan = new ValidationPlan(moduleName, null);
+		}
+
+		ForkJoinPool pool = config.getForkJoinPool();
+
+		boolean isDedicatedPool = (null==pool);
+
+		if(isDedicatedPool)
+		{
+			pool = new ForkJoinPool(config.getParallelism());
+		}
+
+		List<ValidationResult> results = null;
+
+		try
+		{
+			if(records instanceof List && records instanceof RandomAccess)
+			{
+				List<? extends Map<String, String>> recordList =
+									(List<? extends Map<String, String>>) records;
+
+				ValidationResult[] resultArray = new ValidationResult[recordList.size()];
+
+				pool.invoke(new ChunkTask(plan, config.getErrorPolicy(), recordList,
+							resultArray, 0, recordList.size(), config.getChunkSize()));
+
+				results = new ArrayList<ValidationResult>(Arrays.asList(resultArray));
+			}
+			else
+			{
+				results = validateIterable(plan, records, config, pool);
+			}
+		}
+		finally
+		{
+			if(isDedicatedPool)
+			{
+				pool.shutdown();
+			}
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return results;
+	}
+
+	/**
+	 * <p>
+	 * This method validates the records of an <tt>Iterable</tt>, by reading
+	 * a chunk at a time and keeping a bounded number of chunks in flight.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module whose fields to be validated
+	 *
+	 * @param records
+	 * 					the records to be validated
+	 *
+	 * @param config
+	 * 					the tunables of the batch
+	 *
+	 * @param pool
+	 * 					the pool in which the chunks are validated
+	 *
+	 * @return
+	 * 					the results in the same order as the records
+	 */
+	private static List<ValidationResult> validateIterable(ValidationPlan plan,
+			Iterable<? extends Map<String, String>> records, BatchConfig config,
+			ForkJoinPool pool)
+	{
+		int chunkSize = config.getChunkSize();
+
+		int maxChunksInFlight = 2 * Math.max(1, pool.getParallelism());
+
+		List<ValidationResult> results = new ArrayList<ValidationResult>();
+
+		ArrayDeque<ChunkTask> chunksInFlight = new ArrayDeque<ChunkTask>();
+
+		ChunkTask chunkTask = null;
+
+		Iterator<? extends Map<String, String>> iterator = records.iterator();
+
+		while(iterator.hasNext())
+		{
+			List<Map<String, String>> chunk = new ArrayList<Map<String, String>>(chunkSize);
+
+			while(iterator.hasNext() && chunk.size() < chunkSize)
+			{
+				chunk.add(iterator.next());
+			}
+
+			chunkTask = new ChunkTask(plan, config.getErrorPolicy(), chunk,
+						new ValidationResult[chunk.size()], 0, chunk.size(), chunkSize);
+
+			pool.execute(chunkTask);
+
+			chunksInFlight.addLast(chunkTask);
+
+			/* Wait for the oldest chunk, keeping the input order intact */
+			if(chunksInFlight.size() >= maxChunksInFlight)
+			{
+				chunkTask = chunksInFlight.removeFirst();
+				chunkTask.join();
+				results.addAll(Arrays.asList(chunkTask.results));
+			}
+		}
+
+		while(!chunksInFlight.isEmpty())
+		{
+			chunkTask = chunksInFlight.removeFirst();
+			chunkTask.join();
+			results.addAll(Arrays.asList(chunkTask.results));
+		}
+
+		return results;
+	}
+
+	/**
+	 * <p>
+	 * A <tt>RecursiveAction</tt> which validates a range of records, splitting
+	 * it into halves until the range is not larger than the chunk size.
+	 * </p>
+	 */
+	private static class ChunkTask extends RecursiveAction
+	{
+		/**
+		 * <p>
+		 * An IDE (eclipse) generated serialVersionUID
+		 * </p>
+		 */
+		private static final long serialVersionUID = 2874019365710458413L;
+
+		private final ValidationPlan plan;
+
+		private final ErrorPolicy errorPolicy;
+
+		private final List<? extends Map<String, String>> records;
+
+		private final ValidationResult[] results;
+
+		private final int from;
+
+		private final int to;
+
+		private final int chunkSize;
+
+		/**
+		 * @param plan				the plan of the module whose fields to be validated
+		 * @param errorPolicy	how many errors to be collected for each record
+		 * @param records		the records to be validated
+		 * @param results		the array to store the results, indexed as the records
+		 * @param from			the index of the first record (inclusive)
+		 * @param to				the index of the last record (exclusive)
+		 * @param chunkSize	the maximum number of records validated without a split
+		 */
+		ChunkTask(ValidationPlan plan, ErrorPolicy errorPolicy,
+				List<? extends Map<String, String>> records,
+				ValidationResult[] results, int from, int to, int chunkSize)
+		{
+			this.plan = plan;
+			this.errorPolicy = errorPolicy;
+			this.records = records;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if(to - from <= chunkSize)
+			{
+				for(int index = from; index < to; index++)
+				{
+					results[index] = ValidateExecutor.validate(
+							new ValidationContext(plan, records.get(index)), errorPolicy);
+				}
+
+				return;
+			}
+
+			int middle = (from + to) >>> 1;
+
+			invokeAll(new ChunkTask(plan, errorPolicy, records, results, from, middle,
+																						chunkSize),
+						new ChunkTask(plan, errorPolicy, records, results, middle, to,
+																						chunkSize));
+		}
+	}
+}
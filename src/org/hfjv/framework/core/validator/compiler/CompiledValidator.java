@@ -0,0 +1,49 @@
+package org.hfjv.framework.core.validator.compiler;
+
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+
+/**
+ * <p>
+ * The interface of a validator generated by the <tt>ValidatorCompiler</tt>
+ * for the <tt>ValidationPlan</tt> of a single module.
+ * </p>
+ *
+ * <p>
+ * An implementation evaluates the working copies of the fields exactly the
+ * same way as the <tt>ValidateExecutor.validate(context, errorPolicy)</tt>
+ * does, and hence gives the identical result for the same values.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public interface CompiledValidator
+{
+	/**
+	 * <p>
+	 * A method to validate the working copies of the fields of a call
+	 * </p>
+	 *
+	 * @param fields
+	 * 				the working copies of the fields, indexed by the ordinal
+	 *
+	 * @param matchedDependencies
+	 * 				the dependency conditions matched by the values, as given by
+	 * 				the <tt>ValidationPlan.countMatchedDependencies()</tt>
+	 *
+	 * @param result
+	 * 				the result to collect the errors into
+	 *
+	 * @param maxErrors
+	 * 				the maximum number of errors to be collected
+	 */
+	public void validate(Field[] fields, int[] matchedDependencies,
+								ValidationResult result, int maxErrors);
+
+	/**
+	 * @return the plan the validator is generated for
+	 */
+	public ValidationPlan getPlan();
+}
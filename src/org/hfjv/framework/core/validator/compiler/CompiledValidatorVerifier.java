@@ -0,0 +1,355 @@
+package org.hfjv.framework.core.validator.compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.hfjv.framework.core.constraint.Constraint;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.util.NumberUtil;
+
+/**
+ * <p>
+ * An offline tool which verifies the <tt>CompiledValidator</tt> of every
+ * module configured against the <tt>ValidateExecutor</tt> walking through the
+ * <tt>ValidationPlan</tt>, which remains the reference.
+ * </p>
+ *
+ * <p>
+ * Both of them validate the same random values, under every
+ * <tt>ErrorPolicy</tt>, and should give the same <tt>ValidationResult</tt>.
+ * The values are drawn out of the values configured for the constraints of
+ * a field (and their neighbours), the edges of every number type, the values
+ * any number check has to reject, and the random strings around the lengths
+ * configured. A value is passed either as a <tt>String</tt> or as any other
+ * <tt>CharSequence</tt>, the same way to both.
+ * </p>
+ *
+ * <p>
+ * The modules are the ones of the <tt>hfjv.properties</tt> found first in the
+ * classpath. The <tt>verify/hfjv.properties</tt> of the project configures
+ * the modules covering every number type, the lengths, the ranges and the
+ * dependent fields (along with a mandatory constraint of their own).
+ * </p>
+ *
+ * <pre>
+ * java -cp verify:hfjv.jar:log4j-1.2.15.jar
+ * 		org.hfjv.framework.core.validator.compiler.CompiledValidatorVerifier 100000 7
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class CompiledValidatorVerifier
+{
+	/**
+	 * <p>
+	 * The default number of random records validated per module
+	 * </p>
+	 */
+	public static final int DEFAULT_RECORD_COUNT = 100000;
+
+	/**
+	 * <p>
+	 * The number of mismatches printed per module, at most
+	 * </p>
+	 */
+	private static final int MAX_MISMATCHES_PRINTED = 5;
+
+	/**
+	 * <p>
+	 * The values drawn for every field, whatever be its type
+	 * </p>
+	 */
+	private static final String[] COMMON_VALUES =
+	{
+		null, "", " ", "  5 ", "0", "-0", "+0", "1", "-1", "+1", "-1L", "-1l", "+-5",
+		"--1", "-", "+", "1.5", "1e3", "0x1F", "127", "128", "-128", "-129", "255",
+		"32767", "32768", "-32768", "2147483647", "2147483648", "-2147483648",
+		"999999999999999999", "1000000000000000000", "-999999999999999999",
+		"9223372036854775807", "9223372036854775808", "-9223372036854775808",
+		"12345678901234567890", "000000000000000000000042", "\u0661\u0662\u0663",
+		"\uFF11\uFF12", "abc", "A", "z", "\u00E9", "2020-01-01", "2020-13-45"
+	};
+
+	/**
+	 * <p>
+	 * The characters of the random strings
+	 * </p>
+	 */
+	private static final String RANDOM_CHARS = "abcXYZ0123456789 -+.,:#<>'\u00E9";
+
+	/**
+	 * <p>
+	 * The policies every record is validated under
+	 * </p>
+	 */
+	private static final ErrorPolicy[] ERROR_POLICIES =
+	{
+		ErrorPolicy.FAIL_FAST, ErrorPolicy.ALL_ERRORS, ErrorPolicy.maxErrors(2)
+	};
+
+	/**
+	 * <p>
+	 * A private constructor, as it is just a tool
+	 * </p>
+	 */
+	private CompiledValidatorVerifier() {}
+
+	/**
+	 * <p>
+	 * This method compiles the plan of every module configured, and verifies
+	 * each of them against the <tt>ValidateExecutor</tt>. It exits with the
+	 * status 1 if any module is NOT compiled or gives any mismatch.
+	 * </p>
+	 *
+	 * @param args
+	 * 				the number of records per module and the seed, both optional
+	 */
+	public static void main(String[] args)
+	{
+		if(args.length > 2)
+		{
+			System.err.println("Usage : CompiledValidatorVerifier [recordCount] [seed]");
+			return;
+		}
+
+		int recordCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_RECORD_COUNT;
+
+		long seed = (args.length > 1) ? Long.parseLong(args[1]) : System.nanoTime();
+
+		List<ValidationPlan> plans = new ArrayList<ValidationPlan>();
+
+		for(String moduleName : ValidatorAssembler.getListOfModules())
+		{
+			ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
+
+			if(null!=plan)
+			{
+				plans.add(plan);
+			}
+		}
+
+		Map<String, CompiledValidator> validatorMap = ValidatorCompiler.compile(plans);
+
+		Random random = new Random(seed);
+
+		int totalMismatches = 0;
+
+		for(ValidationPlan plan : plans)
+		{
+			CompiledValidator compiledValidator = validatorMap.get(plan.getModuleName());
+
+			if(null==compiledValidator)
+			{
+				System.out.println("No validator compiled for the module "
+														+ plan.getModuleName());
+				totalMismatches++;
+				continue;
+			}
+
+			int mismatches = verify(plan, compiledValidator, recordCount, random);
+
+			System.out.println("module=" + plan.getModuleName() + ", records="
+									+ recordCount + ", mismatches=" + mismatches);
+
+			totalMismatches += mismatches;
+		}
+
+		System.out.println("seed=" + seed + ", mismatches=" + totalMismatches);
+
+		if(totalMismatches > 0)
+		{
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method validates the random records of a module by both the
+	 * <tt>ValidateExecutor</tt> and the <tt>CompiledValidator</tt>, under every
+	 * <tt>ErrorPolicy</tt>, printing the first few mismatches
+	 * </p>
+	 *
+	 * @param plan
+	 * 				the plan of the module
+	 *
+	 * @param compiledValidator
+	 * 				the validator compiled for the plan
+	 *
+	 * @param recordCount
+	 * 				the number of random records
+	 *
+	 * @param random
+	 * 				the source of the random values
+	 *
+	 * @return
+	 * 				the number of results NOT the same
+	 */
+	public static int verify(ValidationPlan plan, CompiledValidator compiledValidator,
+												int recordCount, Random random)
+	{
+		int fieldCount = plan.getFieldCount();
+
+		String[][] fieldValues = new String[fieldCount][];
+
+		for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+		{
+			fieldValues[ordinal] = getCandidateValues(plan, ordinal);
+		}
+
+		String[] values = new String[fieldCount];
+
+		boolean[] asChars = new boolean[fieldCount];
+
+		int mismatches = 0;
+
+		for(int record = 0; record < recordCount; record++)
+		{
+			for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+			{
+				values[ordinal] = random.nextInt(4)==0 ? getRandomString(random)
+							: fieldValues[ordinal][random.nextInt(fieldValues[ordinal].length)];
+
+				asChars[ordinal] = random.nextBoolean();
+			}
+
+			for(ErrorPolicy errorPolicy : ERROR_POLICIES)
+			{
+				String expected = validate(plan, values, asChars, errorPolicy, null);
+
+				String actual = validate(plan, values, asChars, errorPolicy, compiledValidator);
+
+				if(!expected.equals(actual))
+				{
+					if(mismatches < MAX_MISMATCHES_PRINTED)
+					{
+						System.out.println("values=" + Arrays.toString(values)
+											+ ", errorPolicy=" + errorPolicy
+											+ System.lineSeparator() + "  interpreted : " + expected
+											+ System.lineSeparator() + "  compiled    : " + actual);
+					}
+
+					mismatches++;
+				}
+			}
+		}
+
+		return mismatches;
+	}
+
+	/**
+	 * <p>
+	 * This method validates the values given in a new context, giving the
+	 * result, or the exception thrown (say, out of a value configured that
+	 * can NOT be parsed), as a <tt>String</tt>
+	 * </p>
+	 */
+	private static String validate(ValidationPlan plan, String[] values, boolean[] asChars,
+						ErrorPolicy errorPolicy, CompiledValidator compiledValidator)
+	{
+		try
+		{
+			return ValidateExecutor.validate(newContext(plan, values, asChars), errorPolicy,
+															compiledValidator).toString();
+		}
+		catch(RuntimeException runtimeException)
+		{
+			return runtimeException.toString();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method creates a context with the values given, each of them set
+	 * either as a <tt>String</tt> or as a <tt>StringBuilder</tt>
+	 * </p>
+	 */
+	private static ValidationContext newContext(ValidationPlan plan, String[] values,
+																boolean[] asChars)
+	{
+		ValidationContext context = new ValidationContext(plan, null);
+
+		for(int ordinal = 0; ordinal < values.length; ordinal++)
+		{
+			if(asChars[ordinal] && null!=values[ordinal])
+			{
+				context.setValueChars(ordinal, new StringBuilder(values[ordinal]));
+			}
+			else
+			{
+				context.setValue(ordinal, values[ordinal]);
+			}
+		}
+
+		return context;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the values to be drawn for a field : the common ones,
+	 * and every value configured for its constraints (split on the separators
+	 * of a list and a range) with its neighbours, if it is a number
+	 * </p>
+	 */
+	private static String[] getCandidateValues(ValidationPlan plan, int ordinal)
+	{
+		List<String> candidateValues = new ArrayList<String>(Arrays.asList(COMMON_VALUES));
+
+		for(Constraint constraint : plan.getConstraints(ordinal))
+		{
+			String valueToCheck = constraint.getValueToCheck();
+
+			if(null==valueToCheck)
+			{
+				continue;
+			}
+
+			for(String token : valueToCheck.split("[,:]"))
+			{
+				token = token.trim();
+
+				candidateValues.add(token);
+				candidateValues.add("+" + token);
+				candidateValues.add(token + "x");
+
+				if(NumberUtil.isLongValue(token))
+				{
+					long number = NumberUtil.getLongValue(token);
+
+					candidateValues.add(String.valueOf(number - 1));
+					candidateValues.add(String.valueOf(number + 1));
+					candidateValues.add(String.valueOf(-number));
+					candidateValues.add(" " + number);
+				}
+			}
+		}
+
+		return candidateValues.toArray(new String[candidateValues.size()]);
+	}
+
+	/**
+	 * <p>
+	 * This method gives a random string of up to 20 characters
+	 * </p>
+	 */
+	private static String getRandomString(Random random)
+	{
+		int length = random.nextInt(21);
+
+		StringBuilder randomString = new StringBuilder(length);
+
+		for(int index = 0; index < length; index++)
+		{
+			randomString.append(RANDOM_CHARS.charAt(random.nextInt(RANDOM_CHARS.length())));
+		}
+
+		return randomString.toString();
+	}
+}
@@ -0,0 +1,1005 @@
+package org.hfjv.framework.core.validator.compiler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.constraint.Constraint;
+import org.hfjv.framework.core.constraint.length.LengthConstraint;
+import org.hfjv.framework.core.constraint.length.MaxLengthConstraint;
+import org.hfjv.framework.core.constraint.length.MinLengthConstraint;
+import org.hfjv.framework.core.constraint.type.TypeConstraint;
+import org.hfjv.framework.core.constraint.value.ValueRangeConstraint;
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.util.GlobalUtil;
+
+/**
+ * <p>
+ * The class which turns the <tt>ValidationPlan</tt> of a module into the
+ * source of a <tt>CompiledValidator</tt>, compiles it in memory through the
+ * <tt>javax.tools</tt> compiler and loads it.
+ * </p>
+ *
+ * <p>
+ * Every decision the <tt>ValidateExecutor</tt> takes for a field on every
+ * call, out of its configuration (whether or not it has got any dependent
+ * fields, is deferred, has got an excludeCharsConstraint or any constraints
+ * at all), is taken once here. The generated class holds a straight-line
+ * method per field, with only the checks on the value left in it, and the
+ * constraints in fields of their own concrete type, so that every call site
+ * sees a single class and gets inlined by the JIT. A field never evaluated
+ * does not appear at all.
+ * </p>
+ *
+ * <p>
+ * The type, the length and the numeric range checks are emitted inline, with
+ * the data type of the field and the values configured taken as the
+ * constants : no type name is compared, and no value configured is parsed,
+ * on a call. The rest of the constraints, and a value NOT fitting in a
+ * <tt>long</tt> for a range, are evaluated by the constraint itself. Either
+ * way, the same error is collected as by the constraint.
+ * </p>
+ *
+ * <p>
+ * The <tt>CompiledValidatorVerifier</tt> checks a compiled validator against
+ * the <tt>ValidateExecutor</tt> on the random values.
+ * </p>
+ *
+ * <p>
+ * The compiler is available only on a JDK. On a JRE, or if the compilation
+ * fails for any reason, nothing is generated and the modules are validated
+ * by the <tt>ValidateExecutor</tt> itself, which remains the reference.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidatorCompiler
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidatorCompiler.class);
+
+	/**
+	 * <p>
+	 * The package of the generated classes
+	 * </p>
+	 */
+	public static final String GENERATED_PACKAGE_NAME =
+									"org.hfjv.framework.core.validator.compiler.generated";
+
+	/**
+	 * <p>
+	 * The number of fields validated by a single generated method, so that no
+	 * method grows beyond the size the JIT compiles, for a large module
+	 * </p>
+	 */
+	private static final int FIELDS_PER_GROUP = 64;
+
+	private static final String INDENT = "\t";
+
+	private static final String LINE_SEPARATOR = "\n";
+
+	/**
+	 * <p>A private Constructor, as all the methods are static</p>
+	 */
+	private ValidatorCompiler() {}
+
+	/**
+	 * <p>
+	 * This method generates and compiles the validator of a single module
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module
+	 *
+	 * @return
+	 * 					the validator, null if it could NOT be compiled
+	 */
+	public static CompiledValidator compile(ValidationPlan plan)
+	{
+		return compile(Collections.singletonList(plan)).get(plan.getModuleName());
+	}
+
+	/**
+	 * <p>
+	 * This method generates the validators of all the modules and compiles
+	 * them together in a single compilation
+	 * </p>
+	 *
+	 * @param plans
+	 * 					the plans of the modules
+	 *
+	 * @return
+	 * 					the validators keyed by the module name, empty if they
+	 * 					could NOT be compiled
+	 */
+	public static Map<String, CompiledValidator> compile(Collection<ValidationPlan> plans)
+	{
+		final String THIS_METHOD_NAME = "compile() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		Map<String, CompiledValidator> validatorMap =
+										new LinkedHashMap<String, CompiledValidator>();
+
+		JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		if(null==javaCompiler)
+		{
+			logger.info(THIS_METHOD_NAME + "no java compiler available (not a JDK)."
+							+ " Hence, the modules are interpreted");
+			return validatorMap;
+		}
+
+		LinkedHashMap<String, ValidationPlan> classPlanMap =
+											new LinkedHashMap<String, ValidationPlan>();
+
+		List<JavaFileObject> sourceFiles = new ArrayList<JavaFileObject>();
+
+		int index = 0;
+
+		for(ValidationPlan plan : plans)
+		{
+			String simpleName = getSimpleClassName(plan.getModuleName(), index++);
+
+			String className = GENERATED_PACKAGE_NAME + "." + simpleName;
+
+			String source = generateSource(plan, simpleName);
+
+			logger.debug(THIS_METHOD_NAME + "generated " + className + LINE_SEPARATOR
+																		+ source);
+
+			classPlanMap.put(className, plan);
+
+			sourceFiles.add(new SourceFileObject(className, source));
+		}
+
+		if(sourceFiles.isEmpty())
+		{
+			return validatorMap;
+		}
+
+		DiagnosticCollector<JavaFileObject> diagnostics =
+										new DiagnosticCollector<JavaFileObject>();
+
+		ClassLoader parentClassLoader = ValidationPlan.class.getClassLoader();
+
+		try
+		{
+			StandardJavaFileManager standardFileManager = javaCompiler.getStandardFileManager(
+												diagnostics, null, StandardCharsets.UTF_8);
+
+			ClassFileManager fileManager = new ClassFileManager(standardFileManager);
+
+			List<String> options = new ArrayList<String>();
+
+			options.add("-classpath");
+			options.add(getClassPath());
+			options.add("-g:none");
+
+			Boolean compiled = javaCompiler.getTask(null, fileManager, diagnostics, options,
+											null, sourceFiles).call();
+
+			fileManager.close();
+
+			if(!Boolean.TRUE.equals(compiled))
+			{
+				for(Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+				{
+					logger.info(THIS_METHOD_NAME + diagnostic);
+				}
+
+				logger.info(THIS_METHOD_NAME + "compilation failed."
+								+ " Hence, the modules are interpreted");
+
+				return validatorMap;
+			}
+
+			GeneratedClassLoader classLoader = new GeneratedClassLoader(parentClassLoader,
+															fileManager.getClassBytesMap());
+
+			for(Map.Entry<String, ValidationPlan> entry : classPlanMap.entrySet())
+			{
+				Class<?> generatedClass = classLoader.loadClass(entry.getKey());
+
+				CompiledValidator validator = (CompiledValidator) generatedClass
+								.getConstructor(ValidationPlan.class)
+								.newInstance(entry.getValue());
+
+				validatorMap.put(entry.getValue().getModuleName(), validator);
+			}
+		}
+		catch(Exception | LinkageError exception)
+		{
+			logger.info(THIS_METHOD_NAME + "compilation failed (" + exception
+								+ "). Hence, the modules are interpreted");
+
+			validatorMap.clear();
+		}
+
+		logger.info(THIS_METHOD_NAME + "validators compiled for the modules : "
+														+ validatorMap.keySet());
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return validatorMap;
+	}
+
+	/**
+	 * <p>
+	 * This method generates the source of the validator of a module
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module
+	 *
+	 * @param simpleName
+	 * 					the simple name of the class to be generated
+	 *
+	 * @return
+	 * 					the source
+	 */
+	static String generateSource(ValidationPlan plan, String simpleName)
+	{
+		int fieldCount = plan.getFieldCount();
+
+		StringBuilder source = new StringBuilder(1024 + 512 * fieldCount);
+
+		line(source, 0, "package " + GENERATED_PACKAGE_NAME + ";");
+		line(source, 0, "");
+		line(source, 0, "import org.hfjv.framework.core.constraint.Constraint;");
+		line(source, 0, "import org.hfjv.framework.core.exception.ValidatorException;");
+		line(source, 0, "import org.hfjv.framework.core.field.Field;");
+		line(source, 0, "import org.hfjv.framework.core.validator.ValidateExecutor;");
+		line(source, 0, "import org.hfjv.framework.core.validator.ValidationPlan;");
+		line(source, 0, "import org.hfjv.framework.core.validator.compiler.CompiledValidator;");
+		line(source, 0, "import org.hfjv.framework.core.validator.result.ValidationResult;");
+		line(source, 0, "import org.hfjv.framework.helper.ExceptionHelper;");
+		line(source, 0, "import org.hfjv.framework.util.GlobalUtil;");
+		line(source, 0, "import org.hfjv.framework.util.NumberUtil;");
+		line(source, 0, "import org.hfjv.framework.util.StringUtil;");
+		line(source, 0, "");
+		line(source, 0, "// Generated for the module " + toComment(plan.getModuleName()));
+		line(source, 0, "public final class " + simpleName + " implements CompiledValidator");
+		line(source, 0, "{");
+		line(source, 1, "private static final long NOT_A_LONG = Long.MIN_VALUE;");
+		line(source, 0, "");
+		line(source, 1, "private final ValidationPlan plan;");
+
+		/* The constraints, in fields of their own concrete type */
+		for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+		{
+			declareConstraints(source, "c" + ordinal + "_", plan.getConstraints(ordinal));
+
+			if(plan.hasDependentFields(ordinal))
+			{
+				declareConstraints(source, "d" + ordinal + "_",
+										plan.getDependentMandatoryConstraints(ordinal));
+			}
+		}
+
+		line(source, 0, "");
+		line(source, 1, "public " + simpleName + "(ValidationPlan plan)");
+		line(source, 1, "{");
+		line(source, 2, "this.plan = plan;");
+
+		for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+		{
+			assignConstraints(source, "c" + ordinal + "_", plan.getConstraints(ordinal),
+									"plan.getConstraints(" + ordinal + ")");
+
+			if(plan.hasDependentFields(ordinal))
+			{
+				assignConstraints(source, "d" + ordinal + "_",
+								plan.getDependentMandatoryConstraints(ordinal),
+								"plan.getDependentMandatoryConstraints(" + ordinal + ")");
+			}
+		}
+
+		line(source, 1, "}");
+		line(source, 0, "");
+		line(source, 1, "public ValidationPlan getPlan()");
+		line(source, 1, "{");
+		line(source, 2, "return plan;");
+		line(source, 1, "}");
+		line(source, 0, "");
+		line(source, 1, "public void validate(Field[] fields, int[] matched,"
+										+ " ValidationResult result, int maxErrors)");
+		line(source, 1, "{");
+
+		for(int group = 0; group * FIELDS_PER_GROUP < fieldCount; group++)
+		{
+			line(source, 2, "if(!validateGroup" + group + "(fields, matched, result, maxErrors))");
+			line(source, 2, "{");
+			line(source, 3, "return;");
+			line(source, 2, "}");
+		}
+
+		line(source, 1, "}");
+
+		/*
+		 * Every group returns false once the maximum errors are collected
+		 * before a field, in which case the result is truncated, exactly as
+		 * the ValidateExecutor does at the top of its loop.
+		 */
+		for(int group = 0; group * FIELDS_PER_GROUP < fieldCount; group++)
+		{
+			line(source, 0, "");
+			line(source, 1, "private boolean validateGroup" + group + "(Field[] fields,"
+								+ " int[] matched, ValidationResult result, int maxErrors)");
+			line(source, 1, "{");
+
+			int end = Math.min(fieldCount, (group + 1) * FIELDS_PER_GROUP);
+
+			for(int ordinal = group * FIELDS_PER_GROUP; ordinal < end; ordinal++)
+			{
+				line(source, 2, "if(result.getErrorCount() >= maxErrors)");
+				line(source, 2, "{");
+				line(source, 3, "result.setTruncated(true);");
+				line(source, 3, "return false;");
+				line(source, 2, "}");
+
+				if(isEverEvaluated(plan, ordinal))
+				{
+					line(source, 2, "validate" + ordinal + "(fields[" + ordinal
+															+ "], matched, result);");
+				}
+			}
+
+			line(source, 2, "return true;");
+			line(source, 1, "}");
+		}
+
+		for(int ordinal = 0; ordinal < fieldCount; ordinal++)
+		{
+			if(isEverEvaluated(plan, ordinal))
+			{
+				generateFieldMethod(source, plan, ordinal);
+			}
+		}
+
+		generateCheckMethods(source);
+
+		line(source, 0, "}");
+
+		return source.toString();
+	}
+
+	/**
+	 * <p>
+	 * This method generates the method validating a single field, with the
+	 * decisions of the <tt>ValidateExecutor.getConstraintsToEvaluate()</tt>
+	 * taken on the configuration of the field, as below.
+	 * </p>
+	 *
+	 * <ul>
+	 * 	<li>with any dependent fields : the dependent mandatory constraints if
+	 * 		all the conditions are matched, else the constraints only if it has
+	 * 		got an excludeCharsConstraint and a value</li>
+	 * 	<li>deferred, without any excludeCharsConstraint : the constraints only
+	 * 		if it has got a value</li>
+	 * 	<li>otherwise : the constraints, always</li>
+	 * </ul>
+	 */
+	private static void generateFieldMethod(StringBuilder source, ValidationPlan plan,
+																	int ordinal)
+	{
+		boolean hasConstraints = plan.getConstraints(ordinal).length > 0;
+
+		boolean excludedCharsSet = plan.isExcludedCharsSet(ordinal);
+
+		Field field = plan.getField(ordinal);
+
+		line(source, 0, "");
+		line(source, 1, "// " + toComment(field.getName()));
+		line(source, 1, "private void validate" + ordinal
+							+ "(Field field, int[] matched, ValidationResult result)");
+		line(source, 1, "{");
+
+		if(plan.hasDependentFields(ordinal))
+		{
+			int dependencyCount = plan.getDependencyCount(ordinal);
+
+			String otherwise = "";
+
+			if(dependencyCount > 0)
+			{
+				line(source, 2, "if(null!=matched && " + dependencyCount + "==matched["
+																	+ ordinal + "])");
+				line(source, 2, "{");
+				generateEvaluation(source, 3, field, "d" + ordinal + "_",
+										plan.getDependentMandatoryConstraints(ordinal));
+				line(source, 2, "}");
+
+				otherwise = "else ";
+			}
+
+			if(excludedCharsSet && hasConstraints)
+			{
+				line(source, 2, otherwise + "if(StringUtil.isValidString(field.getValueChars()))");
+				line(source, 2, "{");
+				generateEvaluation(source, 3, field, "c" + ordinal + "_", plan.getConstraints(ordinal));
+				line(source, 2, "}");
+			}
+		}
+		else if(plan.isDeferredEvaluation(ordinal) && !excludedCharsSet)
+		{
+			line(source, 2, "if(StringUtil.isValidString(field.getValueChars()))");
+			line(source, 2, "{");
+			generateEvaluation(source, 3, field, "c" + ordinal + "_", plan.getConstraints(ordinal));
+			line(source, 2, "}");
+		}
+		else
+		{
+			generateEvaluation(source, 2, field, "c" + ordinal + "_", plan.getConstraints(ordinal));
+		}
+
+		line(source, 1, "}");
+	}
+
+	/**
+	 * <p>
+	 * This method generates the evaluation of the constraints in their order,
+	 * stopping at the first failure, which is collected into the result
+	 * </p>
+	 */
+	private static void generateEvaluation(StringBuilder source, int depth, Field field,
+										String prefix, Constraint[] constraints)
+	{
+		line(source, depth, "Constraint constraint = null;");
+		line(source, depth, "try");
+		line(source, depth, "{");
+		line(source, depth + 1, "Constraint.preEvaluateField(field);");
+
+		for(int index = 0; index < constraints.length; index++)
+		{
+			line(source, depth + 1, "constraint = " + prefix + index + ";");
+
+			if(!generateCheck(source, depth + 1, field, prefix + index, constraints[index]))
+			{
+				line(source, depth + 1, prefix + index + ".evaluate(field);");
+			}
+		}
+
+		line(source, depth, "}");
+		line(source, depth, "catch(ValidatorException validatorException)");
+		line(source, depth, "{");
+		line(source, depth + 1, "result.addError(ValidateExecutor.toValidationError(field,"
+												+ " constraint, validatorException));");
+		line(source, depth, "}");
+	}
+
+	/**
+	 * <p>
+	 * This method generates the check of a constraint inline, if it is one of
+	 * the type, the length or the range constraints (and NOT a subclass of
+	 * them) and its values configured are prepared as the constants
+	 * </p>
+	 *
+	 * @return
+	 * 				true if the check is generated, false if the constraint is
+	 * 				to be evaluated by itself
+	 */
+	private static boolean generateCheck(StringBuilder source, int depth, Field field,
+											String name, Constraint constraint)
+	{
+		Class<?> constraintClass = constraint.getClass();
+
+		if(TypeConstraint.class==constraintClass)
+		{
+			generateTypeCheck(source, depth, field, name, constraint);
+
+			return true;
+		}
+
+		if(MaxLengthConstraint.class==constraintClass
+				|| MinLengthConstraint.class==constraintClass)
+		{
+			return generateLengthCheck(source, depth, field, name, (LengthConstraint) constraint);
+		}
+
+		if(ValueRangeConstraint.class==constraintClass)
+		{
+			return generateRangeCheck(source, depth, field, name,
+												(ValueRangeConstraint) constraint);
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method generates the check of a <tt>TypeConstraint</tt>, the same
+	 * as the <tt>TypeConstraint.evaluateType()</tt> : an integral value for a
+	 * number type, within the maximum value of the type (without its sign) for
+	 * a <tt>byte</tt> to a <tt>long</tt>. Nothing is checked for any other type.
+	 * </p>
+	 */
+	private static void generateTypeCheck(StringBuilder source, int depth, Field field,
+											String name, Constraint constraint)
+	{
+		String type = field.getType();
+
+		line(source, depth, "// " + toComment(constraint.getName()) + " : " + toComment(type));
+
+		if(!GlobalUtil.isAllowedNumberType(type))
+		{
+			return;
+		}
+
+		String check = null;
+
+		if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BYTE))
+		{
+			check = "isIntegral(field.getValueChars(), " + Byte.MAX_VALUE + "L)";
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_SHORT))
+		{
+			check = "isIntegral(field.getValueChars(), " + Short.MAX_VALUE + "L)";
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_INT))
+		{
+			check = "isIntegral(field.getValueChars(), " + Integer.MAX_VALUE + "L)";
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_LONG))
+		{
+			check = "isIntegral(field.getValueChars(), " + Long.MAX_VALUE + "L)";
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BIGDECIMAL))
+		{
+			check = "NumberUtil.isValidBigInteger(field.getValueChars())";
+		}
+		else
+		{
+			/* Not checked as a number, hence -1L passes as well */
+			check = "NumberUtil.isValidBigInteger(field.getValueChars())"
+						+ " || NumberUtil.isValueMinusOne(field.getValueChars())";
+		}
+
+		line(source, depth, "if(!(" + check + "))");
+		line(source, depth, "{");
+		line(source, depth + 1, "throw ExceptionHelper.getValidatorException(field, " + name
+						+ ", \"Specified value '\" + field.getValueChars() + \"' of the field '\"");
+		line(source, depth + 3, "+ field.getDisplayName() + \"' is not a valid number\");");
+		line(source, depth, "}");
+	}
+
+	/**
+	 * <p>
+	 * This method generates the check of a <tt>MaxLengthConstraint</tt> or a
+	 * <tt>MinLengthConstraint</tt> of a <tt>String</tt> (or hexadecimal) field,
+	 * against the trimmed length of the value
+	 * </p>
+	 */
+	private static boolean generateLengthCheck(StringBuilder source, int depth, Field field,
+											String name, LengthConstraint constraint)
+	{
+		Long lengthToCheck = constraint.getPreparedLengthToCheck(field);
+
+		if(null==lengthToCheck)
+		{
+			return false;
+		}
+
+		boolean isMaxLength = constraint instanceof MaxLengthConstraint;
+
+		line(source, depth, "// " + toComment(constraint.getName()) + " : " + lengthToCheck);
+		line(source, depth, "if(StringUtil.getTrimmedLength(field.getValueChars()) "
+								+ (isMaxLength ? ">" : "<") + " " + lengthToCheck + "L)");
+		line(source, depth, "{");
+		line(source, depth + 1, "throw ExceptionHelper.getValidatorException(field, " + name
+								+ ", \"Value of field '\" + field.getDisplayName()");
+		line(source, depth + 3, "+ \"" + (isMaxLength ? "' can contain only a maximum of "
+								: "' should contain minimum of ") + lengthToCheck
+								+ " characters\");");
+		line(source, depth, "}");
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method generates the check of a <tt>ValueRangeConstraint</tt> of a
+	 * field of a number type, whose bounds fit in a <tt>long</tt>. A value NOT
+	 * fitting in a <tt>long</tt> (or an invalid one) is left to the constraint.
+	 * </p>
+	 */
+	private static boolean generateRangeCheck(StringBuilder source, int depth, Field field,
+											String name, ValueRangeConstraint constraint)
+	{
+		if(!GlobalUtil.isAllowedNumberType(field.getType()))
+		{
+			return false;
+		}
+
+		long[] bounds = constraint.getLongBounds(field);
+
+		if(null==bounds)
+		{
+			return false;
+		}
+
+		line(source, depth, "// " + toComment(constraint.getName()) + " : " + bounds[0]
+															+ ":" + bounds[1]);
+		line(source, depth, "long number = toLongValue(field.getValueChars());");
+		line(source, depth, "if(NOT_A_LONG==number)");
+		line(source, depth, "{");
+		line(source, depth + 1, name + ".evaluate(field);");
+		line(source, depth, "}");
+		line(source, depth, "else if(number < " + bounds[0] + "L || number > " + bounds[1] + "L)");
+		line(source, depth, "{");
+		line(source, depth + 1, "throw ExceptionHelper.getValidatorException(field, " + name
+									+ ", \" Value '\" + GlobalUtil.excludeSignBit(field.getValue())");
+		line(source, depth + 3, "+ \"' of the field '\" + field.getDisplayName()");
+		line(source, depth + 3, "+ \"' should be between " + bounds[0] + " and " + bounds[1]
+																			+ "\");");
+		line(source, depth, "}");
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method generates the methods scanning a value, called by the checks
+	 * generated inline
+	 * </p>
+	 */
+	private static void generateCheckMethods(StringBuilder source)
+	{
+		/* The same as the NumberUtil.isValidBigInteger(), with the digits NOT beyond the maximum */
+		line(source, 0, "");
+		line(source, 1, "private static boolean isIntegral(CharSequence value, long maxValue)");
+		line(source, 1, "{");
+		line(source, 2, "int length = (null!=value) ? value.length() : 0;");
+		line(source, 2, "int index = (length > 0 && (value.charAt(0)=='-'"
+															+ " || value.charAt(0)=='+')) ? 1 : 0;");
+		line(source, 2, "if(index==length)");
+		line(source, 2, "{");
+		line(source, 3, "return false;");
+		line(source, 2, "}");
+		line(source, 2, "long result = 0;");
+		line(source, 2, "int digit;");
+		line(source, 2, "for(; index < length; index++)");
+		line(source, 2, "{");
+		line(source, 3, "digit = Character.digit(value.charAt(index), 10);");
+		line(source, 3, "if(digit < 0 || result > (maxValue - digit) / 10)");
+		line(source, 3, "{");
+		line(source, 4, "return false;");
+		line(source, 3, "}");
+		line(source, 3, "result = result * 10 + digit;");
+		line(source, 2, "}");
+		line(source, 2, "return true;");
+		line(source, 1, "}");
+
+		/*
+		 * The same as the NormalizedValue.getLongValue() : the value without
+		 * its sign bit, if it is then a NumberUtil.isLongValue()
+		 */
+		line(source, 0, "");
+		line(source, 1, "private static long toLongValue(CharSequence value)");
+		line(source, 1, "{");
+		line(source, 2, "if(StringUtil.isInvalidString(value))");
+		line(source, 2, "{");
+		line(source, 3, "return NOT_A_LONG;");
+		line(source, 2, "}");
+		line(source, 2, "int length = value.length();");
+		line(source, 2, "int index = (value.charAt(0)=='-' || value.charAt(0)=='+') ? 1 : 0;");
+		line(source, 2, "boolean isNegative = false;");
+		line(source, 2, "if(index < length && (value.charAt(index)=='-'"
+															+ " || value.charAt(index)=='+'))");
+		line(source, 2, "{");
+		line(source, 3, "isNegative = value.charAt(index)=='-';");
+		line(source, 3, "index++;");
+		line(source, 2, "}");
+		line(source, 2, "if(index==length || length - index > NumberUtil.MAX_LONG_DIGITS)");
+		line(source, 2, "{");
+		line(source, 3, "return NOT_A_LONG;");
+		line(source, 2, "}");
+		line(source, 2, "long result = 0;");
+		line(source, 2, "int digit;");
+		line(source, 2, "for(; index < length; index++)");
+		line(source, 2, "{");
+		line(source, 3, "digit = Character.digit(value.charAt(index), 10);");
+		line(source, 3, "if(digit < 0)");
+		line(source, 3, "{");
+		line(source, 4, "return NOT_A_LONG;");
+		line(source, 3, "}");
+		line(source, 3, "result = result * 10 + digit;");
+		line(source, 2, "}");
+		line(source, 2, "return isNegative ? -result : result;");
+		line(source, 1, "}");
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a field could ever be evaluated, as per
+	 * its configuration
+	 * </p>
+	 */
+	private static boolean isEverEvaluated(ValidationPlan plan, int ordinal)
+	{
+		if(plan.hasDependentFields(ordinal))
+		{
+			return plan.getDependencyCount(ordinal) > 0
+						|| (plan.isExcludedCharsSet(ordinal)
+								&& plan.getConstraints(ordinal).length > 0);
+		}
+
+		return plan.getConstraints(ordinal).length > 0;
+	}
+
+	/**
+	 * <p>
+	 * This method declares a field for every constraint, of its concrete type
+	 * if that is accessible, else of the <tt>Constraint</tt> type
+	 * </p>
+	 */
+	private static void declareConstraints(StringBuilder source, String prefix,
+													Constraint[] constraints)
+	{
+		for(int index = 0; index < constraints.length; index++)
+		{
+			line(source, 1, "private final " + getTypeName(constraints[index]) + " "
+												+ prefix + index + ";");
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method assigns every constraint from the plan to its field
+	 * </p>
+	 */
+	private static void assignConstraints(StringBuilder source, String prefix,
+								Constraint[] constraints, String arrayExpression)
+	{
+		for(int index = 0; index < constraints.length; index++)
+		{
+			line(source, 2, prefix + index + " = (" + getTypeName(constraints[index])
+								+ ") " + arrayExpression + "[" + index + "];");
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the name of the type of a constraint, accessible from
+	 * the generated class
+	 * </p>
+	 */
+	private static String getTypeName(Constraint constraint)
+	{
+		Class<?> constraintClass = constraint.getClass();
+
+		if(Modifier.isPublic(constraintClass.getModifiers())
+				&& null!=constraintClass.getCanonicalName()
+				&& (null==constraintClass.getEnclosingClass()
+						|| Modifier.isStatic(constraintClass.getModifiers())))
+		{
+			return constraintClass.getCanonicalName();
+		}
+
+		return Constraint.class.getName();
+	}
+
+	/**
+	 * <p>
+	 * This method gives the simple name of the class generated for a module,
+	 * with the characters NOT allowed in a java identifier replaced
+	 * </p>
+	 */
+	private static String getSimpleClassName(String moduleName, int index)
+	{
+		StringBuilder simpleName = new StringBuilder("ModuleValidator").append(index)
+																	.append('_');
+
+		for(int position = 0; position < moduleName.length(); position++)
+		{
+			char character = moduleName.charAt(position);
+
+			simpleName.append(Character.isJavaIdentifierPart(character) ? character : '_');
+		}
+
+		return simpleName.toString();
+	}
+
+	/**
+	 * <p>
+	 * This method makes a name safe to be written within a line comment
+	 * </p>
+	 */
+	private static String toComment(String name)
+	{
+		return String.valueOf(name).replace('\r', ' ').replace('\n', ' ')
+									.replace("\\u", "\\ u");
+	}
+
+	/**
+	 * <p>
+	 * This method appends a line of source, indented
+	 * </p>
+	 */
+	private static void line(StringBuilder source, int depth, String text)
+	{
+		for(int level = 0; level < depth; level++)
+		{
+			source.append(INDENT);
+		}
+
+		source.append(text).append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the class path to compile the generated classes with :
+	 * that of the application, along with the location the HFJV classes are
+	 * loaded from (say, within an application server)
+	 * </p>
+	 */
+	private static String getClassPath()
+	{
+		String classPath = System.getProperty("java.class.path", "");
+
+		try
+		{
+			File location = new File(ValidationPlan.class.getProtectionDomain()
+									.getCodeSource().getLocation().toURI());
+
+			classPath = location.getPath() + File.pathSeparator + classPath;
+		}
+		catch(Exception exception)
+		{
+			logger.debug("getClassPath() - location of the HFJV classes not known : "
+																		+ exception);
+		}
+
+		return classPath;
+	}
+
+	/**
+	 * <p>
+	 * A source file held in memory
+	 * </p>
+	 */
+	private static class SourceFileObject extends SimpleJavaFileObject
+	{
+		private final String source;
+
+		SourceFileObject(String className, String source)
+		{
+			super(URI.create("string:///" + className.replace('.', '/')
+									+ Kind.SOURCE.extension), Kind.SOURCE);
+
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors)
+		{
+			return source;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A class file written into the memory
+	 * </p>
+	 */
+	private static class ClassFileObject extends SimpleJavaFileObject
+	{
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		ClassFileObject(String className)
+		{
+			super(URI.create("bytes:///" + className.replace('.', '/')
+									+ Kind.CLASS.extension), Kind.CLASS);
+		}
+
+		@Override
+		public OutputStream openOutputStream()
+		{
+			return bytes;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A file manager which writes the class files into the memory
+	 * </p>
+	 */
+	private static class ClassFileManager extends ForwardingJavaFileManager<JavaFileManager>
+	{
+		private final Map<String, ClassFileObject> classFileMap =
+										new HashMap<String, ClassFileObject>();
+
+		ClassFileManager(JavaFileManager fileManager)
+		{
+			super(fileManager);
+		}
+
+		@Override
+		public JavaFileObject getJavaFileForOutput(Location location, String className,
+										JavaFileObject.Kind kind, FileObject sibling)
+		{
+			ClassFileObject classFile = new ClassFileObject(className);
+
+			classFileMap.put(className, classFile);
+
+			return classFile;
+		}
+
+		/**
+		 * @return the bytes of every class compiled, keyed by the class name
+		 */
+		Map<String, byte[]> getClassBytesMap()
+		{
+			Map<String, byte[]> classBytesMap = new HashMap<String, byte[]>();
+
+			for(Map.Entry<String, ClassFileObject> entry : classFileMap.entrySet())
+			{
+				classBytesMap.put(entry.getKey(), entry.getValue().bytes.toByteArray());
+			}
+
+			return classBytesMap;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A class loader of the generated classes, delegating everything else to
+	 * the class loader of the HFJV classes
+	 * </p>
+	 */
+	private static class GeneratedClassLoader extends ClassLoader
+	{
+		private final Map<String, byte[]> classBytesMap;
+
+		GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classBytesMap)
+		{
+			super(parent);
+
+			this.classBytesMap = classBytesMap;
+		}
+
+		@Override
+		protected Class<?> findClass(String className)
+		throws ClassNotFoundException
+		{
+			byte[] classBytes = classBytesMap.get(className);
+
+			if(null==classBytes)
+			{
+				throw new ClassNotFoundException(className);
+			}
+
+			return defineClass(className, classBytes, 0, classBytes.length);
+		}
+	}
+}
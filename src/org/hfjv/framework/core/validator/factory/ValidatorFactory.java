@@ -18,8 +18,14 @@ public class ValidatorFactory
 	 * <p>
 	 * A private class level instance of the implementation class of the <tt>Validator</tt>
 	 * </p>
+	 *
+	 * <p>
+	 * Created along with the class, which the JVM does only once even if many
+	 * threads call the {@link #getInstance()} for the first time together,
+	 * without any lock held afterwards.
+	 * </p>
 	 */
-	public static Validator _instance = null;
+	public static Validator _instance = new DefaultValidator();
 
 	/**
 	 * A private no argument constructor for singleton purpose
@@ -35,11 +41,6 @@ public class ValidatorFactory
 	 */
 	public static Validator getInstance()
 	{
-		if(null==_instance)
-		{
-			_instance = new DefaultValidator();
-		}
-
 		return _instance;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * A reusable, zero copy <tt>CharSequence</tt> view over the bytes of a column
+ * within a <tt>ByteBuffer</tt>, so that the constraints only scanning a value
+ * (say, its length or its characters) read the bytes in place, without a
+ * <tt>String</tt> being created for every column of every record.
+ * </p>
+ *
+ * <p>
+ * Every byte is decoded through a table, hence a view is created only for a
+ * charset decoding every byte into a single character (ISO-8859-1,
+ * windows-1252 ..), or for an ASCII only column of a UTF-8 file. The
+ * <tt>toString()</tt> method decodes the bytes, only when a constraint needs
+ * the value as a <tt>String</tt>.
+ * </p>
+ *
+ * <p>
+ * A view is valid only until the next record is parsed, being moved over to
+ * the same column of that record. Like the parser holding it, an instance is
+ * NOT meant to be shared across the threads.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+final class ByteCharSequence implements CharSequence
+{
+	/**
+	 * <p>
+	 * The character of every byte, indexed by the unsigned byte. A byte
+	 * beyond the table is NOT decoded by the view.
+	 * </p>
+	 */
+	private final char[] decodeTable;
+
+	private ByteBuffer bytes = null;
+
+	private int offset = 0;
+
+	private int length = 0;
+
+	/**
+	 * @param decodeTable	the character of every byte, as given by the
+	 * 						{@link #getDecodeTable(Charset)} method
+	 */
+	ByteCharSequence(char[] decodeTable)
+	{
+		this.decodeTable = decodeTable;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the table to decode the bytes of a charset through,
+	 * one character per byte
+	 * </p>
+	 *
+	 * @param charset
+	 * 				the charset of the file
+	 *
+	 * @return
+	 * 				a table of all the 256 bytes for a single byte charset, of
+	 * 				the 128 ASCII bytes for UTF-8, null for any other charset
+	 */
+	static char[] getDecodeTable(Charset charset)
+	{
+		if(StandardCharsets.UTF_8.equals(charset))
+		{
+			char[] decodeTable = new char[128];
+
+			for(int index = 0; index < decodeTable.length; index++)
+			{
+				decodeTable[index] = (char) index;
+			}
+
+			return decodeTable;
+		}
+
+		if(!charset.canEncode() || 1.0f != charset.newEncoder().maxBytesPerChar())
+		{
+			return null;
+		}
+
+		char[] decodeTable = new char[256];
+
+		String decoded = null;
+
+		for(int index = 0; index < decodeTable.length; index++)
+		{
+			decoded = new String(new byte[] { (byte) index }, charset);
+
+			if(1 != decoded.length())
+			{
+				return null;
+			}
+
+			decodeTable[index] = decoded.charAt(0);
+		}
+
+		return decodeTable;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not every byte of a column can be decoded
+	 * by the view
+	 * </p>
+	 */
+	boolean isDecodable(ByteBuffer bytes, int offset, int length)
+	{
+		if(256==decodeTable.length)
+		{
+			return true;
+		}
+
+		for(int index = offset; index < offset + length; index++)
+		{
+			if((bytes.get(index) & 0xFF) >= decodeTable.length)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method moves the view over the bytes of a column
+	 * </p>
+	 *
+	 * @param bytes
+	 * 				the buffer holding the column
+	 *
+	 * @param offset
+	 * 				the (absolute) index of the first byte of the column
+	 *
+	 * @param length
+	 * 				the number of bytes of the column
+	 *
+	 * @return
+	 * 				this view
+	 */
+	ByteCharSequence wrap(ByteBuffer bytes, int offset, int length)
+	{
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+
+		return this;
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public char charAt(int index)
+	{
+		if(index < 0 || index >= length)
+		{
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+
+		return decodeTable[bytes.get(offset + index) & 0xFF];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		if(start < 0 || end > length || start > end)
+		{
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end
+													+ ", length " + length);
+		}
+
+		return new ByteCharSequence(decodeTable).wrap(bytes, offset + start, end - start);
+	}
+
+	@Override
+	public String toString()
+	{
+		char[] chars = new char[length];
+
+		for(int index = 0; index < length; index++)
+		{
+			chars[index] = decodeTable[bytes.get(offset + index) & 0xFF];
+		}
+
+		return new String(chars);
+	}
+}
@@ -0,0 +1,350 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+
+/**
+ * <p>
+ * An incremental parser of the delimited records, which sets the value of every
+ * column directly on the field of a single, reused <tt>ValidationContext</tt>
+ * and hands it over to a <tt>RecordHandler</tt> at the end of every record.
+ * No array or map is built per record and the only allocation is the
+ * <tt>String</tt> value of a column mapped to a field.
+ * </p>
+ *
+ * <p>
+ * The characters can be fed in any number of pieces through the
+ * {@link #parse(CharBuffer)} method, as a record or a column spanning the
+ * pieces is carried over. The {@link #finish()} method completes the last
+ * record if the input does not end with a line separator.
+ * </p>
+ *
+ * <p>
+ * The quoting follows the RFC 4180 : a quoted column can contain the delimiter
+ * and the line separators, and a quote inside it is escaped by another quote.
+ * The line separator can be any of LF, CRLF or CR. A blank line is skipped.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+class DelimitedRecordParser
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(DelimitedRecordParser.class);
+
+	/**
+	 * <p>
+	 * The byte order mark, skipped if it is the very first character
+	 * </p>
+	 */
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	/**
+	 * <p>
+	 * A handler of the records parsed
+	 * </p>
+	 */
+	interface RecordHandler
+	{
+		/**
+		 * @param context	the context holding the values of the record, which
+		 * 					is cleared and reused once this method returns
+		 */
+		void onRecord(ValidationContext context);
+	}
+
+	private final ValidationPlan plan;
+
+	private final ValidationContext context;
+
+	private final RecordHandler handler;
+
+	private final char delimiter;
+
+	private final char quote;
+
+	private final boolean quoting;
+
+	/**
+	 * <p>
+	 * The ordinal of the field of every column, -1 for a column to be ignored
+	 * </p>
+	 */
+	private int[] columnOrdinals;
+
+	private boolean headerPending;
+
+	private List<String> headerNames;
+
+	private final StringBuilder value = new StringBuilder(64);
+
+	private int column;
+
+	private boolean recordStarted;
+
+	private boolean inQuotes;
+
+	private boolean quotePending;
+
+	private boolean skipLineFeed;
+
+	private boolean atStart = true;
+
+	/**
+	 * @param plan				the plan of the module whose fields to be validated
+	 * @param layout			the layout of the file
+	 * @param columnOrdinals	the ordinal of the field of every column, null to be
+	 * 							resolved from the header
+	 * @param headerPending		whether or not the first record is a header
+	 * @param handler			the handler of the records parsed
+	 */
+	DelimitedRecordParser(ValidationPlan plan, FileLayout layout, int[] columnOrdinals,
+								boolean headerPending, RecordHandler handler)
+	{
+		this.plan = plan;
+		this.context = new ValidationContext(plan, null);
+		this.handler = handler;
+		this.delimiter = layout.getDelimiter();
+		this.quote = layout.getQuote();
+		this.quoting = (FileLayout.NO_QUOTE != layout.getQuote());
+		this.columnOrdinals = columnOrdinals;
+		this.headerPending = headerPending;
+
+		if(headerPending)
+		{
+			headerNames = new ArrayList<String>();
+		}
+
+		if(null==columnOrdinals && !headerPending)
+		{
+			logger.warn("No columns are mapped for the module " + plan.getModuleName());
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method resolves the ordinal of the field of every column
+	 * </p>
+	 *
+	 * @param plan
+	 * 				the plan of the module
+	 *
+	 * @param columnNames
+	 * 				the field name of every column, an empty one to be ignored
+	 *
+	 * @return
+	 * 				the ordinals, -1 for a column to be ignored or not configured
+	 */
+	static int[] resolveColumnOrdinals(ValidationPlan plan, List<String> columnNames)
+	{
+		final String THIS_METHOD_NAME = "resolveColumnOrdinals() - ";
+
+		int[] ordinals = new int[columnNames.size()];
+
+		String columnName = null;
+
+		for(int index = 0; index < ordinals.length; index++)
+		{
+			columnName = columnNames.get(index);
+
+			ordinals[index] = (null!=columnName && !columnName.isEmpty())
+										? plan.getOrdinal(columnName) : -1;
+
+			if(-1==ordinals[index] && null!=columnName && !columnName.isEmpty())
+			{
+				logger.info(THIS_METHOD_NAME + "the column '" + columnName
+						+ "' is not a field of the module " + plan.getModuleName()
+						+ ". Hence, ignored.");
+			}
+		}
+
+		return ordinals;
+	}
+
+	/**
+	 * <p>
+	 * This method parses the characters remaining in the buffer
+	 * </p>
+	 *
+	 * @param chars
+	 * 				the characters to be parsed, consumed fully
+	 */
+	void parse(CharBuffer chars)
+	{
+		char eachChar = ' ';
+
+		while(chars.hasRemaining())
+		{
+			eachChar = chars.get();
+
+			if(atStart)
+			{
+				atStart = false;
+
+				if(BYTE_ORDER_MARK == eachChar)
+				{
+					continue;
+				}
+			}
+
+			if(skipLineFeed)
+			{
+				skipLineFeed = false;
+
+				if('\n' == eachChar)
+				{
+					continue;
+				}
+			}
+
+			if(inQuotes)
+			{
+				if(!quotePending)
+				{
+					if(quote == eachChar)
+					{
+						quotePending = true;
+					}
+					else
+					{
+						value.append(eachChar);
+					}
+
+					continue;
+				}
+
+				quotePending = false;
+
+				/* An escaped quote */
+				if(quote == eachChar)
+				{
+					value.append(eachChar);
+					continue;
+				}
+
+				/* The quote was a closing one, this char is an unquoted one */
+				inQuotes = false;
+			}
+
+			if(delimiter == eachChar)
+			{
+				endColumn();
+				recordStarted = true;
+			}
+			else if('\n' == eachChar)
+			{
+				endRecord();
+			}
+			else if('\r' == eachChar)
+			{
+				endRecord();
+				skipLineFeed = true;
+			}
+			else if(quoting && quote == eachChar && 0==value.length())
+			{
+				inQuotes = true;
+				recordStarted = true;
+			}
+			else
+			{
+				value.append(eachChar);
+				recordStarted = true;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method completes the last record, if the input does not end with a
+	 * line separator. An unterminated quote is closed.
+	 * </p>
+	 */
+	void finish()
+	{
+		inQuotes = false;
+		quotePending = false;
+
+		endRecord();
+	}
+
+	/**
+	 * @return the ordinal of the field of every column, as configured or as
+	 * 			resolved from the header. Null if the header is not yet parsed.
+	 */
+	int[] getColumnOrdinals() {
+		return columnOrdinals;
+	}
+
+	/**
+	 * <p>
+	 * This method sets the value of the current column to its field, if mapped.
+	 * An empty column is a missing value.
+	 * </p>
+	 */
+	private void endColumn()
+	{
+		if(headerPending)
+		{
+			headerNames.add(value.toString().trim());
+		}
+		else if(null!=columnOrdinals && column < columnOrdinals.length
+				&& columnOrdinals[column] >= 0)
+		{
+			context.setValue(columnOrdinals[column],
+								(0==value.length()) ? null : value.toString());
+		}
+
+		value.setLength(0);
+
+		column++;
+	}
+
+	/**
+	 * <p>
+	 * This method completes the current record and hands it over to the handler
+	 * </p>
+	 */
+	private void endRecord()
+	{
+		/* A blank line */
+		if(!recordStarted && 0==value.length())
+		{
+			return;
+		}
+
+		endColumn();
+
+		if(headerPending)
+		{
+			headerPending = false;
+
+			if(null==columnOrdinals)
+			{
+				columnOrdinals = resolveColumnOrdinals(plan, headerNames);
+			}
+
+			headerNames = null;
+		}
+		else
+		{
+			handler.onRecord(context);
+
+			context.clearValues();
+		}
+
+		column = 0;
+		recordStarted = false;
+	}
+}
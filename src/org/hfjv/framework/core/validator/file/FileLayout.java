@@ -0,0 +1,199 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable class describing how the records of a module are laid out in
+ * a delimited file, as configured in the <tt>hfjv.properties</tt>
+ * </p>
+ *
+ * <pre>
+ * hfjv.file.&lt;module&gt;.columns=qty,code,,status
+ * hfjv.file.&lt;module&gt;.delimiter=,
+ * hfjv.file.&lt;module&gt;.quote="
+ * hfjv.file.&lt;module&gt;.header=true
+ * hfjv.file.&lt;module&gt;.charset=UTF-8
+ * </pre>
+ *
+ * <ul>
+ * 	<li><tt>columns</tt> - the field of every column, in the file order. An
+ * 		empty name ignores the column. If not configured, the columns are
+ * 		taken from the header line (if any), else from the
+ * 		<tt>hfjv.&lt;module&gt;.fields</tt> in the same order.</li>
+ * 	<li><tt>delimiter</tt> - a single character, defaults to a comma</li>
+ * 	<li><tt>quote</tt> - a single character, defaults to a double quote. An
+ * 		empty value disables the quoting.</li>
+ * 	<li><tt>header</tt> - whether or not the first line is a header, which is
+ * 		then never validated. Defaults to false.</li>
+ * 	<li><tt>charset</tt> - the charset of the file, defaults to UTF-8</li>
+ * </ul>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class FileLayout
+{
+	/**
+	 * <p>
+	 * The default delimiter of the columns
+	 * </p>
+	 */
+	public static final char DEFAULT_DELIMITER = ',';
+
+	/**
+	 * <p>
+	 * The default quote character of the columns
+	 * </p>
+	 */
+	public static final char DEFAULT_QUOTE = '"';
+
+	/**
+	 * <p>
+	 * The quote character meaning the columns are never quoted
+	 * </p>
+	 */
+	public static final char NO_QUOTE = '\0';
+
+	/**
+	 * <p>
+	 * The default charset of the file
+	 * </p>
+	 */
+	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
+
+	/**
+	 * <p>
+	 * The name of the module whose records are laid out
+	 * </p>
+	 */
+	private final String moduleName;
+
+	/**
+	 * <p>
+	 * The field name of every column, an empty one for a column to be ignored.
+	 * Null if the columns are not configured.
+	 * </p>
+	 */
+	private final List<String> columns;
+
+	private final char delimiter;
+
+	private final char quote;
+
+	private final boolean header;
+
+	private final Charset charset;
+
+	/**
+	 * <p>
+	 * A six argument constructor
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @param columns
+	 * 					the field name of every column, null if not configured
+	 *
+	 * @param delimiter
+	 * 					the delimiter of the columns
+	 *
+	 * @param quote
+	 * 					the quote character, <tt>NO_QUOTE</tt> if none
+	 *
+	 * @param header
+	 * 					whether or not the first line is a header
+	 *
+	 * @param charset
+	 * 					the charset of the file, <tt>DEFAULT_CHARSET</tt> if null
+	 */
+	public FileLayout(String moduleName, List<String> columns, char delimiter,
+						char quote, boolean header, Charset charset)
+	{
+		this.moduleName = moduleName;
+		this.columns = (null!=columns)
+					? Collections.unmodifiableList(new ArrayList<String>(columns)) : null;
+		this.delimiter = delimiter;
+		this.quote = quote;
+		this.header = header;
+		this.charset = (null!=charset) ? charset : DEFAULT_CHARSET;
+	}
+
+	/**
+	 * <p>
+	 * A factory method for the default layout of a module, being a comma
+	 * separated file without any header, whose columns are in the order of the
+	 * fields configured
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @return
+	 * 					the default layout
+	 */
+	public static FileLayout getDefault(String moduleName)
+	{
+		return new FileLayout(moduleName, null, DEFAULT_DELIMITER, DEFAULT_QUOTE,
+																false, DEFAULT_CHARSET);
+	}
+
+	/**
+	 * @return the moduleName
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return the columns, null if not configured
+	 */
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * @return the delimiter
+	 */
+	public char getDelimiter() {
+		return delimiter;
+	}
+
+	/**
+	 * @return the quote, NO_QUOTE if the columns are never quoted
+	 */
+	public char getQuote() {
+		return quote;
+	}
+
+	/**
+	 * @return whether or not the first line is a header
+	 */
+	public boolean isHeader() {
+		return header;
+	}
+
+	/**
+	 * @return the charset
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[FileLayout] "
+						+ " moduleName="+this.getModuleName()
+						+ ", columns="+this.getColumns()
+						+ ", delimiter="+this.getDelimiter()
+						+ ", quote="+(NO_QUOTE==this.getQuote() ? "" : String.valueOf(this.getQuote()))
+						+ ", header="+this.isHeader()
+						+ ", charset="+this.getCharset();
+	}
+}
@@ -0,0 +1,34 @@
+package org.hfjv.framework.core.validator.file;
+
+import org.hfjv.framework.core.validator.result.ValidationResult;
+
+/**
+ * <p>
+ * A listener which receives the <tt>ValidationResult</tt> of every record of a
+ * file as soon as it is validated, so that the results need NOT be held in the
+ * memory until the whole file is validated.
+ * </p>
+ *
+ * <p>
+ * The records are always notified in the order of the file, one at a time.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public interface FileValidationListener
+{
+	/**
+	 * <p>
+	 * A method called for every record validated
+	 * </p>
+	 *
+	 * @param recordNumber
+	 * 				the number of the record in the file starting from 1,
+	 * 				excluding the header if any
+	 *
+	 * @param result
+	 * 				the result of the validation of the record
+	 */
+	public void onRecord(long recordNumber, ValidationResult result);
+}
@@ -0,0 +1,104 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * A POJO (Plain Old Java Object) class holding the counts of a file validated,
+ * as returned by the <tt>FileValidator</tt> once the whole file is validated.
+ * The result of every record is notified to the
+ * <tt>FileValidationListener</tt> instead.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class FileValidationSummary implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -6120548837125530791L;
+
+	/**
+	 * <p>
+	 * The name of the module validated
+	 * </p>
+	 */
+	private final String moduleName;
+
+	/**
+	 * <p>
+	 * The number of records validated, excluding the header if any
+	 * </p>
+	 */
+	private final long recordCount;
+
+	/**
+	 * <p>
+	 * The number of records having at least one error
+	 * </p>
+	 */
+	private final long invalidRecordCount;
+
+	/**
+	 * <p>
+	 * A three argument constructor
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module validated
+	 *
+	 * @param recordCount
+	 * 					the number of records validated
+	 *
+	 * @param invalidRecordCount
+	 * 					the number of records having at least one error
+	 */
+	public FileValidationSummary(String moduleName, long recordCount,
+															long invalidRecordCount)
+	{
+		this.moduleName = moduleName;
+		this.recordCount = recordCount;
+		this.invalidRecordCount = invalidRecordCount;
+	}
+
+	/**
+	 * @return the moduleName
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return the recordCount
+	 */
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * @return the invalidRecordCount
+	 */
+	public long getInvalidRecordCount() {
+		return invalidRecordCount;
+	}
+
+	/**
+	 * @return the number of records without any error
+	 */
+	public long getValidRecordCount() {
+		return recordCount - invalidRecordCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[FileValidationSummary] "
+						+ " moduleName="+this.getModuleName()
+						+ ", recordCount="+this.getRecordCount()
+						+ ", invalidRecordCount="+this.getInvalidRecordCount();
+	}
+}
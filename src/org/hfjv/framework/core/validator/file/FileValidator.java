@@ -0,0 +1,562 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * The class which validates the records of a delimited file against the
+ * fields of a module, as laid out by the <tt>FileLayout</tt> of the module.
+ * </p>
+ *
+ * <p>
+ * The file is streamed through a fixed size buffer of an NIO channel and
+ * decoded incrementally, so the memory used does NOT depend on the size of the
+ * file. The result of every record is notified to the
+ * <tt>FileValidationListener</tt> as soon as it is validated, and only the
+ * counts are returned at the end.
+ * </p>
+ *
+ * <p>
+ * A module with a <tt>FixedWidthLayout</tt> is read as fixed width records
+ * instead, parsed in place over the bytes by the <tt>FixedWidthRecordParser</tt>.
+ * </p>
+ *
+ * <p>
+ * The bytes which cannot be decoded with the charset are replaced with the
+ * replacement character (U+FFFD), which is then validated as any other.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class FileValidator
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(FileValidator.class);
+
+	/**
+	 * <p>
+	 * The size of the buffers, in bytes and chars respectively
+	 * </p>
+	 */
+	public static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * <p>
+	 * This method validates all the records of a file, with the charset
+	 * configured for the module and the <tt>FAIL_FAST</tt> policy
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param file
+	 * 					the file to be validated
+	 *
+	 * @param listener
+	 * 					the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid or the file cannot be read
+	 */
+	public static FileValidationSummary validate(String moduleName, Path file,
+												FileValidationListener listener)
+	throws ValidatorException
+	{
+		return validate(moduleName, file, null, null, listener);
+	}
+
+	/**
+	 * <p>
+	 * This method validates all the records of a file
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param file
+	 * 					the file to be validated
+	 *
+	 * @param charset
+	 * 					the charset of the file, the one configured for the module
+	 * 					if null
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected for each record,
+	 * 					FAIL_FAST if null
+	 *
+	 * @param listener
+	 * 					the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid or the file cannot be read
+	 */
+	public static FileValidationSummary validate(String moduleName, Path file,
+			Charset charset, ErrorPolicy errorPolicy, FileValidationListener listener)
+	throws ValidatorException
+	{
+		if(null==file)
+		{
+			throw new ValidatorException("File cannot be null!");
+		}
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			return validate(moduleName, channel, charset, errorPolicy, listener);
+		}
+		catch(IOException ioException)
+		{
+			throw new ValidatorException("Unable to read the file " + file, ioException);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method validates all the records read from a channel, which is NOT
+	 * closed by this method. An <tt>InputStream</tt> can be passed through
+	 * <tt>java.nio.channels.Channels.newChannel()</tt>.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param channel
+	 * 					the channel to read the records from
+	 *
+	 * @param charset
+	 * 					the charset of the records, the one configured for the
+	 * 					module if null
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected for each record,
+	 * 					FAIL_FAST if null
+	 *
+	 * @param listener
+	 * 					the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid or the channel cannot be read
+	 */
+	public static FileValidationSummary validate(String moduleName,
+				ReadableByteChannel channel, Charset charset, ErrorPolicy errorPolicy,
+				FileValidationListener listener)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		ValidationPlan plan = getValidationPlan(moduleName);
+
+		FixedWidthLayout fixedWidthLayout = ValidatorAssembler.getFixedWidthLayout(moduleName);
+
+		if(null!=fixedWidthLayout)
+		{
+			FileValidationSummary summary = validateFixedWidth(plan, fixedWidthLayout,
+									channel, charset, errorPolicy, listener);
+
+			logger.exit(THIS_METHOD_NAME);
+
+			return summary;
+		}
+
+		FileLayout layout = getFileLayout(moduleName);
+
+		if(null==charset)
+		{
+			charset = layout.getCharset();
+		}
+
+		logger.info(THIS_METHOD_NAME + "moduleName=" + moduleName + ", charset="
+								+ charset + ", errorPolicy=" + errorPolicy + ", " + layout);
+
+		RecordValidator recordValidator = new RecordValidator(errorPolicy, listener);
+
+		DelimitedRecordParser parser = new DelimitedRecordParser(plan, layout,
+					getColumnOrdinals(plan, layout), layout.isHeader(), recordValidator);
+
+		CharsetDecoder decoder = newDecoder(charset);
+
+		ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+
+		CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+		boolean endOfInput = false;
+
+		try
+		{
+			while(!endOfInput)
+			{
+				endOfInput = (-1 == channel.read(bytes));
+
+				bytes.flip();
+
+				decodeAndParse(decoder, bytes, chars, endOfInput, parser);
+
+				bytes.compact();
+			}
+		}
+		catch(IOException ioException)
+		{
+			throw new ValidatorException("Unable to read the records of the module "
+															+ moduleName, ioException);
+		}
+
+		flushAndFinish(decoder, chars, parser);
+
+		FileValidationSummary summary = new FileValidationSummary(moduleName,
+						recordValidator.recordCount, recordValidator.invalidRecordCount);
+
+		logger.info(THIS_METHOD_NAME + summary);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return summary;
+	}
+
+	/**
+	 * <p>
+	 * This method validates all the fixed width records read from a channel.
+	 * The bytes are parsed in place, in a buffer large enough for a record.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module whose fields to be validated
+	 *
+	 * @param layout
+	 * 					the fixed width layout of the module
+	 *
+	 * @param channel
+	 * 					the channel to read the records from
+	 *
+	 * @param charset
+	 * 					the charset of the records, the one configured for the
+	 * 					module if null
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected for each record
+	 *
+	 * @param listener
+	 * 					the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the records cannot be read in the charset or the
+	 * 					channel cannot be read
+	 */
+	private static FileValidationSummary validateFixedWidth(ValidationPlan plan,
+				FixedWidthLayout layout, ReadableByteChannel channel, Charset charset,
+				ErrorPolicy errorPolicy, FileValidationListener listener)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validateFixedWidth() - ";
+
+		if(null==charset)
+		{
+			charset = layout.getCharset();
+		}
+
+		logger.info(THIS_METHOD_NAME + "charset=" + charset + ", errorPolicy="
+											+ errorPolicy + ", " + layout);
+
+		RecordValidator recordValidator = new RecordValidator(errorPolicy, listener);
+
+		FixedWidthRecordParser parser = new FixedWidthRecordParser(plan, layout,
+													charset, recordValidator);
+
+		ByteBuffer bytes = ByteBuffer.allocate(Math.max(BUFFER_SIZE, layout.getRecordLength()));
+
+		boolean endOfInput = false;
+
+		try
+		{
+			while(!endOfInput)
+			{
+				endOfInput = (-1 == channel.read(bytes));
+
+				bytes.flip();
+
+				parser.parse(bytes);
+
+				if(endOfInput)
+				{
+					parser.finish(bytes);
+				}
+				/* A line longer than the buffer */
+				else if(0==bytes.position() && bytes.limit()==bytes.capacity())
+				{
+					bytes = ByteBuffer.allocate(2 * bytes.capacity()).put(bytes);
+				}
+				else
+				{
+					bytes.compact();
+				}
+			}
+		}
+		catch(IOException ioException)
+		{
+			throw new ValidatorException("Unable to read the records of the module "
+													+ plan.getModuleName(), ioException);
+		}
+
+		FileValidationSummary summary = new FileValidationSummary(plan.getModuleName(),
+						recordValidator.recordCount, recordValidator.invalidRecordCount);
+
+		logger.info(THIS_METHOD_NAME + summary);
+
+		return summary;
+	}
+
+	/**
+	 * <p>
+	 * This method gives a new decoder of the charset, which replaces the bytes
+	 * that cannot be decoded
+	 * </p>
+	 *
+	 * @param charset
+	 * 					the charset of the records
+	 *
+	 * @return
+	 * 					a new decoder
+	 */
+	static CharsetDecoder newDecoder(Charset charset)
+	{
+		return charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	/**
+	 * <p>
+	 * This method decodes the bytes remaining in the buffer and parses the chars
+	 * decoded. An overflow of the chars leaves the rest of the bytes to be
+	 * decoded, after the chars are parsed.
+	 * </p>
+	 *
+	 * @param decoder
+	 * 					the decoder of the charset
+	 *
+	 * @param bytes
+	 * 					the bytes to be decoded
+	 *
+	 * @param chars
+	 * 					an empty buffer to decode the chars into
+	 *
+	 * @param endOfInput
+	 * 					whether or not there are no more bytes to follow
+	 *
+	 * @param parser
+	 * 					the parser of the chars
+	 */
+	static void decodeAndParse(CharsetDecoder decoder, ByteBuffer bytes,
+						CharBuffer chars, boolean endOfInput, DelimitedRecordParser parser)
+	{
+		CoderResult coderResult = null;
+
+		do
+		{
+			coderResult = decoder.decode(bytes, chars, endOfInput);
+
+			chars.flip();
+			parser.parse(chars);
+			chars.clear();
+		}
+		while(coderResult.isOverflow());
+	}
+
+	/**
+	 * <p>
+	 * This method flushes the decoder at the end of the input, parses the chars
+	 * flushed and completes the last record
+	 * </p>
+	 *
+	 * @param decoder
+	 * 					the decoder of the charset
+	 *
+	 * @param chars
+	 * 					an empty buffer to flush the chars into
+	 *
+	 * @param parser
+	 * 					the parser of the chars
+	 */
+	static void flushAndFinish(CharsetDecoder decoder, CharBuffer chars,
+														DelimitedRecordParser parser)
+	{
+		CoderResult coderResult = null;
+
+		do
+		{
+			coderResult = decoder.flush(chars);
+
+			chars.flip();
+			parser.parse(chars);
+			chars.clear();
+		}
+		while(coderResult.isOverflow());
+
+		parser.finish();
+	}
+
+	/**
+	 * <p>
+	 * This method gives the plan of the module, an empty one if the module is
+	 * not configured (same as the <tt>BatchValidator</tt>)
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @return
+	 * 					the plan of the module
+	 */
+	static ValidationPlan getValidationPlan(String moduleName)
+	{
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
+
+		return (null!=plan) ? plan : new ValidationPlan(moduleName, null);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the layout of the module, the default one if the module
+	 * is not configured
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @return
+	 * 					the layout of the module
+	 */
+	static FileLayout getFileLayout(String moduleName)
+	{
+		FileLayout layout = ValidatorAssembler.getFileLayout(moduleName);
+
+		return (null!=layout) ? layout : FileLayout.getDefault(moduleName);
+	}
+
+	/**
+	 * <p>
+	 * This method resolves the ordinal of the field of every column, from the
+	 * columns configured or else from the fields configured for the module.
+	 * </p>
+	 *
+	 * @param plan
+	 * 					the plan of the module
+	 *
+	 * @param layout
+	 * 					the layout of the module
+	 *
+	 * @return
+	 * 					the ordinals, null if to be resolved from the header
+	 */
+	static int[] getColumnOrdinals(ValidationPlan plan, FileLayout layout)
+	{
+		List<String> columns = layout.getColumns();
+
+		if(null==columns)
+		{
+			if(layout.isHeader())
+			{
+				return null;
+			}
+
+			columns = ValidatorAssembler.getModuleFieldsMap().get(plan.getModuleName());
+
+			if(null==columns)
+			{
+				return new int[0];
+			}
+		}
+
+		return DelimitedRecordParser.resolveColumnOrdinals(plan, columns);
+	}
+
+	/**
+	 * <p>
+	 * A <tt>RecordHandler</tt> which validates every record parsed, counts it
+	 * and notifies the listener
+	 * </p>
+	 */
+	static class RecordValidator implements DelimitedRecordParser.RecordHandler
+	{
+		private final ErrorPolicy errorPolicy;
+
+		private final FileValidationListener listener;
+
+		long recordCount;
+
+		long invalidRecordCount;
+
+		/**
+		 * @param errorPolicy	how many errors to be collected for each record
+		 * @param listener	the listener of the result of every record
+		 */
+		RecordValidator(ErrorPolicy errorPolicy, FileValidationListener listener)
+		{
+			this.errorPolicy = errorPolicy;
+			this.listener = listener;
+		}
+
+		@Override
+		public void onRecord(ValidationContext context)
+		{
+			ValidationResult result = ValidateExecutor.validate(context, errorPolicy);
+
+			recordCount++;
+
+			if(!result.isValid())
+			{
+				invalidRecordCount++;
+			}
+
+			if(null!=listener)
+			{
+				listener.onRecord(recordCount, result);
+			}
+		}
+	}
+}
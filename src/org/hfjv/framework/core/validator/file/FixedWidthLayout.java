@@ -0,0 +1,221 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable class describing how the records of a module are laid out in
+ * a fixed width file, as configured in the <tt>hfjv.properties</tt>
+ * </p>
+ *
+ * <pre>
+ * hfjv.file.&lt;module&gt;.fixedWidthColumns=qty:0:5,code:5:8,status:13:3
+ * hfjv.file.&lt;module&gt;.recordLength=16
+ * hfjv.file.&lt;module&gt;.header=false
+ * hfjv.file.&lt;module&gt;.charset=Cp1047
+ * </pre>
+ *
+ * <ul>
+ * 	<li><tt>fixedWidthColumns</tt> - the field, offset and length of every
+ * 		column, separated by a colon. The offset and the length are in bytes.
+ * 		The bytes NOT covered by any column are ignored.</li>
+ * 	<li><tt>recordLength</tt> - the length of every record in bytes, for the
+ * 		files without any line separator. If not configured, every line is a
+ * 		record.</li>
+ * 	<li><tt>header</tt> - whether or not the first record is a header, which is
+ * 		then never validated. Defaults to false.</li>
+ * 	<li><tt>charset</tt> - the charset of the file, defaults to UTF-8. The
+ * 		space (and the line feed, if there is no record length) must be a
+ * 		single byte in it.</li>
+ * </ul>
+ *
+ * <p>
+ * The padding spaces on both the sides of a column are NOT part of the value,
+ * and a column full of spaces is a missing value.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class FixedWidthLayout
+{
+	/**
+	 * <p>
+	 * The record length meaning every line is a record
+	 * </p>
+	 */
+	public static final int LINE_SEPARATED = 0;
+
+	/**
+	 * <p>
+	 * The separator of the field name, offset and length of a column, as
+	 * configured
+	 * </p>
+	 */
+	public static final String COLUMN_SEPARATOR = ":";
+
+	/**
+	 * <p>
+	 * The name of the module whose records are laid out
+	 * </p>
+	 */
+	private final String moduleName;
+
+	/**
+	 * <p>
+	 * The field name of every column
+	 * </p>
+	 */
+	private final List<String> columns;
+
+	private final int[] offsets;
+
+	private final int[] lengths;
+
+	private final int recordLength;
+
+	private final boolean header;
+
+	private final Charset charset;
+
+	/**
+	 * <p>
+	 * A seven argument constructor
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module
+	 *
+	 * @param columns
+	 * 					the field name of every column
+	 *
+	 * @param offsets
+	 * 					the offset of every column in bytes
+	 *
+	 * @param lengths
+	 * 					the length of every column in bytes
+	 *
+	 * @param recordLength
+	 * 					the length of every record in bytes,
+	 * 					<tt>LINE_SEPARATED</tt> if every line is a record
+	 *
+	 * @param header
+	 * 					whether or not the first record is a header
+	 *
+	 * @param charset
+	 * 					the charset of the file,
+	 * 					<tt>FileLayout.DEFAULT_CHARSET</tt> if null
+	 */
+	public FixedWidthLayout(String moduleName, List<String> columns, int[] offsets,
+				int[] lengths, int recordLength, boolean header, Charset charset)
+	{
+		this.moduleName = moduleName;
+		this.columns = Collections.unmodifiableList(new ArrayList<String>(columns));
+		this.offsets = offsets.clone();
+		this.lengths = lengths.clone();
+		this.recordLength = recordLength;
+		this.header = header;
+		this.charset = (null!=charset) ? charset : FileLayout.DEFAULT_CHARSET;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the single byte encoding a character in a charset
+	 * </p>
+	 *
+	 * @param charset
+	 * 					the charset
+	 *
+	 * @param character
+	 * 					the character to be encoded
+	 *
+	 * @return
+	 * 					the byte (0 to 255), -1 if the character is NOT encoded
+	 * 					as a single byte
+	 */
+	public static int getSingleByte(Charset charset, char character)
+	{
+		if(!charset.canEncode())
+		{
+			return -1;
+		}
+
+		byte[] bytes = String.valueOf(character).getBytes(charset);
+
+		return (1 == bytes.length) ? (bytes[0] & 0xFF) : -1;
+	}
+
+	/**
+	 * @return the moduleName
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return the field name of every column
+	 */
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * @param column the index of the column
+	 * @return the offset of the column in bytes
+	 */
+	public int getOffset(int column) {
+		return offsets[column];
+	}
+
+	/**
+	 * @param column the index of the column
+	 * @return the length of the column in bytes
+	 */
+	public int getLength(int column) {
+		return lengths[column];
+	}
+
+	/**
+	 * @return the recordLength, LINE_SEPARATED if every line is a record
+	 */
+	public int getRecordLength() {
+		return recordLength;
+	}
+
+	/**
+	 * @return whether or not the first record is a header
+	 */
+	public boolean isHeader() {
+		return header;
+	}
+
+	/**
+	 * @return the charset
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder columnsInfo = new StringBuilder("[");
+
+		for(int column = 0; column < columns.size(); column++)
+		{
+			columnsInfo.append((column > 0) ? ", " : "").append(columns.get(column))
+						.append(':').append(offsets[column])
+						.append(':').append(lengths[column]);
+		}
+
+		return "[FixedWidthLayout] "
+						+ " moduleName="+this.getModuleName()
+						+ ", columns="+columnsInfo.append(']')
+						+ ", recordLength="+this.getRecordLength()
+						+ ", header="+this.isHeader()
+						+ ", charset="+this.getCharset();
+	}
+}
@@ -0,0 +1,325 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+
+/**
+ * <p>
+ * An incremental parser of the fixed width records, which works directly on
+ * the bytes of a <tt>ByteBuffer</tt>. Every column is located by its offset
+ * within the record, its padding is skipped over the bytes and the rest is
+ * set as the value of its field on a single, reused <tt>ValidationContext</tt>.
+ * </p>
+ *
+ * <p>
+ * For a charset of a single byte per character, or an ASCII only column of
+ * a UTF-8 file, the value is a <tt>ByteCharSequence</tt> view over the bytes
+ * of the buffer, reused for the same column of every record. No
+ * <tt>String</tt> is created for it unless a constraint needs one. A column of
+ * any other charset is decoded, straight from the buffer, into a
+ * <tt>String</tt>.
+ * </p>
+ *
+ * <p>
+ * No line, record or column is copied before that, a column full of padding
+ * is a missing value without any decoding, and the bytes of a column NOT
+ * mapped to a field of the module are never looked at.
+ * </p>
+ *
+ * <p>
+ * The {@link #parse(ByteBuffer)} method consumes all the complete records of
+ * the buffer and leaves an incomplete one to be carried over to the next
+ * buffer. The {@link #finish(ByteBuffer)} method completes the last record.
+ * </p>
+ *
+ * <p>
+ * <b>Note:</b> It needs Java 13 or later, for the absolute bulk
+ * <tt>ByteBuffer.get(int, byte[], int, int)</tt> of a buffer NOT backed by an
+ * array.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+class FixedWidthRecordParser
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(FixedWidthRecordParser.class);
+
+	private final FixedWidthLayout layout;
+
+	private final Charset charset;
+
+	private final ValidationContext context;
+
+	private final DelimitedRecordParser.RecordHandler handler;
+
+	/**
+	 * <p>
+	 * The ordinal of the field of every column, -1 for a column to be ignored
+	 * </p>
+	 */
+	private final int[] columnOrdinals;
+
+	private final int recordLength;
+
+	private final int padByte;
+
+	private final int lineFeed;
+
+	private final int carriageReturn;
+
+	private boolean headerPending;
+
+	/**
+	 * <p>
+	 * The view over the bytes of every column, null if the charset cannot be
+	 * decoded by a view
+	 * </p>
+	 */
+	private final ByteCharSequence[] columnValues;
+
+	/**
+	 * <p>
+	 * A buffer to copy the bytes of a column into, only if the
+	 * <tt>ByteBuffer</tt> is NOT backed by an array (say, memory mapped)
+	 * </p>
+	 */
+	private byte[] valueBytes = new byte[64];
+
+	/**
+	 * @param plan		the plan of the module whose fields to be validated
+	 * @param layout	the layout of the file
+	 * @param charset	the charset of the file
+	 * @param handler	the handler of the records parsed
+	 *
+	 * @throws ValidatorException
+	 * 					if the space, or the line feed of a line separated file,
+	 * 					is NOT a single byte in the charset
+	 */
+	FixedWidthRecordParser(ValidationPlan plan, FixedWidthLayout layout, Charset charset,
+							DelimitedRecordParser.RecordHandler handler)
+	throws ValidatorException
+	{
+		this.layout = layout;
+		this.charset = charset;
+		this.context = new ValidationContext(plan, null);
+		this.handler = handler;
+		this.columnOrdinals = DelimitedRecordParser.resolveColumnOrdinals(plan,
+																layout.getColumns());
+		this.recordLength = layout.getRecordLength();
+		this.padByte = FixedWidthLayout.getSingleByte(charset, ' ');
+		this.lineFeed = FixedWidthLayout.getSingleByte(charset, '\n');
+		this.carriageReturn = FixedWidthLayout.getSingleByte(charset, '\r');
+		this.headerPending = layout.isHeader();
+
+		char[] decodeTable = ByteCharSequence.getDecodeTable(charset);
+
+		if(null!=decodeTable)
+		{
+			this.columnValues = new ByteCharSequence[columnOrdinals.length];
+
+			for(int column = 0; column < columnValues.length; column++)
+			{
+				columnValues[column] = new ByteCharSequence(decodeTable);
+			}
+		}
+		else
+		{
+			this.columnValues = null;
+		}
+
+		if(-1==padByte || (FixedWidthLayout.LINE_SEPARATED==recordLength && -1==lineFeed))
+		{
+			throw new ValidatorException("The fixed width records of the module "
+						+ plan.getModuleName() + " cannot be read in the charset "
+						+ charset);
+		}
+
+		logger.info("FixedWidthRecordParser() - columnOrdinals="
+								+ Arrays.toString(columnOrdinals)
+								+ ", valueViews=" + (null!=columnValues));
+	}
+
+	/**
+	 * <p>
+	 * This method parses all the complete records remaining in the buffer. The
+	 * position of the buffer is left at the start of the incomplete record,
+	 * if any.
+	 * </p>
+	 *
+	 * @param bytes
+	 * 				the bytes to be parsed
+	 */
+	void parse(ByteBuffer bytes)
+	{
+		int start = bytes.position();
+
+		int limit = bytes.limit();
+
+		if(FixedWidthLayout.LINE_SEPARATED != recordLength)
+		{
+			while(limit - start >= recordLength)
+			{
+				endRecord(bytes, start, recordLength);
+
+				start += recordLength;
+			}
+
+			bytes.position(start);
+
+			return;
+		}
+
+		int end = 0;
+
+		for(int index = start; index < limit; index++)
+		{
+			if(lineFeed == (bytes.get(index) & 0xFF))
+			{
+				end = index;
+
+				if(end > start && carriageReturn == (bytes.get(end - 1) & 0xFF))
+				{
+					end--;
+				}
+
+				endRecord(bytes, start, end - start);
+
+				start = index + 1;
+			}
+		}
+
+		bytes.position(start);
+	}
+
+	/**
+	 * <p>
+	 * This method completes the last record with the bytes remaining in the
+	 * buffer, if the input does not end with a complete record. The line
+	 * separators left after the last record are ignored.
+	 * </p>
+	 *
+	 * @param bytes
+	 * 				the bytes remaining after the last {@link #parse(ByteBuffer)}
+	 */
+	void finish(ByteBuffer bytes)
+	{
+		int start = bytes.position();
+
+		int end = bytes.limit();
+
+		while(end > start && (lineFeed == (bytes.get(end - 1) & 0xFF)
+							|| carriageReturn == (bytes.get(end - 1) & 0xFF)))
+		{
+			end--;
+		}
+
+		endRecord(bytes, start, end - start);
+
+		bytes.position(bytes.limit());
+	}
+
+	/**
+	 * <p>
+	 * This method sets the value of every column of the record to its field and
+	 * hands the record over to the handler. An empty line is skipped.
+	 * </p>
+	 */
+	private void endRecord(ByteBuffer bytes, int start, int length)
+	{
+		if(0==length)
+		{
+			return;
+		}
+
+		if(headerPending)
+		{
+			headerPending = false;
+			return;
+		}
+
+		for(int column = 0; column < columnOrdinals.length; column++)
+		{
+			if(columnOrdinals[column] >= 0)
+			{
+				context.setValueChars(columnOrdinals[column],
+									getValue(bytes, start, length, column));
+			}
+		}
+
+		handler.onRecord(context);
+
+		context.clearValues();
+	}
+
+	/**
+	 * <p>
+	 * This method gives the value of a column, without its padding, as a view
+	 * over its bytes if possible, else decoded into a <tt>String</tt>. A column
+	 * cut short by a short record takes the bytes available.
+	 * </p>
+	 *
+	 * @return
+	 * 				the value, null if the column is missing or full of padding
+	 */
+	private CharSequence getValue(ByteBuffer bytes, int start, int length, int column)
+	{
+		int offset = layout.getOffset(column);
+
+		if(offset >= length)
+		{
+			return null;
+		}
+
+		int from = start + offset;
+
+		int to = start + Math.min(length, offset + layout.getLength(column));
+
+		while(from < to && padByte == (bytes.get(from) & 0xFF))
+		{
+			from++;
+		}
+
+		while(to > from && padByte == (bytes.get(to - 1) & 0xFF))
+		{
+			to--;
+		}
+
+		if(from==to)
+		{
+			return null;
+		}
+
+		if(null!=columnValues && columnValues[column].isDecodable(bytes, from, to - from))
+		{
+			return columnValues[column].wrap(bytes, from, to - from);
+		}
+
+		if(bytes.hasArray())
+		{
+			return new String(bytes.array(), bytes.arrayOffset() + from, to - from, charset);
+		}
+
+		if(valueBytes.length < to - from)
+		{
+			valueBytes = new byte[Math.max(to - from, 2 * valueBytes.length)];
+		}
+
+		bytes.get(from, valueBytes, 0, to - from);
+
+		return new String(valueBytes, 0, to - from, charset);
+	}
+}
@@ -0,0 +1,725 @@
+package org.hfjv.framework.core.validator.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.core.validator.batch.BatchConfig;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * The class which validates a large delimited file over the threads of a
+ * <tt>ForkJoinPool</tt>, by splitting it into chunks at the record boundaries.
+ * Every chunk is memory mapped, decoded and validated on its own, and the
+ * results are notified to the <tt>FileValidationListener</tt> in the order of
+ * the file, on the calling thread.
+ * </p>
+ *
+ * <p>
+ * A chunk ends at the first line feed after <tt>BatchConfig.getFileChunkSize()</tt>
+ * bytes, which is NOT within a quoted column. To know that, the quotes of
+ * every chunk are counted in parallel first (only if the quoting is enabled),
+ * assuming the quotes are used as per the RFC 4180. Only a limited number of
+ * chunks (twice the parallelism) are kept in flight and only the invalid
+ * results are held until they are notified.
+ * </p>
+ *
+ * <p>
+ * The file is validated sequentially by the <tt>FileValidator</tt> instead, if
+ * it is not larger than a chunk, if there is a single thread, if the line
+ * feed and the quote are NOT single bytes in the charset (say, UTF-16), or if
+ * the module is laid out as fixed width records.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ParallelFileValidator
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ParallelFileValidator.class);
+
+	/**
+	 * <p>
+	 * The size of the buffer used to look for a record boundary
+	 * </p>
+	 */
+	private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+	/**
+	 * <p>
+	 * This method validates all the records of a file
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param file
+	 * 					the file to be validated
+	 *
+	 * @param charset
+	 * 					the charset of the file, the one configured for the module
+	 * 					if null
+	 *
+	 * @param config
+	 * 					the pool, parallelism, file chunk size and error policy,
+	 * 					the defaults are used if null
+	 *
+	 * @param listener
+	 * 					the listener of the result of every record, can be null
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid or the file cannot be read
+	 */
+	public static FileValidationSummary validate(String moduleName, Path file,
+			Charset charset, BatchConfig config, FileValidationListener listener)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		if(null==file)
+		{
+			throw new ValidatorException("File cannot be null!");
+		}
+
+		if(null==config)
+		{
+			config = new BatchConfig();
+		}
+
+		ValidationPlan plan = FileValidator.getValidationPlan(moduleName);
+
+		FileLayout layout = FileValidator.getFileLayout(moduleName);
+
+		if(null==charset)
+		{
+			charset = layout.getCharset();
+		}
+
+		FileValidationSummary summary = null;
+
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			ForkJoinPool pool = config.getForkJoinPool();
+
+			int parallelism = (null!=pool) ? pool.getParallelism() : config.getParallelism();
+
+			if(channel.size() <= config.getFileChunkSize() || parallelism < 2
+					|| !isSplittable(charset, layout)
+					|| null!=ValidatorAssembler.getFixedWidthLayout(moduleName))
+			{
+				logger.info(THIS_METHOD_NAME + "validating the file " + file
+														+ " sequentially");
+
+				return FileValidator.validate(moduleName, channel, charset,
+												config.getErrorPolicy(), listener);
+			}
+
+			logger.info(THIS_METHOD_NAME + "moduleName=" + moduleName + ", file=" + file
+							+ ", charset=" + charset + ", " + config + ", " + layout);
+
+			boolean isDedicatedPool = (null==pool);
+
+			if(isDedicatedPool)
+			{
+				pool = new ForkJoinPool(config.getParallelism());
+			}
+
+			try
+			{
+				summary = validateChunks(plan, layout, channel, charset, config,
+																pool, listener);
+			}
+			finally
+			{
+				if(isDedicatedPool)
+				{
+					pool.shutdown();
+				}
+			}
+		}
+		catch(IOException ioException)
+		{
+			throw new ValidatorException("Unable to read the file " + file, ioException);
+		}
+		catch(UncheckedIOException uncheckedIOException)
+		{
+			throw new ValidatorException("Unable to read the file " + file,
+												uncheckedIOException.getCause());
+		}
+
+		logger.info(THIS_METHOD_NAME + summary);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return summary;
+	}
+
+	/**
+	 * <p>
+	 * This method checks whether or not the file can be split at the record
+	 * boundaries by looking at the bytes, being the line feed and the quote
+	 * encoded as the same single bytes as in ASCII, which never occur inside
+	 * the encoding of any other character.
+	 * </p>
+	 *
+	 * @param charset
+	 * 					the charset of the file
+	 *
+	 * @param layout
+	 * 					the layout of the file
+	 *
+	 * @return
+	 * 					true if the file can be split, false otherwise
+	 */
+	private static boolean isSplittable(Charset charset, FileLayout layout)
+	{
+		if(!charset.canEncode())
+		{
+			return false;
+		}
+
+		/* In UTF-8, the bytes of a multi byte character are never ASCII */
+		if(!StandardCharsets.UTF_8.equals(charset)
+				&& charset.newEncoder().maxBytesPerChar() != 1)
+		{
+			return false;
+		}
+
+		if(!Arrays.equals(new byte[] {'\n'}, "\n".getBytes(charset)))
+		{
+			return false;
+		}
+
+		char quote = layout.getQuote();
+
+		return (FileLayout.NO_QUOTE == quote) || (quote < 0x80
+				&& Arrays.equals(new byte[] {(byte) quote},
+									String.valueOf(quote).getBytes(charset)));
+	}
+
+	/**
+	 * <p>
+	 * This method splits the file into chunks, validates them in the pool and
+	 * notifies the results in the order of the file
+	 * </p>
+	 *
+	 * @return
+	 * 					the counts of the records validated
+	 *
+	 * @throws IOException
+	 * 					if the file cannot be read
+	 */
+	private static FileValidationSummary validateChunks(ValidationPlan plan,
+			FileLayout layout, FileChannel channel, Charset charset, BatchConfig config,
+			ForkJoinPool pool, FileValidationListener listener)
+	throws IOException
+	{
+		final String THIS_METHOD_NAME = "validateChunks() - ";
+
+		long dataStart = 0;
+
+		int[] columnOrdinals = FileValidator.getColumnOrdinals(plan, layout);
+
+		if(layout.isHeader())
+		{
+			dataStart = findRecordEnd(channel, 0, false, layout);
+
+			if(null==columnOrdinals)
+			{
+				columnOrdinals = parseHeader(plan, layout, channel, dataStart, charset);
+			}
+		}
+
+		long[] boundaries = getChunkBoundaries(channel, dataStart,
+										config.getFileChunkSize(), layout, pool);
+
+		logger.info(THIS_METHOD_NAME + (boundaries.length - 1) + " chunks");
+
+		ChunkMerger merger = new ChunkMerger(plan.getModuleName(), listener);
+
+		ArrayDeque<FileChunkTask> chunksInFlight = new ArrayDeque<FileChunkTask>();
+
+		int maxChunksInFlight = 2 * Math.max(1, pool.getParallelism());
+
+		FileChunkTask chunkTask = null;
+
+		try
+		{
+			for(int index = 0; index < boundaries.length - 1; index++)
+			{
+				/* A record spanning over the nominal chunks */
+				if(boundaries[index] >= boundaries[index + 1])
+				{
+					continue;
+				}
+
+				chunkTask = new FileChunkTask(plan, layout, columnOrdinals, charset,
+							config.getErrorPolicy(), channel, boundaries[index],
+							boundaries[index + 1], (null!=listener));
+
+				pool.execute(chunkTask);
+
+				chunksInFlight.addLast(chunkTask);
+
+				/* Wait for the oldest chunk, keeping the file order intact */
+				if(chunksInFlight.size() >= maxChunksInFlight)
+				{
+					merger.merge(chunksInFlight.removeFirst());
+				}
+			}
+
+			while(!chunksInFlight.isEmpty())
+			{
+				merger.merge(chunksInFlight.removeFirst());
+			}
+		}
+		finally
+		{
+			/* Only if the merge was stopped by an exception */
+			for(FileChunkTask pendingTask : chunksInFlight)
+			{
+				pendingTask.cancel(false);
+			}
+		}
+
+		return new FileValidationSummary(plan.getModuleName(), merger.recordCount,
+															merger.invalidRecordCount);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the offsets of the chunks, the first one being the
+	 * start of the data and the last one being the size of the file. Every other
+	 * offset is the record boundary after its nominal offset.
+	 * </p>
+	 *
+	 * @return
+	 * 					the offsets, never decreasing
+	 *
+	 * @throws IOException
+	 * 					if the file cannot be read
+	 */
+	private static long[] getChunkBoundaries(FileChannel channel, long dataStart,
+						int chunkSize, FileLayout layout, ForkJoinPool pool)
+	throws IOException
+	{
+		long size = channel.size();
+
+		int chunkCount = (int) Math.max(1, (size - dataStart + chunkSize - 1) / chunkSize);
+
+		long[] nominalOffsets = new long[chunkCount + 1];
+
+		for(int index = 0; index < chunkCount; index++)
+		{
+			nominalOffsets[index] = dataStart + (long) index * chunkSize;
+		}
+
+		nominalOffsets[chunkCount] = size;
+
+		/* Whether or not a nominal offset is inside a quoted column */
+		boolean[] inQuotes = new boolean[chunkCount + 1];
+
+		if(FileLayout.NO_QUOTE != layout.getQuote())
+		{
+			ArrayList<ForkJoinTask<Long>> countTasks = new ArrayList<ForkJoinTask<Long>>();
+
+			for(int index = 0; index < chunkCount; index++)
+			{
+				final long from = nominalOffsets[index];
+				final long to = nominalOffsets[index + 1];
+
+				countTasks.add(pool.submit(new Callable<Long>()
+				{
+					@Override
+					public Long call()
+					{
+						return countQuotes(channel, from, to, (byte) layout.getQuote());
+					}
+				}));
+			}
+
+			for(int index = 1; index <= chunkCount; index++)
+			{
+				inQuotes[index] = inQuotes[index - 1]
+									^ (1 == (countTasks.get(index - 1).join() & 1));
+			}
+		}
+
+		long[] boundaries = new long[chunkCount + 1];
+
+		boundaries[0] = dataStart;
+		boundaries[chunkCount] = size;
+
+		for(int index = 1; index < chunkCount; index++)
+		{
+			boundaries[index] = Math.max(boundaries[index - 1], findRecordEnd(channel,
+										nominalOffsets[index], inQuotes[index], layout));
+		}
+
+		return boundaries;
+	}
+
+	/**
+	 * <p>
+	 * This method counts the quote bytes within a range of the file
+	 * </p>
+	 *
+	 * @return
+	 * 					the number of quotes
+	 */
+	private static long countQuotes(FileChannel channel, long from, long to, byte quote)
+	{
+		try
+		{
+			MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY,
+															from, to - from);
+
+			long quoteCount = 0;
+
+			int limit = bytes.limit();
+
+			for(int index = 0; index < limit; index++)
+			{
+				if(quote == bytes.get(index))
+				{
+					quoteCount++;
+				}
+			}
+
+			return quoteCount;
+		}
+		catch(IOException ioException)
+		{
+			throw new UncheckedIOException(ioException);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method finds the end of the record, being the offset after the first
+	 * line feed which is NOT inside a quoted column
+	 * </p>
+	 *
+	 * @param channel
+	 * 					the channel of the file
+	 *
+	 * @param from
+	 * 					the offset to start looking from
+	 *
+	 * @param inQuotes
+	 * 					whether or not the offset is inside a quoted column
+	 *
+	 * @param layout
+	 * 					the layout of the file
+	 *
+	 * @return
+	 * 					the offset after the line feed, the size of the file if
+	 * 					there is none
+	 *
+	 * @throws IOException
+	 * 					if the file cannot be read
+	 */
+	private static long findRecordEnd(FileChannel channel, long from, boolean inQuotes,
+										FileLayout layout)
+	throws IOException
+	{
+		boolean quoting = (FileLayout.NO_QUOTE != layout.getQuote());
+
+		byte quote = (byte) layout.getQuote();
+
+		long size = channel.size();
+
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+
+		long position = from;
+
+		int bytesRead = 0;
+
+		byte eachByte = 0;
+
+		while(position < size)
+		{
+			buffer.clear();
+
+			bytesRead = channel.read(buffer, position);
+
+			if(bytesRead <= 0)
+			{
+				break;
+			}
+
+			for(int index = 0; index < bytesRead; index++)
+			{
+				eachByte = buffer.get(index);
+
+				if(quoting && quote == eachByte)
+				{
+					inQuotes = !inQuotes;
+				}
+				else if('\n' == eachByte && !inQuotes)
+				{
+					return position + index + 1;
+				}
+			}
+
+			position += bytesRead;
+		}
+
+		return size;
+	}
+
+	/**
+	 * <p>
+	 * This method parses the header line, to map the columns from it
+	 * </p>
+	 *
+	 * @return
+	 * 					the ordinal of the field of every column
+	 *
+	 * @throws IOException
+	 * 					if the file cannot be read
+	 */
+	private static int[] parseHeader(ValidationPlan plan, FileLayout layout,
+						FileChannel channel, long headerEnd, Charset charset)
+	throws IOException
+	{
+		ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, headerEnd);
+
+		DelimitedRecordParser parser = new DelimitedRecordParser(plan, layout,
+															null, true, null);
+
+		CharsetDecoder decoder = FileValidator.newDecoder(charset);
+
+		CharBuffer chars = CharBuffer.allocate(FileValidator.BUFFER_SIZE);
+
+		FileValidator.decodeAndParse(decoder, bytes, chars, true, parser);
+		FileValidator.flushAndFinish(decoder, chars, parser);
+
+		return (null!=parser.getColumnOrdinals()) ? parser.getColumnOrdinals() : new int[0];
+	}
+
+	/**
+	 * <p>
+	 * A class which notifies the results of the chunks to the listener, with
+	 * the record numbers of the file, and sums up the counts
+	 * </p>
+	 */
+	private static class ChunkMerger
+	{
+		private final String moduleName;
+
+		private final FileValidationListener listener;
+
+		private long recordCount;
+
+		private long invalidRecordCount;
+
+		/**
+		 * @param moduleName	the name of the module validated
+		 * @param listener	the listener of the result of every record, can be null
+		 */
+		ChunkMerger(String moduleName, FileValidationListener listener)
+		{
+			this.moduleName = moduleName;
+			this.listener = listener;
+		}
+
+		/**
+		 * <p>
+		 * This method waits for the chunk to be validated and notifies its results.
+		 * A valid result is created only now, as it is NOT held by the chunk.
+		 * </p>
+		 *
+		 * @param chunkTask
+		 * 				the chunk to be merged
+		 */
+		void merge(FileChunkTask chunkTask)
+		{
+			chunkTask.join();
+
+			if(null!=listener)
+			{
+				int invalidIndex = 0;
+
+				for(int recordNumber = 1; recordNumber <= chunkTask.recordCount; recordNumber++)
+				{
+					if(invalidIndex < chunkTask.invalidResults.size()
+							&& chunkTask.invalidRecordNumbers[invalidIndex] == recordNumber)
+					{
+						listener.onRecord(recordCount + recordNumber,
+										chunkTask.invalidResults.get(invalidIndex++));
+					}
+					else
+					{
+						listener.onRecord(recordCount + recordNumber,
+														new ValidationResult(moduleName));
+					}
+				}
+			}
+
+			recordCount += chunkTask.recordCount;
+			invalidRecordCount += chunkTask.invalidRecordCount;
+		}
+	}
+
+	/**
+	 * <p>
+	 * A <tt>RecursiveAction</tt> which validates a chunk of the file, memory
+	 * mapped, keeping aside only the invalid results with their record numbers
+	 * within the chunk
+	 * </p>
+	 */
+	private static class FileChunkTask extends RecursiveAction
+									implements FileValidationListener
+	{
+		/**
+		 * <p>
+		 * An IDE (eclipse) generated serialVersionUID
+		 * </p>
+		 */
+		private static final long serialVersionUID = -4728193340529862186L;
+
+		private final ValidationPlan plan;
+
+		private final FileLayout layout;
+
+		private final int[] columnOrdinals;
+
+		private final Charset charset;
+
+		private final ErrorPolicy errorPolicy;
+
+		private final FileChannel channel;
+
+		private final long start;
+
+		private final long end;
+
+		private final boolean collectResults;
+
+		private int recordCount;
+
+		private int invalidRecordCount;
+
+		private int[] invalidRecordNumbers = new int[16];
+
+		private final ArrayList<ValidationResult> invalidResults =
+													new ArrayList<ValidationResult>();
+
+		/**
+		 * @param plan				the plan of the module whose fields to be validated
+		 * @param layout			the layout of the file
+		 * @param columnOrdinals	the ordinal of the field of every column
+		 * @param charset			the charset of the file
+		 * @param errorPolicy		how many errors to be collected for each record
+		 * @param channel			the channel of the file
+		 * @param start			the offset of the chunk (inclusive)
+		 * @param end				the offset of the end of the chunk (exclusive)
+		 * @param collectResults	whether or not the invalid results to be kept
+		 */
+		FileChunkTask(ValidationPlan plan, FileLayout layout, int[] columnOrdinals,
+				Charset charset, ErrorPolicy errorPolicy, FileChannel channel,
+				long start, long end, boolean collectResults)
+		{
+			this.plan = plan;
+			this.layout = layout;
+			this.columnOrdinals = columnOrdinals;
+			this.charset = charset;
+			this.errorPolicy = errorPolicy;
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+			this.collectResults = collectResults;
+		}
+
+		@Override
+		protected void compute()
+		{
+			MappedByteBuffer bytes = null;
+
+			try
+			{
+				bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+			}
+			catch(IOException ioException)
+			{
+				throw new UncheckedIOException(ioException);
+			}
+
+			FileValidator.RecordValidator recordValidator =
+						new FileValidator.RecordValidator(errorPolicy,
+													collectResults ? this : null);
+
+			DelimitedRecordParser parser = new DelimitedRecordParser(plan, layout,
+											columnOrdinals, false, recordValidator);
+
+			CharsetDecoder decoder = FileValidator.newDecoder(charset);
+
+			CharBuffer chars = CharBuffer.allocate(FileValidator.BUFFER_SIZE);
+
+			FileValidator.decodeAndParse(decoder, bytes, chars, true, parser);
+			FileValidator.flushAndFinish(decoder, chars, parser);
+
+			recordCount = (int) recordValidator.recordCount;
+			invalidRecordCount = (int) recordValidator.invalidRecordCount;
+		}
+
+		@Override
+		public void onRecord(long recordNumber, ValidationResult result)
+		{
+			if(result.isValid())
+			{
+				return;
+			}
+
+			if(invalidResults.size() == invalidRecordNumbers.length)
+			{
+				invalidRecordNumbers = Arrays.copyOf(invalidRecordNumbers,
+												2 * invalidRecordNumbers.length);
+			}
+
+			invalidRecordNumbers[invalidResults.size()] = (int) recordNumber;
+
+			invalidResults.add(result);
+		}
+	}
+}
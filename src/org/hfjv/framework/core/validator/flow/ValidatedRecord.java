@@ -0,0 +1,97 @@
+package org.hfjv.framework.core.validator.flow;
+
+import java.util.Map;
+
+import org.hfjv.framework.core.validator.result.ValidationResult;
+
+/**
+ * <p>
+ * A POJO (Plain Old Java Object) class holding a record validated by the
+ * <tt>ValidationProcessor</tt>, along with its <tt>ValidationResult</tt>
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidatedRecord
+{
+	/**
+	 * <p>
+	 * The number of the record in the stream, starting from 1
+	 * </p>
+	 */
+	private final long recordNumber;
+
+	/**
+	 * <p>
+	 * The values of the record, as received from the upstream
+	 * </p>
+	 */
+	private final Map<String, String> values;
+
+	/**
+	 * <p>
+	 * The result of the validation of the record
+	 * </p>
+	 */
+	private final ValidationResult result;
+
+	/**
+	 * <p>
+	 * A three argument constructor
+	 * </p>
+	 *
+	 * @param recordNumber
+	 * 					the number of the record in the stream
+	 *
+	 * @param values
+	 * 					the values of the record
+	 *
+	 * @param result
+	 * 					the result of the validation of the record
+	 */
+	public ValidatedRecord(long recordNumber, Map<String, String> values,
+											ValidationResult result)
+	{
+		this.recordNumber = recordNumber;
+		this.values = values;
+		this.result = result;
+	}
+
+	/**
+	 * @return the recordNumber, starting from 1
+	 */
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * @return the values
+	 */
+	public Map<String, String> getValues() {
+		return values;
+	}
+
+	/**
+	 * @return the result
+	 */
+	public ValidationResult getResult() {
+		return result;
+	}
+
+	/**
+	 * @return whether or not the record is valid
+	 */
+	public boolean isValid() {
+		return result.isValid();
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidatedRecord] "
+						+ " recordNumber="+this.getRecordNumber()
+						+ ", values="+this.getValues()
+						+ ", result="+this.getResult();
+	}
+}
@@ -0,0 +1,566 @@
+package org.hfjv.framework.core.validator.flow;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * A <tt>java.util.concurrent.Flow.Processor</tt> which validates every record
+ * received from the upstream against the fields of a module, and publishes it
+ * to a single downstream subscriber as a <tt>ValidatedRecord</tt>, in the same
+ * order as received.
+ * </p>
+ *
+ * <p>
+ * At most <tt>parallelism</tt> records are requested from the upstream ahead
+ * of the ones delivered to the downstream. They are validated concurrently on
+ * the <tt>Executor</tt> and held in a ring of as many slots, until they can be
+ * delivered in the order and as demanded by the downstream. A slow downstream
+ * hence stops the upstream from being requested any further, and nothing is
+ * ever queued beyond the ring.
+ * </p>
+ *
+ * <p>
+ * The signals to the downstream are serialized by a drain loop, without any
+ * lock. An error of the upstream is passed on after the records received
+ * before it are delivered. A failure of the validation itself cancels the
+ * upstream and is passed on at once.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationProcessor
+			implements Flow.Processor<Map<String, String>, ValidatedRecord>
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidationProcessor.class);
+
+	/**
+	 * <p>
+	 * The default number of records validated ahead, being the number of
+	 * processors
+	 * </p>
+	 */
+	public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+	private final ValidationPlan plan;
+
+	private final ErrorPolicy errorPolicy;
+
+	private final Executor executor;
+
+	private final int parallelism;
+
+	/**
+	 * <p>
+	 * The records validated but NOT yet delivered, in the slot of their
+	 * record number modulo the parallelism
+	 * </p>
+	 */
+	private final AtomicReferenceArray<ValidatedRecord> slots;
+
+	private final AtomicReference<Flow.Subscription> upstream =
+										new AtomicReference<Flow.Subscription>();
+
+	private final AtomicReference<Flow.Subscriber<? super ValidatedRecord>> downstream =
+							new AtomicReference<Flow.Subscriber<? super ValidatedRecord>>();
+
+	/**
+	 * <p>
+	 * The number of records demanded by the downstream and NOT yet delivered
+	 * </p>
+	 */
+	private final AtomicLong demand = new AtomicLong();
+
+	/**
+	 * <p>
+	 * The number of times the drain loop is asked for, while it runs
+	 * </p>
+	 */
+	private final AtomicInteger drainRequests = new AtomicInteger();
+
+	/**
+	 * <p>
+	 * The number of records received, written only by the <tt>onNext</tt>
+	 * which is never called concurrently
+	 * </p>
+	 */
+	private volatile long receivedCount;
+
+	private volatile boolean upstreamDone;
+
+	private volatile Throwable upstreamError;
+
+	private volatile Throwable failure;
+
+	private volatile boolean cancelled;
+
+	/* The fields below are owned by the drain loop */
+
+	private long requestedCount;
+
+	private long deliveredCount;
+
+	private boolean terminated;
+
+	/**
+	 * <p>
+	 * A two argument constructor, validating on the common
+	 * <tt>ForkJoinPool</tt> with the <tt>DEFAULT_PARALLELISM</tt>
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected for each record,
+	 * 					FAIL_FAST if null
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid
+	 */
+	public ValidationProcessor(String moduleName, ErrorPolicy errorPolicy)
+	throws ValidatorException
+	{
+		this(moduleName, errorPolicy, DEFAULT_PARALLELISM, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * <p>
+	 * A four argument constructor
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected for each record,
+	 * 					FAIL_FAST if null
+	 *
+	 * @param parallelism
+	 * 					the number of records validated ahead of the ones
+	 * 					delivered, at least 1
+	 *
+	 * @param executor
+	 * 					the executor on which the records are validated
+	 *
+	 * @throws ValidatorException
+	 * 					if the module name is invalid or the executor is null
+	 */
+	public ValidationProcessor(String moduleName, ErrorPolicy errorPolicy,
+								int parallelism, Executor executor)
+	throws ValidatorException
+	{
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		if(null==executor)
+		{
+			throw new ValidatorException("Executor cannot be null!");
+		}
+
+		ValidationPlan modulePlan = ValidatorAssembler.getValidationPlan(moduleName);
+
+		/* same as validating a module without any fields */
+		this.plan = (null!=modulePlan) ? modulePlan : new ValidationPlan(moduleName, null);
+		this.errorPolicy = errorPolicy;
+		this.parallelism = Math.max(1, parallelism);
+		this.executor = executor;
+		this.slots = new AtomicReferenceArray<ValidatedRecord>(this.parallelism);
+
+		logger.info("ValidationProcessor() - " + this);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ValidatedRecord> subscriber)
+	{
+		if(null==subscriber)
+		{
+			throw new NullPointerException("Subscriber cannot be null!");
+		}
+
+		if(!downstream.compareAndSet(null, subscriber))
+		{
+			subscriber.onSubscribe(new Flow.Subscription()
+			{
+				@Override
+				public void request(long count) {}
+
+				@Override
+				public void cancel() {}
+			});
+
+			subscriber.onError(new IllegalStateException(
+								"ValidationProcessor supports only a single subscriber"));
+			return;
+		}
+
+		subscriber.onSubscribe(new DownstreamSubscription());
+
+		drain();
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription)
+	{
+		if(!upstream.compareAndSet(null, subscription))
+		{
+			subscription.cancel();
+			return;
+		}
+
+		if(cancelled)
+		{
+			subscription.cancel();
+			return;
+		}
+
+		drain();
+	}
+
+	@Override
+	public void onNext(final Map<String, String> values)
+	{
+		if(null==values)
+		{
+			throw new NullPointerException("Record cannot be null!");
+		}
+
+		if(upstreamDone || cancelled)
+		{
+			return;
+		}
+
+		final long recordNumber = receivedCount + 1;
+
+		receivedCount = recordNumber;
+
+		try
+		{
+			executor.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					validateRecord(recordNumber, values);
+				}
+			});
+		}
+		catch(RejectedExecutionException rejectedExecutionException)
+		{
+			fail(rejectedExecutionException);
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable)
+	{
+		if(upstreamDone)
+		{
+			return;
+		}
+
+		upstreamError = throwable;
+		upstreamDone = true;
+
+		drain();
+	}
+
+	@Override
+	public void onComplete()
+	{
+		upstreamDone = true;
+
+		drain();
+	}
+
+	/**
+	 * <p>
+	 * This method validates a record, on a thread of the executor, and puts it
+	 * in its slot to be delivered
+	 * </p>
+	 *
+	 * @param recordNumber
+	 * 				the number of the record in the stream
+	 *
+	 * @param values
+	 * 				the values of the record
+	 */
+	private void validateRecord(long recordNumber, Map<String, String> values)
+	{
+		if(cancelled)
+		{
+			return;
+		}
+
+		try
+		{
+			ValidationResult result = ValidateExecutor.validate(
+								new ValidationContext(plan, values), errorPolicy);
+
+			slots.set((int) ((recordNumber - 1) % parallelism),
+								new ValidatedRecord(recordNumber, values, result));
+		}
+		catch(RuntimeException runtimeException)
+		{
+			logger.error("validateRecord() - record " + recordNumber
+										+ " could not be validated : " + runtimeException);
+
+			fail(runtimeException);
+			return;
+		}
+
+		drain();
+	}
+
+	/**
+	 * <p>
+	 * This method stops the stream with a failure, cancelling the upstream
+	 * </p>
+	 *
+	 * @param throwable
+	 * 				the failure to be passed on to the downstream
+	 */
+	private void fail(Throwable throwable)
+	{
+		if(null==failure)
+		{
+			failure = throwable;
+		}
+
+		Flow.Subscription subscription = upstream.get();
+
+		if(null!=subscription)
+		{
+			subscription.cancel();
+		}
+
+		drain();
+	}
+
+	/**
+	 * <p>
+	 * The drain loop, which delivers the records validated in the order as
+	 * demanded, requests the upstream for the free slots and terminates the
+	 * downstream. Only a single thread runs it at a time, and a thread asking
+	 * for it meanwhile makes that thread run it once more.
+	 * </p>
+	 */
+	private void drain()
+	{
+		if(0 != drainRequests.getAndIncrement())
+		{
+			return;
+		}
+
+		int missedRequests = 1;
+
+		do
+		{
+			Flow.Subscriber<? super ValidatedRecord> subscriber = downstream.get();
+
+			if(cancelled || terminated)
+			{
+				clearSlots();
+			}
+			else if(null!=subscriber)
+			{
+				drainTo(subscriber);
+			}
+
+			missedRequests = drainRequests.addAndGet(-missedRequests);
+		}
+		while(0 != missedRequests);
+	}
+
+	/**
+	 * <p>
+	 * A single pass of the drain loop, with the downstream subscribed
+	 * </p>
+	 *
+	 * @param subscriber
+	 * 				the downstream subscriber
+	 */
+	private void drainTo(Flow.Subscriber<? super ValidatedRecord> subscriber)
+	{
+		if(null!=failure)
+		{
+			terminated = true;
+			clearSlots();
+			subscriber.onError(failure);
+			return;
+		}
+
+		int slot = 0;
+
+		ValidatedRecord validatedRecord = null;
+
+		while(demand.get() > 0 && !cancelled)
+		{
+			slot = (int) (deliveredCount % parallelism);
+
+			validatedRecord = slots.get(slot);
+
+			if(null==validatedRecord)
+			{
+				break;
+			}
+
+			slots.set(slot, null);
+
+			deliveredCount++;
+
+			if(Long.MAX_VALUE != demand.get())
+			{
+				demand.decrementAndGet();
+			}
+
+			subscriber.onNext(validatedRecord);
+		}
+
+		if(cancelled)
+		{
+			return;
+		}
+
+		/* Read after the flag, which is set only after the last record */
+		if(upstreamDone && deliveredCount == receivedCount)
+		{
+			terminated = true;
+
+			if(null!=upstreamError)
+			{
+				subscriber.onError(upstreamError);
+			}
+			else
+			{
+				subscriber.onComplete();
+			}
+
+			return;
+		}
+
+		Flow.Subscription subscription = upstream.get();
+
+		long freeSlots = parallelism - (requestedCount - deliveredCount);
+
+		if(null!=subscription && !upstreamDone && freeSlots > 0)
+		{
+			requestedCount += freeSlots;
+
+			subscription.request(freeSlots);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method releases the records NOT to be delivered any more
+	 * </p>
+	 */
+	private void clearSlots()
+	{
+		for(int slot = 0; slot < parallelism; slot++)
+		{
+			slots.set(slot, null);
+		}
+	}
+
+	/**
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the errorPolicy
+	 */
+	public ErrorPolicy getErrorPolicy() {
+		return errorPolicy;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidationProcessor] "
+						+ " moduleName="+this.plan.getModuleName()
+						+ ", errorPolicy="+this.getErrorPolicy()
+						+ ", parallelism="+this.getParallelism()
+						+ ", executor="+this.executor;
+	}
+
+	/**
+	 * <p>
+	 * The subscription handed over to the downstream subscriber
+	 * </p>
+	 */
+	private class DownstreamSubscription implements Flow.Subscription
+	{
+		@Override
+		public void request(long count)
+		{
+			if(count <= 0)
+			{
+				fail(new IllegalArgumentException(
+						"The number of records requested should be positive, but was "
+																			+ count));
+				return;
+			}
+
+			long current = 0;
+
+			long updated = 0;
+
+			do
+			{
+				current = demand.get();
+
+				updated = (current + count < 0) ? Long.MAX_VALUE : current + count;
+			}
+			while(!demand.compareAndSet(current, updated));
+
+			drain();
+		}
+
+		@Override
+		public void cancel()
+		{
+			cancelled = true;
+
+			Flow.Subscription subscription = upstream.get();
+
+			if(null!=subscription)
+			{
+				subscription.cancel();
+			}
+
+			drain();
+		}
+	}
+}
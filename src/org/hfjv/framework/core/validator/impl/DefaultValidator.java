@@ -1,10 +1,25 @@
 package org.hfjv.framework.core.validator.impl;
 
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 import org.hfjv.framework.Logger;
 import org.hfjv.framework.LoggerFactory;
 import org.hfjv.framework.core.exception.ValidatorException;
 import org.hfjv.framework.core.validator.ValidateExecutor;
 import org.hfjv.framework.core.validator.Validator;
+import org.hfjv.framework.core.validator.async.AsyncValidator;
+import org.hfjv.framework.core.validator.batch.BatchConfig;
+import org.hfjv.framework.core.validator.batch.BatchValidator;
+import org.hfjv.framework.core.validator.file.FileValidationListener;
+import org.hfjv.framework.core.validator.file.FileValidationSummary;
+import org.hfjv.framework.core.validator.file.FileValidator;
+import org.hfjv.framework.core.validator.file.ParallelFileValidator;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationResult;
 
 /**
  * <p>
@@ -25,6 +40,17 @@ public class DefaultValidator implements Validator
 	private static Logger logger = LoggerFactory.getInstance().
 															getLogger(DefaultValidator.class);
 
+	/**
+	 * <p>
+	 * A holder of the <tt>AsyncValidator</tt> shared by the
+	 * <tt>validateAsync</tt> calls, created only on the first such call
+	 * </p>
+	 */
+	private static class AsyncValidatorHolder
+	{
+		private static final AsyncValidator asyncValidator = new AsyncValidator();
+	}
+
 	/**
 	 * <p>
 	 * An implementation of the <tt>validate</tt> method
@@ -68,4 +94,217 @@ public class DefaultValidator implements Validator
 
 		logger.exit(THIS_METHOD_NAME);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validate</tt> method with the values
+	 * being passed for the call.
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike the single argument <tt>validate</tt>, there is no need to reset
+	 * the fields afterwards as the values are never stored in the shared fields.
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param values
+	 * 			the values of the fields keyed by the field name
+	 */
+	public void validate(String moduleName, Map<String, String> values)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate(moduleName, values) - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		try {
+			ValidateExecutor.validate(moduleName, values);
+		}catch(ValidatorException validatorException) {
+			logger.error(THIS_METHOD_NAME + " ValidatorException occurred!");
+			logger.error(THIS_METHOD_NAME + " Exception message : "
+								+ validatorException.getMessage());
+			logger.error(THIS_METHOD_NAME + " Error in Field : "
+								+ validatorException.getFieldName());
+			logger.error(THIS_METHOD_NAME + " Error Code : "
+								+ validatorException.getErrorCode());
+			logger.error(THIS_METHOD_NAME + " Error Desc : "
+								+ validatorException.getErrorDesc());
+			throw validatorException;
+		}
+
+		logger.exit(THIS_METHOD_NAME);
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validate</tt> method collecting the errors
+	 * into a <tt>ValidationResult</tt>
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param values
+	 * 			the values of the fields keyed by the field name
+	 *
+	 * @param errorPolicy
+	 * 			how many errors to be collected
+	 */
+	public ValidationResult validate(String moduleName, Map<String, String> values,
+									ErrorPolicy errorPolicy)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validate(moduleName, values, policy) - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		ValidationResult result =
+						ValidateExecutor.validate(moduleName, values, errorPolicy);
+
+		logger.debug(THIS_METHOD_NAME + result);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return result;
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validateBatch</tt> method with the default
+	 * <tt>BatchConfig</tt>
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param records
+	 * 			the records, each being a map of the field name and its value
+	 */
+	public List<ValidationResult> validateBatch(String moduleName,
+			Iterable<? extends Map<String, String>> records)
+	throws ValidatorException
+	{
+		return validateBatch(moduleName, records, null);
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validateBatch</tt> method
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param records
+	 * 			the records, each being a map of the field name and its value
+	 *
+	 * @param config
+	 * 			the pool, parallelism, chunk size and error policy of the batch
+	 */
+	public List<ValidationResult> validateBatch(String moduleName,
+			Iterable<? extends Map<String, String>> records, BatchConfig config)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validateBatch() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		List<ValidationResult> results =
+						BatchValidator.validate(moduleName, records, config);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return results;
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validateFile</tt> method
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param file
+	 * 			the file to be validated
+	 *
+	 * @param charset
+	 * 			the charset of the file, the one configured if null
+	 *
+	 * @param errorPolicy
+	 * 			how many errors to be collected for each record
+	 *
+	 * @param listener
+	 * 			the listener of the result of every record
+	 */
+	public FileValidationSummary validateFile(String moduleName, Path file,
+			Charset charset, ErrorPolicy errorPolicy, FileValidationListener listener)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validateFile() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		FileValidationSummary summary = FileValidator.validate(moduleName, file,
+												charset, errorPolicy, listener);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return summary;
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validateFile</tt> method, in parallel
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param file
+	 * 			the file to be validated
+	 *
+	 * @param charset
+	 * 			the charset of the file, the one configured if null
+	 *
+	 * @param config
+	 * 			the pool, parallelism, file chunk size and error policy
+	 *
+	 * @param listener
+	 * 			the listener of the result of every record
+	 */
+	public FileValidationSummary validateFile(String moduleName, Path file,
+			Charset charset, BatchConfig config, FileValidationListener listener)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "validateFile() - ";
+
+		logger.enter(THIS_METHOD_NAME);
+
+		FileValidationSummary summary = ParallelFileValidator.validate(moduleName,
+												file, charset, config, listener);
+
+		logger.exit(THIS_METHOD_NAME);
+
+		return summary;
+	}
+
+	/**
+	 * <p>
+	 * An implementation of the <tt>validateAsync</tt> method
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 			the module that needs to be validated
+	 *
+	 * @param values
+	 * 			the values of the fields keyed by the field name
+	 */
+	public CompletableFuture<ValidationResult> validateAsync(String moduleName,
+														Map<String, String> values)
+	{
+		return AsyncValidatorHolder.asyncValidator.validateAsync(moduleName, values);
+	}
+}
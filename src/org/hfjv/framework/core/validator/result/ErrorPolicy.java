@@ -0,0 +1,113 @@
+package org.hfjv.framework.core.validator.result;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * A class representing how many errors should be collected into a
+ * <tt>ValidationResult</tt> before the validation of a record is stopped.
+ * </p>
+ *
+ * <ul>
+ * 	<li><tt>FAIL_FAST</tt> - stops at the very first error, as the throwing
+ * 			<tt>validate</tt> methods always did</li>
+ * 	<li><tt>maxErrors(n)</tt> - stops once <tt>n</tt> errors are collected</li>
+ * 	<li><tt>ALL_ERRORS</tt> - evaluates every field of the module</li>
+ * </ul>
+ *
+ * <p>
+ * Irrespective of the policy, only the first failure of a field is collected,
+ * as the rest of its constraints would mostly fail for the same reason.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class ErrorPolicy implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = 6204316853219757128L;
+
+	/**
+	 * <p>
+	 * A policy to stop at the first error
+	 * </p>
+	 */
+	public static final ErrorPolicy FAIL_FAST = new ErrorPolicy(1);
+
+	/**
+	 * <p>
+	 * A policy to collect the errors of all the fields
+	 * </p>
+	 */
+	public static final ErrorPolicy ALL_ERRORS = new ErrorPolicy(Integer.MAX_VALUE);
+
+	/**
+	 * <p>
+	 * The maximum number of errors to be collected
+	 * </p>
+	 */
+	private final int maxErrors;
+
+	/**
+	 * <p>
+	 * A private one argument constructor. Use the constants or the
+	 * <tt>maxErrors()</tt> factory method.
+	 * </p>
+	 *
+	 * @param maxErrors
+	 * 					the maximum number of errors to be collected
+	 */
+	private ErrorPolicy(int maxErrors)
+	{
+		this.maxErrors = maxErrors;
+	}
+
+	/**
+	 * <p>
+	 * A factory method for a policy which stops after the given number of errors
+	 * </p>
+	 *
+	 * @param maxErrors
+	 * 					the maximum number of errors to be collected, at least 1
+	 *
+	 * @return
+	 * 					the policy
+	 *
+	 * @throws IllegalArgumentException
+	 * 					if the <tt>maxErrors</tt> is less than 1
+	 */
+	public static ErrorPolicy maxErrors(int maxErrors)
+	{
+		if(maxErrors < 1)
+		{
+			throw new IllegalArgumentException("maxErrors should be at least 1 : "
+													+ maxErrors);
+		}
+
+		if(maxErrors == 1)
+		{
+			return FAIL_FAST;
+		}
+
+		return new ErrorPolicy(maxErrors);
+	}
+
+	/**
+	 * @return the maxErrors
+	 */
+	public int getMaxErrors() {
+		return maxErrors;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ErrorPolicy] maxErrors="
+				+ (maxErrors==Integer.MAX_VALUE ? "ALL" : String.valueOf(maxErrors));
+	}
+}
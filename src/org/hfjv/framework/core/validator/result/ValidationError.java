@@ -0,0 +1,137 @@
+package org.hfjv.framework.core.validator.result;
+
+import java.io.Serializable;
+
+import org.hfjv.framework.core.exception.ValidatorException;
+
+/**
+ * <p>
+ * A POJO (Plain Old Java Object) class representing a single failure of a
+ * field against a constraint, as collected into a <tt>ValidationResult</tt>.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationError implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -2318467120934581207L;
+
+	/**
+	 * <p>
+	 * The (display) name of the field which had failed in validation
+	 * </p>
+	 */
+	private final String fieldName;
+
+	/**
+	 * <p>
+	 * The name of the constraint which had failed, null if the failure is
+	 * not specific to a constraint
+	 * </p>
+	 */
+	private final String constraintName;
+
+	/**
+	 * <p>
+	 * The error code as resolved for the field and constraint
+	 * </p>
+	 */
+	private final String errorCode;
+
+	/**
+	 * <p>
+	 * The error description
+	 * </p>
+	 */
+	private final String errorDesc;
+
+	/**
+	 * <p>
+	 * A four argument constructor
+	 * </p>
+	 *
+	 * @param fieldName
+	 * 					the name of the field
+	 *
+	 * @param constraintName
+	 * 					the name of the constraint
+	 *
+	 * @param errorCode
+	 * 					the error code
+	 *
+	 * @param errorDesc
+	 * 					the error description
+	 */
+	public ValidationError(String fieldName, String constraintName,
+											String errorCode, String errorDesc)
+	{
+		this.fieldName = fieldName;
+		this.constraintName = constraintName;
+		this.errorCode = errorCode;
+		this.errorDesc = errorDesc;
+	}
+
+	/**
+	 * <p>
+	 * This method gives a new <tt>ValidatorException</tt> carrying the details
+	 * of this error, for the callers of the throwing API
+	 * </p>
+	 *
+	 * @return
+	 * 					a new instance of <tt>ValidatorException</tt>
+	 */
+	public ValidatorException toValidatorException()
+	{
+		ValidatorException validatorException =
+							new ValidatorException(errorCode, errorDesc);
+
+		validatorException.setFieldName(fieldName);
+		validatorException.setConstraintName(constraintName);
+
+		return validatorException;
+	}
+
+	/**
+	 * @return the fieldName
+	 */
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	/**
+	 * @return the constraintName
+	 */
+	public String getConstraintName() {
+		return constraintName;
+	}
+
+	/**
+	 * @return the errorCode
+	 */
+	public String getErrorCode() {
+		return errorCode;
+	}
+
+	/**
+	 * @return the errorDesc
+	 */
+	public String getErrorDesc() {
+		return errorDesc;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidationError] "
+						+ " fieldName="+this.getFieldName()
+						+ ", constraintName="+this.getConstraintName()
+						+ ", errorCode="+this.getErrorCode()
+						+ ", errorDesc="+this.getErrorDesc();
+	}
+}
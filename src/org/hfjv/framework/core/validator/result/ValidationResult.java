@@ -0,0 +1,164 @@
+package org.hfjv.framework.core.validator.result;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hfjv.framework.core.exception.ValidatorException;
+
+/**
+ * <p>
+ * A class holding the outcome of the validation of a record of a module,
+ * being the list of <tt>ValidationError</tt>s collected as per the
+ * <tt>ErrorPolicy</tt>. A result without any errors is a valid one.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationResult implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = 3391786520418713654L;
+
+	/**
+	 * <p>
+	 * The name of the module validated
+	 * </p>
+	 */
+	private final String moduleName;
+
+	/**
+	 * <p>
+	 * The errors collected, created only on the first error
+	 * </p>
+	 */
+	private List<ValidationError> errors;
+
+	/**
+	 * <p>
+	 * Whether or not the validation was stopped before evaluating all the
+	 * fields, as the maximum errors of the policy had been reached
+	 * </p>
+	 */
+	private boolean truncated;
+
+	/**
+	 * <p>
+	 * A one argument constructor
+	 * </p>
+	 *
+	 * @param moduleName
+	 * 					the name of the module validated
+	 */
+	public ValidationResult(String moduleName)
+	{
+		this.moduleName = moduleName;
+	}
+
+	/**
+	 * <p>
+	 * This method adds an error to the result
+	 * </p>
+	 *
+	 * @param error
+	 * 					the error to be added
+	 */
+	public void addError(ValidationError error)
+	{
+		if(null==errors)
+		{
+			errors = new ArrayList<ValidationError>(4);
+		}
+
+		errors.add(error);
+	}
+
+	/**
+	 * @return whether or not the record is valid (no errors collected)
+	 */
+	public boolean isValid() {
+		return null==errors;
+	}
+
+	/**
+	 * @return the number of errors collected
+	 */
+	public int getErrorCount() {
+		return (null==errors) ? 0 : errors.size();
+	}
+
+	/**
+	 * @return the errors collected, in the order of the fields. Never null.
+	 */
+	public List<ValidationError> getErrors()
+	{
+		if(null==errors)
+		{
+			return Collections.emptyList();
+		}
+
+		return Collections.unmodifiableList(errors);
+	}
+
+	/**
+	 * @return the first error collected, null if the record is valid
+	 */
+	public ValidationError getFirstError() {
+		return (null==errors) ? null : errors.get(0);
+	}
+
+	/**
+	 * <p>
+	 * This method throws a <tt>ValidatorException</tt> for the first error,
+	 * if any. Used by the throwing <tt>validate</tt> methods.
+	 * </p>
+	 *
+	 * @throws ValidatorException
+	 * 					if the result has got any error
+	 */
+	public void throwIfInvalid()
+	throws ValidatorException
+	{
+		if(null!=errors)
+		{
+			throw errors.get(0).toValidatorException();
+		}
+	}
+
+	/**
+	 * @return the moduleName
+	 */
+	public String getModuleName() {
+		return moduleName;
+	}
+
+	/**
+	 * @return the truncated
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * @param truncated the truncated to set
+	 */
+	public void setTruncated(boolean truncated) {
+		this.truncated = truncated;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidationResult] "
+						+ " moduleName="+this.getModuleName()
+						+ ", valid="+this.isValid()
+						+ ", truncated="+this.isTruncated()
+						+ ", errors="+this.getErrors();
+	}
+}
@@ -0,0 +1,419 @@
+package org.hfjv.framework.core.validator.session;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.field.Field;
+import org.hfjv.framework.core.validator.ValidateExecutor;
+import org.hfjv.framework.core.validator.ValidationContext;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.result.ErrorPolicy;
+import org.hfjv.framework.core.validator.result.ValidationError;
+import org.hfjv.framework.core.validator.result.ValidationResult;
+import org.hfjv.framework.util.CollectionUtil;
+
+/**
+ * <p>
+ * A class remembering the last values of a module and the outcome of every
+ * field, across the calls of a single client (say, a form being filled in),
+ * so that a change of a few fields re-validates only those fields and the
+ * fields depending on them.
+ * </p>
+ *
+ * <p>
+ * A field is re-evaluated if its value is changed, or if it has got the
+ * changed field as one of its <tt>dependentFields</tt>, as the dependent
+ * fields decide whether or not it is mandatory. The activation of a field
+ * reads only the values of its dependent fields and never their outcome,
+ * hence the fields further down the chain are NOT affected and never
+ * re-evaluated.
+ * </p>
+ *
+ * <p>
+ * The result given is always the same as that of validating all the values
+ * of the session at once, through the
+ * <tt>ValidateExecutor.validate(moduleName, values, errorPolicy)</tt>.
+ * </p>
+ *
+ * <p>
+ * The sessions are kept in a <tt>ValidationSessionStore</tt>. The calls to a
+ * single session are serialized.
+ * </p>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationSession
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidationSession.class);
+
+	private final String sessionId;
+
+	/**
+	 * <p>
+	 * The plan of the module, as of the creation of the session
+	 * </p>
+	 */
+	private final ValidationPlan plan;
+
+	/**
+	 * <p>
+	 * The working copies of the fields, carrying the last values
+	 * </p>
+	 */
+	private ValidationContext context;
+
+	/**
+	 * <p>
+	 * The last error of every field, null if it is valid or skipped, indexed
+	 * by the ordinal
+	 * </p>
+	 */
+	private final ValidationError[] fieldErrors;
+
+	/**
+	 * <p>
+	 * The lock serializing the calls to this session
+	 * </p>
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * <p>
+	 * The time of the last access through the store, in milliseconds
+	 * </p>
+	 */
+	private volatile long lastAccessTime;
+
+	/**
+	 * <p>
+	 * The number of fields evaluated by the last call
+	 * </p>
+	 */
+	private int lastEvaluatedFieldCount;
+
+	/**
+	 * <p>
+	 * A two argument constructor, which validates all the fields of the module
+	 * without any values to start with
+	 * </p>
+	 *
+	 * @param sessionId
+	 * 					the id of the session
+	 *
+	 * @param plan
+	 * 					the plan of the module whose fields to be validated
+	 */
+	ValidationSession(String sessionId, ValidationPlan plan)
+	{
+		this.sessionId = sessionId;
+		this.plan = plan;
+		this.fieldErrors = new ValidationError[plan.getFieldCount()];
+		this.context = new ValidationContext(plan, null);
+
+		evaluateAll();
+	}
+
+	/**
+	 * <p>
+	 * This method replaces all the values of the session and validates all
+	 * the fields
+	 * </p>
+	 *
+	 * @param values
+	 * 					the values of the fields keyed by the field name, the
+	 * 					fields NOT passed being empty
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation
+	 */
+	public ValidationResult validate(Map<String, String> values, ErrorPolicy errorPolicy)
+	{
+		lock.lock();
+
+		try
+		{
+			context = new ValidationContext(plan, values);
+
+			evaluateAll();
+
+			return getResult(errorPolicy);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method changes the value of a single field and re-validates only
+	 * that field and the fields depending on it
+	 * </p>
+	 *
+	 * @param fieldName
+	 * 					the name of the field
+	 *
+	 * @param value
+	 * 					the new value of the field
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation of all the values of the
+	 * 					session
+	 */
+	public ValidationResult update(String fieldName, String value, ErrorPolicy errorPolicy)
+	{
+		return update(Collections.singletonMap(fieldName, value), errorPolicy);
+	}
+
+	/**
+	 * <p>
+	 * This method changes the values of some of the fields and re-validates
+	 * only those fields and the fields depending on them. A value same as the
+	 * last one is NOT a change, and a field NOT part of the module is ignored.
+	 * </p>
+	 *
+	 * @param changedValues
+	 * 					the new values keyed by the field name
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation of all the values of the
+	 * 					session
+	 */
+	public ValidationResult update(Map<String, String> changedValues,
+													ErrorPolicy errorPolicy)
+	{
+		final String THIS_METHOD_NAME = "update() - ";
+
+		lock.lock();
+
+		try
+		{
+			boolean[] stale = new boolean[fieldErrors.length];
+
+			boolean changed = false;
+
+			if(CollectionUtil.isValidMap(changedValues))
+			{
+				for(Map.Entry<String, String> entry : changedValues.entrySet())
+				{
+					int ordinal = plan.getOrdinal(entry.getKey());
+
+					if(-1==ordinal)
+					{
+						logger.info(THIS_METHOD_NAME + "field '" + entry.getKey()
+								+ "' is not part of the module " + plan.getModuleName());
+						continue;
+					}
+
+					Field field = context.getField(ordinal);
+
+					if(isSameValue(field.getValue(), entry.getValue()))
+					{
+						continue;
+					}
+
+					field.setValue(entry.getValue());
+
+					stale[ordinal] = true;
+
+					for(int activatedOrdinal : plan.getActivatedOrdinals(ordinal))
+					{
+						stale[activatedOrdinal] = true;
+					}
+
+					changed = true;
+				}
+			}
+
+			lastEvaluatedFieldCount = 0;
+
+			if(changed)
+			{
+				evaluate(stale);
+			}
+
+			return getResult(errorPolicy);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the result of the last values, without validating
+	 * anything
+	 * </p>
+	 *
+	 * @param errorPolicy
+	 * 					how many errors to be collected, FAIL_FAST if null
+	 *
+	 * @return
+	 * 					the result of the validation of all the values of the
+	 * 					session
+	 */
+	public ValidationResult getResult(ErrorPolicy errorPolicy)
+	{
+		lock.lock();
+
+		try
+		{
+			ValidationResult result = new ValidationResult(plan.getModuleName());
+
+			int maxErrors = (null!=errorPolicy) ? errorPolicy.getMaxErrors()
+												: ErrorPolicy.FAIL_FAST.getMaxErrors();
+
+			for(int ordinal = 0; ordinal < fieldErrors.length; ordinal++)
+			{
+				if(result.getErrorCount() >= maxErrors)
+				{
+					result.setTruncated(true);
+					break;
+				}
+
+				if(null!=fieldErrors[ordinal])
+				{
+					result.addError(fieldErrors[ordinal]);
+				}
+			}
+
+			return result;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method evaluates all the fields
+	 * </p>
+	 */
+	private void evaluateAll()
+	{
+		boolean[] stale = new boolean[fieldErrors.length];
+
+		Arrays.fill(stale, true);
+
+		lastEvaluatedFieldCount = 0;
+
+		evaluate(stale);
+	}
+
+	/**
+	 * <p>
+	 * This method evaluates the fields marked stale, with all the errors
+	 * collected regardless of the policy, so that the outcome of every field
+	 * is known for the later calls
+	 * </p>
+	 *
+	 * @param stale
+	 * 					whether or not to evaluate, indexed by the ordinal
+	 */
+	private void evaluate(boolean[] stale)
+	{
+		Field[] fields = context.getFields();
+
+		int[] matchedDependencies = plan.countMatchedDependencies(fields);
+
+		for(int ordinal = 0; ordinal < fields.length; ordinal++)
+		{
+			if(!stale[ordinal])
+			{
+				continue;
+			}
+
+			fields[ordinal].restoreState();
+
+			fieldErrors[ordinal] = ValidateExecutor.validateField(plan, ordinal, fields,
+																	matchedDependencies);
+
+			lastEvaluatedFieldCount++;
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not two values are the same, null being
+	 * same as another null
+	 * </p>
+	 */
+	private static boolean isSameValue(String oldValue, String newValue)
+	{
+		return (null==oldValue) ? (null==newValue) : oldValue.equals(newValue);
+	}
+
+	/**
+	 * @return the sessionId
+	 */
+	public String getSessionId() {
+		return sessionId;
+	}
+
+	/**
+	 * @return the name of the module validated
+	 */
+	public String getModuleName() {
+		return plan.getModuleName();
+	}
+
+	/**
+	 * @return the plan of the module, as of the creation of the session
+	 */
+	ValidationPlan getPlan() {
+		return plan;
+	}
+
+	/**
+	 * @return the lastAccessTime in milliseconds
+	 */
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
+	/**
+	 * @param lastAccessTime the lastAccessTime to set
+	 */
+	void setLastAccessTime(long lastAccessTime) {
+		this.lastAccessTime = lastAccessTime;
+	}
+
+	/**
+	 * @return the number of fields evaluated by the last call
+	 */
+	public int getLastEvaluatedFieldCount() {
+		return lastEvaluatedFieldCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidationSession] "
+						+ " sessionId="+this.getSessionId()
+						+ ", moduleName="+this.getModuleName()
+						+ ", lastAccessTime="+this.getLastAccessTime()
+						+ ", lastEvaluatedFieldCount="+this.getLastEvaluatedFieldCount();
+	}
+}
@@ -0,0 +1,318 @@
+package org.hfjv.framework.core.validator.session;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hfjv.framework.Logger;
+import org.hfjv.framework.LoggerFactory;
+import org.hfjv.framework.core.exception.ValidatorException;
+import org.hfjv.framework.core.validator.ValidationPlan;
+import org.hfjv.framework.core.validator.assembler.ValidatorAssembler;
+import org.hfjv.framework.util.StringUtil;
+
+/**
+ * <p>
+ * A bounded store of the <tt>ValidationSession</tt>s, keyed by the id of the
+ * session given by the caller (say, the id of the HTTP session or the form).
+ * </p>
+ *
+ * <p>
+ * The sessions are kept in the order of their last access. A session NOT
+ * accessed for the idle timeout is evicted on the next access to the store,
+ * or by the {@link #evictIdleSessions()} method if called periodically. When
+ * the store is full, the least recently accessed session is evicted to make
+ * room for a new one. A client whose session is evicted simply starts over
+ * with a new session, by passing all its values once.
+ * </p>
+ *
+ * <pre>
+ * ValidationSessionStore store = new ValidationSessionStore();
+ *
+ * ValidationResult result = store.getSession(formId, "order")
+ * 					.update("status", "OLD", ErrorPolicy.ALL_ERRORS);
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public class ValidationSessionStore
+{
+	/**
+ 	 * <p>
+	 * A private class lever logger instance of this class
+	 * </p>
+ 	 */
+	private static Logger logger = LoggerFactory.getInstance().
+						getLogger(ValidationSessionStore.class);
+
+	/**
+	 * <p>
+	 * The default maximum number of sessions kept
+	 * </p>
+	 */
+	public static final int DEFAULT_MAX_SESSIONS = 10000;
+
+	/**
+	 * <p>
+	 * The default idle timeout of a session, 30 minutes
+	 * </p>
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+	private final int maxSessions;
+
+	private final long idleTimeoutMillis;
+
+	/**
+	 * <p>
+	 * The sessions in the order of their last access, the eldest first
+	 * </p>
+	 */
+	private final LinkedHashMap<String, ValidationSession> sessionMap;
+
+	/**
+	 * <p>
+	 * The lock guarding the <tt>sessionMap</tt>. A lock is preferred to a
+	 * monitor so that a virtual thread waiting for it is never pinned.
+	 * </p>
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * <p>
+	 * A no argument constructor, with the <tt>DEFAULT_MAX_SESSIONS</tt> and
+	 * the <tt>DEFAULT_IDLE_TIMEOUT_MILLIS</tt>
+	 * </p>
+	 */
+	public ValidationSessionStore()
+	{
+		this(DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_TIMEOUT_MILLIS);
+	}
+
+	/**
+	 * <p>
+	 * A two argument constructor
+	 * </p>
+	 *
+	 * @param maxSessions
+	 * 					the maximum number of sessions kept, at least 1
+	 *
+	 * @param idleTimeoutMillis
+	 * 					the time after which a session NOT accessed is evicted,
+	 * 					in milliseconds, at least 1
+	 */
+	public ValidationSessionStore(int maxSessions, long idleTimeoutMillis)
+	{
+		this.maxSessions = Math.max(1, maxSessions);
+		this.idleTimeoutMillis = Math.max(1L, idleTimeoutMillis);
+
+		this.sessionMap = new LinkedHashMap<String, ValidationSession>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = -4476206468953307128L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ValidationSession> eldest)
+			{
+				return size() > ValidationSessionStore.this.maxSessions;
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * This method gives the session of the given id, creating it if it is NOT
+	 * there, already evicted, or of a different module. A session created
+	 * before the configuration of the module got reloaded is created afresh
+	 * as well.
+	 * </p>
+	 *
+	 * @param sessionId
+	 * 					the id of the session
+	 *
+	 * @param moduleName
+	 * 					the module whose fields to be validated
+	 *
+	 * @return
+	 * 					the session
+	 *
+	 * @throws ValidatorException
+	 * 					if the session id or the module name is invalid, or the
+	 * 					module is NOT configured
+	 */
+	public ValidationSession getSession(String sessionId, String moduleName)
+	throws ValidatorException
+	{
+		final String THIS_METHOD_NAME = "getSession() - ";
+
+		if(StringUtil.isInvalidString(sessionId))
+		{
+			throw new ValidatorException("Session id cannot be null!");
+		}
+
+		if(StringUtil.isInvalidString(moduleName))
+		{
+			throw new ValidatorException("Module name cannot be null!");
+		}
+
+		ValidationPlan plan = ValidatorAssembler.getValidationPlan(moduleName);
+
+		if(null==plan)
+		{
+			throw new ValidatorException("No plan found for the module " + moduleName);
+		}
+
+		long now = System.currentTimeMillis();
+
+		lock.lock();
+
+		try
+		{
+			evictIdleSessions(now);
+
+			ValidationSession session = sessionMap.get(sessionId);
+
+			if(null==session || plan!=session.getPlan())
+			{
+				logger.debug(THIS_METHOD_NAME + "creating the session " + sessionId
+										+ " of the module " + moduleName);
+
+				session = new ValidationSession(sessionId, plan);
+
+				sessionMap.put(sessionId, session);
+			}
+
+			session.setLastAccessTime(now);
+
+			return session;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method removes the session of the given id, say when the form is
+	 * submitted
+	 * </p>
+	 *
+	 * @param sessionId
+	 * 					the id of the session
+	 *
+	 * @return
+	 * 					the session removed, null if there is no such session
+	 */
+	public ValidationSession removeSession(String sessionId)
+	{
+		lock.lock();
+
+		try
+		{
+			return sessionMap.remove(sessionId);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method evicts all the sessions NOT accessed for the idle timeout
+	 * </p>
+	 *
+	 * @return
+	 * 					the number of sessions evicted
+	 */
+	public int evictIdleSessions()
+	{
+		lock.lock();
+
+		try
+		{
+			return evictIdleSessions(System.currentTimeMillis());
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method evicts the idle sessions from the eldest, stopping at the
+	 * first session NOT idle as the rest are accessed later than that. To be
+	 * called with the lock held.
+	 * </p>
+	 */
+	private int evictIdleSessions(long now)
+	{
+		final String THIS_METHOD_NAME = "evictIdleSessions() - ";
+
+		int evictedCount = 0;
+
+		Iterator<ValidationSession> iterator = sessionMap.values().iterator();
+
+		while(iterator.hasNext())
+		{
+			if(now - iterator.next().getLastAccessTime() < idleTimeoutMillis)
+			{
+				break;
+			}
+
+			iterator.remove();
+
+			evictedCount++;
+		}
+
+		if(evictedCount > 0)
+		{
+			logger.debug(THIS_METHOD_NAME + evictedCount + " sessions evicted");
+		}
+
+		return evictedCount;
+	}
+
+	/**
+	 * @return the number of sessions kept
+	 */
+	public int size()
+	{
+		lock.lock();
+
+		try
+		{
+			return sessionMap.size();
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the maxSessions
+	 */
+	public int getMaxSessions() {
+		return maxSessions;
+	}
+
+	/**
+	 * @return the idleTimeoutMillis
+	 */
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[ValidationSessionStore] "
+						+ " maxSessions="+this.getMaxSessions()
+						+ ", idleTimeoutMillis="+this.getIdleTimeoutMillis()
+						+ ", size="+this.size();
+	}
+}
@@ -89,7 +89,12 @@ public class ExceptionHelper
 					Constraint constraint, String msgFormattedByValidate)
 	{
 
-		String errorCode = getFinalErrorCode(constraint, field);
+		ErrorDetails resolvedErrorDetails = field.getResolvedErrorDetails(
+												constraint.getName());
+
+		String errorCode = (null!=resolvedErrorDetails)
+						? resolvedErrorDetails.getErrorCode()
+						: getFinalErrorCode(constraint, field);
 
 		/**
 		 * As of now the errorMsg is NOT customized. So using whatever
@@ -99,7 +104,57 @@ public class ExceptionHelper
 
 		return getValidatorException(errorCode, errorDesc); */
 
-		return getPrefilledValidatorException(field, errorCode, msgFormattedByValidate);
+		/*
+		 * A constraint failure is collected by the ValidateExecutor and reported
+		 * back through a ValidationResult. Hence, no stack trace is filled.
+		 */
+		ValidatorException validatorException =
+				new ValidatorException(errorCode, msgFormattedByValidate, false);
+
+		validatorException.setFieldName(field.getDisplayName());
+		validatorException.setConstraintName(constraint.getName());
+
+		return validatorException;
+	}
+
+	/**
+	 * <p>
+	 * This method resolves the final error code and the error description
+	 * (NOT formatted) of each of the constraints of the field once, so that a
+	 * failure later takes them out of the field as they are
+	 * </p>
+	 *
+	 * <p>
+	 * They are kept by the name of the constraint, as the error details are
+	 * resolved out of the name alone. Hence a constraint of the same name as
+	 * one already resolved (say, the mandatory constraint shared by the
+	 * dependent fields, for a field having its own) is skipped.
+	 * </p>
+	 *
+	 * @param field
+	 * 		the assembled field
+	 *
+	 * @param constraints
+	 * 		the constraints of the field
+	 */
+	public static void resolveErrorDetails(Field field, Constraint[] constraints)
+	{
+		if(null==constraints)
+		{
+			return;
+		}
+
+		for(Constraint constraint : constraints)
+		{
+			if(null!=field.getResolvedErrorDetails(constraint.getName()))
+			{
+				continue;
+			}
+
+			field.setResolvedErrorDetails(constraint.getName(),
+								new ErrorDetails(getFinalErrorCode(constraint, field),
+										getErrorDescTemplate(constraint, field)));
+		}
 	}
 
 	/**
@@ -249,7 +304,30 @@ public class ExceptionHelper
 	 */
 	public static String getFinalErrorDesc(Constraint constraint, Field field)
 	{
-            final String THIS_METHOD_NAME = "getFinalErrorDesc() - ";
+		ErrorDetails resolvedErrorDetails = field.getResolvedErrorDetails(
+												constraint.getName());
+
+		String errorDesc = (null!=resolvedErrorDetails)
+						? resolvedErrorDetails.getErrorDesc()
+						: getErrorDescTemplate(constraint, field);
+
+		/** finally populate the value holder */
+		errorDesc = MessageUtil.getFormattedValue(
+						errorDesc, field.getDisplayName());
+
+		return errorDesc;
+
+	}
+
+	/**
+	 * <p>
+	 * This method returns the error description to be used, NOT formatted
+	 * with the name of the field yet
+	 * </p>
+	 */
+	private static String getErrorDescTemplate(Constraint constraint, Field field)
+	{
+            final String THIS_METHOD_NAME = "getErrorDescTemplate() - ";
             
 		String errorDesc = null;
 
@@ -307,12 +385,7 @@ public class ExceptionHelper
 			errorDesc = constraint.getErrorInfo().getErrorDesc();
 		}
 
-		/** finally populate the value holder */
-		errorDesc = MessageUtil.getFormattedValue(
-						errorDesc, field.getDisplayName());
-
 		return errorDesc;
-
 	}
 
 	/**
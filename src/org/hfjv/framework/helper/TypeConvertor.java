@@ -3,6 +3,8 @@ package org.hfjv.framework.helper;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.hfjv.framework.util.NumberUtil;
+
 /**
  * <p>
  * A helper class to convert the data types of fields and values 
@@ -60,15 +62,13 @@ public class TypeConvertor
 	 */
 	public static int getInt(String str, int defaultInt)
 	{
-		int intVal;
-
-		try {
-			intVal = Integer.parseInt(str);
-		}catch(NumberFormatException nfe) {
-			intVal = defaultInt;
+		/* Scanned first, so that an invalid value does not cost an exception */
+		if(!NumberUtil.isWithinRange(str, Integer.MIN_VALUE, Integer.MAX_VALUE))
+		{
+			return defaultInt;
 		}
 
-		return intVal;
+		return Integer.parseInt(str);
 	}
 
 	/**
@@ -103,15 +103,13 @@ public class TypeConvertor
 	 */
 	public static long getLong(String str, long defaultLong)
 	{
-		long longVal;
-
-		try {
-			longVal = Long.parseLong(str);
-		}catch(NumberFormatException nfe) {
-			longVal= defaultLong;
+		/* Scanned first, so that an invalid value does not cost an exception */
+		if(!NumberUtil.isWithinRange(str, Long.MIN_VALUE, Long.MAX_VALUE))
+		{
+			return defaultLong;
 		}
 
-		return longVal;
+		return Long.parseLong(str);
 	}
 
 	/**
@@ -128,15 +126,13 @@ public class TypeConvertor
 	 */
 	public static Number getNumber(String str)
 	{
-		Number numberVal = -1;
-
-		try {
-			numberVal = new BigInteger(str);
-		}catch(NumberFormatException nfe) {
-			numberVal = -1;
+		/* Scanned first, so that an invalid value does not cost an exception */
+		if(!NumberUtil.isValidBigInteger(str))
+		{
+			return -1;
 		}
 
-		return numberVal;
+		return new BigInteger(str);
 	}
 
 	/**
@@ -1,7 +1,5 @@
 package org.hfjv.framework.impl;
 
-import static org.hfjv.framework.LoggerConstants.LOG_LEVEL_DEBUG;
-
 import java.util.Properties;
 
 import org.apache.log4j.Level;
@@ -314,7 +312,8 @@ public class HFJVLogger implements Logger
 	/**
 	 * <p>
 	 * This method will confirm whether or not the <tt>debug</tt> level
-	 * is enabled for the root logger or not
+	 * is enabled for this logger, as inherited from its ancestors (say the
+	 * root logger) if NOT configured for this logger itself
 	 * </p>
 	 * 
 	 * @return
@@ -322,6 +321,6 @@ public class HFJVLogger implements Logger
 	 */
 	public boolean isDebugEnabled()
 	{
-		return getLevel().equalsIgnoreCase(LOG_LEVEL_DEBUG);
+		return log4jLogger.isDebugEnabled();
 	}
 }
\ No newline at end of file
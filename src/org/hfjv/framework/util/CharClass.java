@@ -0,0 +1,332 @@
+package org.hfjv.framework.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * <p>
+ * An immutable set of characters, compiled once out of the characters and
+ * the ranges of characters configured, so that a character is looked up in
+ * a constant time instead of going through the configuration again.
+ * </p>
+ *
+ * <p>
+ * The ASCII characters are kept in a table of 128 entries. The rest are kept
+ * as the sorted, non overlapping ranges, searched through a binary search.
+ * </p>
+ *
+ * <pre>
+ * CharClass charClass = new CharClass.Builder().addRange('A', 'Z').add('_').build();
+ *
+ * int index = charClass.indexIn(value);
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class CharClass implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -2417905834125571960L;
+
+	/**
+	 * <p>
+	 * The number of the ASCII characters, kept in the table
+	 * </p>
+	 */
+	private static final int ASCII_SIZE = 128;
+
+	/**
+	 * <p>
+	 * Whether or not every ASCII character is in the set, indexed by the
+	 * character
+	 * </p>
+	 */
+	private final boolean[] asciiTable;
+
+	/**
+	 * <p>
+	 * The first characters of the non ASCII ranges, in the ascending order
+	 * </p>
+	 */
+	private final char[] rangeStarts;
+
+	/**
+	 * <p>
+	 * The last characters of the non ASCII ranges, in the same order as the
+	 * <tt>rangeStarts</tt>
+	 * </p>
+	 */
+	private final char[] rangeEnds;
+
+	private final boolean empty;
+
+	/**
+	 * <p>
+	 * A private three argument constructor. Use the <tt>Builder</tt>.
+	 * </p>
+	 */
+	private CharClass(boolean[] asciiTable, char[] rangeStarts, char[] rangeEnds)
+	{
+		this.asciiTable = asciiTable;
+		this.rangeStarts = rangeStarts;
+		this.rangeEnds = rangeEnds;
+
+		boolean anyAscii = false;
+
+		for(boolean inSet : asciiTable)
+		{
+			anyAscii |= inSet;
+		}
+
+		this.empty = !anyAscii && 0==rangeStarts.length;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a character is in the set
+	 * </p>
+	 *
+	 * @param character
+	 * 			the character to be looked up
+	 *
+	 * @return
+	 * 			true if the character is in the set
+	 */
+	public boolean contains(char character)
+	{
+		if(character < ASCII_SIZE)
+		{
+			return asciiTable[character];
+		}
+
+		int low = 0;
+
+		int high = rangeStarts.length - 1;
+
+		while(low <= high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if(character < rangeStarts[middle])
+			{
+				high = middle - 1;
+			}
+			else if(character > rangeEnds[middle])
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method finds the first character of a value, which is in the set
+	 * </p>
+	 *
+	 * @param value
+	 * 			the value to be scanned
+	 *
+	 * @return
+	 * 			the index of the character, -1 if there is none (or the value
+	 * 			is null)
+	 */
+	public int indexIn(String value)
+	{
+		if(null==value || empty)
+		{
+			return -1;
+		}
+
+		for(int index = 0; index < value.length(); index++)
+		{
+			if(contains(value.charAt(index)))
+			{
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not every character of a value is in the
+	 * set
+	 * </p>
+	 *
+	 * @param value
+	 * 			the value to be scanned
+	 *
+	 * @return
+	 * 			true if all the characters are in the set, and also for an
+	 * 			empty value
+	 */
+	public boolean containsAll(String value)
+	{
+		for(int index = 0; index < value.length(); index++)
+		{
+			if(!contains(value.charAt(index)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return whether or not the set is empty
+	 */
+	public boolean isEmpty() {
+		return empty;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder charsInfo = new StringBuilder();
+
+		for(int character = 0; character < ASCII_SIZE; character++)
+		{
+			if(asciiTable[character])
+			{
+				charsInfo.append((char) character);
+			}
+		}
+
+		for(int index = 0; index < rangeStarts.length; index++)
+		{
+			charsInfo.append(rangeStarts[index]).append('-').append(rangeEnds[index]);
+		}
+
+		return "[CharClass] "
+						+ " chars="+charsInfo;
+	}
+
+	/**
+	 * <p>
+	 * A builder of a <tt>CharClass</tt>, to be used by a single thread
+	 * </p>
+	 */
+	public static class Builder
+	{
+		private final boolean[] asciiTable = new boolean[ASCII_SIZE];
+
+		/**
+		 * <p>
+		 * The non ASCII ranges added, as {first, last}
+		 * </p>
+		 */
+		private final ArrayList<char[]> ranges = new ArrayList<char[]>();
+
+		/**
+		 * <p>
+		 * This method adds a character
+		 * </p>
+		 *
+		 * @param character
+		 * 			the character to be added
+		 *
+		 * @return
+		 * 			this builder
+		 */
+		public Builder add(char character)
+		{
+			return addRange(character, character);
+		}
+
+		/**
+		 * <p>
+		 * This method adds a range of characters, both inclusive. An empty
+		 * range (the first character being after the last) adds nothing.
+		 * </p>
+		 *
+		 * @param first
+		 * 			the first character of the range
+		 *
+		 * @param last
+		 * 			the last character of the range
+		 *
+		 * @return
+		 * 			this builder
+		 */
+		public Builder addRange(char first, char last)
+		{
+			if(first > last)
+			{
+				return this;
+			}
+
+			for(int character = first; character <= last && character < ASCII_SIZE;
+																	character++)
+			{
+				asciiTable[character] = true;
+			}
+
+			if(last >= ASCII_SIZE)
+			{
+				ranges.add(new char[] {(char) Math.max(first, ASCII_SIZE), last});
+			}
+
+			return this;
+		}
+
+		/**
+		 * <p>
+		 * This method builds the set of the characters added, with the
+		 * overlapping or adjacent ranges merged
+		 * </p>
+		 *
+		 * @return
+		 * 			a new <tt>CharClass</tt>
+		 */
+		public CharClass build()
+		{
+			Collections.sort(ranges, new Comparator<char[]>()
+			{
+				@Override
+				public int compare(char[] range1, char[] range2)
+				{
+					return range1[0] - range2[0];
+				}
+			});
+
+			char[] starts = new char[ranges.size()];
+
+			char[] ends = new char[ranges.size()];
+
+			int count = 0;
+
+			for(char[] range : ranges)
+			{
+				if(count > 0 && range[0] <= ends[count - 1] + 1)
+				{
+					ends[count - 1] = (char) Math.max(ends[count - 1], range[1]);
+				}
+				else
+				{
+					starts[count] = range[0];
+					ends[count] = range[1];
+					count++;
+				}
+			}
+
+			return new CharClass(asciiTable.clone(), Arrays.copyOf(starts, count),
+													Arrays.copyOf(ends, count));
+		}
+	}
+}
@@ -0,0 +1,325 @@
+package org.hfjv.framework.util;
+
+import java.io.Serializable;
+import java.text.ParseException;
+
+/**
+ * <p>
+ * An immutable range of dates, compiled once out of the range of values
+ * configured for a <tt>date</tt> field, as <tt>&lt;minVal&gt;:&lt;maxVal&gt;</tt>,
+ * so that a date (as its epoch day) is checked through two <tt>long</tt>
+ * comparisons.
+ * </p>
+ *
+ * <p>
+ * Either bound is one of
+ * <ul>
+ * 	<li>a date of the pattern of the field, say <tt>2020-01-01</tt></li>
+ * 	<li><tt>today</tt>, with an optional difference in days, say
+ * 		<tt>today-90</tt> or <tt>today+30</tt></li>
+ * 	<li>empty, for NO bound on that side</li>
+ * </ul>
+ * The dates are parsed into their epoch days upfront. The bounds relative to
+ * today are resolved against the <tt>DateUtil.getPresentEpochDay()</tt>, as
+ * cached until the day changes.
+ * </p>
+ *
+ * <p>
+ * The range is of the dates alone : a pattern may have a time of the day
+ * (say <tt>yyyy-MM-dd HH:mm</tt>), but only the date of a value and of the
+ * bounds is compared, so that all the times of a day are the same. As the
+ * time of the pattern is separated by the same <tt>:</tt> as the bounds,
+ * the range is split at the only <tt>:</tt> leaving a bound of the pattern
+ * (or a relative or an empty one) on either side.
+ * </p>
+ *
+ * <pre>
+ * DateRange notOlderThan90Days = DateRange.parse("today-90:today", "yyyy-MM-dd");
+ *
+ * boolean withinRange = notOlderThan90Days.contains(epochDay);
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class DateRange implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = -3179523366580946021L;
+
+	/**
+	 * <p>
+	 * The keyword of a bound relative to the present date
+	 * </p>
+	 */
+	public static final String BOUND_TODAY = "today";
+
+	/**
+	 * <p>
+	 * The bounds as configured, for the messages
+	 * </p>
+	 */
+	private final String minValue;
+
+	private final String maxValue;
+
+	/**
+	 * <p>
+	 * The bounds as epoch days, or as the differences in days from today if
+	 * they are relative
+	 * </p>
+	 */
+	private final long minBound;
+
+	private final long maxBound;
+
+	private final boolean minRelative;
+
+	private final boolean maxRelative;
+
+	/**
+	 * <p>
+	 * A private six argument constructor. Use the <tt>parse()</tt> method.
+	 * </p>
+	 */
+	private DateRange(String minValue, long minBound, boolean minRelative,
+								String maxValue, long maxBound, boolean maxRelative)
+	{
+		this.minValue = minValue;
+		this.minBound = minBound;
+		this.minRelative = minRelative;
+		this.maxValue = maxValue;
+		this.maxBound = maxBound;
+		this.maxRelative = maxRelative;
+	}
+
+	/**
+	 * <p>
+	 * This method parses the range of values configured into a range of dates
+	 * </p>
+	 *
+	 * @param rangeSeparatedValue
+	 * 			the range of values, as <tt>&lt;minVal&gt;:&lt;maxVal&gt;</tt>
+	 *
+	 * @param pattern
+	 * 			the pattern of the dates of the bounds
+	 *
+	 * @return
+	 * 			the range of dates
+	 *
+	 * @throws ParseException
+	 * 			if the range is NOT properly configured
+	 */
+	public static DateRange parse(String rangeSeparatedValue, String pattern)
+	throws ParseException
+	{
+		if(StringUtil.isInvalidString(rangeSeparatedValue)
+				|| rangeSeparatedValue.indexOf(GlobalUtil.VALUE_RANGE_SEPARATOR)==-1)
+		{
+			throw new ParseException("The range value should be in the format"
+							+ " '<minVal>:<maxVal>' : " + rangeSeparatedValue, 0);
+		}
+
+		int indexOfSeparator = getIndexOfSeparator(rangeSeparatedValue, pattern);
+
+		String minValue = rangeSeparatedValue.substring(0, indexOfSeparator).trim();
+		String maxValue = rangeSeparatedValue.substring(indexOfSeparator+1).trim();
+
+		boolean minRelative = isRelative(minValue);
+		boolean maxRelative = isRelative(maxValue);
+
+		long minBound = (minValue.length()==0) ? Long.MIN_VALUE
+										: parseBound(minValue, minRelative, pattern);
+		long maxBound = (maxValue.length()==0) ? Long.MAX_VALUE
+										: parseBound(maxValue, maxRelative, pattern);
+
+		return new DateRange(minValue, minBound, minRelative,
+										maxValue, maxBound, maxRelative);
+	}
+
+	/**
+	 * <p>
+	 * This method finds the separator of the bounds, being the only
+	 * <tt>:</tt> leaving as many <tt>:</tt> as of the pattern in a date bound
+	 * on either side, and none in a relative or an empty one
+	 * </p>
+	 *
+	 * @throws ParseException
+	 * 			if there is NO such separator, or more than one of them
+	 */
+	private static int getIndexOfSeparator(String rangeSeparatedValue, String pattern)
+	throws ParseException
+	{
+		char separator = GlobalUtil.VALUE_RANGE_SEPARATOR.charAt(0);
+
+		int separatorsOfPattern = (null!=pattern) ? countSeparators(pattern, 0, pattern.length())
+													: 0;
+
+		int indexOfSeparator = -1;
+
+		for(int index = rangeSeparatedValue.indexOf(separator); index!=-1;
+							index = rangeSeparatedValue.indexOf(separator, index + 1))
+		{
+			if(isBoundOfPattern(rangeSeparatedValue, 0, index, separatorsOfPattern)
+					&& isBoundOfPattern(rangeSeparatedValue, index + 1,
+								rangeSeparatedValue.length(), separatorsOfPattern))
+			{
+				if(indexOfSeparator!=-1)
+				{
+					throw new ParseException("The range value can NOT be split into"
+							+ " '<minVal>:<maxVal>' of the pattern '" + pattern
+							+ "' unambiguously : " + rangeSeparatedValue, index);
+				}
+
+				indexOfSeparator = index;
+			}
+		}
+
+		if(indexOfSeparator==-1)
+		{
+			throw new ParseException("The range value should be in the format"
+							+ " '<minVal>:<maxVal>', either bound of the pattern '"
+							+ pattern + "' : " + rangeSeparatedValue, 0);
+		}
+
+		return indexOfSeparator;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the part of the range can be a bound,
+	 * by the number of <tt>:</tt> in it
+	 * </p>
+	 */
+	private static boolean isBoundOfPattern(String rangeSeparatedValue, int beginIndex,
+										int endIndex, int separatorsOfPattern)
+	{
+		String value = rangeSeparatedValue.substring(beginIndex, endIndex).trim();
+
+		int separators = countSeparators(value, 0, value.length());
+
+		return (value.length()==0 || isRelative(value)) ? (0==separators)
+												: (separatorsOfPattern==separators);
+	}
+
+	/**
+	 * <p>
+	 * This method counts the <tt>:</tt> within the characters given
+	 * </p>
+	 */
+	private static int countSeparators(String value, int beginIndex, int endIndex)
+	{
+		char separator = GlobalUtil.VALUE_RANGE_SEPARATOR.charAt(0);
+
+		int separators = 0;
+
+		for(int index = beginIndex; index < endIndex; index++)
+		{
+			if(value.charAt(index)==separator)
+			{
+				separators++;
+			}
+		}
+
+		return separators;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the bound is relative to today
+	 * </p>
+	 */
+	private static boolean isRelative(String value)
+	{
+		return value.regionMatches(true, 0, BOUND_TODAY, 0, BOUND_TODAY.length());
+	}
+
+	/**
+	 * <p>
+	 * This method parses a bound into its epoch day, or into its difference
+	 * in days from today if it is relative
+	 * </p>
+	 */
+	private static long parseBound(String value, boolean relative, String pattern)
+	throws ParseException
+	{
+		if(!relative)
+		{
+			return DateUtil.getEpochDay(value, pattern);
+		}
+
+		String difference = value.substring(BOUND_TODAY.length()).trim();
+
+		if(difference.length()==0)
+		{
+			return 0;
+		}
+
+		char sign = difference.charAt(0);
+
+		if((sign!='+' && sign!='-')
+				|| !NumberUtil.isWithinRange(difference, Integer.MIN_VALUE, Integer.MAX_VALUE))
+		{
+			throw new ParseException("The difference in days should be as"
+							+ " 'today+<days>' or 'today-<days>' : " + value, 0);
+		}
+
+		return NumberUtil.getLongValue(difference);
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a date is within the range, both the
+	 * bounds inclusive
+	 * </p>
+	 *
+	 * @param epochDay
+	 * 			the date, as the number of days from 1970-01-01
+	 *
+	 * @return
+	 * 			true if the date is within the range
+	 */
+	public boolean contains(long epochDay)
+	{
+		long presentEpochDay = (minRelative || maxRelative)
+										? DateUtil.getPresentEpochDay() : 0;
+
+		long minEpochDay = minRelative ? presentEpochDay + minBound : minBound;
+		long maxEpochDay = maxRelative ? presentEpochDay + maxBound : maxBound;
+
+		return (epochDay >= minEpochDay && epochDay <= maxEpochDay);
+	}
+
+	/**
+	 * @return the minimum value as configured, empty if there is NO minimum
+	 */
+	public String getMinValue() {
+		return minValue;
+	}
+
+	/**
+	 * @return the maximum value as configured, empty if there is NO maximum
+	 */
+	public String getMaxValue() {
+		return maxValue;
+	}
+
+	/**
+	 * @return whether or not any of the bounds is relative to today
+	 */
+	public boolean isRelative() {
+		return minRelative || maxRelative;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[DateRange] "
+						+ " minValue="+this.getMinValue()
+						+ ", maxValue="+this.getMaxValue();
+	}
+}
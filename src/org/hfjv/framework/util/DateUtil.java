@@ -1,10 +1,24 @@
 package org.hfjv.framework.util;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hfjv.framework.core.exception.ValidatorException;
 
@@ -12,6 +26,15 @@ import org.hfjv.framework.core.exception.ValidatorException;
  * <p>
  * An utility class to deal with all the date related functionalities
  * </p>
+ *
+ * <p>
+ * The dates are parsed and formatted through the immutable (and thread safe)
+ * <tt>DateTimeFormatter</tt>s, created once per pattern and cached. A date is
+ * parsed strictly, i.e. it should be a date of the calendar (NOT 30 February),
+ * made of all the characters of the value, each field of its width in the
+ * pattern. The patterns <tt>yyyy-MM-dd</tt> and <tt>yyyyMMdd</tt> are parsed
+ * by hand, without creating any object, for a value of their usual form.
+ * </p>
  * 
  * @author M Raghavan alias Saravanan
  * @since HFJV 1.0, 15 July 2011, Friday
@@ -71,6 +94,50 @@ public class DateUtil
 	 */
 	public static final String SEPARATOR_TIME_FORMAT = ":" ;
 
+	/**
+	 * <p>
+	 * The results of the <tt>parseIsoEpochDay()</tt> method, for a value NOT
+	 * of the usual form (to be parsed by the formatter) and for a value which
+	 * is NOT a date of the calendar
+	 * </p>
+	 */
+	private static final long EPOCH_DAY_NOT_PARSED = Long.MIN_VALUE;
+
+	private static final long EPOCH_DAY_INVALID = Long.MIN_VALUE + 1;
+
+	/**
+	 * <p>
+	 * The number of days from 0000-01-01 to 1970-01-01
+	 * </p>
+	 */
+	private static final long DAYS_0000_TO_1970 = 719528L;
+
+	private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
+	/**
+	 * <p>
+	 * The formatters created so far to parse the dates, keyed by their pattern
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<String, DateTimeFormatter> dateTimeFormatterMap =
+								new ConcurrentHashMap<String, DateTimeFormatter>();
+
+	/**
+	 * <p>
+	 * The formatters created so far to format the dates, keyed by their
+	 * pattern
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<String, DateTimeFormatter> outputFormatterMap =
+								new ConcurrentHashMap<String, DateTimeFormatter>();
+
+	/**
+	 * <p>
+	 * The present date, cached until the day changes
+	 * </p>
+	 */
+	private static volatile PresentDay presentDay = null;
+
 	/**
 	 * <p>
 	 * This method returns the date equivalent of the input date in string format
@@ -160,19 +227,14 @@ public class DateUtil
 
 		Date dateObj = null;
 
-		SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
-
 		try {
-			dateObj = sdf.parse(dateInString);
+			dateObj = getDateMatchingWithExactPattern(dateInString, dateFormat);
 		}catch(ParseException parseException) {
 			throw new ValidatorException(fieldName + " is an unparsable date."
 					+ "The format should be in yyyy-mm-dd hh:mm:ss. The time"
 					+ "field is optional");
 		}
 
-		/* For GC */
-		sdf = null;
-		
 		return dateObj;
 	}
 
@@ -189,6 +251,90 @@ public class DateUtil
 		return new Date();
 	}
 
+	/**
+	 * <p>
+	 * This method returns the present system date as the number of days from
+	 * 1970-01-01, as of the default time zone
+	 * </p>
+	 *
+	 * <p>
+	 * The date is cached along with the time span of its day, so that it is
+	 * worked out again only when the clock leaves the day, and otherwise costs
+	 * a <tt>System.currentTimeMillis()</tt> and two comparisons.
+	 * </p>
+	 *
+	 * @return
+	 * 		the number of days from 1970-01-01 of the present system date
+	 */
+	public static long getPresentEpochDay()
+	{
+		long currentMillis = System.currentTimeMillis();
+
+		PresentDay currentDay = presentDay;
+
+		return getPresentDay(currentMillis).epochDay;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the present day cached, worked out again only if the
+	 * time is NOT of that day
+	 * </p>
+	 */
+	private static PresentDay getPresentDay(long currentMillis)
+	{
+		PresentDay currentDay = presentDay;
+
+		if(null==currentDay || !currentDay.isOfDay(currentMillis))
+		{
+			currentDay = new PresentDay(currentMillis);
+
+			presentDay = currentDay;
+		}
+
+		return currentDay;
+	}
+
+	/**
+	 * <p>
+	 * This method returns the present system date and time with the
+	 * differences applied, the same as of the
+	 * <tt>ZonedDateTime.now().plusMonths(diffInMonths).plusDays(diffInDays)</tt>
+	 * </p>
+	 *
+	 * <p>
+	 * The date is worked out of the present day cached, by hand. In a time
+	 * zone of a fixed offset (say UTC), a day is always of 24 hours, hence
+	 * only the <tt>Date</tt> returned is created. In a time zone having got
+	 * the daylight saving, the time of the day on the other date is resolved
+	 * through the <tt>ZonedDateTime</tt>, as its offset can be different.
+	 * </p>
+	 */
+	private static Date getPresentDateWithDiff(long diffInMonths, long diffInDays)
+	{
+		long currentMillis = System.currentTimeMillis();
+
+		PresentDay currentDay = getPresentDay(currentMillis);
+
+		long totalMonths = 12L * currentDay.year + (currentDay.month - 1) + diffInMonths;
+
+		long year = Math.floorDiv(totalMonths, 12);
+
+		if(!currentDay.fixedOffset || year < 0 || year > 9999)
+		{
+			return Date.from(ZonedDateTime.now().plusMonths(diffInMonths)
+												.plusDays(diffInDays).toInstant());
+		}
+
+		int month = (int) Math.floorMod(totalMonths, 12) + 1;
+
+		int day = Math.min(currentDay.dayOfMonth, getMonthLength((int) year, month));
+
+		long epochDay = toEpochDay((int) year, month, day) + diffInDays;
+
+		return new Date(currentMillis + (epochDay - currentDay.epochDay) * MILLIS_PER_DAY);
+	}
+
 	/**
 	 * <p>
 	 * This method returns the custom date value with the passed arguments applied to
@@ -233,7 +379,7 @@ public class DateUtil
 	 */
 	public static Date getCustomDateWithDiffYear(int diffInYears)
 	{
-		return getCustomDate(Calendar.YEAR, diffInYears);
+		return getPresentDateWithDiff(12L * diffInYears, 0);
 	}
 
 
@@ -253,7 +399,7 @@ public class DateUtil
 	 */
 	public static Date getCustomDateWithDiffMonth(int diffInMonths)
 	{
-		return getCustomDate(Calendar.MONTH, diffInMonths);
+		return getPresentDateWithDiff(diffInMonths, 0);
 	}
 
 	/**
@@ -277,7 +423,7 @@ public class DateUtil
 
 	public static Date getCustomDateWithDiffDay(int diffInDays)
 	{
-		return getCustomDate(Calendar.DAY_OF_MONTH, diffInDays);
+		return getPresentDateWithDiff(0, diffInDays);
 	}
 
 	/**
@@ -327,12 +473,8 @@ public class DateUtil
 			outputDatePattern = DEFAULT_DATE_OUTPUT_FORMAT;
 		}
 
-		SimpleDateFormat sdf = new SimpleDateFormat(outputDatePattern);
-		
-		outputDateValue = sdf.format(dateObj);
-		
-		/* For GC */
-		sdf = null;
+		outputDateValue = getOutputDateTimeFormatter(outputDatePattern).format(
+								dateObj.toInstant().atZone(ZoneId.systemDefault()));
 
 		return outputDateValue;
 	}
@@ -360,15 +502,492 @@ public class DateUtil
 																	String dateFormat)
 	throws ParseException
 	{
-		Date dateObj = null;
+		long epochDay = parseIsoEpochDay(dateInString, dateFormat);
 
-		SimpleDateFormat sdf = new SimpleDateFormat(dateFormat);
+		if(EPOCH_DAY_NOT_PARSED!=epochDay)
+		{
+			return getDate(dateInString, epochDay);
+		}
 
-		dateObj = sdf.parse(dateInString);
-		
-		/* For GC */
-		sdf = null;		
+		TemporalAccessor parsedDate = parse(dateInString, dateFormat);
 
-		return dateObj;
+		try
+		{
+			if(parsedDate.isSupported(ChronoField.INSTANT_SECONDS))
+			{
+				return Date.from(Instant.from(parsedDate));
+			}
+
+			LocalTime time = parsedDate.query(TemporalQueries.localTime());
+
+			ZoneId zone = parsedDate.query(TemporalQueries.zone());
+
+			LocalDateTime dateTime = LocalDateTime.of(getLocalDate(parsedDate),
+								(null!=time) ? time : LocalTime.MIDNIGHT);
+
+			return Date.from(dateTime.atZone((null!=zone) ? zone
+										: ZoneId.systemDefault()).toInstant());
+		}
+		catch(DateTimeException dateTimeException)
+		{
+			throw getParseException(dateInString, 0);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method parses the date value passed in the form of <tt>String</tt>
+	 * matching exactly with the dateFormat being passed, into the number of
+	 * days from 1970-01-01, ignoring the time if any
+	 * </p>
+	 *
+	 * <p>
+	 * It is the same as the <tt>getDateMatchingWithExactPattern()</tt>, only
+	 * that NO object is created for a value of the usual form of the
+	 * <tt>yyyy-MM-dd</tt> and the <tt>yyyyMMdd</tt> patterns.
+	 * </p>
+	 *
+	 * @param dateInString
+	 * 		the input date in the form of String
+	 *
+	 * @param dateFormat
+	 * 		the date format to parse the input String
+	 *
+	 * @return
+	 * 		the number of days from 1970-01-01 (negative for a date before)
+	 *
+	 * @throws ParseException
+	 * 		any exceptions while parsing the input String
+	 */
+	public static long getEpochDay(String dateInString, String dateFormat)
+	throws ParseException
+	{
+		long epochDay = parseIsoEpochDay(dateInString, dateFormat);
+
+		if(EPOCH_DAY_INVALID==epochDay)
+		{
+			throw getParseException(dateInString, 0);
+		}
+
+		if(EPOCH_DAY_NOT_PARSED!=epochDay)
+		{
+			return epochDay;
+		}
+
+		TemporalAccessor parsedDate = parse(dateInString, dateFormat);
+
+		try
+		{
+			return getLocalDate(parsedDate).toEpochDay();
+		}
+		catch(DateTimeException dateTimeException)
+		{
+			throw getParseException(dateInString, 0);
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the formatter of the pattern, creating it only if it
+	 * is NOT created already
+	 * </p>
+	 *
+	 * <p>
+	 * The formatter resolves the dates strictly. The year of the pattern
+	 * (<tt>y</tt>) is taken as the proleptic year (<tt>u</tt>), as the year
+	 * of the era is NOT resolved strictly without the era. Without the am-pm
+	 * marker (<tt>a</tt>), the hour of the am-pm (<tt>h</tt>, <tt>K</tt>) is
+	 * taken as the hour of the day (<tt>H</tt>), so that the default
+	 * <tt>yyyy-MM-dd hh:mm:ss</tt> accepts the hours from 00 to 23, as the
+	 * lenient <tt>SimpleDateFormat</tt> did.
+	 * </p>
+	 *
+	 * @param pattern
+	 * 		the date pattern, as of the <tt>SimpleDateFormat</tt>
+	 *
+	 * @return
+	 * 		the formatter of the pattern, shared
+	 *
+	 * @throws IllegalArgumentException
+	 * 		if the pattern is an invalid one
+	 */
+	public static DateTimeFormatter getDateTimeFormatter(String pattern)
+	{
+		return getDateTimeFormatter(dateTimeFormatterMap, pattern, true);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the formatter of the pattern to format the dates,
+	 * creating it only if it is NOT created already. Unlike the one to parse
+	 * the dates, it keeps the hour of the am-pm as it is, so that <tt>hh</tt>
+	 * formats the hours from 01 to 12, as the <tt>SimpleDateFormat</tt> did.
+	 * </p>
+	 *
+	 * @param pattern
+	 * 		the date pattern, as of the <tt>SimpleDateFormat</tt>
+	 *
+	 * @return
+	 * 		the formatter of the pattern, shared
+	 *
+	 * @throws IllegalArgumentException
+	 * 		if the pattern is an invalid one
+	 */
+	public static DateTimeFormatter getOutputDateTimeFormatter(String pattern)
+	{
+		return getDateTimeFormatter(outputFormatterMap, pattern, false);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the formatter of the pattern out of the map, creating
+	 * it only if it is NOT created already
+	 * </p>
+	 */
+	private static DateTimeFormatter getDateTimeFormatter(
+							ConcurrentHashMap<String, DateTimeFormatter> formatterMap,
+							String pattern, boolean forParsing)
+	{
+		DateTimeFormatter dateTimeFormatter = formatterMap.get(pattern);
+
+		if(null==dateTimeFormatter)
+		{
+			dateTimeFormatter = createDateTimeFormatter(pattern, forParsing);
+
+			DateTimeFormatter existingFormatter =
+							formatterMap.putIfAbsent(pattern, dateTimeFormatter);
+
+			if(null!=existingFormatter)
+			{
+				dateTimeFormatter = existingFormatter;
+			}
+		}
+
+		return dateTimeFormatter;
+	}
+
+	/**
+	 * <p>
+	 * This method creates the strict formatter of the pattern
+	 * </p>
+	 */
+	private static DateTimeFormatter createDateTimeFormatter(String pattern,
+															boolean forParsing)
+	{
+		boolean prolepticYear = !hasPatternLetter(pattern, 'G')
+											&& !hasPatternLetter(pattern, 'u');
+
+		boolean hourOfDay = forParsing && !hasPatternLetter(pattern, 'a');
+
+		StringBuilder strictPattern = new StringBuilder(pattern.length());
+
+		boolean quoted = false;
+
+		for(int index = 0; index < pattern.length(); index++)
+		{
+			char patternChar = pattern.charAt(index);
+
+			if('\''==patternChar)
+			{
+				quoted = !quoted;
+			}
+
+			if(prolepticYear && !quoted && 'y'==patternChar)
+			{
+				patternChar = 'u';
+			}
+			else if(hourOfDay && !quoted && ('h'==patternChar || 'K'==patternChar))
+			{
+				patternChar = 'H';
+			}
+
+			strictPattern.append(patternChar);
+		}
+
+		return new DateTimeFormatterBuilder().appendPattern(strictPattern.toString())
+						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not the pattern has the letter, outside
+	 * of its quoted text
+	 * </p>
+	 */
+	private static boolean hasPatternLetter(String pattern, char letter)
+	{
+		boolean quoted = false;
+
+		for(int index = 0; index < pattern.length(); index++)
+		{
+			char patternChar = pattern.charAt(index);
+
+			if('\''==patternChar)
+			{
+				quoted = !quoted;
+			}
+			else if(!quoted && letter==patternChar)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * This method parses the value through the formatter of the pattern
+	 * </p>
+	 */
+	private static TemporalAccessor parse(String dateInString, String dateFormat)
+	throws ParseException
+	{
+		if(null==dateInString)
+		{
+			throw getParseException(dateInString, 0);
+		}
+
+		try
+		{
+			return getDateTimeFormatter(dateFormat).parse(dateInString);
+		}
+		catch(DateTimeParseException dateTimeParseException)
+		{
+			throw getParseException(dateInString, dateTimeParseException.getErrorIndex());
+		}
+	}
+
+	/**
+	 * <p>
+	 * This method gives the date of the parsed value, taking the first of the
+	 * year (of 1970) if the pattern has NO day (and NO month or year)
+	 * </p>
+	 */
+	private static LocalDate getLocalDate(TemporalAccessor parsedDate)
+	{
+		LocalDate date = parsedDate.query(TemporalQueries.localDate());
+
+		if(null!=date)
+		{
+			return date;
+		}
+
+		return LocalDate.of(
+				getField(parsedDate, ChronoField.YEAR, 1970),
+				getField(parsedDate, ChronoField.MONTH_OF_YEAR, 1),
+				getField(parsedDate, ChronoField.DAY_OF_MONTH, 1));
+	}
+
+	private static int getField(TemporalAccessor parsedDate, ChronoField field,
+																int defaultValue)
+	{
+		return parsedDate.isSupported(field) ? parsedDate.get(field) : defaultValue;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the date of the value parsed into the epoch day, at
+	 * the start of the day
+	 * </p>
+	 */
+	private static Date getDate(String dateInString, long epochDay)
+	throws ParseException
+	{
+		if(EPOCH_DAY_INVALID==epochDay)
+		{
+			throw getParseException(dateInString, 0);
+		}
+
+		return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(
+										ZoneId.systemDefault()).toInstant());
+	}
+
+	private static ParseException getParseException(String dateInString, int errorOffset)
+	{
+		return new ParseException("Unparseable date: \"" + dateInString + "\"",
+																errorOffset);
+	}
+
+	/**
+	 * <p>
+	 * This method parses a value of the usual form of the <tt>yyyy-MM-dd</tt>
+	 * (or the <tt>yyyyMMdd</tt>) pattern, i.e. of 4 digits of the year, by
+	 * hand into the epoch day. It gives the <tt>EPOCH_DAY_INVALID</tt> for a
+	 * value which is NOT a date of the calendar, and the
+	 * <tt>EPOCH_DAY_NOT_PARSED</tt> for any other value or pattern, to be
+	 * parsed by the formatter.
+	 * </p>
+	 */
+	private static long parseIsoEpochDay(String dateInString, String dateFormat)
+	{
+		if(null==dateInString)
+		{
+			return EPOCH_DAY_NOT_PARSED;
+		}
+
+		int separatorLength;
+
+		if(DATE_PATTERN_SIMPLE.equals(dateFormat))
+		{
+			if(dateInString.length() != 10 || dateInString.charAt(4) != '-'
+					|| dateInString.charAt(7) != '-')
+			{
+				return EPOCH_DAY_NOT_PARSED;
+			}
+
+			separatorLength = 1;
+		}
+		else if(DATE_OUTPUT_FORMAT_SIMPLE.equals(dateFormat))
+		{
+			if(dateInString.length() != 8)
+			{
+				return EPOCH_DAY_NOT_PARSED;
+			}
+
+			separatorLength = 0;
+		}
+		else
+		{
+			return EPOCH_DAY_NOT_PARSED;
+		}
+
+		int year = getDigits(dateInString, 0, 4);
+		int month = getDigits(dateInString, 4 + separatorLength, 2);
+		int day = getDigits(dateInString, 6 + 2 * separatorLength, 2);
+
+		if(year < 0 || month < 0 || day < 0)
+		{
+			return EPOCH_DAY_NOT_PARSED;
+		}
+
+		if(month < 1 || month > 12 || day < 1 || day > getMonthLength(year, month))
+		{
+			return EPOCH_DAY_INVALID;
+		}
+
+		return toEpochDay(year, month, day);
+	}
+
+	/**
+	 * <p>
+	 * This method gives the epoch day of a date of the calendar, the same as
+	 * the <tt>LocalDate.toEpochDay()</tt>, for a year NOT negative
+	 * </p>
+	 */
+	private static long toEpochDay(int year, int month, int day)
+	{
+		long totalDays = 365L * year + (year + 3) / 4 - (year + 99) / 100
+									+ (year + 399) / 400;
+
+		totalDays += (367 * month - 362) / 12 + day - 1;
+
+		if(month > 2)
+		{
+			totalDays -= isLeapYear(year) ? 1 : 2;
+		}
+
+		return totalDays - DAYS_0000_TO_1970;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the number of the ASCII digits at the position of the
+	 * value, -1 if any of them is NOT a digit
+	 * </p>
+	 */
+	private static int getDigits(String value, int beginIndex, int digitCount)
+	{
+		int number = 0;
+
+		for(int index = beginIndex; index < beginIndex + digitCount; index++)
+		{
+			char digit = value.charAt(index);
+
+			if(digit < '0' || digit > '9')
+			{
+				return -1;
+			}
+
+			number = number * 10 + (digit - '0');
+		}
+
+		return number;
+	}
+
+	private static int getMonthLength(int year, int month)
+	{
+		switch(month)
+		{
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	private static boolean isLeapYear(int year)
+	{
+		return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * <p>
+	 * The present date as an epoch day and as its fields, along with the time
+	 * span of its day in the default time zone
+	 * </p>
+	 */
+	private static final class PresentDay
+	{
+		private final long epochDay;
+
+		private final int year;
+
+		private final int month;
+
+		private final int dayOfMonth;
+
+		/**
+		 * <p>
+		 * Whether or not the time zone is of a fixed offset, i.e. every day
+		 * of it is of 24 hours
+		 * </p>
+		 */
+		private final boolean fixedOffset;
+
+		private final long dayStartMillis;
+
+		private final long nextDayStartMillis;
+
+		private PresentDay(long currentMillis)
+		{
+			ZoneId zone = ZoneId.systemDefault();
+
+			LocalDate presentDate = Instant.ofEpochMilli(currentMillis).atZone(zone).
+																toLocalDate();
+
+			this.epochDay = presentDate.toEpochDay();
+			this.year = presentDate.getYear();
+			this.month = presentDate.getMonthValue();
+			this.dayOfMonth = presentDate.getDayOfMonth();
+			this.fixedOffset = zone.getRules().isFixedOffset();
+			this.dayStartMillis = presentDate.atStartOfDay(zone).toInstant().
+																toEpochMilli();
+			this.nextDayStartMillis = presentDate.plusDays(1).atStartOfDay(zone).
+														toInstant().toEpochMilli();
+		}
+
+		/**
+		 * @return whether or not the time is of this day
+		 */
+		private boolean isOfDay(long currentMillis)
+		{
+			return currentMillis >= dayStartMillis && currentMillis < nextDayStartMillis;
+		}
 	}
 }
\ No newline at end of file
@@ -297,6 +297,32 @@ public class GlobalUtil
 	{
 		return excludeSignBit(value, SIGN_PLUS);
 	}
+
+	/**
+	 * <p>
+	 * This method gives the length of the value without its sign bit if any,
+	 * the same as the length of the {@link #excludeSignBit(String)} of the
+	 * value, without creating a substring (or a <tt>String</tt> at all)
+	 * </p>
+	 *
+	 * @param value
+	 *		the input value, which needs to be evaluated for the presence of a
+	 *		sign bit
+	 *
+	 * @return
+	 *		the length of the value excluding the sign bit, 0 for a null value
+	 */
+	public static int getSignExcludedLength(CharSequence value)
+	{
+		if(StringUtil.isInvalidString(value))
+		{
+			return (null!=value) ? value.length() : 0;
+		}
+
+		char firstChar = value.charAt(0);
+
+		return (firstChar == '+' || firstChar == '-') ? value.length() - 1 : value.length();
+	}
 	
 	/**
 	 * <p>
@@ -0,0 +1,236 @@
+package org.hfjv.framework.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+
+/**
+ * <p>
+ * An immutable set of <tt>long</tt> values, compiled once out of the ranges
+ * of values configured, so that a value is looked up in a logarithmic time
+ * however many ranges are configured.
+ * </p>
+ *
+ * <p>
+ * The ranges are kept sorted and non overlapping, as two arrays of their
+ * first and last values, searched through a binary search.
+ * </p>
+ *
+ * <pre>
+ * LongRangeSet rangeSet = new LongRangeSet.Builder().addRange(100, 199).add(250).build();
+ *
+ * boolean inSet = rangeSet.contains(value);
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class LongRangeSet implements Serializable
+{
+	/**
+	 * <p>
+	 * An IDE (eclipse) generated serialVersionUID
+	 * </p>
+	 */
+	private static final long serialVersionUID = 6683029476310945315L;
+
+	/**
+	 * <p>
+	 * The first values of the ranges, in the ascending order
+	 * </p>
+	 */
+	private final long[] rangeStarts;
+
+	/**
+	 * <p>
+	 * The last values of the ranges, in the same order as the
+	 * <tt>rangeStarts</tt>
+	 * </p>
+	 */
+	private final long[] rangeEnds;
+
+	/**
+	 * <p>
+	 * A private two argument constructor. Use the <tt>Builder</tt>.
+	 * </p>
+	 */
+	private LongRangeSet(long[] rangeStarts, long[] rangeEnds)
+	{
+		this.rangeStarts = rangeStarts;
+		this.rangeEnds = rangeEnds;
+	}
+
+	/**
+	 * <p>
+	 * This method tells whether or not a value is in the set
+	 * </p>
+	 *
+	 * @param value
+	 * 			the value to be looked up
+	 *
+	 * @return
+	 * 			true if the value is within any of the ranges
+	 */
+	public boolean contains(long value)
+	{
+		int low = 0;
+
+		int high = rangeStarts.length - 1;
+
+		while(low <= high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if(value < rangeStarts[middle])
+			{
+				high = middle - 1;
+			}
+			else if(value > rangeEnds[middle])
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return the number of the (merged) ranges
+	 */
+	public int getRangeCount() {
+		return rangeStarts.length;
+	}
+
+	/**
+	 * @return whether or not the set is empty
+	 */
+	public boolean isEmpty() {
+		return 0==rangeStarts.length;
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder rangesInfo = new StringBuilder();
+
+		for(int index = 0; index < rangeStarts.length; index++)
+		{
+			if(index > 0)
+			{
+				rangesInfo.append(',');
+			}
+
+			rangesInfo.append(rangeStarts[index]).append(':').append(rangeEnds[index]);
+		}
+
+		return "[LongRangeSet] "
+						+ " ranges="+rangesInfo;
+	}
+
+	/**
+	 * <p>
+	 * A builder of a <tt>LongRangeSet</tt>, to be used by a single thread
+	 * </p>
+	 */
+	public static class Builder
+	{
+		/**
+		 * <p>
+		 * The ranges added, as {first, last}
+		 * </p>
+		 */
+		private final ArrayList<long[]> ranges = new ArrayList<long[]>();
+
+		/**
+		 * <p>
+		 * This method adds a single value
+		 * </p>
+		 *
+		 * @param value
+		 * 			the value to be added
+		 *
+		 * @return
+		 * 			this builder
+		 */
+		public Builder add(long value)
+		{
+			return addRange(value, value);
+		}
+
+		/**
+		 * <p>
+		 * This method adds a range of values, both inclusive. An empty range
+		 * (the first value being after the last) adds nothing.
+		 * </p>
+		 *
+		 * @param first
+		 * 			the first value of the range
+		 *
+		 * @param last
+		 * 			the last value of the range
+		 *
+		 * @return
+		 * 			this builder
+		 */
+		public Builder addRange(long first, long last)
+		{
+			if(first <= last)
+			{
+				ranges.add(new long[] {first, last});
+			}
+
+			return this;
+		}
+
+		/**
+		 * <p>
+		 * This method builds the set of the ranges added, with the overlapping
+		 * or adjacent ranges merged
+		 * </p>
+		 *
+		 * @return
+		 * 			a new <tt>LongRangeSet</tt>
+		 */
+		public LongRangeSet build()
+		{
+			Collections.sort(ranges, new Comparator<long[]>()
+			{
+				@Override
+				public int compare(long[] range1, long[] range2)
+				{
+					return (range1[0] < range2[0]) ? -1 : ((range1[0] == range2[0]) ? 0 : 1);
+				}
+			});
+
+			long[] starts = new long[ranges.size()];
+
+			long[] ends = new long[ranges.size()];
+
+			int count = 0;
+
+			for(long[] range : ranges)
+			{
+				/* The last one is compared first, so that its + 1 never overflows */
+				if(count > 0 && (ends[count - 1]==Long.MAX_VALUE
+									|| range[0] <= ends[count - 1] + 1))
+				{
+					ends[count - 1] = Math.max(ends[count - 1], range[1]);
+				}
+				else
+				{
+					starts[count] = range[0];
+					ends[count] = range[1];
+					count++;
+				}
+			}
+
+			return new LongRangeSet(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+		}
+	}
+}
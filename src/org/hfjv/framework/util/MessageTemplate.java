@@ -0,0 +1,325 @@
+package org.hfjv.framework.util;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * <p>
+ * An immutable message template, compiled once out of a message configured
+ * with the placeholders of <tt>java.text.MessageFormat</tt>, say
+ * <tt>Value of {0} should NOT exceed {1}</tt>, so that it is formatted any
+ * number of times, by any number of threads, without the pattern being
+ * parsed again.
+ * </p>
+ *
+ * <p>
+ * A template of the plain placeholders (<tt>{0}</tt>, <tt>{1}</tt> ..) is
+ * kept as its literal text and the argument indexes in between, and is
+ * formatted by appending them in order, exactly as the
+ * <tt>MessageFormat</tt> would. A template having a format type or a style
+ * (say <tt>{0,number,#.##}</tt>) keeps a compiled <tt>MessageFormat</tt>
+ * instead, copied for each call, as a <tt>MessageFormat</tt> is NOT thread
+ * safe.
+ * </p>
+ *
+ * <pre>
+ * MessageTemplate template = MessageTemplate.compile("{0} is mandatory", Locale.UK);
+ *
+ * String message = template.format("Account Id");
+ * </pre>
+ *
+ * @author M Raghavan alias Saravanan
+ * @since HFJV 1.1, 18 October 2026, Sunday
+ */
+public final class MessageTemplate
+{
+	private final String pattern;
+
+	private final Locale locale;
+
+	/**
+	 * <p>
+	 * The literal text around the placeholders, one more than the
+	 * <tt>argumentIndexes</tt>. Null if the template is NOT a plain one.
+	 * </p>
+	 */
+	private final String[] literals;
+
+	private final int[] argumentIndexes;
+
+	/**
+	 * <p>
+	 * The compiled <tt>MessageFormat</tt>, to be copied before being used.
+	 * Null if the template is a plain one.
+	 * </p>
+	 */
+	private final MessageFormat messageFormat;
+
+	/**
+	 * <p>
+	 * The approximate length of a formatted message, to size the buffer
+	 * </p>
+	 */
+	private final int estimatedLength;
+
+	/**
+	 * <p>
+	 * A private five argument constructor. Use the <tt>compile()</tt> method.
+	 * </p>
+	 */
+	private MessageTemplate(String pattern, Locale locale, String[] literals,
+								int[] argumentIndexes, MessageFormat messageFormat)
+	{
+		this.pattern = pattern;
+		this.locale = locale;
+		this.literals = literals;
+		this.argumentIndexes = argumentIndexes;
+		this.messageFormat = messageFormat;
+
+		int literalLength = 0;
+
+		if(null!=literals)
+		{
+			for(String literal : literals)
+			{
+				literalLength += literal.length();
+			}
+		}
+
+		this.estimatedLength = literalLength + 16 * ((null!=argumentIndexes)
+												? argumentIndexes.length : 0);
+	}
+
+	/**
+	 * <p>
+	 * This method compiles a message configured into a template
+	 * </p>
+	 *
+	 * @param pattern
+	 * 			the message configured, with the placeholders of the
+	 * 			<tt>MessageFormat</tt>
+	 *
+	 * @param locale
+	 * 			the locale of the numbers and the dates formatted
+	 *
+	 * @return
+	 * 			the compiled template
+	 *
+	 * @throws IllegalArgumentException
+	 * 			if the pattern is invalid, as the <tt>MessageFormat</tt> would
+	 */
+	public static MessageTemplate compile(String pattern, Locale locale)
+	{
+		/* Validates the pattern, exactly as it was being formatted earlier */
+		MessageFormat messageFormat = new MessageFormat(pattern, locale);
+
+		ArrayList<String> literalList = new ArrayList<String>();
+		ArrayList<Integer> argumentIndexList = new ArrayList<Integer>();
+
+		if(!parsePlainPattern(pattern, literalList, argumentIndexList))
+		{
+			return new MessageTemplate(pattern, locale, null, null, messageFormat);
+		}
+
+		String[] literals = literalList.toArray(new String[literalList.size()]);
+		int[] argumentIndexes = new int[argumentIndexList.size()];
+
+		for(int i=0; i<argumentIndexes.length; i++)
+		{
+			argumentIndexes[i] = argumentIndexList.get(i);
+		}
+
+		return new MessageTemplate(pattern, locale, literals, argumentIndexes, null);
+	}
+
+	/**
+	 * <p>
+	 * This method splits a pattern of the plain placeholders into its literal
+	 * text and the argument indexes, following the quoting of the
+	 * <tt>MessageFormat</tt>. It returns false, leaving the template to the
+	 * <tt>MessageFormat</tt>, on anything else within the braces.
+	 * </p>
+	 */
+	private static boolean parsePlainPattern(String pattern,
+						ArrayList<String> literalList, ArrayList<Integer> argumentIndexList)
+	{
+		StringBuilder literal = new StringBuilder(pattern.length());
+
+		boolean inQuote = false;
+
+		int length = pattern.length();
+
+		for(int i=0; i<length; i++)
+		{
+			char ch = pattern.charAt(i);
+
+			if(ch=='\'')
+			{
+				if(i+1<length && pattern.charAt(i+1)=='\'')
+				{
+					literal.append(ch);
+					i++;
+				}
+				else
+				{
+					inQuote = !inQuote;
+				}
+			}
+			else if(ch=='{' && !inQuote)
+			{
+				int indexOfClose = pattern.indexOf('}', i+1);
+
+				if(indexOfClose==-1 || indexOfClose==i+1)
+				{
+					return false;
+				}
+
+				int argumentIndex = 0;
+
+				for(int j=i+1; j<indexOfClose; j++)
+				{
+					char digit = pattern.charAt(j);
+
+					if(digit<'0' || digit>'9')
+					{
+						return false;
+					}
+
+					argumentIndex = argumentIndex * 10 + (digit - '0');
+				}
+
+				literalList.add(literal.toString());
+				argumentIndexList.add(argumentIndex);
+
+				literal.setLength(0);
+
+				i = indexOfClose;
+			}
+			else
+			{
+				literal.append(ch);
+			}
+		}
+
+		literalList.add(literal.toString());
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method formats the template with the values supplied for the
+	 * placeholders, in order
+	 * </p>
+	 *
+	 * @param valuesArray
+	 * 			the values to be filled in the appropriate placeholders
+	 *
+	 * @return
+	 * 			the formatted message, the same as of the
+	 * 			<tt>MessageFormat.format()</tt>
+	 */
+	public String format(Object... valuesArray)
+	{
+		if(null!=messageFormat)
+		{
+			return ((MessageFormat) messageFormat.clone()).format(valuesArray);
+		}
+
+		if(argumentIndexes.length==0)
+		{
+			return literals[0];
+		}
+
+		StringBuilder message = new StringBuilder(estimatedLength);
+
+		for(int i=0; i<argumentIndexes.length; i++)
+		{
+			message.append(literals[i]);
+
+			appendValue(message, argumentIndexes[i], valuesArray);
+		}
+
+		message.append(literals[argumentIndexes.length]);
+
+		return message.toString();
+	}
+
+	/**
+	 * <p>
+	 * This method appends a value as the <tt>MessageFormat</tt> does for a
+	 * placeholder with NO format type, leaving the placeholder as it is if
+	 * there is NO value supplied for it
+	 * </p>
+	 */
+	private void appendValue(StringBuilder message, int argumentIndex,
+													Object[] valuesArray)
+	{
+		if(null==valuesArray || argumentIndex>=valuesArray.length)
+		{
+			message.append('{').append(argumentIndex).append('}');
+
+			return;
+		}
+
+		Object value = valuesArray[argumentIndex];
+
+		if(null==value)
+		{
+			message.append("null");
+		}
+		else if(value instanceof String)
+		{
+			message.append((String) value);
+		}
+		else if(value instanceof Number)
+		{
+			message.append(NumberFormat.getInstance(locale).format(value));
+		}
+		else if(value instanceof Date)
+		{
+			message.append(DateFormat.getDateTimeInstance(DateFormat.SHORT,
+										DateFormat.SHORT, locale).format(value));
+		}
+		else
+		{
+			String valueAsString = value.toString();
+
+			message.append((null!=valueAsString) ? valueAsString : "null");
+		}
+	}
+
+	/**
+	 * @return the message configured
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * @return the locale of the numbers and the dates formatted
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * @return whether or not the template is of the plain placeholders only
+	 */
+	public boolean isPlain() {
+		return null==messageFormat;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "[MessageTemplate] "
+						+ " pattern="+this.getPattern()
+						+ ", locale="+this.getLocale()
+						+ ", plain="+this.isPlain();
+	}
+}
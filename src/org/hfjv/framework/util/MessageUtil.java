@@ -1,8 +1,11 @@
 package org.hfjv.framework.util;
 
-import java.text.MessageFormat;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hfjv.framework.core.constants.MessageConstants;
 
@@ -31,6 +34,41 @@ public class MessageUtil
 	 */
 	private static final String HFJV_MSG_PROPERTIES = "hfjv-msg.properties";
 
+	/**
+	 * <p>
+	 * A class level constant to hold the base name of the message properties
+	 * files, say <tt>hfjv-msg_fr_CA.properties</tt>, of a locale
+	 * </p>
+	 */
+	private static final String HFJV_MSG_BASE_NAME = "hfjv-msg";
+
+	/**
+	 * <p>
+	 * The maximum number of templates cached for a locale, so that the
+	 * messages formatted on the fly do NOT grow the cache unbounded
+	 * </p>
+	 */
+	private static final int MAX_TEMPLATES_PER_LOCALE = 1024;
+
+	/**
+	 * <p>
+	 * The messages of each of the locales asked for, loaded once, falling
+	 * back to the messages of the less specific locales and finally to the
+	 * <tt>_msgProperties</tt>
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<Locale, Properties> _localeMsgPropertiesMap =
+									new ConcurrentHashMap<Locale, Properties>();
+
+	/**
+	 * <p>
+	 * The compiled message templates of each of the locales, keyed by the
+	 * message configured
+	 * </p>
+	 */
+	private static final ConcurrentHashMap<Locale, ConcurrentHashMap<String, MessageTemplate>>
+		_templateMap = new ConcurrentHashMap<Locale, ConcurrentHashMap<String, MessageTemplate>>();
+
 	/**
 	 * <p>
 	 * A class level <tt>HashMap</tt> to hold the key for error code
@@ -77,6 +115,8 @@ public class MessageUtil
 								HFJV_MSG_PROPERTIES);
 		}
 
+		clearCaches();
+
 		System.out.println("initMsgProperties() - EXIT");
 	}
 
@@ -106,6 +146,26 @@ public class MessageUtil
 		return _msgProperties.getProperty(key);
 	}
 
+	/**
+	 * <p>
+	 * This method returns the error message of the given locale for the given
+	 * key, falling back to the default error message
+	 * </p>
+	 *
+	 * @param key
+	 * 		the key for the error message configured
+	 *
+	 * @param locale
+	 * 		the locale of the error message
+	 *
+	 * @return
+	 * 		the configured error message
+	 */
+	public static String getDefaultErrorMsg(String key, Locale locale)
+	{
+		return getMsgProperties(locale).getProperty(key);
+	}
+
 	/**
 	 * <p>
 	 * This method gets the <tt>formatted</tt> message configured in the
@@ -157,7 +217,40 @@ public class MessageUtil
 	{
 		String msgConfigured = _msgProperties.getProperty(key);
 
-		String formattedErrorMsg = MessageFormat.format(msgConfigured, valuesArray);
+		String formattedErrorMsg = getFormattedValue(msgConfigured, valuesArray);
+
+		return formattedErrorMsg;
+	}
+
+	/**
+	 * <p>
+	 * This method gets the framework oriented <tt>formatted</tt> message of
+	 * the given locale, falling back to the default message, by supplying
+	 * the values in the <tt>valuesArray</tt> in order to the <tt>pattern</tt>
+	 * specified in the message configured
+	 * </p>
+	 *
+	 * @param locale
+	 *		the locale of the message, and of the values formatted
+	 *
+	 * @param key
+	 *		the key to pick up the raw/configured message with a pattern
+	 *
+	 * @param valuesArray
+	 *		the values to be filled in the appropriate place holders
+	 *		in order
+	 *
+	 * @return
+	 * 	the formatted message with the values supplied for all the
+	 *		place holders
+	 */
+	public static String getFormattedFrameworkMsg(Locale locale, String key,
+													Object... valuesArray)
+	{
+		String msgConfigured = getMsgProperties(locale).getProperty(key);
+
+		String formattedErrorMsg = getMessageTemplate(msgConfigured, locale)
+													.format(valuesArray);
 
 		return formattedErrorMsg;
 	}
@@ -212,7 +305,7 @@ public class MessageUtil
 	{
 		String msgConfigured = _propertyUtil.getProperty(key);
 
-		String formattedErrorMsg = MessageFormat.format(msgConfigured, valuesArray);
+		String formattedErrorMsg = getFormattedValue(msgConfigured, valuesArray);
 
 		return formattedErrorMsg;
 	}
@@ -237,11 +330,61 @@ public class MessageUtil
 	 */
 	public static String getFormattedValue(String msgConfigured, Object... valuesArray)
 	{
-		String formattedErrorMsg = MessageFormat.format(msgConfigured, valuesArray);
+		String formattedErrorMsg = getMessageTemplate(msgConfigured,
+						Locale.getDefault(Locale.Category.FORMAT)).format(valuesArray);
 
 		return formattedErrorMsg;
 	}
 
+	/**
+	 * <p>
+	 * This method returns the compiled template of the message configured,
+	 * compiling it only if it is NOT compiled already for the locale
+	 * </p>
+	 *
+	 * @param msgConfigured
+	 *		the raw/configured message with a pattern
+	 *
+	 * @param locale
+	 *		the locale of the values formatted
+	 *
+	 * @return
+	 * 		the compiled template
+	 */
+	public static MessageTemplate getMessageTemplate(String msgConfigured, Locale locale)
+	{
+		if(null==msgConfigured)
+		{
+			/* As the MessageFormat.format() did */
+			throw new NullPointerException("The message configured is null");
+		}
+
+		ConcurrentHashMap<String, MessageTemplate> templateMapOfLocale =
+														_templateMap.get(locale);
+
+		if(null==templateMapOfLocale)
+		{
+			_templateMap.putIfAbsent(locale,
+							new ConcurrentHashMap<String, MessageTemplate>());
+
+			templateMapOfLocale = _templateMap.get(locale);
+		}
+
+		MessageTemplate messageTemplate = templateMapOfLocale.get(msgConfigured);
+
+		if(null==messageTemplate)
+		{
+			messageTemplate = MessageTemplate.compile(msgConfigured, locale);
+
+			if(templateMapOfLocale.size() < MAX_TEMPLATES_PER_LOCALE)
+			{
+				templateMapOfLocale.putIfAbsent(msgConfigured, messageTemplate);
+			}
+		}
+
+		return messageTemplate;
+	}
+
 	/**
 	 * <p>
 	 * This method returns the property value of the given key
@@ -272,6 +415,114 @@ public class MessageUtil
 		return _msgProperties;
 	}
 
+	/**
+	 * <p>
+	 * This method returns the configured message map of the given locale,
+	 * loading the <tt>hfjv-msg_&lt;locale&gt;.properties</tt> files on the
+	 * classpath only once. A key NOT configured for the locale falls back to
+	 * the less specific locale, and finally to the default message map.
+	 * </p>
+	 *
+	 * @param locale
+	 * 		the locale of the messages
+	 *
+	 * @return
+	 * 		the <tt>java.util.Properties</tt> instance of the locale
+	 */
+	public static Properties getMsgProperties(Locale locale)
+	{
+		Properties localeMsgProperties = _localeMsgPropertiesMap.get(locale);
+
+		if(null==localeMsgProperties)
+		{
+			localeMsgProperties = loadMsgProperties(locale);
+
+			Properties loadedAlready = _localeMsgPropertiesMap.putIfAbsent(
+											locale, localeMsgProperties);
+
+			if(null!=loadedAlready)
+			{
+				localeMsgProperties = loadedAlready;
+			}
+		}
+
+		return localeMsgProperties;
+	}
+
+	/**
+	 * <p>
+	 * This method loads the messages of a locale, chaining the files of the
+	 * language, the country and the variant, whichever exist, in front of
+	 * the default message map
+	 * </p>
+	 */
+	private static Properties loadMsgProperties(Locale locale)
+	{
+		Properties msgProperties = _msgProperties;
+
+		String suffix = "";
+
+		String[] localeParts = {locale.getLanguage(), locale.getCountry(),
+														locale.getVariant()};
+
+		for(String localePart : localeParts)
+		{
+			if(StringUtil.isInvalidString(localePart))
+			{
+				break;
+			}
+
+			suffix = suffix + "_" + localePart;
+
+			InputStream is = Thread.currentThread().getContextClassLoader()
+					.getResourceAsStream(HFJV_MSG_BASE_NAME + suffix + ".properties");
+
+			if(null==is)
+			{
+				continue;
+			}
+
+			Properties localePartProperties = new Properties(msgProperties);
+
+			try
+			{
+				localePartProperties.load(is);
+
+				msgProperties = localePartProperties;
+			}
+			catch(IOException ioException)
+			{
+				System.err.println("Unable to load the file : " + HFJV_MSG_BASE_NAME
+								+ suffix + ".properties, " + ioException.getMessage());
+			}
+			finally
+			{
+				try
+				{
+					is.close();
+				}
+				catch(IOException ioException)
+				{
+					/* Nothing more to be done */
+				}
+			}
+		}
+
+		return msgProperties;
+	}
+
+	/**
+	 * <p>
+	 * This method clears the messages of the locales and the compiled
+	 * templates, as the message properties are replaced
+	 * </p>
+	 */
+	private static void clearCaches()
+	{
+		_localeMsgPropertiesMap.clear();
+		_templateMap.clear();
+	}
+
 	/**
 	 * <p>
 	 * This message sets the message properties
@@ -283,6 +534,8 @@ public class MessageUtil
 	public static void setMsgProperties(Properties properties)
 	{
 		_msgProperties = properties;
+
+		clearCaches();
 	}
 	
 	/**
@@ -1,7 +1,5 @@
 package org.hfjv.framework.util;
 
-import java.math.BigDecimal;
-
 /**
  * <p>
  * An utility class to deal with the numeric values
@@ -12,6 +10,13 @@ import java.math.BigDecimal;
  */
 public class NumberUtil
 {
+	/**
+	 * <p>
+	 * The maximum number of digits of a value, which always fits in a
+	 * <tt>long</tt> whatever the digits are
+	 * </p>
+	 */
+	public static final int MAX_LONG_DIGITS = 18;
 
 	/**
 	 * <p>
@@ -38,7 +43,8 @@ public class NumberUtil
 	 * </p>
 	 *
 	 * @param str
-	 * 			the numeric value passed as a <tt>java.lang.String</tt>
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>, or any
+	 * 			other <tt>CharSequence</tt>
 	 * 
 	 * @param type
 	 * 			the data type of the value being passed
@@ -46,46 +52,412 @@ public class NumberUtil
 	 * @return
 	 * 			a true/false indicating the status
 	 */
-	@SuppressWarnings("unused")
-	public static boolean isValidNumber(String str, String type)
+	public static boolean isValidNumber(CharSequence str, String type)
 	{
 		if(StringUtil.isInvalidString(str) || StringUtil.isInvalidString(type))
 		{
 			return false;
 		}
 
-		/** What if the value contains a sign digit at first? a "-" or "+" ? */
-		str = GlobalUtil.excludeSignBit(str);
+		/*
+		 * What if the value contains a sign digit at first? a "-" or "+" ?
+		 * Skipped over, the same as the GlobalUtil.excludeSignBit() but
+		 * without a substring.
+		 */
+		char firstChar = str.charAt(0);
+
+		int fromIndex = (firstChar == '+' || firstChar == '-') ? 1 : 0;
+
+		/*
+		 * The value is scanned rather than parsed, as a parse of an invalid
+		 * value costs a NumberFormatException with its stack trace.
+		 */
+		if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BYTE))
+		{
+			return isWithinRange(str, fromIndex, Byte.MIN_VALUE, Byte.MAX_VALUE);
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_SHORT))
+		{
+			return isWithinRange(str, fromIndex, Short.MIN_VALUE, Short.MAX_VALUE);
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_INT))
+		{
+			return isWithinRange(str, fromIndex, Integer.MIN_VALUE, Integer.MAX_VALUE);
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_LONG))
+		{
+			return isWithinRange(str, fromIndex, Long.MIN_VALUE, Long.MAX_VALUE);
+		}
+		else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BIGDECIMAL))
+		{
+			return isValidBigDecimal(str, fromIndex);
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method returns whether or not the passed value is an integral number
+	 * within the given bounds, accepting the same input as
+	 * <tt>Long.parseLong()</tt> (an optional sign followed by the digits)
+	 * without throwing any exception.
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>, or any
+	 * 			other <tt>CharSequence</tt>
+	 *
+	 * @param minValue
+	 * 			the minimum value allowed, inclusive
+	 *
+	 * @param maxValue
+	 * 			the maximum value allowed, inclusive
+	 *
+	 * @return
+	 * 			a true/false indicating the status
+	 */
+	public static boolean isWithinRange(CharSequence str, long minValue, long maxValue)
+	{
+		return isWithinRange(str, 0, minValue, maxValue);
+	}
+
+	/**
+	 * <p>
+	 * The {@link #isWithinRange(CharSequence, long, long)} method, for the
+	 * characters of the value from the given index onwards
+	 * </p>
+	 */
+	private static boolean isWithinRange(CharSequence str, int fromIndex,
+											long minValue, long maxValue)
+	{
+		if(null==str || fromIndex>=str.length())
+		{
+			return false;
+		}
+
+		int length = str.length();
+		int index = fromIndex;
+
+		boolean isNegative = false;
+
+		/* accumulated negatively, as the MIN_VALUE has no positive counterpart */
+		long limit = -Long.MAX_VALUE;
+
+		char firstChar = str.charAt(index);
+
+		if(firstChar < '0')
+		{
+			if(firstChar == '-')
+			{
+				isNegative = true;
+				limit = Long.MIN_VALUE;
+			}
+			else if(firstChar != '+')
+			{
+				return false;
+			}
+
+			if(index + 1==length)
+			{
+				return false;
+			}
+
+			index++;
+		}
+
+		long multiplyLimit = limit / 10;
+		long result = 0;
+		int digit = -1;
+
+		while(index < length)
+		{
+			digit = Character.digit(str.charAt(index++), 10);
+
+			if(digit < 0 || result < multiplyLimit)
+			{
+				return false;
+			}
+
+			result *= 10;
+
+			if(result < limit + digit)
+			{
+				return false;
+			}
+
+			result -= digit;
+		}
+
+		long value = isNegative ? result : -result;
+
+		return (value >= minValue && value <= maxValue);
+	}
+
+	/**
+	 * <p>
+	 * This method returns whether or not the passed value is an integral number
+	 * of any length, accepting the same input as <tt>new BigInteger(str)</tt>
+	 * without throwing any exception.
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>, or any
+	 * 			other <tt>CharSequence</tt>
+	 *
+	 * @return
+	 * 			a true/false indicating the status
+	 */
+	public static boolean isValidBigInteger(CharSequence str)
+	{
+		if(null==str || 0==str.length())
+		{
+			return false;
+		}
+
+		int index = 0;
+
+		char firstChar = str.charAt(0);
+
+		if(firstChar == '-' || firstChar == '+')
+		{
+			index++;
+		}
+
+		if(index == str.length())
+		{
+			return false;
+		}
+
+		for(; index < str.length(); index++)
+		{
+			if(Character.digit(str.charAt(index), 10) < 0)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method returns whether or not the passed value is an integral number
+	 * of at most <tt>MAX_LONG_DIGITS</tt> digits, which can be parsed by the
+	 * {@link #getLongValue(String)} method without any overflow. It accepts the
+	 * same input as <tt>new BigInteger(str)</tt> otherwise.
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>
+	 *
+	 * @return
+	 * 			a true/false indicating the status
+	 */
+	public static boolean isLongValue(String str)
+	{
+		if(null==str || 0==str.length())
+		{
+			return false;
+		}
+
+		int index = 0;
+
+		char firstChar = str.charAt(0);
 
-		boolean isValidNumber = true;
+		if(firstChar == '-' || firstChar == '+')
+		{
+			index++;
+		}
+
+		int digitCount = str.length() - index;
+
+		if(0==digitCount || digitCount > MAX_LONG_DIGITS)
+		{
+			return false;
+		}
 
-		try {
-			if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BYTE))
+		for(; index < str.length(); index++)
+		{
+			if(Character.digit(str.charAt(index), 10) < 0)
 			{
-				Byte byteVal = Byte.parseByte(str);
+				return false;
 			}
-			else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_SHORT))
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * This method parses a value already ensured by the
+	 * {@link #isLongValue(String)} method, without creating any object
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>
+	 *
+	 * @return
+	 * 			the value as a <tt>long</tt>
+	 */
+	public static long getLongValue(String str)
+	{
+		int index = 0;
+
+		boolean isNegative = false;
+
+		char firstChar = str.charAt(0);
+
+		if(firstChar == '-' || firstChar == '+')
+		{
+			isNegative = (firstChar == '-');
+			index++;
+		}
+
+		long result = 0;
+
+		for(; index < str.length(); index++)
+		{
+			result = result * 10 + Character.digit(str.charAt(index), 10);
+		}
+
+		return isNegative ? -result : result;
+	}
+
+	/**
+	 * <p>
+	 * This method gives the sign of an integral value of any length and of
+	 * any radix, already ensured to be a valid one (an optional sign followed
+	 * by the ASCII digits), without parsing it
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>
+	 *
+	 * @return
+	 * 			-1, 0 or 1 as the value is negative, zero or positive, the same
+	 * 			as the <tt>signum()</tt> of its <tt>BigInteger</tt>
+	 */
+	public static int getSignum(String str)
+	{
+		int index = 0;
+
+		char firstChar = str.charAt(0);
+
+		if(firstChar == '-' || firstChar == '+')
+		{
+			index++;
+		}
+
+		for(; index < str.length(); index++)
+		{
+			if(str.charAt(index) != '0')
 			{
-				Short shortVal = Short.parseShort(str);
+				return (firstChar == '-') ? -1 : 1;
 			}
-			else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_INT))
+		}
+
+		return 0;
+	}
+
+	/**
+	 * <p>
+	 * This method returns whether or not the passed value is a decimal number,
+	 * accepting the same input as <tt>new BigDecimal(str)</tt> (an optional
+	 * sign, the digits with an optional fraction and an optional exponent)
+	 * without throwing any exception.
+	 * </p>
+	 *
+	 * @param str
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>, or any
+	 * 			other <tt>CharSequence</tt>
+	 *
+	 * @return
+	 * 			a true/false indicating the status
+	 */
+	public static boolean isValidBigDecimal(CharSequence str)
+	{
+		return isValidBigDecimal(str, 0);
+	}
+
+	/**
+	 * <p>
+	 * The {@link #isValidBigDecimal(CharSequence)} method, for the characters
+	 * of the value from the given index onwards
+	 * </p>
+	 */
+	private static boolean isValidBigDecimal(CharSequence str, int fromIndex)
+	{
+		if(null==str || fromIndex>=str.length())
+		{
+			return false;
+		}
+
+		int length = str.length();
+		int index = fromIndex;
+
+		char eachChar = str.charAt(index);
+
+		if(eachChar == '-' || eachChar == '+')
+		{
+			index++;
+		}
+
+		int digitCount = 0;
+		int fractionDigitCount = 0;
+
+		boolean isDotFound = false;
+
+		for(; index < length; index++)
+		{
+			eachChar = str.charAt(index);
+
+			if(Character.isDigit(eachChar))
 			{
-				Integer intVal = Integer.parseInt(str);
+				digitCount++;
+
+				if(isDotFound)
+				{
+					fractionDigitCount++;
+				}
 			}
-			else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_LONG))
+			else if(eachChar == '.' && !isDotFound)
 			{
-				Long longVal = Long.parseLong(str);
+				isDotFound = true;
 			}
-			else if(type.equalsIgnoreCase(GlobalUtil.DATATYPE_NUMBER_BIGDECIMAL))
+			else
 			{
-				BigDecimal bd = new BigDecimal(str);
+				break;
 			}
-		}catch(NumberFormatException nfe) {
-			isValidNumber = false;
 		}
 
-		return isValidNumber;
+		if(0==digitCount)
+		{
+			return false;
+		}
 
+		/* No exponent */
+		if(index == length)
+		{
+			return true;
+		}
+
+		if(eachChar != 'e' && eachChar != 'E')
+		{
+			return false;
+		}
+
+		/* The exponent has to be an int, and so the resulting scale */
+		String exponent = str.subSequence(index + 1, length).toString();
+
+		if(!isWithinRange(exponent, Integer.MIN_VALUE, Integer.MAX_VALUE))
+		{
+			return false;
+		}
+
+		long scale = (long) fractionDigitCount - Long.parseLong(exponent);
+
+		return (scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE);
 	}
 
 	/**
@@ -117,7 +489,7 @@ public class NumberUtil
 	 * @return
 	 *		true or false depends on the actual value
 	 */
-	public static  boolean isValueMinusOne(String stringVal)
+	public static  boolean isValueMinusOne(CharSequence stringVal)
 	{
 		if(StringUtil.isInvalidString(stringVal))
 		{
@@ -180,7 +552,8 @@ public class NumberUtil
 	 * </p>
 	 *
 	 * @param str
-	 * 			the numeric value passed as a <tt>java.lang.String</tt>
+	 * 			the numeric value passed as a <tt>java.lang.String</tt>, or any
+	 * 			other <tt>CharSequence</tt>
 	 * 
 	 * @param type
 	 * 			the data type of the value being passed
@@ -188,7 +561,7 @@ public class NumberUtil
 	 * @return
 	 * 			a true/false indicating the status
 	 */
-	public static boolean isInvalidNumber(String str, String type)
+	public static boolean isInvalidNumber(CharSequence str, String type)
 	{
 		return !isValidNumber(str, type);
 	}
@@ -47,10 +47,11 @@ public class PropertyUtil
 
 	/**
 	 * <p>
-	 * A class level instance of this class, to be used for singleton
+	 * A class level instance of this class, to be used for singleton. Created
+	 * along with the class, hence never raced by the threads.
 	 * </p>
 	 */
-	private static PropertyUtil _instance = null;
+	private static final PropertyUtil _instance = new PropertyUtil();
 
 	/**
 	 * <p>
@@ -78,11 +79,6 @@ public class PropertyUtil
 	 */
 	public static PropertyUtil getInstance()
 	{
-		if(null==_instance)
-		{
-			_instance = new PropertyUtil();
-		}
-
 		return _instance;
 	}
 
@@ -400,9 +396,12 @@ public class PropertyUtil
 		String tentativeKey = null;
 		String value = null;
 
-		while(keySetIterator.hasNext())
+		/* A fresh iterator, as the shared one is exhausted after a single use */
+		Iterator<Object> keysIterator = _properties.keySet().iterator();
+
+		while(keysIterator.hasNext())
 		{
-			tentativeKey = (String) keySetIterator.next();
+			tentativeKey = (String) keysIterator.next();
 
 			if(tentativeKey.startsWith(keyToSearch))
 			{
@@ -434,9 +433,12 @@ public class PropertyUtil
 		String tentativeKey = null;
 		String value = null;
 
-		while(keySetIterator.hasNext())
+		/* A fresh iterator, as the shared one is exhausted after a single use */
+		Iterator<Object> keysIterator = _properties.keySet().iterator();
+
+		while(keysIterator.hasNext())
 		{
-			tentativeKey = (String) keySetIterator.next();
+			tentativeKey = (String) keysIterator.next();
 
 			if(tentativeKey.startsWith(keyToSearch))
 			{
@@ -435,6 +435,144 @@ public class StringUtil
 		return !isValidString(strToCheck);
 	}
 
+	/**
+	 * <p>
+	 * A <tt>CharSequence</tt> counterpart of the {@link #isValidString(String)}
+	 * method, which scans the characters without creating a <tt>String</tt>
+	 * out of them (or trimming them)
+	 * </p>
+	 *
+	 * @param charsToCheck
+	 * 				the input characters to be checked
+	 *
+	 * @return
+	 * 			true if NOT null and having got a character other than the
+	 * 			ones removed by the <tt>String.trim()</tt>; false otherwise
+	 */
+	public static boolean isValidString(CharSequence charsToCheck)
+	{
+		if(null==charsToCheck)
+		{
+			return false;
+		}
+
+		for(int index = 0; index < charsToCheck.length(); index++)
+		{
+			if(charsToCheck.charAt(index) > ' ')
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * A <tt>CharSequence</tt> counterpart of the {@link #isInvalidString(String)}
+	 * method
+	 * </p>
+	 *
+	 * @param charsToCheck
+	 * 				the input characters to be checked
+	 *
+	 * @return
+	 * 			true if invalid; false otherwise
+	 */
+	public static boolean isInvalidString(CharSequence charsToCheck)
+	{
+		return !isValidString(charsToCheck);
+	}
+
+	/**
+	 * <p>
+	 * This method returns the length of the characters passed as if they are
+	 * trimmed by the <tt>String.trim()</tt>, without trimming them
+	 * </p>
+	 *
+	 * @param chars
+	 * 				the input characters
+	 *
+	 * @return
+	 * 			the trimmed length, 0 if the input is null
+	 */
+	public static int getTrimmedLength(CharSequence chars)
+	{
+		if(null==chars)
+		{
+			return 0;
+		}
+
+		int start = 0;
+
+		int end = chars.length();
+
+		while(start < end && chars.charAt(start) <= ' ')
+		{
+			start++;
+		}
+
+		while(end > start && chars.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+
+		return end - start;
+	}
+
+	/**
+	 * <p>
+	 * This method returns whether or not the characters passed are the same
+	 * as the <tt>String</tt>, ignoring the case, exactly as the
+	 * <tt>String.equalsIgnoreCase()</tt> tells
+	 * </p>
+	 *
+	 * @param chars
+	 * 				the input characters, NOT null
+	 *
+	 * @param str
+	 * 				the <tt>String</tt> to compare with
+	 *
+	 * @return
+	 * 			a true/false indicating the status
+	 */
+	public static boolean equalsIgnoreCase(CharSequence chars, String str)
+	{
+		if(chars instanceof String)
+		{
+			return ((String) chars).equalsIgnoreCase(str);
+		}
+
+		if(null==str || str.length()!=chars.length())
+		{
+			return false;
+		}
+
+		char char1;
+		char char2;
+
+		for(int index = 0; index < str.length(); index++)
+		{
+			char1 = chars.charAt(index);
+			char2 = str.charAt(index);
+
+			if(char1==char2)
+			{
+				continue;
+			}
+
+			char1 = Character.toUpperCase(char1);
+			char2 = Character.toUpperCase(char2);
+
+			if(char1!=char2 && Character.toLowerCase(char1)!=Character.toLowerCase(char2))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * <p>
 	 * This method returns true if the passed <tt>strArrayToCheck</tt> is invalid, 